@@ -19,6 +19,9 @@ import org.jabref.logic.layout.format.LatexToUnicodeFormatter;
 import org.jabref.logic.os.OS;
 import org.jabref.logic.preferences.CliPreferences;
 import org.jabref.logic.preferences.JabRefCliPreferences;
+import org.jabref.logic.search.PostgreServer;
+import org.jabref.logic.search.indexing.BibFieldsIndexer;
+import org.jabref.logic.util.BackgroundTask;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.database.BibDatabaseMode;
@@ -38,6 +41,7 @@ import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
 import org.openjdk.jmh.runner.RunnerException;
 
 import static org.mockito.Mockito.mock;
@@ -49,10 +53,12 @@ public class Benchmarks {
     private final BibDatabase database = new BibDatabase();
     private String latexConversionString;
     private String htmlConversionString;
+    private PostgreServer postgreServer;
 
     @Setup
     public void init() throws Exception {
         Injector.setModelOrService(CliPreferences.class, JabRefCliPreferences.getInstance());
+        postgreServer = new PostgreServer();
 
         Random randomizer = new Random();
         for (int i = 0; i < 1000; i++) {
@@ -94,6 +100,13 @@ public class Benchmarks {
         return parser.parse(new StringReader(bibtexString));
     }
 
+    @Benchmark
+    public ParserResult parseLargeLibrary(LargeLibrary library) throws IOException {
+        CliPreferences preferences = Injector.instantiateModelOrService(CliPreferences.class);
+        BibtexParser parser = new BibtexParser(preferences.getImportFormatPreferences());
+        return parser.parse(new StringReader(library.bibtexString));
+    }
+
     @Benchmark
     public String write() throws Exception {
         return getOutputWriter().toString();
@@ -105,10 +118,18 @@ public class Benchmarks {
         return List.of();
     }
 
+    @TearDown
+    public void shutdown() {
+        postgreServer.shutdown();
+    }
+
     @Benchmark
-    public List<BibEntry> index() {
-        // TODO: Create Benchmark for LuceneIndexer
-        return List.of();
+    public String index() {
+        CliPreferences preferences = Injector.instantiateModelOrService(CliPreferences.class);
+        BibFieldsIndexer indexer = new BibFieldsIndexer(preferences.getBibEntryPreferences(), new BibDatabaseContext(database), postgreServer.getConnection());
+        indexer.updateOnStart(BackgroundTask.wrap(() -> { }));
+        indexer.closeAndWait();
+        return indexer.getTable();
     }
 
     @Benchmark
@@ -140,6 +161,35 @@ public class Benchmarks {
         return group.containsAll(database.getEntries());
     }
 
+    /**
+     * A library of about 70 MB, which is built once for all iterations
+     */
+    @State(Scope.Benchmark)
+    public static class LargeLibrary {
+
+        private String bibtexString;
+
+        @Setup
+        public void init() {
+            Random randomizer = new Random(42);
+            StringBuilder builder = new StringBuilder();
+            for (int i = 0; i < 100_000; i++) {
+                builder.append("% Comment before entry ").append(i).append(OS.NEWLINE)
+                       .append("@Article{id").append(i).append(',').append(OS.NEWLINE)
+                       .append("  author   = {Firstname Lastname and FirstnameA LastnameA and FirstnameB LastnameB").append(i).append("},").append(OS.NEWLINE)
+                       .append("  title    = {This is my {T}itle with some \\textbf{markup} ").append(i).append("},").append(OS.NEWLINE)
+                       .append("  journal  = \"Journal Title ").append(i % 100).append('"').append(',').append(OS.NEWLINE)
+                       .append("  year     = ").append(1900 + (i % 125)).append(',').append(OS.NEWLINE)
+                       .append("  month    = jan,").append(OS.NEWLINE)
+                       .append("  keywords = {testkeyword, keyword").append(i % 50).append("},").append(OS.NEWLINE)
+                       .append("  abstract = {").append("Lorem ipsum dolor sit amet, consectetur adipiscing elit. ".repeat(6)).append(randomizer.nextInt()).append("},").append(OS.NEWLINE)
+                       .append('}').append(OS.NEWLINE)
+                       .append(OS.NEWLINE);
+            }
+            bibtexString = builder.toString();
+        }
+    }
+
     public static void main(String[] args) throws IOException, RunnerException {
         Main.main(args);
     }
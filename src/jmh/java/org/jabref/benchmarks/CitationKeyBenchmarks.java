@@ -0,0 +1,84 @@
+package org.jabref.benchmarks;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.jabref.logic.citationkeypattern.CitationKeyGenerator;
+import org.jabref.logic.integrity.CitationKeyDuplicationChecker;
+import org.jabref.logic.integrity.IntegrityMessage;
+import org.jabref.logic.preferences.CliPreferences;
+import org.jabref.logic.preferences.JabRefCliPreferences;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.metadata.MetaData;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Benchmarks for operations looking up citation keys in a large library.
+ * Many entries share author and year, so that key generation has to append letters to make the keys unique.
+ */
+@State(Scope.Thread)
+public class CitationKeyBenchmarks {
+
+    private static final int NUMBER_OF_ENTRIES = 50_000;
+
+    private final BibDatabase database = new BibDatabase();
+    private BibDatabaseContext databaseContext;
+    private CitationKeyGenerator keyGenerator;
+    private CitationKeyDuplicationChecker duplicationChecker;
+
+    @Setup
+    public void init() {
+        CliPreferences preferences = JabRefCliPreferences.getInstance();
+        for (int i = 0; i < NUMBER_OF_ENTRIES; i++) {
+            BibEntry entry = new BibEntry();
+            entry.setField(StandardField.AUTHOR, "Firstname Lastname" + (i % 1000));
+            entry.setField(StandardField.TITLE, "This is my title " + i);
+            entry.setField(StandardField.YEAR, String.valueOf(1990 + (i % 20)));
+            database.insertEntry(entry);
+        }
+        databaseContext = new BibDatabaseContext(database, new MetaData());
+        keyGenerator = new CitationKeyGenerator(databaseContext, preferences.getCitationKeyPatternPreferences());
+        duplicationChecker = new CitationKeyDuplicationChecker(database);
+        regenerateKeys();
+    }
+
+    @Benchmark
+    public BibDatabase regenerateKeys() {
+        for (BibEntry entry : database.getEntries()) {
+            keyGenerator.generateAndSetKey(entry);
+        }
+        return database;
+    }
+
+    @Benchmark
+    public int checkDuplicateKeys() {
+        int messages = 0;
+        for (BibEntry entry : database.getEntries()) {
+            List<IntegrityMessage> result = duplicationChecker.check(entry);
+            messages += result.size();
+        }
+        return messages;
+    }
+
+    @Benchmark
+    public long lookupKeys() {
+        long found = 0;
+        for (BibEntry entry : database.getEntries()) {
+            found += entry.getCitationKey().flatMap(database::getEntryByCitationKey).isPresent() ? 1 : 0;
+        }
+        return found;
+    }
+
+    public static void main(String[] args) throws IOException, RunnerException {
+        Main.main(args);
+    }
+}
@@ -0,0 +1,97 @@
+package org.jabref.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.jabref.logic.ai.AiPreferences;
+import org.jabref.logic.ai.ingestion.EmbeddingVectorEncoding;
+import org.jabref.logic.ai.ingestion.MVStoreEmbeddingStore;
+import org.jabref.logic.util.NotificationService;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.runner.RunnerException;
+
+import static org.jabref.logic.ai.ingestion.FileEmbeddingsManager.LINK_METADATA_KEY;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Compares the search in the embeddings index with different numbers of probes and vector encodings.
+ * {@link Integer#MAX_VALUE} probes scan all embeddings, which is the behavior without index.
+ */
+@State(Scope.Benchmark)
+public class EmbeddingStoreBenchmarks {
+
+    private static final int EMBEDDINGS_COUNT = 50_000;
+    private static final int DIMENSIONS = 384;
+    private static final int MAX_RESULTS = 10;
+
+    @Param({"4", "8", "32", "2147483647"})
+    public int probes;
+
+    @Param({"FLOAT32", "FLOAT16", "INT8"})
+    public EmbeddingVectorEncoding encoding;
+
+    private Path directory;
+    private MVStoreEmbeddingStore store;
+    private final Random random = new Random(42);
+
+    @Setup
+    public void init() throws IOException {
+        AiPreferences aiPreferences = mock(AiPreferences.class);
+        when(aiPreferences.getRagSearchProbes()).thenReturn(probes);
+
+        directory = Files.createTempDirectory("jabref-embeddings-benchmark");
+        // Trains the index while adding, so that it is ready when measuring
+        store = new MVStoreEmbeddingStore(directory.resolve("embeddings.mv"), mock(NotificationService.class), aiPreferences, encoding, Runnable::run);
+        for (int i = 0; i < EMBEDDINGS_COUNT; i++) {
+            store.add(randomEmbedding(), new TextSegment("Segment " + i, new Metadata(Map.of(LINK_METADATA_KEY, "paper" + (i / 100) + ".pdf"))));
+        }
+    }
+
+    @TearDown
+    public void shutdown() throws IOException {
+        store.close();
+        try (var files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    private Embedding randomEmbedding() {
+        float[] vector = new float[DIMENSIONS];
+        for (int i = 0; i < DIMENSIONS; i++) {
+            vector[i] = (float) random.nextGaussian();
+        }
+        return Embedding.from(vector);
+    }
+
+    @Benchmark
+    public List<EmbeddingMatch<TextSegment>> search() {
+        return store.search(EmbeddingSearchRequest.builder()
+                                                  .queryEmbedding(randomEmbedding())
+                                                  .maxResults(MAX_RESULTS)
+                                                  .minScore(0.0)
+                                                  .build())
+                    .matches();
+    }
+
+    public static void main(String[] args) throws IOException, RunnerException {
+        Main.main(args);
+    }
+}
@@ -0,0 +1,109 @@
+package org.jabref.benchmarks;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.lang.management.ManagementFactory;
+import java.util.Random;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+import org.jabref.logic.importer.ParserResult;
+import org.jabref.logic.importer.fileformat.BibtexParser;
+import org.jabref.logic.os.OS;
+import org.jabref.logic.preferences.CliPreferences;
+import org.jabref.logic.preferences.JabRefCliPreferences;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Benchmarks for the memory used by the entries of a large library.
+ * <p>
+ * Run with {@code -prof gc} to see the memory allocated while parsing. The memory retained by the parsed library is
+ * printed by {@link #main(String[])} if the first argument is {@code footprint}: the used heap per entry and the
+ * largest classes of the heap histogram.
+ */
+@State(Scope.Benchmark)
+public class MemoryBenchmarks {
+
+    private static final int NUMBER_OF_ENTRIES = 100_000;
+    private static final int HISTOGRAM_LINES = 25;
+
+    private String bibtexString;
+    private CliPreferences preferences;
+
+    @Setup
+    public void init() {
+        preferences = JabRefCliPreferences.getInstance();
+        Random randomizer = new Random(42);
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < NUMBER_OF_ENTRIES; i++) {
+            builder.append("@Article{id").append(i).append(',').append(OS.NEWLINE)
+                   .append("  author   = {Firstname Lastname and FirstnameA LastnameA").append(i).append("},").append(OS.NEWLINE)
+                   .append("  title    = {This is my title ").append(i).append("},").append(OS.NEWLINE)
+                   .append("  journal  = {Journal Title ").append(i % 100).append("},").append(OS.NEWLINE)
+                   .append("  year     = {").append(1900 + (i % 125)).append("},").append(OS.NEWLINE)
+                   .append("  keywords = {testkeyword, keyword").append(i % 50).append("},").append(OS.NEWLINE)
+                   .append("  doi      = {10.1000/").append(randomizer.nextInt(1_000_000)).append("},").append(OS.NEWLINE)
+                   .append("  rnd      = {").append(randomizer.nextInt()).append("},").append(OS.NEWLINE)
+                   .append('}').append(OS.NEWLINE)
+                   .append(OS.NEWLINE);
+        }
+        bibtexString = builder.toString();
+    }
+
+    @Benchmark
+    public ParserResult parseLibrary() throws IOException {
+        BibtexParser parser = new BibtexParser(preferences.getImportFormatPreferences());
+        return parser.parse(new StringReader(bibtexString));
+    }
+
+    private static long usedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static String classHistogram() throws JMException {
+        Object histogram = ManagementFactory.getPlatformMBeanServer().invoke(
+                new ObjectName("com.sun.management:type=DiagnosticCommand"),
+                "gcClassHistogram",
+                new Object[] {null},
+                new String[] {String[].class.getName()});
+        return histogram.toString().lines().limit(HISTOGRAM_LINES + 3).reduce("", (lines, line) -> lines + line + OS.NEWLINE);
+    }
+
+    /**
+     * Prints the heap retained by a parsed library of {@value NUMBER_OF_ENTRIES} entries.
+     */
+    private static void printFootprint() throws IOException, JMException {
+        MemoryBenchmarks benchmarks = new MemoryBenchmarks();
+        benchmarks.init();
+        // Parse once, so that the classes and caches used by parsing are not counted
+        benchmarks.parseLibrary();
+
+        long before = usedHeapAfterGc();
+        ParserResult result = benchmarks.parseLibrary();
+        long after = usedHeapAfterGc();
+
+        int entries = result.getDatabase().getEntryCount();
+        System.out.printf("%d entries retain %d KB (%d bytes per entry, including their parsed serialization)%n",
+                entries, (after - before) / 1024, (after - before) / entries);
+        System.out.println(classHistogram());
+    }
+
+    public static void main(String[] args) throws IOException, RunnerException, JMException {
+        if ((args.length > 0) && "footprint".equals(args[0])) {
+            printFootprint();
+            return;
+        }
+        Main.main(args);
+    }
+}
@@ -0,0 +1,21 @@
+package org.jabref.cli;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.jabref.logic.citationstyle.CitationStyleCatalog;
+
+public class CitationStyleCatalogGenerator {
+
+    public static void main(String[] args) throws IOException {
+        Path stylesDirectory = Path.of("src", "main", "resources", "csl-styles");
+        if (!Files.exists(stylesDirectory)) {
+            System.out.println("Path " + stylesDirectory.toAbsolutePath() + " does not exist");
+            System.exit(0);
+        }
+        Path catalogFile = Path.of("build", "resources", "main", "csl-styles", CitationStyleCatalog.CATALOG_FILE_NAME);
+
+        CitationStyleCatalog.write(stylesDirectory, catalogFile);
+    }
+}
@@ -66,6 +66,7 @@ import org.jabref.gui.util.OptionalObjectProperty;
 import org.jabref.gui.util.UiTaskExecutor;
 import org.jabref.logic.ai.AiService;
 import org.jabref.logic.citationstyle.CitationStyleCache;
+import org.jabref.logic.exporter.SavedFileLayout;
 import org.jabref.logic.importer.FetcherClientException;
 import org.jabref.logic.importer.FetcherException;
 import org.jabref.logic.importer.FetcherServerException;
@@ -144,6 +145,8 @@ public class LibraryTab extends Tab {
     // initially, the dialog is loading, not saving
     private boolean saving = false;
 
+    private final SavedFileLayout savedFileLayout = new SavedFileLayout();
+
     private PersonNameSuggestionProvider searchAutoCompleter;
 
     // Used to track whether the base has changed since last save.
@@ -810,6 +813,7 @@ public class LibraryTab extends Tab {
         }
         // clean up the groups map
         stateManager.clearSelectedGroups(bibDatabaseContext);
+        stateManager.removeGroupMembershipIndex(bibDatabaseContext);
     }
 
     /**
@@ -837,6 +841,10 @@ public class LibraryTab extends Tab {
         this.saving = saving;
     }
 
+    public SavedFileLayout getSavedFileLayout() {
+        return savedFileLayout;
+    }
+
     public ObservableBooleanValue getLoading() {
         return loading;
     }
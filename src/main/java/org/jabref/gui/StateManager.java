@@ -31,6 +31,7 @@ import org.jabref.logic.search.IndexManager;
 import org.jabref.logic.util.BackgroundTask;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.groups.GroupMembershipIndex;
 import org.jabref.model.groups.GroupTreeNode;
 import org.jabref.model.search.query.SearchQuery;
 
@@ -62,6 +63,7 @@ public class StateManager {
     private final ObservableList<BibEntry> selectedEntries = FXCollections.observableArrayList();
     private final ObservableMap<String, ObservableList<GroupTreeNode>> selectedGroups = FXCollections.observableHashMap();
     private final ObservableMap<String, IndexManager> indexManagers = FXCollections.observableHashMap();
+    private final ObservableMap<String, GroupMembershipIndex> groupMembershipIndexes = FXCollections.observableHashMap();
     private final OptionalObjectProperty<SearchQuery> activeSearchQuery = OptionalObjectProperty.empty();
     private final OptionalObjectProperty<SearchQuery> activeGlobalSearchQuery = OptionalObjectProperty.empty();
     private final IntegerProperty searchResultSize = new SimpleIntegerProperty(0);
@@ -136,6 +138,20 @@ public class StateManager {
         return Optional.ofNullable(indexManagers.get(database.getUid()));
     }
 
+    /**
+     * Returns the index of the entries contained in the groups of the given library. It is shared by all views of the groups.
+     */
+    public GroupMembershipIndex getGroupMembershipIndex(BibDatabaseContext database) {
+        return groupMembershipIndexes.computeIfAbsent(database.getUid(), k -> new GroupMembershipIndex(database.getDatabase()));
+    }
+
+    public void removeGroupMembershipIndex(BibDatabaseContext database) {
+        GroupMembershipIndex groupMembershipIndex = groupMembershipIndexes.remove(database.getUid());
+        if (groupMembershipIndex != null) {
+            database.getDatabase().unregisterListener(groupMembershipIndex);
+        }
+    }
+
     public Optional<BibDatabaseContext> getActiveDatabase() {
         return activeDatabase.get();
     }
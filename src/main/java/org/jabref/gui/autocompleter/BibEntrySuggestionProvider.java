@@ -1,6 +1,7 @@
 package org.jabref.gui.autocompleter;
 
 import java.util.Comparator;
+import java.util.List;
 import java.util.stream.Stream;
 
 import org.jabref.logic.bibtex.comparator.EntryComparator;
@@ -18,9 +19,19 @@ import org.controlsfx.control.textfield.AutoCompletionBinding;
 public class BibEntrySuggestionProvider extends SuggestionProvider<BibEntry> {
 
     private final BibDatabase database;
+    private final SuggestionIndex<BibEntry> index;
 
     public BibEntrySuggestionProvider(BibDatabase database) {
+        this(database, null);
+    }
+
+    BibEntrySuggestionProvider(BibDatabase database, SuggestionIndex<BibEntry> index) {
         this.database = database;
+        this.index = index;
+    }
+
+    static SuggestionIndex<BibEntry> createIndex(BibDatabase database) {
+        return new SuggestionIndex<>(database, InternalField.KEY_FIELD, entry -> entry.hasCitationKey() ? List.of(entry) : List.of(), entry -> entry.getCitationKey().orElse(""), Equivalence.identity());
     }
 
     @Override
@@ -41,6 +52,11 @@ public class BibEntrySuggestionProvider extends SuggestionProvider<BibEntry> {
                     .orElse(false);
     }
 
+    @Override
+    protected Stream<BibEntry> getMatches(AutoCompletionBinding.ISuggestionRequest request) {
+        return getMatches(request, index);
+    }
+
     @Override
     public Stream<BibEntry> getSource() {
         return database.getEntries().parallelStream();
@@ -1,11 +1,15 @@
 package org.jabref.gui.autocompleter;
 
+import java.util.List;
 import java.util.Objects;
 import java.util.stream.Stream;
 
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.entry.field.Field;
 
+import com.google.common.base.Equivalence;
+import org.controlsfx.control.textfield.AutoCompletionBinding;
+
 /**
  * Stores the full content of one field.
  */
@@ -13,14 +17,32 @@ class FieldValueSuggestionProvider extends StringSuggestionProvider {
 
     private final Field field;
     private final BibDatabase database;
+    private final SuggestionIndex<String> index;
 
     FieldValueSuggestionProvider(Field field, BibDatabase database) {
+        this(field, database, null);
+    }
+
+    FieldValueSuggestionProvider(Field field, BibDatabase database, SuggestionIndex<String> index) {
         this.field = Objects.requireNonNull(field);
         this.database = database;
+        this.index = index;
+    }
+
+    static SuggestionIndex<String> createIndex(Field field, BibDatabase database) {
+        return new SuggestionIndex<>(database, field, entry -> entry.getField(field).map(List::of).orElse(List.of()), value -> value, Equivalence.equals());
+    }
+
+    @Override
+    protected Stream<String> getMatches(AutoCompletionBinding.ISuggestionRequest request) {
+        return getMatches(request, index);
     }
 
     @Override
     public Stream<String> getSource() {
+        if ((index != null) && index.isBuilt()) {
+            return index.getCandidates().stream();
+        }
         return database.getEntries().parallelStream().flatMap(entry -> entry.getField(field).stream());
     }
 }
@@ -7,17 +7,28 @@ import org.jabref.model.database.BibDatabase;
 import org.jabref.model.entry.field.Field;
 
 import com.google.common.collect.Streams;
+import org.controlsfx.control.textfield.AutoCompletionBinding;
 
 public class JournalsSuggestionProvider extends FieldValueSuggestionProvider {
 
     private final JournalAbbreviationRepository repository;
 
     JournalsSuggestionProvider(Field field, BibDatabase database, JournalAbbreviationRepository repository) {
-        super(field, database);
+        this(field, database, repository, null);
+    }
+
+    JournalsSuggestionProvider(Field field, BibDatabase database, JournalAbbreviationRepository repository, SuggestionIndex<String> index) {
+        super(field, database, index);
 
         this.repository = repository;
     }
 
+    @Override
+    protected Stream<String> getMatches(AutoCompletionBinding.ISuggestionRequest request) {
+        // The journal list is not indexed, its names are only searched if the library does not provide enough matches
+        return Streams.concat(super.getMatches(request), repository.getFullNames().stream().filter(name -> isMatch(name, request)));
+    }
+
     @Override
     public Stream<String> getSource() {
         return Streams.concat(super.getSource(), repository.getFullNames().stream());
@@ -3,6 +3,7 @@ package org.jabref.gui.autocompleter;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Stream;
@@ -24,16 +25,34 @@ public class PersonNameSuggestionProvider extends SuggestionProvider<Author> {
 
     private final Collection<Field> fields;
     private final BibDatabase database;
+    private final SuggestionIndex<Author> index;
 
     PersonNameSuggestionProvider(Field field, BibDatabase database) {
-        this(Collections.singletonList(Objects.requireNonNull(field)), database);
+        this(field, database, null);
+    }
+
+    PersonNameSuggestionProvider(Field field, BibDatabase database, SuggestionIndex<Author> index) {
+        this(Collections.singletonList(Objects.requireNonNull(field)), database, index);
     }
 
     public PersonNameSuggestionProvider(Collection<Field> fields, BibDatabase database) {
+        this(fields, database, null);
+    }
+
+    private PersonNameSuggestionProvider(Collection<Field> fields, BibDatabase database, SuggestionIndex<Author> index) {
         super();
 
         this.fields = Objects.requireNonNull(fields);
         this.database = database;
+        this.index = index;
+    }
+
+    static SuggestionIndex<Author> createIndex(Field field, BibDatabase database) {
+        return new SuggestionIndex<>(database,
+                field,
+                entry -> entry.getField(field).map(value -> AuthorList.parse(value).getAuthors()).orElse(List.of()),
+                author -> author.getFamilyGiven(false),
+                Equivalence.equals());
     }
 
     public Stream<Author> getAuthors(BibEntry entry) {
@@ -61,8 +80,16 @@ public class PersonNameSuggestionProvider extends SuggestionProvider<Author> {
         return StringUtil.containsIgnoreCase(candidate.getFamilyGiven(false), request.getUserText());
     }
 
+    @Override
+    protected Stream<Author> getMatches(AutoCompletionBinding.ISuggestionRequest request) {
+        return getMatches(request, index);
+    }
+
     @Override
     public Stream<Author> getSource() {
+        if ((index != null) && index.isBuilt()) {
+            return index.getCandidates().stream();
+        }
         return database.getEntries()
                        .parallelStream()
                        .flatMap(this::getAuthors);
@@ -0,0 +1,303 @@
+package org.jabref.gui.autocompleter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.jabref.logic.util.HeadlessExecutorService;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.database.event.EntriesRemovedEvent;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.field.Field;
+
+import com.google.common.base.Equivalence;
+import com.google.common.eventbus.Subscribe;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Index of the suggestion candidates provided by the entries of a library for a field. With the index, suggesting does
+ * not require going through all entries and extracting their candidates again on every keystroke.
+ * <p>
+ * The candidates of each entry are kept and updated from the change events of the library. The distinct candidates are
+ * sorted by the beginnings of the words of their text. Thus, the candidates containing a word starting with the user
+ * text are found by a logarithmic lookup followed by iterating over the matches. Only if these are not enough, the
+ * candidates containing the user text within a word are looked up by the {@value #INFIX_GRAM_LENGTH}-character
+ * substrings (grams) of their text. A user text shorter than a gram is only matched at the beginnings of words, as
+ * looking it up within words would need going through all candidates.
+ * <p>
+ * The index is built in the background. Until it is {@link #isBuilt() built}, suggestions have to be computed from the
+ * entries.
+ *
+ * @param <T> Type of suggestions
+ */
+class SuggestionIndex<T> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SuggestionIndex.class);
+
+    static final int INFIX_GRAM_LENGTH = 3;
+
+    private final BibDatabase database;
+    private final Field field;
+    private final Function<BibEntry, List<T>> candidatesOfEntry;
+    private final Function<T, String> textOfCandidate;
+    private final Equivalence<T> candidateEquivalence;
+
+    // All indexed entries (including the ones without candidates) by identity
+    private final Map<BibEntry, List<Equivalence.Wrapper<T>>> candidatesByEntry = new IdentityHashMap<>();
+    private final Map<Equivalence.Wrapper<T>, Candidate> candidates = new HashMap<>();
+    private final NavigableMap<String, Set<Equivalence.Wrapper<T>>> candidatesByWordStart = new TreeMap<>();
+    private final Map<String, Set<Equivalence.Wrapper<T>>> candidatesByInfixGram = new HashMap<>();
+
+    // Entries removed while the index is built, which must not be added by the build
+    private final Set<BibEntry> removedWhileBuilding = Collections.newSetFromMap(new IdentityHashMap<>());
+    private volatile boolean built;
+
+    /**
+     * The word starts are kept, as the text of a candidate may change (e.g., the citation key of an entry). The first
+     * word start is the whole lower-cased text, from which the grams are taken.
+     */
+    private static class Candidate {
+        private final List<String> wordStarts;
+        private int occurrences;
+
+        Candidate(List<String> wordStarts) {
+            this.wordStarts = wordStarts;
+        }
+    }
+
+    /**
+     * @param candidatesOfEntry    extracts the candidates from the value of the field of an entry
+     * @param textOfCandidate      the text of a candidate matched against the user text
+     * @param candidateEquivalence decides which candidates are the same
+     */
+    SuggestionIndex(BibDatabase database,
+                    Field field,
+                    Function<BibEntry, List<T>> candidatesOfEntry,
+                    Function<T, String> textOfCandidate,
+                    Equivalence<T> candidateEquivalence) {
+        this.database = database;
+        this.field = field;
+        this.candidatesOfEntry = candidatesOfEntry;
+        this.textOfCandidate = textOfCandidate;
+        this.candidateEquivalence = candidateEquivalence;
+    }
+
+    /**
+     * Listens to the changes of the library and builds the index in the background.
+     */
+    void buildInBackground() {
+        List<BibEntry> entries = startBuild();
+        HeadlessExecutorService.INSTANCE.execute(() -> finishBuild(entries));
+    }
+
+    /**
+     * Listens to the changes of the library and builds the index.
+     */
+    void build() {
+        finishBuild(startBuild());
+    }
+
+    private List<BibEntry> startBuild() {
+        database.registerListener(this);
+        // Entries added afterward are indexed by the listener
+        synchronized (database) {
+            return new ArrayList<>(database.getEntries());
+        }
+    }
+
+    private void finishBuild(List<BibEntry> entries) {
+        long start = System.currentTimeMillis();
+        for (BibEntry entry : entries) {
+            synchronized (this) {
+                if (!removedWhileBuilding.contains(entry)) {
+                    index(entry);
+                }
+            }
+        }
+        synchronized (this) {
+            removedWhileBuilding.clear();
+            built = true;
+        }
+        LOGGER.debug("Indexed {} suggestion candidates of field {} in {} ms", candidates.size(), field, System.currentTimeMillis() - start);
+    }
+
+    boolean isBuilt() {
+        return built;
+    }
+
+    @Subscribe
+    public synchronized void listen(EntriesAddedEvent event) {
+        for (BibEntry entry : event.getBibEntries()) {
+            removedWhileBuilding.remove(entry);
+            index(entry);
+        }
+    }
+
+    @Subscribe
+    public synchronized void listen(EntriesRemovedEvent event) {
+        for (BibEntry entry : event.getBibEntries()) {
+            if (!built) {
+                removedWhileBuilding.add(entry);
+            }
+            List<Equivalence.Wrapper<T>> removed = candidatesByEntry.remove(entry);
+            if (removed != null) {
+                removed.forEach(this::removeCandidate);
+            }
+        }
+    }
+
+    @Subscribe
+    public synchronized void listen(FieldChangedEvent event) {
+        // Removed entries may still send events
+        if (field.equals(event.getField()) && candidatesByEntry.containsKey(event.getBibEntry())) {
+            index(event.getBibEntry());
+        }
+    }
+
+    private void index(BibEntry entry) {
+        List<Equivalence.Wrapper<T>> entryCandidates = candidatesOfEntry.apply(entry).stream()
+                                                                         .map(candidateEquivalence::wrap)
+                                                                         .toList();
+        List<Equivalence.Wrapper<T>> previous = candidatesByEntry.put(entry, entryCandidates);
+        // Removing first updates the word starts of a candidate whose text changed
+        if (previous != null) {
+            previous.forEach(this::removeCandidate);
+        }
+        entryCandidates.forEach(this::addCandidate);
+    }
+
+    private void addCandidate(Equivalence.Wrapper<T> wrapper) {
+        Candidate candidate = candidates.get(wrapper);
+        if (candidate == null) {
+            candidate = new Candidate(getWordStarts(textOfCandidate.apply(wrapper.get())));
+            candidates.put(wrapper, candidate);
+            for (String wordStart : candidate.wordStarts) {
+                candidatesByWordStart.computeIfAbsent(wordStart, k -> new LinkedHashSet<>()).add(wrapper);
+            }
+            for (String gram : getInfixGrams(candidate)) {
+                candidatesByInfixGram.computeIfAbsent(gram, k -> new LinkedHashSet<>()).add(wrapper);
+            }
+        }
+        candidate.occurrences++;
+    }
+
+    private void removeCandidate(Equivalence.Wrapper<T> wrapper) {
+        Candidate candidate = candidates.get(wrapper);
+        if ((candidate == null) || (--candidate.occurrences > 0)) {
+            return;
+        }
+        candidates.remove(wrapper);
+        for (String wordStart : candidate.wordStarts) {
+            removeFrom(candidatesByWordStart, wordStart, wrapper);
+        }
+        for (String gram : getInfixGrams(candidate)) {
+            removeFrom(candidatesByInfixGram, gram, wrapper);
+        }
+    }
+
+    private void removeFrom(Map<String, Set<Equivalence.Wrapper<T>>> candidatesByKey, String key, Equivalence.Wrapper<T> wrapper) {
+        Set<Equivalence.Wrapper<T>> withKey = candidatesByKey.get(key);
+        if (withKey != null) {
+            withKey.remove(wrapper);
+            if (withKey.isEmpty()) {
+                candidatesByKey.remove(key);
+            }
+        }
+    }
+
+    private static Set<String> getInfixGrams(Candidate candidate) {
+        return candidate.wordStarts.isEmpty() ? Set.of() : getInfixGrams(candidate.wordStarts.getFirst());
+    }
+
+    /**
+     * Returns the lower-cased suffixes of the given text starting at the beginning of the text or of a word.
+     */
+    static List<String> getWordStarts(String text) {
+        String lowerCaseText = text.toLowerCase(Locale.ROOT);
+        List<String> wordStarts = new ArrayList<>();
+        for (int i = 0; i < lowerCaseText.length(); i++) {
+            if ((i == 0) || (Character.isLetterOrDigit(lowerCaseText.charAt(i)) && !Character.isLetterOrDigit(lowerCaseText.charAt(i - 1)))) {
+                wordStarts.add(lowerCaseText.substring(i));
+            }
+        }
+        return wordStarts;
+    }
+
+    /**
+     * Returns the distinct substrings of the given lower-cased text with a length of {@value #INFIX_GRAM_LENGTH}.
+     */
+    static Set<String> getInfixGrams(String lowerCaseText) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + INFIX_GRAM_LENGTH <= lowerCaseText.length(); i++) {
+            grams.add(lowerCaseText.substring(i, i + INFIX_GRAM_LENGTH));
+        }
+        return grams;
+    }
+
+    /**
+     * Returns the distinct candidates.
+     */
+    synchronized List<T> getCandidates() {
+        return candidates.keySet().stream().map(Equivalence.Wrapper::get).toList();
+    }
+
+    /**
+     * Returns up to the given number of candidates matching the given user text. The candidates containing a word
+     * starting with the user text come first. The candidates containing the user text within a word follow if the user
+     * text is at least {@value #INFIX_GRAM_LENGTH} characters long.
+     *
+     * @param isMatch     decides whether a candidate matches the user text
+     * @param equivalence decides which candidates are returned only once
+     */
+    synchronized List<T> findMatches(String userText, Predicate<T> isMatch, Equivalence<T> equivalence, int limit) {
+        Set<Equivalence.Wrapper<T>> matches = new LinkedHashSet<>();
+        String prefix = userText.toLowerCase(Locale.ROOT);
+        for (Set<Equivalence.Wrapper<T>> withWordStart : candidatesByWordStart.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values()) {
+            if (addMatches(withWordStart, isMatch, equivalence, limit, matches)) {
+                return unwrap(matches);
+            }
+        }
+        // Only the candidates containing the least common gram of the user text have to be tested
+        Set<Equivalence.Wrapper<T>> withRarestGram = null;
+        for (String gram : getInfixGrams(prefix)) {
+            Set<Equivalence.Wrapper<T>> withGram = candidatesByInfixGram.getOrDefault(gram, Set.of());
+            if ((withRarestGram == null) || (withGram.size() < withRarestGram.size())) {
+                withRarestGram = withGram;
+            }
+        }
+        if (withRarestGram != null) {
+            addMatches(withRarestGram, isMatch, equivalence, limit, matches);
+        }
+        return unwrap(matches);
+    }
+
+    /**
+     * @return true if the limit has been reached
+     */
+    private boolean addMatches(Set<Equivalence.Wrapper<T>> wrappers, Predicate<T> isMatch, Equivalence<T> equivalence, int limit, Set<Equivalence.Wrapper<T>> matches) {
+        for (Equivalence.Wrapper<T> wrapper : wrappers) {
+            T candidate = wrapper.get();
+            if (isMatch.test(candidate) && matches.add(equivalence.wrap(candidate)) && (matches.size() >= limit)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private List<T> unwrap(Set<Equivalence.Wrapper<T>> wrappers) {
+        return wrappers.stream().map(Equivalence.Wrapper::get).toList();
+    }
+}
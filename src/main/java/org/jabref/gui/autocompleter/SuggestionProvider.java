@@ -43,22 +43,45 @@ import org.controlsfx.control.textfield.AutoCompletionBinding.ISuggestionRequest
  */
 public abstract class SuggestionProvider<T> {
 
+    protected static final int MAX_SUGGESTIONS = 10;
+
     public final Collection<T> provideSuggestions(ISuggestionRequest request) {
         if (!request.getUserText().isEmpty()) {
             Comparator<T> comparator = getComparator();
             Equivalence<T> equivalence = getEquivalence();
-            return getSource().filter(candidate -> isMatch(candidate, request))
-                              .map(equivalence::wrap) // Need to do a bit of acrobatic as there is no distinctBy method
-                              .distinct()
-                              .limit(10)
-                              .map(Equivalence.Wrapper::get)
-                              .sorted(comparator)
-                              .collect(Collectors.toList());
+            return getMatches(request)
+                                      .map(equivalence::wrap) // Need to do a bit of acrobatic as there is no distinctBy method
+                                      .distinct()
+                                      .limit(MAX_SUGGESTIONS)
+                                      .map(Equivalence.Wrapper::get)
+                                      .sorted(comparator)
+                                      .collect(Collectors.toList());
         } else {
             return Collections.emptyList();
         }
     }
 
+    /**
+     * Get the candidates matching the request, at least {@link #MAX_SUGGESTIONS} distinct ones if there are enough
+     */
+    protected Stream<T> getMatches(ISuggestionRequest request) {
+        return getMatchesFromSource(request);
+    }
+
+    private Stream<T> getMatchesFromSource(ISuggestionRequest request) {
+        return getSource().filter(candidate -> isMatch(candidate, request));
+    }
+
+    /**
+     * Get the matches from the given index, or from the source while the index is not built yet
+     */
+    Stream<T> getMatches(ISuggestionRequest request, SuggestionIndex<T> index) {
+        if ((index == null) || !index.isBuilt()) {
+            return getMatchesFromSource(request);
+        }
+        return index.findMatches(request.getUserText(), candidate -> isMatch(candidate, request), getEquivalence(), MAX_SUGGESTIONS).stream();
+    }
+
     protected abstract Equivalence<T> getEquivalence();
 
     public List<T> getPossibleSuggestions() {
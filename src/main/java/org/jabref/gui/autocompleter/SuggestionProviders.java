@@ -1,9 +1,13 @@
 package org.jabref.gui.autocompleter;
 
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 import org.jabref.logic.journals.JournalAbbreviationRepository;
 import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.FieldProperty;
 import org.jabref.model.entry.field.StandardField;
@@ -15,6 +19,10 @@ public class SuggestionProviders {
     private JournalAbbreviationRepository abbreviationRepository;
     private AutoCompletePreferences autoCompletePreferences;
 
+    // The indexes are built when a field is completed for the first time and kept up to date afterward
+    private final Map<Field, SuggestionIndex<?>> indexes = new ConcurrentHashMap<>();
+    private SuggestionIndex<BibEntry> citationKeyIndex;
+
     public SuggestionProviders(BibDatabase database, JournalAbbreviationRepository abbreviationRepository, AutoCompletePreferences autoCompletePreferences) {
         this.database = database;
         this.abbreviationRepository = abbreviationRepository;
@@ -33,13 +41,34 @@ public class SuggestionProviders {
 
         Set<FieldProperty> fieldProperties = field.getProperties();
         if (fieldProperties.contains(FieldProperty.PERSON_NAMES)) {
-            return new PersonNameSuggestionProvider(field, database);
+            return new PersonNameSuggestionProvider(field, database, getIndex(field, () -> PersonNameSuggestionProvider.createIndex(field, database)));
         } else if (fieldProperties.contains(FieldProperty.SINGLE_ENTRY_LINK) || fieldProperties.contains(FieldProperty.MULTIPLE_ENTRY_LINK)) {
-            return new BibEntrySuggestionProvider(database);
+            return new BibEntrySuggestionProvider(database, getCitationKeyIndex());
         } else if (fieldProperties.contains(FieldProperty.JOURNAL_NAME) || StandardField.PUBLISHER == field) {
-            return new JournalsSuggestionProvider(field, database, abbreviationRepository);
+            return new JournalsSuggestionProvider(field, database, abbreviationRepository, getIndex(field, () -> FieldValueSuggestionProvider.createIndex(field, database)));
         } else {
-            return new WordSuggestionProvider(field, database);
+            return new WordSuggestionProvider(field, database, getIndex(field, () -> WordSuggestionProvider.createIndex(field, database)));
+        }
+    }
+
+    /**
+     * Returns the index of the given field. As a field is always completed by the same kind of provider, the type of
+     * the index is determined by the field.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> SuggestionIndex<T> getIndex(Field field, Supplier<SuggestionIndex<T>> indexSupplier) {
+        return (SuggestionIndex<T>) indexes.computeIfAbsent(field, key -> {
+            SuggestionIndex<T> index = indexSupplier.get();
+            index.buildInBackground();
+            return index;
+        });
+    }
+
+    private synchronized SuggestionIndex<BibEntry> getCitationKeyIndex() {
+        if (citationKeyIndex == null) {
+            citationKeyIndex = BibEntrySuggestionProvider.createIndex(database);
+            citationKeyIndex.buildInBackground();
         }
+        return citationKeyIndex;
     }
 }
@@ -1,11 +1,16 @@
 package org.jabref.gui.autocompleter;
 
+import java.util.List;
 import java.util.Objects;
 import java.util.stream.Stream;
 
 import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.field.Field;
 
+import com.google.common.base.Equivalence;
+import org.controlsfx.control.textfield.AutoCompletionBinding;
+
 /**
  * Stores all words in the given field.
  */
@@ -13,14 +18,36 @@ public class WordSuggestionProvider extends StringSuggestionProvider {
 
     private final Field field;
     private final BibDatabase database;
+    private final SuggestionIndex<String> index;
 
     public WordSuggestionProvider(Field field, BibDatabase database) {
+        this(field, database, null);
+    }
+
+    WordSuggestionProvider(Field field, BibDatabase database, SuggestionIndex<String> index) {
         this.field = Objects.requireNonNull(field);
         this.database = database;
+        this.index = index;
+    }
+
+    static SuggestionIndex<String> createIndex(Field field, BibDatabase database) {
+        return new SuggestionIndex<>(database, field, entry -> getWords(entry, field), word -> word, Equivalence.equals());
+    }
+
+    private static List<String> getWords(BibEntry entry, Field field) {
+        return List.copyOf(entry.getFieldAsWords(field));
+    }
+
+    @Override
+    protected Stream<String> getMatches(AutoCompletionBinding.ISuggestionRequest request) {
+        return getMatches(request, index);
     }
 
     @Override
     public Stream<String> getSource() {
+        if ((index != null) && index.isBuilt()) {
+            return index.getCandidates().stream();
+        }
         return database.getEntries()
                        .parallelStream()
                        .flatMap(entry -> entry.getFieldAsWords(field).stream());
@@ -0,0 +1,301 @@
+package org.jabref.gui.autosaveandbackup;
+
+import java.io.FilterWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.jabref.logic.bibtex.FieldPreferences;
+import org.jabref.logic.citationkeypattern.CitationKeyPatternPreferences;
+import org.jabref.logic.citationkeypattern.GlobalCitationKeyPatterns;
+import org.jabref.logic.exporter.BibWriter;
+import org.jabref.logic.exporter.BibtexDatabaseWriter;
+import org.jabref.logic.exporter.SelfContainedSaveConfiguration;
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.metadata.MetaData;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Journal of the entry changes of a library since its last full backup (the snapshot).
+ * <p>
+ * The journal is stored next to the snapshot. It starts with the position of each entry in the snapshot, followed by
+ * one record per changed entry holding its serialization or marking its removal. Records are only appended, thus an
+ * interrupted write can only damage the last line, which is ignored when reading. Restoring replaces the changed
+ * entries in the text of the snapshot, so that the snapshot does not need to be parsed.
+ */
+class BackupJournal {
+
+    static final String JOURNAL_EXTENSION = ".journal";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BackupJournal.class);
+
+    private static final String SEPARATOR = "\t";
+    private static final String SNAPSHOT_RECORD = "S";
+    private static final String POSITION_RECORD = "P";
+    private static final String ENTRY_RECORD = "E";
+    private static final String REMOVAL_RECORD = "R";
+
+    /**
+     * Position of the text of an entry in the snapshot, including the line breaks separating it from the previous
+     * block.
+     */
+    record EntryPosition(String entryId, int start, int end) {
+    }
+
+    /**
+     * The content of the library as recorded by the snapshot and its journal.
+     */
+    record RestoredBackup(String content, Charset encoding) {
+    }
+
+    private BackupJournal() {
+    }
+
+    static Path getJournalPath(Path snapshotPath) {
+        return snapshotPath.resolveSibling(snapshotPath.getFileName() + JOURNAL_EXTENSION);
+    }
+
+    /**
+     * Starts a new journal for the given snapshot.
+     */
+    static void create(Path snapshotPath, SnapshotWriter snapshotWriter, Charset encoding, String newLineSeparator) throws IOException {
+        List<String> lines = new ArrayList<>(snapshotWriter.getEntryPositions().size() + 1);
+        lines.add(String.join(SEPARATOR, SNAPSHOT_RECORD, encoding.name(), escape(newLineSeparator), String.valueOf(snapshotWriter.getEntriesEnd())));
+        for (EntryPosition position : snapshotWriter.getEntryPositions()) {
+            lines.add(String.join(SEPARATOR, POSITION_RECORD, position.entryId(), String.valueOf(position.start()), String.valueOf(position.end())));
+        }
+        Files.write(getJournalPath(snapshotPath), lines, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Appends the changes to the journal of the given snapshot.
+     *
+     * @param changedEntries  serializations of the changed or added entries by entry id
+     * @param removedEntryIds ids of the removed entries
+     */
+    static void append(Path snapshotPath, Map<String, String> changedEntries, Collection<String> removedEntryIds) throws IOException {
+        List<String> lines = new ArrayList<>(changedEntries.size() + removedEntryIds.size());
+        removedEntryIds.forEach(id -> lines.add(String.join(SEPARATOR, REMOVAL_RECORD, id)));
+        changedEntries.forEach((id, serialization) -> lines.add(String.join(SEPARATOR, ENTRY_RECORD, id, escape(serialization))));
+        // Fails if the journal does not exist, because the changes cannot be related to the snapshot then
+        Files.write(getJournalPath(snapshotPath), lines, StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+    }
+
+    /**
+     * Applies the journal of the given snapshot to the snapshot.
+     *
+     * @return an empty optional if the snapshot has no (readable) journal
+     */
+    static Optional<RestoredBackup> restore(Path snapshotPath) throws IOException {
+        Path journalPath = getJournalPath(snapshotPath);
+        if (!Files.exists(journalPath)) {
+            return Optional.empty();
+        }
+        String journal = Files.readString(journalPath, StandardCharsets.UTF_8);
+        // Ignore an incompletely written last line
+        int endOfLastLine = journal.lastIndexOf('\n');
+        List<String[]> records = journal.substring(0, endOfLastLine + 1).lines()
+                                        .map(line -> line.split(SEPARATOR, -1))
+                                        .toList();
+        if (records.isEmpty() || !SNAPSHOT_RECORD.equals(records.getFirst()[0]) || (records.getFirst().length != 4)) {
+            LOGGER.warn("Ignoring journal {} without snapshot information", journalPath);
+            return Optional.empty();
+        }
+        String[] snapshotRecord = records.getFirst();
+        Charset encoding = Charset.forName(snapshotRecord[1]);
+        String newLineSeparator = unescape(snapshotRecord[2]);
+        int entriesEnd = Integer.parseInt(snapshotRecord[3]);
+
+        List<EntryPosition> positions = new ArrayList<>();
+        // The latest state of each journaled entry, an empty optional marks a removal
+        Map<String, Optional<String>> entryStates = new LinkedHashMap<>();
+        for (String[] record : records.subList(1, records.size())) {
+            switch (record[0]) {
+                case POSITION_RECORD -> positions.add(new EntryPosition(record[1], Integer.parseInt(record[2]), Integer.parseInt(record[3])));
+                case ENTRY_RECORD -> entryStates.put(record[1], Optional.of(unescape(record[2])));
+                case REMOVAL_RECORD -> entryStates.put(record[1], Optional.empty());
+                default -> LOGGER.warn("Ignoring unknown record {} in journal {}", record[0], journalPath);
+            }
+        }
+
+        String snapshot = Files.readString(snapshotPath, encoding);
+        return Optional.of(new RestoredBackup(apply(snapshot, positions, entriesEnd, entryStates, newLineSeparator), encoding));
+    }
+
+    private static String apply(String snapshot, List<EntryPosition> positions, int entriesEnd, Map<String, Optional<String>> entryStates, String newLineSeparator) {
+        Map<String, Optional<String>> addedEntries = new LinkedHashMap<>(entryStates);
+        StringBuilder result = new StringBuilder(snapshot.length());
+        int copiedUntil = 0;
+        for (EntryPosition position : positions) {
+            result.append(snapshot, copiedUntil, position.start());
+            String original = snapshot.substring(position.start(), position.end());
+            Optional<String> state = entryStates.get(position.entryId());
+            if (state == null) {
+                result.append(original);
+            } else if (state.isPresent()) {
+                // Keep the separation from the previous block
+                result.append(original, 0, countLeadingLineBreaks(original)).append(state.get());
+            }
+            addedEntries.remove(position.entryId());
+            copiedUntil = position.end();
+        }
+        result.append(snapshot, copiedUntil, entriesEnd);
+        addedEntries.values().stream()
+                    .flatMap(Optional::stream)
+                    .forEach(serialization -> result.append(newLineSeparator).append(serialization));
+        result.append(snapshot, entriesEnd, snapshot.length());
+        return result.toString();
+    }
+
+    private static int countLeadingLineBreaks(String text) {
+        int count = 0;
+        while ((count < text.length()) && ((text.charAt(count) == '\n') || (text.charAt(count) == '\r'))) {
+            count++;
+        }
+        return count;
+    }
+
+    private static String escape(String text) {
+        StringBuilder escaped = new StringBuilder(text.length());
+        for (char character : text.toCharArray()) {
+            switch (character) {
+                case '\\' -> escaped.append("\\\\");
+                case '\t' -> escaped.append("\\t");
+                case '\n' -> escaped.append("\\n");
+                case '\r' -> escaped.append("\\r");
+                default -> escaped.append(character);
+            }
+        }
+        return escaped.toString();
+    }
+
+    private static String unescape(String text) {
+        StringBuilder unescaped = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char character = text.charAt(i);
+            if ((character == '\\') && ((i + 1) < text.length())) {
+                i++;
+                switch (text.charAt(i)) {
+                    case 't' -> unescaped.append('\t');
+                    case 'n' -> unescaped.append('\n');
+                    case 'r' -> unescaped.append('\r');
+                    default -> unescaped.append(text.charAt(i));
+                }
+            } else {
+                unescaped.append(character);
+            }
+        }
+        return unescaped.toString();
+    }
+
+    /**
+     * Counts the characters written, so that the positions of the entries in the snapshot are known.
+     */
+    static class CountingWriter extends FilterWriter {
+
+        private int count;
+
+        CountingWriter(Writer out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int c) throws IOException {
+            super.write(c);
+            count++;
+        }
+
+        @Override
+        public void write(char[] cbuf, int off, int len) throws IOException {
+            super.write(cbuf, off, len);
+            count += len;
+        }
+
+        @Override
+        public void write(String str, int off, int len) throws IOException {
+            super.write(str, off, len);
+            count += len;
+        }
+
+        int getCount() {
+            return count;
+        }
+    }
+
+    /**
+     * Writes the snapshot and records the positions of the entries.
+     */
+    static class SnapshotWriter extends BibtexDatabaseWriter {
+
+        private final CountingWriter countingWriter;
+        private final Map<BibEntry, String> entryIds;
+        private final List<EntryPosition> entryPositions = new ArrayList<>();
+        private int entriesEnd = -1;
+
+        /**
+         * @param entryIds the ids of the entries in the library by the written entries (which are usually clones)
+         */
+        SnapshotWriter(CountingWriter countingWriter,
+                       String newLineSeparator,
+                       SelfContainedSaveConfiguration saveConfiguration,
+                       FieldPreferences fieldPreferences,
+                       CitationKeyPatternPreferences citationKeyPatternPreferences,
+                       BibEntryTypesManager entryTypesManager,
+                       Map<BibEntry, String> entryIds) {
+            super(new BibWriter(countingWriter, newLineSeparator), saveConfiguration, fieldPreferences, citationKeyPatternPreferences, entryTypesManager);
+            this.countingWriter = countingWriter;
+            this.entryIds = entryIds;
+        }
+
+        @Override
+        protected void writeEntry(BibEntry entry, BibDatabaseMode mode) throws IOException {
+            int start = countingWriter.getCount();
+            super.writeEntry(entry, mode);
+            String entryId = entryIds.get(entry);
+            if (entryId != null) {
+                entryPositions.add(new EntryPosition(entryId, start, countingWriter.getCount()));
+            }
+        }
+
+        @Override
+        protected void writeMetaData(MetaData metaData, GlobalCitationKeyPatterns globalCiteKeyPattern) throws IOException {
+            markEntriesEnd();
+            super.writeMetaData(metaData, globalCiteKeyPattern);
+        }
+
+        @Override
+        protected void writeEpilogue(String epilogue) throws IOException {
+            markEntriesEnd();
+            super.writeEpilogue(epilogue);
+        }
+
+        private void markEntriesEnd() {
+            // Everything after the entries is written after them
+            if (entriesEnd < 0) {
+                entriesEnd = countingWriter.getCount();
+            }
+        }
+
+        List<EntryPosition> getEntryPositions() {
+            return entryPositions;
+        }
+
+        int getEntriesEnd() {
+            return entriesEnd;
+        }
+    }
+}
@@ -1,15 +1,19 @@
 package org.jabref.gui.autosaveandbackup;
 
 import java.io.IOException;
-import java.io.Writer;
+import java.io.StringWriter;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
 import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Queue;
 import java.util.Set;
@@ -24,10 +28,11 @@ import javafx.scene.control.TableColumn;
 import org.jabref.gui.LibraryTab;
 import org.jabref.gui.maintable.BibEntryTableViewModel;
 import org.jabref.gui.maintable.columns.MainTableColumn;
+import org.jabref.logic.bibtex.BibEntryWriter;
+import org.jabref.logic.bibtex.FieldWriter;
 import org.jabref.logic.bibtex.InvalidFieldValueException;
 import org.jabref.logic.exporter.AtomicFileWriter;
 import org.jabref.logic.exporter.BibWriter;
-import org.jabref.logic.exporter.BibtexDatabaseWriter;
 import org.jabref.logic.exporter.SelfContainedSaveConfiguration;
 import org.jabref.logic.preferences.CliPreferences;
 import org.jabref.logic.util.BackupFileType;
@@ -36,8 +41,11 @@ import org.jabref.logic.util.io.BackupFileUtil;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.database.event.BibDatabaseContextChangedEvent;
+import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.database.event.EntriesRemovedEvent;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.event.EntryChangedEvent;
 import org.jabref.model.metadata.SaveOrder;
 import org.jabref.model.metadata.SelfContainedSaveOrder;
 
@@ -50,6 +58,10 @@ import org.slf4j.LoggerFactory;
  * An intelligent {@link ExecutorService} with a {@link BlockingQueue} prevents a high load while making backups and
  * rejects all redundant backup tasks. This class does not manage the .bak file which is created when opening a
  * database.
+ * <p>
+ * A backup consists of a full snapshot of the library and a {@link BackupJournal} next to it. As long as only entries
+ * are added, changed, or removed, only these entries are appended to the journal. A new snapshot is written if
+ * something else changes or if the journal grows too large compared to the snapshot.
  */
 public class BackupManager {
 
@@ -59,6 +71,9 @@ public class BackupManager {
 
     private static final int DELAY_BETWEEN_BACKUP_ATTEMPTS_IN_SECONDS = 19;
 
+    // A new snapshot is written as soon as the journal is larger than the snapshot divided by this factor
+    private static final int SNAPSHOT_TO_JOURNAL_SIZE_RATIO = 2;
+
     private static Set<BackupManager> runningInstances = new HashSet<>();
 
     private final BibDatabaseContext bibDatabaseContext;
@@ -73,6 +88,14 @@ public class BackupManager {
     private final Queue<Path> backupFilesQueue = new LinkedBlockingQueue<>();
     private boolean needsBackup = false;
 
+    // The snapshot the journal of this session belongs to. Empty if the next backup has to be a snapshot.
+    private volatile Optional<Path> currentSnapshot = Optional.empty();
+
+    // Changes since the last backup, guarded by "this"
+    private final Map<String, BibEntry> changedEntries = new LinkedHashMap<>();
+    private final Set<String> removedEntryIds = new HashSet<>();
+    private boolean needsSnapshot = false;
+
     BackupManager(LibraryTab libraryTab, BibDatabaseContext bibDatabaseContext, BibEntryTypesManager entryTypesManager, CliPreferences preferences) {
         this.bibDatabaseContext = bibDatabaseContext;
         this.entryTypesManager = entryTypesManager;
@@ -161,6 +184,10 @@ public class BackupManager {
             FileTime latestBackupFileLastModifiedTime;
             try {
                 latestBackupFileLastModifiedTime = Files.getLastModifiedTime(latestBackupPath);
+                Path journalPath = BackupJournal.getJournalPath(latestBackupPath);
+                if (Files.exists(journalPath) && (Files.getLastModifiedTime(journalPath).compareTo(latestBackupFileLastModifiedTime) > 0)) {
+                    latestBackupFileLastModifiedTime = Files.getLastModifiedTime(journalPath);
+                }
             } catch (IOException e) {
                 LOGGER.debug("Could not get timestamp of backup file {}", latestBackupPath, e);
                 // If we cannot get the timestamp, we do show any warning
@@ -180,7 +207,10 @@ public class BackupManager {
                 return false;
             }
             try {
-                boolean result = Files.mismatch(originalPath, latestBackupPath) != -1L;
+                Optional<BackupJournal.RestoredBackup> restoredBackup = BackupJournal.restore(latestBackupPath);
+                boolean result = restoredBackup.isPresent()
+                        ? !Arrays.equals(Files.readAllBytes(originalPath), restoredBackup.get().content().getBytes(restoredBackup.get().encoding()))
+                        : Files.mismatch(originalPath, latestBackupPath) != -1L;
                 if (result) {
                     LOGGER.info("Backup file {} differs from current file {}", latestBackupPath, originalPath);
                 }
@@ -194,20 +224,38 @@ public class BackupManager {
     }
 
     /**
-     * Restores the backup file by copying and overwriting the original one.
+     * Restores the backup file by overwriting the original one with the latest snapshot and the changes of its journal.
      *
      * @param originalPath Path to the file which should be equalized to the backup file.
      */
     public static void restoreBackup(Path originalPath, Path backupDir) {
+        writeLatestBackup(originalPath, backupDir, originalPath);
+    }
+
+    /**
+     * Writes the content of the latest backup (the snapshot with the changes of its journal) to the given file.
+     *
+     * @param originalPath Path to the file the backup belongs to
+     * @param target       Path to the file to write the backup to
+     * @return <code>true</code> if the backup was written
+     */
+    public static boolean writeLatestBackup(Path originalPath, Path backupDir, Path target) {
         Optional<Path> backupPath = getLatestBackupPath(originalPath, backupDir);
         if (backupPath.isEmpty()) {
             LOGGER.error("There is no backup file");
-            return;
+            return false;
         }
         try {
-            Files.copy(backupPath.get(), originalPath, StandardCopyOption.REPLACE_EXISTING);
+            Optional<BackupJournal.RestoredBackup> restoredBackup = BackupJournal.restore(backupPath.get());
+            if (restoredBackup.isPresent()) {
+                Files.writeString(target, restoredBackup.get().content(), restoredBackup.get().encoding());
+            } else {
+                Files.copy(backupPath.get(), target, StandardCopyOption.REPLACE_EXISTING);
+            }
+            return true;
         } catch (IOException e) {
             LOGGER.error("Error while restoring the backup file.", e);
+            return false;
         }
     }
 
@@ -217,21 +265,84 @@ public class BackupManager {
 
     /**
      * This method is called as soon as the scheduler says: "Do the backup"
+     * <p>
+     * If possible, only the changed entries are appended to the journal of the current snapshot. Otherwise, a new
+     * snapshot is written to the given path.
      *
      * <em>SIDE EFFECT: Deletes oldest backup file</em>
      *
-     * @param backupPath the full path to the file where the library should be backed up to
+     * @param backupPath the full path to the file where the library should be backed up to if a snapshot is needed
      */
     void performBackup(Path backupPath) {
-        if (!needsBackup) {
-            return;
+        Optional<Path> snapshotPath = currentSnapshot;
+        Map<String, BibEntry> entriesToJournal;
+        Set<String> entryIdsToJournal;
+        boolean writeSnapshot;
+        synchronized (this) {
+            if (!needsBackup) {
+                return;
+            }
+            writeSnapshot = needsSnapshot || snapshotPath.isEmpty() || isJournalTooLarge(snapshotPath.get());
+            entriesToJournal = new LinkedHashMap<>(changedEntries);
+            entryIdsToJournal = new HashSet<>(removedEntryIds);
+            changedEntries.clear();
+            removedEntryIds.clear();
+            needsSnapshot = false;
+            needsBackup = false;
         }
 
+        boolean successful = (!writeSnapshot && appendToJournal(snapshotPath.get(), entriesToJournal, entryIdsToJournal))
+                || writeSnapshot(backupPath);
+        if (!successful) {
+            synchronized (this) {
+                // The changes are lost for the journal, thus the next backup has to be a snapshot
+                needsSnapshot = true;
+                needsBackup = true;
+            }
+        }
+    }
+
+    private boolean isJournalTooLarge(Path snapshotPath) {
+        try {
+            return (Files.size(BackupJournal.getJournalPath(snapshotPath)) * SNAPSHOT_TO_JOURNAL_SIZE_RATIO) > Files.size(snapshotPath);
+        } catch (IOException e) {
+            LOGGER.debug("Could not determine size of backup {}", snapshotPath, e);
+            return true;
+        }
+    }
+
+    private boolean appendToJournal(Path snapshotPath, Map<String, BibEntry> entries, Set<String> removedIds) {
+        BibEntryWriter entryWriter = new BibEntryWriter(new FieldWriter(preferences.getFieldPreferences()), entryTypesManager);
+        boolean reformat = preferences.getLibraryPreferences().shouldAlwaysReformatOnSave();
+        Map<String, String> serializations = new LinkedHashMap<>();
+        try {
+            for (Map.Entry<String, BibEntry> idAndEntry : entries.entrySet()) {
+                // We serialize a clone, because the original entry might be changed during writing
+                BibEntry entry = (BibEntry) idAndEntry.getValue().clone();
+                if (entry.isEmpty()) {
+                    // Empty entries are not saved
+                    removedIds.add(idAndEntry.getKey());
+                    continue;
+                }
+                StringWriter stringWriter = new StringWriter();
+                entryWriter.write(entry, new BibWriter(stringWriter, bibDatabaseContext.getDatabase().getNewLineSeparator()), bibDatabaseContext.getMode(), reformat);
+                serializations.put(idAndEntry.getKey(), stringWriter.toString());
+            }
+            BackupJournal.append(snapshotPath, serializations, removedIds);
+            return true;
+        } catch (IOException e) {
+            LOGGER.info("Could not append to backup journal of {}, writing a full backup", snapshotPath, e);
+            return false;
+        }
+    }
+
+    private boolean writeSnapshot(Path backupPath) {
         // We opted for "while" to delete backups in case there are more than 10
         while (backupFilesQueue.size() >= MAXIMUM_BACKUP_FILE_COUNT) {
             Path oldestBackupFile = backupFilesQueue.poll();
             try {
                 Files.delete(oldestBackupFile);
+                Files.deleteIfExists(BackupJournal.getJournalPath(oldestBackupFile));
             } catch (IOException e) {
                 LOGGER.error("Could not delete backup file {}", oldestBackupFile, e);
             }
@@ -263,36 +374,52 @@ public class BackupManager {
 
         // "Clone" the database context
         // We "know" that "only" the BibEntries might be changed during writing (see [org.jabref.logic.exporter.BibDatabaseWriter.savePartOfDatabase])
+        // The journal refers to the entries by the ids of the original entries
+        Map<BibEntry, String> entryIds = new IdentityHashMap<>();
         List<BibEntry> list = bibDatabaseContext.getDatabase().getEntries().stream()
-                                                .map(BibEntry::clone)
-                                                .map(BibEntry.class::cast)
+                                                .map(entry -> {
+                                                    BibEntry clone = (BibEntry) entry.clone();
+                                                    entryIds.put(clone, entry.getId());
+                                                    return clone;
+                                                })
                                                 .toList();
         BibDatabase bibDatabaseClone = new BibDatabase(list);
         BibDatabaseContext bibDatabaseContextClone = new BibDatabaseContext(bibDatabaseClone, bibDatabaseContext.getMetaData());
 
         Charset encoding = bibDatabaseContext.getMetaData().getEncoding().orElse(StandardCharsets.UTF_8);
+        String newLineSeparator = bibDatabaseContext.getDatabase().getNewLineSeparator();
         // We want to have successful backups only
         // Thus, we do not use a plain "FileWriter", but the "AtomicFileWriter"
         // Example: What happens if one hard powers off the machine (or kills the jabref process) during writing of the backup?
         //          This MUST NOT create a broken backup file that then jabref wants to "restore" from?
-        try (Writer writer = new AtomicFileWriter(backupPath, encoding, false)) {
-            BibWriter bibWriter = new BibWriter(writer, bibDatabaseContext.getDatabase().getNewLineSeparator());
-            new BibtexDatabaseWriter(
-                    bibWriter,
+        BackupJournal.SnapshotWriter snapshotWriter;
+        try (BackupJournal.CountingWriter writer = new BackupJournal.CountingWriter(new AtomicFileWriter(backupPath, encoding, false))) {
+            snapshotWriter = new BackupJournal.SnapshotWriter(
+                    writer,
+                    newLineSeparator,
                     saveConfiguration,
                     preferences.getFieldPreferences(),
                     preferences.getCitationKeyPatternPreferences(),
-                    entryTypesManager)
-                    // we save the clone to prevent the original database (and thus the UI) from being changed
-                    .saveDatabase(bibDatabaseContextClone);
+                    entryTypesManager,
+                    entryIds);
+            // we save the clone to prevent the original database (and thus the UI) from being changed
+            snapshotWriter.saveDatabase(bibDatabaseContextClone);
             backupFilesQueue.add(backupPath);
-
-            // We wrote the file successfully
-            // Thus, we currently do not need any new backup
-            this.needsBackup = false;
         } catch (IOException e) {
             logIfCritical(backupPath, e);
+            return false;
+        }
+
+        try {
+            BackupJournal.create(backupPath, snapshotWriter, encoding, newLineSeparator);
+            currentSnapshot = Optional.of(backupPath);
+        } catch (IOException e) {
+            // The snapshot itself is a complete backup
+            LOGGER.info("Could not create backup journal for {}", backupPath, e);
+            currentSnapshot = Optional.empty();
         }
+        // We wrote the file successfully
+        return true;
     }
 
     private static Path determineDiscardedFile(Path file, Path backupDir) {
@@ -328,12 +455,30 @@ public class BackupManager {
     }
 
     @Subscribe
-    public synchronized void listen(@SuppressWarnings("unused") BibDatabaseContextChangedEvent event) {
+    public synchronized void listen(BibDatabaseContextChangedEvent event) {
+        // Filtered out changes are journaled as well, the filter only determines whether a backup is needed
+        switch (event) {
+            case EntryChangedEvent entryChangedEvent -> markChanged(entryChangedEvent.getBibEntry());
+            case EntriesAddedEvent entriesAddedEvent -> entriesAddedEvent.getBibEntries().forEach(this::markChanged);
+            case EntriesRemovedEvent entriesRemovedEvent -> entriesRemovedEvent.getBibEntries().forEach(this::markRemoved);
+            // Changes of the meta data, strings, or preamble cannot be journaled
+            default -> this.needsSnapshot = true;
+        }
         if (!event.isFilteredOut()) {
             this.needsBackup = true;
         }
     }
 
+    private void markChanged(BibEntry entry) {
+        removedEntryIds.remove(entry.getId());
+        changedEntries.put(entry.getId(), entry);
+    }
+
+    private void markRemoved(BibEntry entry) {
+        changedEntries.remove(entry.getId());
+        removedEntryIds.add(entry.getId());
+    }
+
     private void startBackupTask(Path backupDir) {
         fillQueue(backupDir);
 
@@ -356,6 +501,8 @@ public class BackupManager {
                 List<Path> allSavFiles = Files.list(backupDir)
                                               // just list the .sav belonging to the given targetFile
                                               .filter(p -> p.getFileName().toString().startsWith(prefix))
+                                              // the journals are deleted together with their snapshot
+                                              .filter(p -> !p.getFileName().toString().endsWith(BackupJournal.JOURNAL_EXTENSION))
                                               .sorted().toList();
                 backupFilesQueue.addAll(allSavFiles);
             } catch (IOException e) {
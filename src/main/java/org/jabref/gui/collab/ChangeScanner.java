@@ -1,8 +1,13 @@
 package org.jabref.gui.collab;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Collections;
 import java.util.List;
+import java.util.OptionalLong;
+import java.util.zip.CRC32C;
 
 import org.jabref.gui.DialogService;
 import org.jabref.gui.preferences.GuiPreferences;
@@ -15,6 +20,12 @@ import org.jabref.model.util.DummyFileUpdateMonitor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Compares the library on disk with the one in memory.
+ * <p>
+ * The scanner remembers the checksum of the file it has scanned last, so that a file written again with the same
+ * content (as done by some synchronization tools) is not parsed and compared again.
+ */
 public class ChangeScanner {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ChangeScanner.class);
@@ -23,6 +34,8 @@ public class ChangeScanner {
 
     private final DatabaseChangeResolverFactory databaseChangeResolverFactory;
 
+    private OptionalLong scannedChecksum = OptionalLong.empty();
+
     public ChangeScanner(BibDatabaseContext database,
                          DialogService dialogService,
                          GuiPreferences preferences) {
@@ -31,22 +44,43 @@ public class ChangeScanner {
         this.databaseChangeResolverFactory = new DatabaseChangeResolverFactory(dialogService, database, preferences);
     }
 
-    public List<DatabaseChange> scanForChanges() {
+    public synchronized List<DatabaseChange> scanForChanges() {
         if (database.getDatabasePath().isEmpty()) {
             return Collections.emptyList();
         }
 
         try {
+            Path path = database.getDatabasePath().get();
+            long checksum = computeChecksum(path);
+            if (scannedChecksum.isPresent() && (scannedChecksum.getAsLong() == checksum)) {
+                LOGGER.debug("Content of {} did not change since the last scan", path);
+                return Collections.emptyList();
+            }
+
             // Parse the modified file
             // Important: apply all post-load actions
             ImportFormatPreferences importFormatPreferences = preferences.getImportFormatPreferences();
-            ParserResult result = OpenDatabase.loadDatabase(database.getDatabasePath().get(), importFormatPreferences, new DummyFileUpdateMonitor());
+            ParserResult result = OpenDatabase.loadDatabase(path, importFormatPreferences, new DummyFileUpdateMonitor());
             BibDatabaseContext databaseOnDisk = result.getDatabaseContext();
 
-            return DatabaseChangeList.compareAndGetChanges(database, databaseOnDisk, databaseChangeResolverFactory);
+            List<DatabaseChange> changes = DatabaseChangeList.compareAndGetChanges(database, databaseOnDisk, databaseChangeResolverFactory);
+            scannedChecksum = OptionalLong.of(checksum);
+            return changes;
         } catch (IOException e) {
             LOGGER.warn("Error while parsing changed file.", e);
             return Collections.emptyList();
         }
     }
+
+    private static long computeChecksum(Path path) throws IOException {
+        CRC32C checksum = new CRC32C();
+        try (InputStream inputStream = Files.newInputStream(path)) {
+            byte[] buffer = new byte[64 * 1024];
+            int read;
+            while ((read = inputStream.read(buffer)) >= 0) {
+                checksum.update(buffer, 0, read);
+            }
+        }
+        return checksum.getValue();
+    }
 }
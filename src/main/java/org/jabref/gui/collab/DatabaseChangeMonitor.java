@@ -38,6 +38,7 @@ public class DatabaseChangeMonitor implements FileUpdateListener {
     private final LibraryTab.DatabaseNotification notificationPane;
     private final UndoManager undoManager;
     private final StateManager stateManager;
+    private final ChangeScanner scanner;
     private LibraryTab saveState;
 
     public DatabaseChangeMonitor(BibDatabaseContext database,
@@ -57,6 +58,7 @@ public class DatabaseChangeMonitor implements FileUpdateListener {
         this.undoManager = undoManager;
         this.stateManager = stateManager;
 
+        this.scanner = new ChangeScanner(database, dialogService, preferences);
         this.listeners = new ArrayList<>();
 
         this.database.getDatabasePath().ifPresent(path -> {
@@ -101,7 +103,6 @@ public class DatabaseChangeMonitor implements FileUpdateListener {
     public void fileUpdated() {
         synchronized (database) {
             // File on disk has changed, thus look for notable changes and notify listeners in case there are such changes
-            ChangeScanner scanner = new ChangeScanner(database, dialogService, preferences);
             BackgroundTask.wrap(scanner::scanForChanges)
                           .onSuccess(changes -> {
                               if (!changes.isEmpty()) {
@@ -11,6 +11,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
+import java.util.stream.IntStream;
 
 import javafx.beans.binding.Bindings;
 import javafx.beans.property.SimpleIntegerProperty;
@@ -27,6 +28,7 @@ import org.jabref.gui.undo.NamedCompound;
 import org.jabref.gui.undo.UndoableInsertEntries;
 import org.jabref.gui.undo.UndoableRemoveEntries;
 import org.jabref.gui.util.UiTaskExecutor;
+import org.jabref.logic.database.DuplicateCandidateIndex;
 import org.jabref.logic.database.DuplicateCheck;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.util.BackgroundTask;
@@ -97,22 +99,42 @@ public class DuplicateSearch extends SimpleCommand {
     }
 
     private void searchPossibleDuplicates(List<BibEntry> entries, BibDatabaseMode databaseMode) {
-        for (int i = 0; i < (entries.size() - 1); i++) {
-            for (int j = i + 1; j < entries.size(); j++) {
-                if (Thread.interrupted()) {
-                    return;
-                }
-
-                BibEntry first = entries.get(i);
-                BibEntry second = entries.get(j);
-
-                if (new DuplicateCheck(entryTypesManager).isDuplicate(first, second, databaseMode)) {
-                    duplicates.add(Arrays.asList(first, second));
-                    duplicateCountObservable.set(String.valueOf(duplicateCount.incrementAndGet()));
-                }
-            }
+        // Only entries sharing a block of the index are compared, the remaining pairs cannot be duplicates
+        DuplicateCandidateIndex candidateIndex = new DuplicateCandidateIndex(entries);
+        DuplicateCheck duplicateCheck = new DuplicateCheck(entryTypesManager);
+        // The worker threads of the parallel stream are not interrupted, thus they check the thread running this task
+        Thread searchThread = Thread.currentThread();
+
+        IntStream.range(0, candidateIndex.size() - 1)
+                 .parallel()
+                 .mapToObj(i -> {
+                     List<List<BibEntry>> found = new ArrayList<>();
+                     BibEntry first = candidateIndex.get(i);
+                     for (int j : candidateIndex.getCandidateIndices(i)) {
+                         if (searchThread.isInterrupted()) {
+                             return found;
+                         }
+                         BibEntry second = candidateIndex.get(j);
+                         if (duplicateCheck.isDuplicate(first, second, databaseMode)) {
+                             found.add(Arrays.asList(first, second));
+                         }
+                     }
+                     return found;
+                 })
+                 // keeps the order of the sequential search, so that the user is asked in a predictable order
+                 .forEachOrdered(found -> {
+                     if (searchThread.isInterrupted()) {
+                         return;
+                     }
+                     for (List<BibEntry> pair : found) {
+                         duplicates.add(pair);
+                         duplicateCountObservable.set(String.valueOf(duplicateCount.incrementAndGet()));
+                     }
+                 });
+
+        if (!searchThread.isInterrupted()) {
+            libraryAnalyzed.set(true);
         }
-        libraryAnalyzed.set(true);
     }
 
     private DuplicateSearchResult verifyDuplicates() {
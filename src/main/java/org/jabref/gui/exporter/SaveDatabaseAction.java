@@ -31,6 +31,7 @@ import org.jabref.logic.exporter.BibDatabaseWriter;
 import org.jabref.logic.exporter.BibWriter;
 import org.jabref.logic.exporter.BibtexDatabaseWriter;
 import org.jabref.logic.exporter.SaveException;
+import org.jabref.logic.exporter.SavedFileLayout;
 import org.jabref.logic.exporter.SelfContainedSaveConfiguration;
 import org.jabref.logic.l10n.Encodings;
 import org.jabref.logic.l10n.Localization;
@@ -256,6 +257,7 @@ public class SaveDatabaseAction {
                 = new SelfContainedSaveConfiguration(saveOrder, false, saveType, preferences.getLibraryPreferences().shouldAlwaysReformatOnSave());
         BibDatabaseContext bibDatabaseContext = libraryTab.getBibDatabaseContext();
         synchronized (bibDatabaseContext) {
+            SavedFileLayout.Save layoutSave = null;
             try (AtomicFileWriter fileWriter = new AtomicFileWriter(file, encoding, saveConfiguration.shouldMakeBackup())) {
                 BibWriter bibWriter = new BibWriter(fileWriter, bibDatabaseContext.getDatabase().getNewLineSeparator());
                 BibtexDatabaseWriter databaseWriter = new BibtexDatabaseWriter(
@@ -268,6 +270,9 @@ public class SaveDatabaseAction {
                 if (selectedOnly) {
                     databaseWriter.savePartOfDatabase(bibDatabaseContext, libraryTab.getSelectedEntries());
                 } else {
+                    // Unchanged entries are copied from the file written by the last save
+                    layoutSave = libraryTab.getSavedFileLayout().startSave(fileWriter, bibDatabaseContext.getDatabase().getNewLineSeparator());
+                    databaseWriter.reuseUnchangedEntries(layoutSave);
                     databaseWriter.saveDatabase(bibDatabaseContext);
                 }
 
@@ -281,6 +286,10 @@ public class SaveDatabaseAction {
             } catch (IOException ex) {
                 throw new SaveException("Problems saving: " + ex, ex);
             }
+            if (layoutSave != null) {
+                // The file is replaced when closing the writer
+                layoutSave.finish();
+            }
             return true;
         }
     }
@@ -338,7 +338,7 @@ public class GroupDialogViewModel {
                 Optional<IndexManager> indexManager = stateManager.getIndexManager(currentDatabase);
                 if (indexManager.isPresent()) {
                     SearchGroup searchGroup = (SearchGroup) resultingGroup;
-                    searchGroup.setMatchedEntries(indexManager.get().search(searchGroup.getSearchQuery()).getMatchedEntries());
+                    searchGroup.setMatchedEntries(indexManager.get().getMatchedEntryIds(searchGroup.getSearchQuery()));
                 }
             } else if (typeAutoProperty.getValue()) {
                 if (autoGroupKeywordsOptionProperty.getValue()) {
@@ -3,18 +3,20 @@ package org.jabref.gui.groups;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 import javafx.beans.InvalidationListener;
 import javafx.beans.WeakInvalidationListener;
 import javafx.beans.binding.Bindings;
 import javafx.beans.binding.BooleanBinding;
-import javafx.beans.binding.IntegerBinding;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerProperty;
 import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.property.SimpleIntegerProperty;
 import javafx.collections.FXCollections;
-import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
-import javafx.collections.ObservableSet;
 import javafx.scene.input.Dragboard;
 import javafx.scene.paint.Color;
 
@@ -40,6 +42,7 @@ import org.jabref.model.groups.AutomaticKeywordGroup;
 import org.jabref.model.groups.AutomaticPersonsGroup;
 import org.jabref.model.groups.ExplicitGroup;
 import org.jabref.model.groups.GroupEntryChanger;
+import org.jabref.model.groups.GroupMembershipIndex;
 import org.jabref.model.groups.GroupTreeNode;
 import org.jabref.model.groups.KeywordGroup;
 import org.jabref.model.groups.LastNameGroup;
@@ -55,18 +58,21 @@ import org.jabref.model.strings.StringUtil;
 import com.google.common.eventbus.Subscribe;
 import com.tobiasdiez.easybind.EasyBind;
 import com.tobiasdiez.easybind.EasyObservableList;
-import io.github.adr.linked.ADR;
 
 public class GroupNodeViewModel {
 
+    // Updates of the hits are delayed, so that a bulk edit of many entries does not update them after every single change
+    private static final long HITS_UPDATE_DELAY_MS = 100;
+
     private final String displayName;
     private final boolean isRoot;
     private final ObservableList<GroupNodeViewModel> children;
     private final BibDatabaseContext databaseContext;
     private final StateManager stateManager;
     private final GroupTreeNode groupNode;
-    @ADR(38)
-    private final ObservableSet<String> matchedEntries = FXCollections.observableSet();
+    private final GroupMembershipIndex membershipIndex;
+    private final IntegerProperty hits = new SimpleIntegerProperty();
+    private final AtomicBoolean hitsUpdateScheduled = new AtomicBoolean();
     private final SimpleBooleanProperty hasChildren;
     private final SimpleBooleanProperty expandedProperty = new SimpleBooleanProperty();
     private final BooleanBinding anySelectedEntriesMatched;
@@ -75,9 +81,10 @@ public class GroupNodeViewModel {
     private final CustomLocalDragboard localDragBoard;
     private final GuiPreferences preferences;
     @SuppressWarnings("FieldCanBeLocal")
-    private final ObservableList<BibEntry> entriesList;
-    @SuppressWarnings("FieldCanBeLocal")
     private final InvalidationListener onInvalidatedGroup = listener -> refreshGroup();
+    // The membership index holds its listeners weakly
+    @SuppressWarnings("FieldCanBeLocal")
+    private final Runnable onMembershipChanged = this::scheduleHitsUpdate;
 
     public GroupNodeViewModel(BibDatabaseContext databaseContext, StateManager stateManager, TaskExecutor taskExecutor, GroupTreeNode groupNode, CustomLocalDragboard localDragBoard, GuiPreferences preferences) {
         this.databaseContext = Objects.requireNonNull(databaseContext);
@@ -86,6 +93,7 @@ public class GroupNodeViewModel {
         this.groupNode = Objects.requireNonNull(groupNode);
         this.localDragBoard = Objects.requireNonNull(localDragBoard);
         this.preferences = preferences;
+        this.membershipIndex = stateManager.getGroupMembershipIndex(databaseContext);
 
         displayName = new LatexToUnicodeFormatter().format(groupNode.getName());
         isRoot = groupNode.isRoot();
@@ -102,7 +110,7 @@ public class GroupNodeViewModel {
             databaseContext.getMetaData().groupsBinding().addListener(new WeakInvalidationListener(onInvalidatedGroup));
         } else if (groupNode.getGroup() instanceof SearchGroup searchGroup) {
             stateManager.getIndexManager(databaseContext).ifPresent(indexManager -> {
-                searchGroup.setMatchedEntries(indexManager.search(searchGroup.getSearchQuery()).getMatchedEntries());
+                searchGroup.setMatchedEntries(indexManager.getMatchedEntryIds(searchGroup.getSearchQuery()));
                 refreshGroup();
                 databaseContext.getMetaData().groupsBinding().invalidate();
             });
@@ -110,16 +118,14 @@ public class GroupNodeViewModel {
 
         hasChildren = new SimpleBooleanProperty();
         hasChildren.bind(Bindings.isNotEmpty(children));
-        EasyBind.subscribe(preferences.getGroupsPreferences().displayGroupCountProperty(), shouldDisplay -> updateMatchedEntries());
+        EasyBind.subscribe(preferences.getGroupsPreferences().displayGroupCountProperty(), shouldDisplay -> updateHits());
         expandedProperty.set(groupNode.getGroup().isExpanded());
         expandedProperty.addListener((observable, oldValue, newValue) -> groupNode.getGroup().setExpanded(newValue));
 
         // Register listener
-        // The wrapper created by the FXCollections will set a weak listener on the wrapped list. This weak listener gets garbage collected. Hence, we need to maintain a reference to this list.
-        entriesList = databaseContext.getDatabase().getEntries();
-        entriesList.addListener(this::onDatabaseChanged);
+        membershipIndex.addListener(onMembershipChanged);
 
-        EasyObservableList<Boolean> selectedEntriesMatchStatus = EasyBind.map(stateManager.getSelectedEntries(), groupNode::matches);
+        EasyObservableList<Boolean> selectedEntriesMatchStatus = EasyBind.map(stateManager.getSelectedEntries(), entry -> membershipIndex.isMatch(groupNode, entry));
         anySelectedEntriesMatched = selectedEntriesMatchStatus.anyMatch(matched -> matched);
         // 'all' returns 'true' for empty streams, so this has to be checked explicitly
         allSelectedEntriesMatched = selectedEntriesMatchStatus.isEmptyBinding().not().and(selectedEntriesMatchStatus.allMatch(matched -> matched));
@@ -186,8 +192,8 @@ public class GroupNodeViewModel {
         return groupNode.getGroup().getDescription().orElse("");
     }
 
-    public IntegerBinding getHits() {
-        return Bindings.size(matchedEntries);
+    public ReadOnlyIntegerProperty getHits() {
+        return hits;
     }
 
     @Override
@@ -213,7 +219,7 @@ public class GroupNodeViewModel {
                 ", children=" + children +
                 ", databaseContext=" + databaseContext +
                 ", groupNode=" + groupNode +
-                ", matchedEntries=" + matchedEntries +
+                ", hits=" + hits.get() +
                 '}';
     }
 
@@ -245,46 +251,10 @@ public class GroupNodeViewModel {
         return groupNode;
     }
 
-    /**
-     * Gets invoked if an entry in the current database changes.
-     *
-     * @implNote Search groups are updated in {@link SearchIndexListener}.
-     */
-    private void onDatabaseChanged(ListChangeListener.Change<? extends BibEntry> change) {
-        if (groupNode.getGroup() instanceof SearchGroup) {
-            return;
-        }
-        while (change.next()) {
-            if (change.wasPermutated()) {
-                // Nothing to do, as permutation doesn't change matched entries
-            } else if (change.wasUpdated()) {
-                for (BibEntry changedEntry : change.getList().subList(change.getFrom(), change.getTo())) {
-                    if (groupNode.matches(changedEntry)) {
-                        // ADR-0038
-                        matchedEntries.add(changedEntry.getId());
-                    } else {
-                        // ADR-0038
-                        matchedEntries.remove(changedEntry.getId());
-                    }
-                }
-            } else {
-                for (BibEntry removedEntry : change.getRemoved()) {
-                    // ADR-0038
-                    matchedEntries.remove(removedEntry.getId());
-                }
-                for (BibEntry addedEntry : change.getAddedSubList()) {
-                    if (groupNode.matches(addedEntry)) {
-                        // ADR-0038
-                        matchedEntries.add(addedEntry.getId());
-                    }
-                }
-            }
-        }
-    }
-
     private void refreshGroup() {
+        membershipIndex.refresh(groupNode);
         UiTaskExecutor.runInJavaFXThread(() -> {
-            updateMatchedEntries(); // Update the entries matched by the group
+            updateHits(); // Update the number of entries matched by the group
             // "Re-add" to the selected groups if it were selected, this refreshes the entries the user views
             ObservableList<GroupTreeNode> selectedGroups = this.stateManager.getSelectedGroups(this.databaseContext);
             if (selectedGroups.remove(this.groupNode)) {
@@ -293,18 +263,26 @@ public class GroupNodeViewModel {
         });
     }
 
-    private void updateMatchedEntries() {
-        // We calculate the new hit value
-        // We could be more intelligent and try to figure out the new number of hits based on the entry change
-        // for example, a previously matched entry gets removed -> hits = hits - 1
-        if (preferences.getGroupsPreferences().shouldDisplayGroupCount()) {
+    /**
+     * Gets invoked if the entries matched by any group may have changed.
+     */
+    private void scheduleHitsUpdate() {
+        if (preferences.getGroupsPreferences().shouldDisplayGroupCount() && hitsUpdateScheduled.compareAndSet(false, true)) {
             BackgroundTask
-                    .wrap(() -> groupNode.findMatches(databaseContext.getDatabase()))
-                    .onSuccess(entries -> {
-                        matchedEntries.clear();
-                        // ADR-0038
-                        entries.forEach(entry -> matchedEntries.add(entry.getId()));
+                    .wrap(() -> {
+                        hitsUpdateScheduled.set(false);
+                        return membershipIndex.getMatchCount(groupNode);
                     })
+                    .onSuccess(hits::set)
+                    .scheduleWith(taskExecutor, HITS_UPDATE_DELAY_MS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void updateHits() {
+        if (preferences.getGroupsPreferences().shouldDisplayGroupCount()) {
+            BackgroundTask
+                    .wrap(() -> membershipIndex.getMatchCount(groupNode))
+                    .onSuccess(hits::set)
                     .executeWith(taskExecutor);
         }
     }
@@ -538,7 +516,7 @@ public class GroupNodeViewModel {
         public void listen(IndexStartedEvent event) {
             if (groupNode.getGroup() instanceof SearchGroup searchGroup) {
                 stateManager.getIndexManager(databaseContext).ifPresent(indexManager -> {
-                    searchGroup.setMatchedEntries(indexManager.search(searchGroup.getSearchQuery()).getMatchedEntries());
+                    searchGroup.setMatchedEntries(indexManager.getMatchedEntryIds(searchGroup.getSearchQuery()));
                     refreshGroup();
                     databaseContext.getMetaData().groupsBinding().invalidate();
                 });
@@ -550,17 +528,8 @@ public class GroupNodeViewModel {
             if (groupNode.getGroup() instanceof SearchGroup searchGroup) {
                 stateManager.getIndexManager(databaseContext).ifPresent(indexManager -> {
                     BackgroundTask.wrap(() -> {
-                        for (BibEntry entry : event.entries()) {
-                            searchGroup.updateMatches(entry, indexManager.isEntryMatched(entry, searchGroup.getSearchQuery()));
-                        }
-                    }).onFinished(() -> {
-                        for (BibEntry entry : event.entries()) {
-                            if (groupNode.matches(entry)) {
-                                matchedEntries.add(entry.getId());
-                            } else {
-                                matchedEntries.remove(entry.getId());
-                            }
-                        }
+                        searchGroup.updateMatches(event.entries(), indexManager.getMatchedEntryIds(searchGroup.getSearchQuery(), event.entries()));
+                        membershipIndex.refresh(groupNode, event.entries());
                     }).executeWith(taskExecutor);
                 });
             }
@@ -571,8 +540,8 @@ public class GroupNodeViewModel {
             if (groupNode.getGroup() instanceof SearchGroup searchGroup) {
                 for (BibEntry entry : event.entries()) {
                     searchGroup.updateMatches(entry, false);
-                    matchedEntries.remove(entry.getId());
                 }
+                membershipIndex.refresh(groupNode, event.entries());
             }
         }
 
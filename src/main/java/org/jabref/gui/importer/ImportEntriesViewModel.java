@@ -12,6 +12,7 @@ import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.beans.property.StringProperty;
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 
 import org.jabref.gui.AbstractViewModel;
@@ -22,6 +23,7 @@ import org.jabref.gui.preferences.GuiPreferences;
 import org.jabref.logic.bibtex.BibEntryWriter;
 import org.jabref.logic.bibtex.FieldWriter;
 import org.jabref.logic.database.DatabaseMerger;
+import org.jabref.logic.database.DuplicateCandidateIndex;
 import org.jabref.logic.database.DuplicateCheck;
 import org.jabref.logic.exporter.BibWriter;
 import org.jabref.logic.importer.ParserResult;
@@ -54,6 +56,10 @@ public class ImportEntriesViewModel extends AbstractViewModel {
     private final BibEntryTypesManager entryTypesManager;
     private final ObjectProperty<BibDatabaseContext> selectedDb;
 
+    // Built lazily, since the duplicate checks of the dialog rows run in parallel background tasks
+    private DuplicateCandidateIndex selectedDbIndex;
+    private DuplicateCandidateIndex importedEntriesIndex;
+
     /**
      * @param databaseContext the database to import into
      * @param task            the task executed for parsing the selected files(s).
@@ -79,6 +85,8 @@ public class ImportEntriesViewModel extends AbstractViewModel {
         this.message = new SimpleStringProperty();
         this.message.bind(task.messageProperty());
         this.selectedDb = new SimpleObjectProperty<>();
+        this.selectedDb.addListener((obs, oldValue, newValue) -> invalidateSelectedDbIndex());
+        this.entries.addListener((ListChangeListener<BibEntry>) change -> invalidateImportedEntriesIndex());
 
         task.onSuccess(parserResult -> {
             // store the complete parser result (to import groups, ... later on)
@@ -117,7 +125,31 @@ public class ImportEntriesViewModel extends AbstractViewModel {
     public boolean hasDuplicate(BibEntry entry) {
         return findInternalDuplicate(entry).isPresent() ||
                 new DuplicateCheck(entryTypesManager)
-                .containsDuplicate(selectedDb.getValue().getDatabase(), entry, selectedDb.getValue().getMode()).isPresent();
+                .containsDuplicate(getSelectedDbIndex(), entry, selectedDb.getValue().getMode()).isPresent();
+    }
+
+    private synchronized DuplicateCandidateIndex getSelectedDbIndex() {
+        List<BibEntry> selectedDbEntries = selectedDb.getValue().getEntries();
+        // Entries might have been added to the library while the dialog is open
+        if ((selectedDbIndex == null) || (selectedDbIndex.size() != selectedDbEntries.size())) {
+            selectedDbIndex = new DuplicateCandidateIndex(selectedDbEntries);
+        }
+        return selectedDbIndex;
+    }
+
+    private synchronized void invalidateSelectedDbIndex() {
+        selectedDbIndex = null;
+    }
+
+    private synchronized DuplicateCandidateIndex getImportedEntriesIndex() {
+        if (importedEntriesIndex == null) {
+            importedEntriesIndex = new DuplicateCandidateIndex(entries);
+        }
+        return importedEntriesIndex;
+    }
+
+    private synchronized void invalidateImportedEntriesIndex() {
+        importedEntriesIndex = null;
     }
 
     public String getSourceString(BibEntry entry) {
@@ -167,7 +199,7 @@ public class ImportEntriesViewModel extends AbstractViewModel {
      * @return A possible duplicate, if any, or null if none were found.
      */
     private Optional<BibEntry> findInternalDuplicate(BibEntry entry) {
-        for (BibEntry othEntry : entries) {
+        for (BibEntry othEntry : getImportedEntriesIndex().getCandidates(entry)) {
             if (othEntry.equals(entry)) {
                 continue; // Don't compare the entry to itself
             }
@@ -13,10 +13,8 @@ import java.util.stream.Collectors;
 import javafx.beans.Observable;
 import javafx.beans.binding.Binding;
 import javafx.beans.binding.Bindings;
-import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.ReadOnlyStringWrapper;
-import javafx.beans.property.SimpleBooleanProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.property.StringProperty;
 import javafx.beans.value.ObservableValue;
@@ -24,7 +22,6 @@ import javafx.beans.value.ObservableValue;
 import org.jabref.gui.search.MatchCategory;
 import org.jabref.gui.specialfields.SpecialFieldValueViewModel;
 import org.jabref.gui.util.uithreadaware.UiThreadBinding;
-import org.jabref.logic.importer.util.FileFieldParser;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.LinkedFile;
@@ -39,30 +36,35 @@ import com.tobiasdiez.easybind.EasyBind;
 import com.tobiasdiez.easybind.EasyBinding;
 import com.tobiasdiez.easybind.optional.OptionalBinding;
 
+/**
+ * The view model of a row of the main table.
+ * <p>
+ * There is one view model for every entry of the library, so it is kept small: the bindings used by the cells are only
+ * created when the row is shown, and {@link #releaseBindings()} drops them after the row was scrolled away. The search
+ * and group state of the entry is stored as bit flags.
+ */
 public class BibEntryTableViewModel {
+    private static final int HAS_FULL_TEXT_RESULTS = 1;
+    private static final int MATCHED_BY_SEARCH = 1 << 1;
+    private static final int VISIBLE_BY_SEARCH = 1 << 2;
+    private static final int MATCHED_BY_GROUP = 1 << 3;
+    private static final int VISIBLE_BY_GROUP = 1 << 4;
+
     private final BibEntry entry;
     private final ObservableValue<MainTableFieldValueFormatter> fieldValueFormatter;
     private final Map<OrFields, ObservableValue<String>> fieldValues = new HashMap<>();
     private final Map<SpecialField, OptionalBinding<SpecialFieldValueViewModel>> specialFieldValues = new HashMap<>();
-    private final EasyBinding<List<LinkedFile>> linkedFiles;
-    private final EasyBinding<Map<Field, String>> linkedIdentifiers;
-    private final Binding<List<AbstractGroup>> matchedGroups;
     private final BibDatabaseContext bibDatabaseContext;
-    private final BooleanProperty hasFullTextResults = new SimpleBooleanProperty(false);
-    private final BooleanProperty isMatchedBySearch = new SimpleBooleanProperty(true);
-    private final BooleanProperty isVisibleBySearch = new SimpleBooleanProperty(true);
-    private final BooleanProperty isMatchedByGroup = new SimpleBooleanProperty(true);
-    private final BooleanProperty isVisibleByGroup = new SimpleBooleanProperty(true);
-    private final ObjectProperty<MatchCategory> matchCategory = new SimpleObjectProperty<>(MatchCategory.MATCHING_SEARCH_AND_GROUPS);
+    private EasyBinding<List<LinkedFile>> linkedFiles;
+    private EasyBinding<Map<Field, String>> linkedIdentifiers;
+    private Binding<List<AbstractGroup>> matchedGroups;
+    private volatile ObjectProperty<MatchCategory> matchCategory;
+    private volatile int flags = MATCHED_BY_SEARCH | VISIBLE_BY_SEARCH | MATCHED_BY_GROUP | VISIBLE_BY_GROUP;
 
     public BibEntryTableViewModel(BibEntry entry, BibDatabaseContext bibDatabaseContext, ObservableValue<MainTableFieldValueFormatter> fieldValueFormatter) {
         this.entry = entry;
         this.bibDatabaseContext = bibDatabaseContext;
         this.fieldValueFormatter = fieldValueFormatter;
-
-        this.linkedFiles = getField(StandardField.FILE).mapOpt(FileFieldParser::parse).orElseOpt(Collections.emptyList());
-        this.linkedIdentifiers = createLinkedIdentifiersBinding(entry);
-        this.matchedGroups = createMatchedGroupsBinding(bibDatabaseContext, entry);
     }
 
     private static EasyBinding<Map<Field, String>> createLinkedIdentifiersBinding(BibEntry entry) {
@@ -103,17 +105,38 @@ public class BibEntryTableViewModel {
     }
 
     public ObservableValue<List<LinkedFile>> getLinkedFiles() {
+        if (linkedFiles == null) {
+            linkedFiles = getField(StandardField.FILE).mapOpt(value -> entry.getParsedFiles()).orElseOpt(Collections.emptyList());
+        }
         return linkedFiles;
     }
 
     public ObservableValue<Map<Field, String>> getLinkedIdentifiers() {
+        if (linkedIdentifiers == null) {
+            linkedIdentifiers = createLinkedIdentifiersBinding(entry);
+        }
         return linkedIdentifiers;
     }
 
     public ObservableValue<List<AbstractGroup>> getMatchedGroups() {
+        if (matchedGroups == null) {
+            matchedGroups = createMatchedGroupsBinding(bibDatabaseContext, entry);
+        }
         return matchedGroups;
     }
 
+    /**
+     * Drops the bindings created for the cells of this row. Cells still showing the row keep working with the bindings
+     * they got; the next call of a getter creates new ones.
+     */
+    public void releaseBindings() {
+        linkedFiles = null;
+        linkedIdentifiers = null;
+        matchedGroups = null;
+        fieldValues.clear();
+        specialFieldValues.clear();
+    }
+
     public ObservableValue<Optional<SpecialFieldValueViewModel>> getSpecialField(SpecialField field) {
         OptionalBinding<SpecialFieldValueViewModel> value = specialFieldValues.get(field);
         // Fetch possibly updated value from BibEntry entry
@@ -160,45 +183,81 @@ public class BibEntryTableViewModel {
         return bibDatabaseContext;
     }
 
-    public BooleanProperty hasFullTextResultsProperty() {
-        return hasFullTextResults;
+    public boolean hasFullTextResults() {
+        return isSet(HAS_FULL_TEXT_RESULTS);
     }
 
-    public BooleanProperty isMatchedBySearch() {
-        return isMatchedBySearch;
+    public void setHasFullTextResults(boolean hasFullTextResults) {
+        setFlag(HAS_FULL_TEXT_RESULTS, hasFullTextResults);
     }
 
-    public BooleanProperty isVisibleBySearch() {
-        return isVisibleBySearch;
+    public boolean isMatchedBySearch() {
+        return isSet(MATCHED_BY_SEARCH);
     }
 
-    public BooleanProperty isMatchedByGroup() {
-        return isMatchedByGroup;
+    public void setMatchedBySearch(boolean isMatched) {
+        setFlag(MATCHED_BY_SEARCH, isMatched);
     }
 
-    public BooleanProperty isVisibleByGroup() {
-        return isVisibleByGroup;
+    public boolean isVisibleBySearch() {
+        return isSet(VISIBLE_BY_SEARCH);
     }
 
-    public ObjectProperty<MatchCategory> matchCategory() {
-        return matchCategory;
+    public void setVisibleBySearch(boolean isVisible) {
+        setFlag(VISIBLE_BY_SEARCH, isVisible);
+    }
+
+    public boolean isMatchedByGroup() {
+        return isSet(MATCHED_BY_GROUP);
+    }
+
+    public void setMatchedByGroup(boolean isMatched) {
+        setFlag(MATCHED_BY_GROUP, isMatched);
+    }
+
+    public boolean isVisibleByGroup() {
+        return isSet(VISIBLE_BY_GROUP);
+    }
+
+    public void setVisibleByGroup(boolean isVisible) {
+        setFlag(VISIBLE_BY_GROUP, isVisible);
     }
 
     public boolean isVisible() {
-        return isVisibleBySearch.get() && isVisibleByGroup.get();
+        return isSet(VISIBLE_BY_SEARCH | VISIBLE_BY_GROUP);
+    }
+
+    public ObservableValue<MatchCategory> matchCategory() {
+        // Not released with the other bindings, since it is only updated by updateMatchCategory
+        if (matchCategory == null) {
+            matchCategory = new SimpleObjectProperty<>(getMatchCategory());
+        }
+        return matchCategory;
+    }
+
+    public MatchCategory getMatchCategory() {
+        if (isMatchedBySearch() && isMatchedByGroup()) {
+            return MatchCategory.MATCHING_SEARCH_AND_GROUPS;
+        } else if (isMatchedBySearch()) {
+            return MatchCategory.MATCHING_SEARCH_NOT_GROUPS;
+        } else if (isMatchedByGroup()) {
+            return MatchCategory.MATCHING_GROUPS_NOT_SEARCH;
+        }
+        return MatchCategory.NOT_MATCHING_SEARCH_AND_GROUPS;
     }
 
     public void updateMatchCategory() {
-        MatchCategory category = MatchCategory.NOT_MATCHING_SEARCH_AND_GROUPS;
-
-        if (isMatchedBySearch.get() && isMatchedByGroup.get()) {
-            category = MatchCategory.MATCHING_SEARCH_AND_GROUPS;
-        } else if (isMatchedBySearch.get()) {
-            category = MatchCategory.MATCHING_SEARCH_NOT_GROUPS;
-        } else if (isMatchedByGroup.get()) {
-            category = MatchCategory.MATCHING_GROUPS_NOT_SEARCH;
+        ObjectProperty<MatchCategory> category = matchCategory;
+        if (category != null) {
+            category.set(getMatchCategory());
         }
+    }
+
+    private boolean isSet(int flag) {
+        return (flags & flag) == flag;
+    }
 
-        matchCategory.set(category);
+    private synchronized void setFlag(int flag, boolean value) {
+        flags = value ? (flags | flag) : (flags & ~flag);
     }
 }
@@ -68,6 +68,9 @@ public class MainTable extends TableView<BibEntryTableViewModel> {
     private static final PseudoClass MATCHING_GROUPS_NOT_SEARCH = PseudoClass.getPseudoClass("matching-groups-not-search");
     private static final PseudoClass NOT_MATCHING_SEARCH_AND_GROUPS = PseudoClass.getPseudoClass("not-matching-search-and-groups");
 
+    // More rows than fit on a screen, so that rows scrolled away only a little keep their bindings
+    private static final int RECENTLY_SHOWN_ROWS = 200;
+
     private final LibraryTab libraryTab;
     private final StateManager stateManager;
     private final BibDatabaseContext database;
@@ -78,6 +81,7 @@ public class MainTable extends TableView<BibEntryTableViewModel> {
     private final FilePreferences filePreferences;
     private final ImportHandler importHandler;
     private final ClipboardContentGenerator clipboardContentGenerator;
+    private final RecentlyShownRows recentlyShownRows = new RecentlyShownRows(RECENTLY_SHOWN_ROWS);
 
     private long lastKeyPressTime;
     private String columnSearchTerm;
@@ -145,10 +149,11 @@ public class MainTable extends TableView<BibEntryTableViewModel> {
                         taskExecutor,
                         Injector.instantiateModelOrService(JournalAbbreviationRepository.class),
                         entryTypesManager))
-                .withPseudoClass(MATCHING_SEARCH_AND_GROUPS, entry -> entry.matchCategory().isEqualTo(MatchCategory.MATCHING_SEARCH_AND_GROUPS))
-                .withPseudoClass(MATCHING_SEARCH_NOT_GROUPS, entry -> entry.matchCategory().isEqualTo(MatchCategory.MATCHING_SEARCH_NOT_GROUPS))
-                .withPseudoClass(MATCHING_GROUPS_NOT_SEARCH, entry -> entry.matchCategory().isEqualTo(MatchCategory.MATCHING_GROUPS_NOT_SEARCH))
-                .withPseudoClass(NOT_MATCHING_SEARCH_AND_GROUPS, entry -> entry.matchCategory().isEqualTo(MatchCategory.NOT_MATCHING_SEARCH_AND_GROUPS))
+                .withOnItemShown(recentlyShownRows::shown)
+                .withPseudoClass(MATCHING_SEARCH_AND_GROUPS, entry -> entry.matchCategory().map(category -> category == MatchCategory.MATCHING_SEARCH_AND_GROUPS))
+                .withPseudoClass(MATCHING_SEARCH_NOT_GROUPS, entry -> entry.matchCategory().map(category -> category == MatchCategory.MATCHING_SEARCH_NOT_GROUPS))
+                .withPseudoClass(MATCHING_GROUPS_NOT_SEARCH, entry -> entry.matchCategory().map(category -> category == MatchCategory.MATCHING_GROUPS_NOT_SEARCH))
+                .withPseudoClass(NOT_MATCHING_SEARCH_AND_GROUPS, entry -> entry.matchCategory().map(category -> category == MatchCategory.NOT_MATCHING_SEARCH_AND_GROUPS))
                 .setOnDragDetected(this::handleOnDragDetected)
                 .setOnDragDropped(this::handleOnDragDropped)
                 .setOnDragOver(this::handleOnDragOver)
@@ -285,9 +290,9 @@ public class MainTable extends TableView<BibEntryTableViewModel> {
             return;
         }
 
-        MatchCategory currentMatchCategory = selectedEntry.matchCategory().get();
+        MatchCategory currentMatchCategory = selectedEntry.getMatchCategory();
         for (int i = getSelectionModel().getSelectedIndex(); i < getItems().size(); i++) {
-            if (getItems().get(i).matchCategory().get() != currentMatchCategory) {
+            if (getItems().get(i).getMatchCategory() != currentMatchCategory) {
                 getSelectionModel().clearSelection();
                 getSelectionModel().select(i);
                 scrollTo(i);
@@ -302,12 +307,12 @@ public class MainTable extends TableView<BibEntryTableViewModel> {
             return;
         }
 
-        MatchCategory currentMatchCategory = selectedEntry.matchCategory().get();
+        MatchCategory currentMatchCategory = selectedEntry.getMatchCategory();
         for (int i = getSelectionModel().getSelectedIndex(); i >= 0; i--) {
-            if (getItems().get(i).matchCategory().get() != currentMatchCategory) {
-                MatchCategory targetMatchCategory = getItems().get(i).matchCategory().get();
+            if (getItems().get(i).getMatchCategory() != currentMatchCategory) {
+                MatchCategory targetMatchCategory = getItems().get(i).getMatchCategory();
                 // found the previous category, scroll to the first entry of that category
-                while ((i >= 0) && getItems().get(i).matchCategory().get() == targetMatchCategory) {
+                while ((i >= 0) && getItems().get(i).getMatchCategory() == targetMatchCategory) {
                     i--;
                 }
                 getSelectionModel().clearSelection();
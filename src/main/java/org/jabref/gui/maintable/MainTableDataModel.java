@@ -94,7 +94,7 @@ public class MainTableDataModel {
         selectedGroupsSubscription = EasyBind.listen(selectedGroupsProperty, (observable, oldValue, newValue) -> updateGroupMatches(newValue));
         groupViewModeSubscription = EasyBind.listen(preferences.getGroupsPreferences().groupViewModeProperty(), observable -> updateGroupMatches(selectedGroupsProperty.get()));
 
-        resultSizeProperty.bind(Bindings.size(entriesFiltered.filtered(entry -> entry.matchCategory().isEqualTo(MatchCategory.MATCHING_SEARCH_AND_GROUPS).get())));
+        resultSizeProperty.bind(Bindings.size(entriesFiltered.filtered(entry -> entry.getMatchCategory() == MatchCategory.MATCHING_SEARCH_AND_GROUPS)));
         // We need to wrap the list since otherwise sorting in the table does not work
         entriesFilteredAndSorted = new SortedList<>(entriesFiltered);
     }
@@ -112,7 +112,7 @@ public class MainTableDataModel {
     private void setSearchMatches(SearchResults results) {
         boolean isFloatingMode = searchPreferences.getSearchDisplayMode() == SearchDisplayMode.FLOAT;
         entriesViewModel.forEach(entry -> {
-            entry.hasFullTextResultsProperty().set(results.hasFulltextResults(entry.getEntry()));
+            entry.setHasFullTextResults(results.hasFulltextResults(entry.getEntry()));
             updateEntrySearchMatch(entry, results.isMatched(entry.getEntry()), isFloatingMode);
         });
     }
@@ -120,30 +120,26 @@ public class MainTableDataModel {
     private void clearSearchMatches() {
         boolean isFloatingMode = searchPreferences.getSearchDisplayMode() == SearchDisplayMode.FLOAT;
         entriesViewModel.forEach(entry -> {
-            entry.isMatchedBySearch().set(true);
-            entry.hasFullTextResultsProperty().set(false);
+            entry.setMatchedBySearch(true);
+            entry.setHasFullTextResults(false);
             updateEntrySearchMatch(entry, true, isFloatingMode);
         });
     }
 
     private static void updateEntrySearchMatch(BibEntryTableViewModel entry, boolean isMatched, boolean isFloatingMode) {
-        entry.isMatchedBySearch().set(isMatched);
+        entry.setMatchedBySearch(isMatched);
         entry.updateMatchCategory();
         setEntrySearchVisibility(entry, isMatched, isFloatingMode);
     }
 
     private static void setEntrySearchVisibility(BibEntryTableViewModel entry, boolean isMatched, boolean isFloatingMode) {
-        if (isMatched) {
-            entry.isVisibleBySearch().set(true);
-        } else {
-            entry.isVisibleBySearch().set(isFloatingMode);
-        }
+        entry.setVisibleBySearch(isMatched || isFloatingMode);
     }
 
     private void updateSearchDisplayMode(SearchDisplayMode mode) {
         BackgroundTask.wrap(() -> {
             boolean isFloatingMode = mode == SearchDisplayMode.FLOAT;
-            entriesViewModel.forEach(entry -> setEntrySearchVisibility(entry, entry.isMatchedBySearch().get(), isFloatingMode));
+            entriesViewModel.forEach(entry -> setEntrySearchVisibility(entry, entry.isMatchedBySearch(), isFloatingMode));
         }).onSuccess(result -> FilteredListProxy.refilterListReflection(entriesFiltered)).executeWith(taskExecutor);
     }
 
@@ -159,13 +155,9 @@ public class MainTableDataModel {
     private void updateEntryGroupMatch(BibEntryTableViewModel entry, Optional<MatcherSet> groupsMatcher, boolean isInvertMode, boolean isFloatingMode) {
         boolean isMatched = groupsMatcher.map(matcher -> matcher.isMatch(entry.getEntry()) ^ isInvertMode)
                                          .orElse(true);
-        entry.isMatchedByGroup().set(isMatched);
+        entry.setMatchedByGroup(isMatched);
         entry.updateMatchCategory();
-        if (isMatched) {
-            entry.isVisibleByGroup().set(true);
-        } else {
-            entry.isVisibleByGroup().set(isFloatingMode);
-        }
+        entry.setVisibleByGroup(isMatched || isFloatingMode);
     }
 
     private static Optional<MatcherSet> createGroupMatcher(List<GroupTreeNode> selectedGroups, GroupsPreferences groupsPreferences) {
@@ -227,10 +219,10 @@ public class MainTableDataModel {
                             SearchResults results = indexManager.search(entryQuery);
 
                             isMatched = results.isMatched(entry);
-                            viewModel.hasFullTextResultsProperty().set(results.hasFulltextResults(entry));
+                            viewModel.setHasFullTextResults(results.hasFulltextResults(entry));
                         } else {
                             isMatched = true;
-                            viewModel.hasFullTextResultsProperty().set(false);
+                            viewModel.setHasFullTextResults(false);
                         }
 
                         updateEntrySearchMatch(viewModel, isMatched, isFloatingMode);
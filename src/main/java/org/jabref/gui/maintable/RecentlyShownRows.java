@@ -0,0 +1,32 @@
+package org.jabref.gui.maintable;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Keeps track of the view models shown most recently by the rows of the main table. When a view model drops out, its
+ * bindings are released, so that only the rows on screen and the rows around them hold bindings.
+ * <p>
+ * Must only be used on the JavaFX Application Thread.
+ */
+class RecentlyShownRows {
+
+    private final Map<BibEntryTableViewModel, Boolean> shownViewModels;
+
+    RecentlyShownRows(int capacity) {
+        shownViewModels = new LinkedHashMap<>(capacity, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<BibEntryTableViewModel, Boolean> eldest) {
+                if (size() <= capacity) {
+                    return false;
+                }
+                eldest.getKey().releaseBindings();
+                return true;
+            }
+        };
+    }
+
+    void shown(BibEntryTableViewModel viewModel) {
+        shownViewModels.put(viewModel, Boolean.TRUE);
+    }
+}
@@ -169,7 +169,7 @@ public class FileColumn extends MainTableColumn<List<LinkedFile>> {
     }
 
     private Node createFileIcon(BibEntryTableViewModel entry, List<LinkedFile> linkedFiles) {
-        if (entry.hasFullTextResultsProperty().get()) {
+        if (entry.hasFullTextResults()) {
             return IconTheme.JabRefIcons.FILE_SEARCH.getGraphicNode();
         }
         if (linkedFiles.size() > 1) {
@@ -16,6 +16,7 @@ import org.jabref.gui.help.HelpAction;
 import org.jabref.gui.preferences.AbstractPreferenceTabView;
 import org.jabref.gui.preferences.PreferencesTab;
 import org.jabref.gui.util.ViewModelListCellFactory;
+import org.jabref.logic.ai.ingestion.EmbeddingVectorEncoding;
 import org.jabref.logic.ai.templates.AiTemplate;
 import org.jabref.logic.help.HelpFile;
 import org.jabref.logic.l10n.Localization;
@@ -50,6 +51,9 @@ public class AiTab extends AbstractPreferenceTabView<AiTabViewModel> implements
     @FXML private IntegerInputField documentSplitterOverlapSizeTextField;
     @FXML private IntegerInputField ragMaxResultsCountTextField;
     @FXML private TextField ragMinScoreTextField;
+    @FXML private IntegerInputField ragSearchProbesTextField;
+    @FXML private IntegerInputField embeddingsBatchSizeTextField;
+    @FXML private ComboBox<EmbeddingVectorEncoding> embeddingVectorEncodingComboBox;
 
     @FXML private TextArea systemMessageTextArea;
     @FXML private TextArea userMessageTextArea;
@@ -178,6 +182,33 @@ public class AiTab extends AbstractPreferenceTabView<AiTabViewModel> implements
         ragMinScoreTextField.textProperty().bindBidirectional(viewModel.ragMinScoreProperty());
         ragMinScoreTextField.disableProperty().bind(viewModel.disableExpertSettingsProperty());
 
+        ragSearchProbesTextField.valueProperty().addListener((observable, oldValue, newValue) -> {
+            viewModel.ragSearchProbesProperty().set(newValue == null ? 0 : newValue);
+        });
+
+        viewModel.ragSearchProbesProperty().addListener((observable, oldValue, newValue) -> {
+            ragSearchProbesTextField.valueProperty().set(newValue == null ? 0 : newValue.intValue());
+        });
+
+        ragSearchProbesTextField.disableProperty().bind(viewModel.disableExpertSettingsProperty());
+
+        embeddingsBatchSizeTextField.valueProperty().addListener((observable, oldValue, newValue) -> {
+            viewModel.embeddingsBatchSizeProperty().set(newValue == null ? 0 : newValue);
+        });
+
+        viewModel.embeddingsBatchSizeProperty().addListener((observable, oldValue, newValue) -> {
+            embeddingsBatchSizeTextField.valueProperty().set(newValue == null ? 0 : newValue.intValue());
+        });
+
+        embeddingsBatchSizeTextField.disableProperty().bind(viewModel.disableExpertSettingsProperty());
+
+        new ViewModelListCellFactory<EmbeddingVectorEncoding>()
+                .withText(EmbeddingVectorEncoding::name)
+                .install(embeddingVectorEncodingComboBox);
+        embeddingVectorEncodingComboBox.itemsProperty().bind(viewModel.embeddingVectorEncodingsProperty());
+        embeddingVectorEncodingComboBox.valueProperty().bindBidirectional(viewModel.selectedEmbeddingVectorEncodingProperty());
+        embeddingVectorEncodingComboBox.disableProperty().bind(viewModel.disableExpertSettingsProperty());
+
         Platform.runLater(() -> {
             visualizer.initVisualization(viewModel.getApiTokenValidationStatus(), apiKeyTextField);
             visualizer.initVisualization(viewModel.getChatModelValidationStatus(), chatModelComboBox);
@@ -191,6 +222,8 @@ public class AiTab extends AbstractPreferenceTabView<AiTabViewModel> implements
             visualizer.initVisualization(viewModel.getRagMaxResultsCountValidationStatus(), ragMaxResultsCountTextField);
             visualizer.initVisualization(viewModel.getRagMinScoreTypeValidationStatus(), ragMinScoreTextField);
             visualizer.initVisualization(viewModel.getRagMinScoreRangeValidationStatus(), ragMinScoreTextField);
+            visualizer.initVisualization(viewModel.getRagSearchProbesValidationStatus(), ragSearchProbesTextField);
+            visualizer.initVisualization(viewModel.getEmbeddingsBatchSizeValidationStatus(), embeddingsBatchSizeTextField);
         });
 
         systemMessageTextArea.textProperty().bindBidirectional(viewModel.getTemplateSources().get(AiTemplate.CHATTING_SYSTEM_MESSAGE));
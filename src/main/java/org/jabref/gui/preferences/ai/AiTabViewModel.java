@@ -22,6 +22,7 @@ import javafx.collections.FXCollections;
 import org.jabref.gui.preferences.PreferenceTabViewModel;
 import org.jabref.logic.ai.AiDefaultPreferences;
 import org.jabref.logic.ai.AiPreferences;
+import org.jabref.logic.ai.ingestion.EmbeddingVectorEncoding;
 import org.jabref.logic.ai.templates.AiTemplate;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.preferences.CliPreferences;
@@ -95,6 +96,11 @@ public class AiTabViewModel implements PreferenceTabViewModel {
     private final IntegerProperty documentSplitterOverlapSize = new SimpleIntegerProperty();
     private final IntegerProperty ragMaxResultsCount = new SimpleIntegerProperty();
     private final StringProperty ragMinScore = new SimpleStringProperty();
+    private final IntegerProperty ragSearchProbes = new SimpleIntegerProperty();
+    private final IntegerProperty embeddingsBatchSize = new SimpleIntegerProperty();
+    private final ListProperty<EmbeddingVectorEncoding> embeddingVectorEncodingsList =
+            new SimpleListProperty<>(FXCollections.observableArrayList(EmbeddingVectorEncoding.values()));
+    private final ObjectProperty<EmbeddingVectorEncoding> selectedEmbeddingVectorEncoding = new SimpleObjectProperty<>();
 
     private final BooleanProperty disableBasicSettings = new SimpleBooleanProperty(true);
     private final BooleanProperty disableExpertSettings = new SimpleBooleanProperty(true);
@@ -113,6 +119,8 @@ public class AiTabViewModel implements PreferenceTabViewModel {
     private final Validator ragMaxResultsCountValidator;
     private final Validator ragMinScoreTypeValidator;
     private final Validator ragMinScoreRangeValidator;
+    private final Validator ragSearchProbesValidator;
+    private final Validator embeddingsBatchSizeValidator;
 
     public AiTabViewModel(CliPreferences preferences) {
         this.oldLocale = Locale.getDefault();
@@ -294,6 +302,16 @@ public class AiTabViewModel implements PreferenceTabViewModel {
                 ragMinScore,
                 minScore -> LocalizedNumbers.stringToDouble(minScore).map(s -> s > 0 && s < 1).orElse(false),
                 ValidationMessage.error(Localization.lang("RAG minimum score must be greater than 0 and less than 1")));
+
+        this.ragSearchProbesValidator = new FunctionBasedValidator<>(
+                ragSearchProbes,
+                probes -> probes.intValue() > 0,
+                ValidationMessage.error(Localization.lang("RAG search probes must be greater than 0")));
+
+        this.embeddingsBatchSizeValidator = new FunctionBasedValidator<>(
+                embeddingsBatchSize,
+                batchSize -> batchSize.intValue() > 0,
+                ValidationMessage.error(Localization.lang("Embeddings batch size must be greater than 0")));
     }
 
     @Override
@@ -335,6 +353,9 @@ public class AiTabViewModel implements PreferenceTabViewModel {
         documentSplitterOverlapSize.setValue(aiPreferences.getDocumentSplitterOverlapSize());
         ragMaxResultsCount.setValue(aiPreferences.getRagMaxResultsCount());
         ragMinScore.setValue(LocalizedNumbers.doubleToString(aiPreferences.getRagMinScore()));
+        ragSearchProbes.setValue(aiPreferences.getRagSearchProbes());
+        embeddingsBatchSize.setValue(aiPreferences.getEmbeddingsBatchSize());
+        selectedEmbeddingVectorEncoding.setValue(aiPreferences.getEmbeddingVectorEncoding());
     }
 
     @Override
@@ -379,6 +400,9 @@ public class AiTabViewModel implements PreferenceTabViewModel {
         aiPreferences.setDocumentSplitterOverlapSize(documentSplitterOverlapSize.get());
         aiPreferences.setRagMaxResultsCount(ragMaxResultsCount.get());
         aiPreferences.setRagMinScore(LocalizedNumbers.stringToDouble(oldLocale, ragMinScore.get()).get());
+        aiPreferences.setRagSearchProbes(ragSearchProbes.get());
+        aiPreferences.setEmbeddingsBatchSize(embeddingsBatchSize.get());
+        aiPreferences.setEmbeddingVectorEncoding(selectedEmbeddingVectorEncoding.get());
     }
 
     public void resetExpertSettings() {
@@ -392,6 +416,9 @@ public class AiTabViewModel implements PreferenceTabViewModel {
         documentSplitterOverlapSize.set(AiDefaultPreferences.DOCUMENT_SPLITTER_OVERLAP);
         ragMaxResultsCount.set(AiDefaultPreferences.RAG_MAX_RESULTS_COUNT);
         ragMinScore.set(LocalizedNumbers.doubleToString(AiDefaultPreferences.RAG_MIN_SCORE));
+        ragSearchProbes.set(AiDefaultPreferences.RAG_SEARCH_PROBES);
+        embeddingsBatchSize.set(AiDefaultPreferences.EMBEDDINGS_BATCH_SIZE);
+        selectedEmbeddingVectorEncoding.set(AiDefaultPreferences.EMBEDDING_VECTOR_ENCODING);
     }
 
     public void resetTemplates() {
@@ -432,7 +459,9 @@ public class AiTabViewModel implements PreferenceTabViewModel {
                 documentSplitterOverlapSizeValidator,
                 ragMaxResultsCountValidator,
                 ragMinScoreTypeValidator,
-                ragMinScoreRangeValidator
+                ragMinScoreRangeValidator,
+                ragSearchProbesValidator,
+                embeddingsBatchSizeValidator
         );
 
         return validators.stream().map(Validator::getValidationStatus).allMatch(ValidationStatus::isValid);
@@ -526,6 +555,22 @@ public class AiTabViewModel implements PreferenceTabViewModel {
         return ragMinScore;
     }
 
+    public IntegerProperty ragSearchProbesProperty() {
+        return ragSearchProbes;
+    }
+
+    public IntegerProperty embeddingsBatchSizeProperty() {
+        return embeddingsBatchSize;
+    }
+
+    public ReadOnlyListProperty<EmbeddingVectorEncoding> embeddingVectorEncodingsProperty() {
+        return embeddingVectorEncodingsList;
+    }
+
+    public ObjectProperty<EmbeddingVectorEncoding> selectedEmbeddingVectorEncodingProperty() {
+        return selectedEmbeddingVectorEncoding;
+    }
+
     public BooleanProperty disableBasicSettingsProperty() {
         return disableBasicSettings;
     }
@@ -581,4 +626,12 @@ public class AiTabViewModel implements PreferenceTabViewModel {
     public ValidationStatus getRagMinScoreRangeValidationStatus() {
         return ragMinScoreRangeValidator.getValidationStatus();
     }
+
+    public ValidationStatus getRagSearchProbesValidationStatus() {
+        return ragSearchProbesValidator.getValidationStatus();
+    }
+
+    public ValidationStatus getEmbeddingsBatchSizeValidationStatus() {
+        return embeddingsBatchSizeValidator.getValidationStatus();
+    }
 }
@@ -341,9 +341,13 @@ public class JournalAbbreviationsTabViewModel implements PreferenceTabViewModel
                         shouldWriteLists = false;
                     }
                 })
-                .onSuccess(success -> Injector.setModelOrService(
-                        JournalAbbreviationRepository.class,
-                        JournalAbbreviationLoader.loadRepository(abbreviationsPreferences)))
+                .onSuccess(success -> {
+                    JournalAbbreviationRepository oldRepository = Injector.instantiateModelOrService(JournalAbbreviationRepository.class);
+                    Injector.setModelOrService(
+                            JournalAbbreviationRepository.class,
+                            JournalAbbreviationLoader.loadRepository(abbreviationsPreferences));
+                    oldRepository.close();
+                })
                 .onFailure(exception -> LOGGER.error("Failed to store journal preferences.", exception))
                 .executeWith(taskExecutor);
     }
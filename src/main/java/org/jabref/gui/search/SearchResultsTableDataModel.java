@@ -71,13 +71,13 @@ public class SearchResultsTableDataModel {
                     });
                 }
                 for (BibEntryTableViewModel entry : entriesViewModel) {
-                    entry.hasFullTextResultsProperty().set(searchResults.hasFulltextResults(entry.getEntry()));
-                    entry.isVisibleBySearch().set(searchResults.isMatched(entry.getEntry()));
+                    entry.setHasFullTextResults(searchResults.hasFulltextResults(entry.getEntry()));
+                    entry.setVisibleBySearch(searchResults.isMatched(entry.getEntry()));
                 }
             } else {
                 for (BibEntryTableViewModel entry : entriesViewModel) {
-                    entry.hasFullTextResultsProperty().set(false);
-                    entry.isVisibleBySearch().set(true);
+                    entry.setHasFullTextResults(false);
+                    entry.setVisibleBySearch(true);
                 }
             }
         }).onSuccess(result -> FilteredListProxy.refilterListReflection(entriesFiltered)).executeWith(taskExecutor);
@@ -3,6 +3,7 @@ package org.jabref.gui.util;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 import javafx.beans.value.ObservableValue;
@@ -41,6 +42,7 @@ public class ViewModelTableRowFactory<S> implements Callback<TableView<S>, Table
     private TriConsumer<TableRow<S>, S, ? super DragEvent> toOnDragOver;
     private TriConsumer<TableRow<S>, S, ? super MouseDragEvent> toOnMouseDragEntered;
     private Callback<S, String> toTooltip;
+    private Consumer<S> onItemShown;
     private final Map<PseudoClass, Callback<S, ObservableValue<Boolean>>> pseudoClasses = new HashMap<>();
 
     public ViewModelTableRowFactory<S> withOnMouseClickedEvent(BiConsumer<S, ? super MouseEvent> onMouseClickedEvent) {
@@ -109,6 +111,14 @@ public class ViewModelTableRowFactory<S> implements Callback<TableView<S>, Table
         return this;
     }
 
+    /**
+     * Sets an action that is called whenever a row starts showing a view model, e.g., after scrolling.
+     */
+    public ViewModelTableRowFactory<S> withOnItemShown(Consumer<S> onItemShown) {
+        this.onItemShown = onItemShown;
+        return this;
+    }
+
     public ViewModelTableRowFactory<S> withPseudoClass(PseudoClass pseudoClass, Callback<S, ObservableValue<Boolean>> toCondition) {
         this.pseudoClasses.putIfAbsent(pseudoClass, toCondition);
         return this;
@@ -124,6 +134,9 @@ public class ViewModelTableRowFactory<S> implements Callback<TableView<S>, Table
                 if (empty || getItem() == null) {
                     pseudoClasses.forEach((pseudoClass, toCondition) -> pseudoClassStateChanged(pseudoClass, false));
                 } else {
+                    if (onItemShown != null) {
+                        onItemShown.accept(getItem());
+                    }
                     pseudoClasses.forEach((pseudoClass, toCondition) ->
                             pseudoClassStateChanged(pseudoClass, toCondition.call(getItem()).getValue()));
                 }
@@ -4,8 +4,10 @@ import java.nio.file.Path;
 import java.util.Optional;
 
 import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.IntegerProperty;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.property.SimpleIntegerProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.beans.property.StringProperty;
@@ -26,6 +28,7 @@ public class FilePreferences {
     private final StringProperty fileDirectoryPattern = new SimpleStringProperty();
     private final BooleanProperty downloadLinkedFiles = new SimpleBooleanProperty();
     private final BooleanProperty fulltextIndexLinkedFiles = new SimpleBooleanProperty();
+    private final IntegerProperty fulltextMaxHitsPerFile = new SimpleIntegerProperty();
     private final ObjectProperty<Path> workingDirectory = new SimpleObjectProperty<>();
     private final BooleanProperty createBackup = new SimpleBooleanProperty();
     private final ObjectProperty<Path> backupDirectory = new SimpleObjectProperty<>();
@@ -40,6 +43,7 @@ public class FilePreferences {
                            String fileDirectoryPattern,
                            boolean downloadLinkedFiles,
                            boolean fulltextIndexLinkedFiles,
+                           int fulltextMaxHitsPerFile,
                            Path workingDirectory,
                            boolean createBackup,
                            Path backupDirectory,
@@ -53,6 +57,7 @@ public class FilePreferences {
         this.fileDirectoryPattern.setValue(fileDirectoryPattern);
         this.downloadLinkedFiles.setValue(downloadLinkedFiles);
         this.fulltextIndexLinkedFiles.setValue(fulltextIndexLinkedFiles);
+        this.fulltextMaxHitsPerFile.setValue(fulltextMaxHitsPerFile);
         this.workingDirectory.setValue(workingDirectory);
         this.createBackup.setValue(createBackup);
         this.backupDirectory.setValue(backupDirectory);
@@ -145,6 +150,21 @@ public class FilePreferences {
         this.fulltextIndexLinkedFiles.set(shouldFulltextIndexLinkedFiles);
     }
 
+    /**
+     * Maximum number of pages reported per linked file in a full-text search; the best scored pages are kept.
+     */
+    public int getFulltextMaxHitsPerFile() {
+        return fulltextMaxHitsPerFile.get();
+    }
+
+    public IntegerProperty fulltextMaxHitsPerFileProperty() {
+        return fulltextMaxHitsPerFile;
+    }
+
+    public void setFulltextMaxHitsPerFile(int fulltextMaxHitsPerFile) {
+        this.fulltextMaxHitsPerFile.set(fulltextMaxHitsPerFile);
+    }
+
     public Path getWorkingDirectory() {
         return workingDirectory.get();
     }
@@ -4,6 +4,7 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
+import org.jabref.logic.ai.ingestion.EmbeddingVectorEncoding;
 import org.jabref.logic.ai.templates.AiTemplate;
 import org.jabref.model.ai.AiProvider;
 import org.jabref.model.ai.EmbeddingModel;
@@ -78,6 +79,9 @@ public class AiDefaultPreferences {
     public static final int DOCUMENT_SPLITTER_OVERLAP = 100;
     public static final int RAG_MAX_RESULTS_COUNT = 10;
     public static final double RAG_MIN_SCORE = 0.3;
+    public static final int RAG_SEARCH_PROBES = 8;
+    public static final int EMBEDDINGS_BATCH_SIZE = 32;
+    public static final EmbeddingVectorEncoding EMBEDDING_VECTOR_ENCODING = EmbeddingVectorEncoding.FLOAT32;
 
     public static final int FALLBACK_CONTEXT_WINDOW_SIZE = 8196;
 
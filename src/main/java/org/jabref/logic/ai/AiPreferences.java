@@ -16,6 +16,7 @@ import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.beans.property.StringProperty;
 
+import org.jabref.logic.ai.ingestion.EmbeddingVectorEncoding;
 import org.jabref.logic.ai.templates.AiTemplate;
 import org.jabref.model.ai.AiProvider;
 import org.jabref.model.ai.EmbeddingModel;
@@ -60,6 +61,9 @@ public class AiPreferences {
     private final IntegerProperty documentSplitterOverlapSize;
     private final IntegerProperty ragMaxResultsCount;
     private final DoubleProperty ragMinScore;
+    private final IntegerProperty ragSearchProbes;
+    private final IntegerProperty embeddingsBatchSize;
+    private final ObjectProperty<EmbeddingVectorEncoding> embeddingVectorEncoding;
 
     private final Map<AiTemplate, StringProperty> templates;
 
@@ -88,6 +92,9 @@ public class AiPreferences {
                          int documentSplitterOverlapSize,
                          int ragMaxResultsCount,
                          double ragMinScore,
+                         int ragSearchProbes,
+                         int embeddingsBatchSize,
+                         EmbeddingVectorEncoding embeddingVectorEncoding,
                          Map<AiTemplate, String> templates
     ) {
         this.enableAi = new SimpleBooleanProperty(enableAi);
@@ -118,6 +125,9 @@ public class AiPreferences {
         this.documentSplitterOverlapSize = new SimpleIntegerProperty(documentSplitterOverlapSize);
         this.ragMaxResultsCount = new SimpleIntegerProperty(ragMaxResultsCount);
         this.ragMinScore = new SimpleDoubleProperty(ragMinScore);
+        this.ragSearchProbes = new SimpleIntegerProperty(ragSearchProbes);
+        this.embeddingsBatchSize = new SimpleIntegerProperty(embeddingsBatchSize);
+        this.embeddingVectorEncoding = new SimpleObjectProperty<>(embeddingVectorEncoding);
 
         this.templates = Map.of(
                 AiTemplate.CHATTING_SYSTEM_MESSAGE, new SimpleStringProperty(templates.get(AiTemplate.CHATTING_SYSTEM_MESSAGE)),
@@ -469,6 +479,66 @@ public class AiPreferences {
         this.ragMinScore.set(ragMinScore);
     }
 
+    public IntegerProperty ragSearchProbesProperty() {
+        return ragSearchProbes;
+    }
+
+    /**
+     * Number of clusters of the embeddings index that are searched for relevant text segments.
+     * Higher values find more relevant segments, lower values answer faster.
+     */
+    public int getRagSearchProbes() {
+        if (getCustomizeExpertSettings()) {
+            return ragSearchProbes.get();
+        } else {
+            return AiDefaultPreferences.RAG_SEARCH_PROBES;
+        }
+    }
+
+    public void setRagSearchProbes(int ragSearchProbes) {
+        this.ragSearchProbes.set(ragSearchProbes);
+    }
+
+    public IntegerProperty embeddingsBatchSizeProperty() {
+        return embeddingsBatchSize;
+    }
+
+    /**
+     * Number of text segments that are passed to the embedding model at once.
+     * Higher values generate embeddings faster, but need more memory.
+     */
+    public int getEmbeddingsBatchSize() {
+        if (getCustomizeExpertSettings()) {
+            return embeddingsBatchSize.get();
+        } else {
+            return AiDefaultPreferences.EMBEDDINGS_BATCH_SIZE;
+        }
+    }
+
+    public void setEmbeddingsBatchSize(int embeddingsBatchSize) {
+        this.embeddingsBatchSize.set(embeddingsBatchSize);
+    }
+
+    public ObjectProperty<EmbeddingVectorEncoding> embeddingVectorEncodingProperty() {
+        return embeddingVectorEncoding;
+    }
+
+    /**
+     * Encoding of the stored embedding vectors. Smaller encodings need less memory and disk space, but are less precise.
+     * Embeddings that are already stored keep their encoding until all embeddings are removed.
+     */
+    public EmbeddingVectorEncoding getEmbeddingVectorEncoding() {
+        if (getCustomizeExpertSettings()) {
+            return embeddingVectorEncoding.get();
+        } else {
+            return AiDefaultPreferences.EMBEDDING_VECTOR_ENCODING;
+        }
+    }
+
+    public void setEmbeddingVectorEncoding(EmbeddingVectorEncoding embeddingVectorEncoding) {
+        this.embeddingVectorEncoding.set(embeddingVectorEncoding);
+    }
+
     /**
      * Listen to changes of preferences that are related to embeddings generation.
      *
@@ -185,11 +185,7 @@ public class AiChatLogic {
     }
 
     private Optional<BibEntry> findEntryByLink(String link) {
-        return bibDatabaseContext
-                .getEntries()
-                .stream()
-                .filter(entry -> entry.getFiles().stream().anyMatch(file -> file.getLink().equals(link)))
-                .findFirst();
+        return bibDatabaseContext.getDatabase().getEntriesByFileLink(link).stream().findFirst();
     }
 
     public ObservableList<ChatMessage> getChatHistory() {
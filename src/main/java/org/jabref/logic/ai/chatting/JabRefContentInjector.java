@@ -54,7 +54,7 @@ public class JabRefContentInjector implements ContentInjector {
     }
 
     private Stream<BibEntry> findEntriesByLink(String link) {
-        return bibDatabaseContext.getEntries().stream().filter(entry -> entry.getFiles().stream().anyMatch(file -> file.getLink().equals(link)));
+        return bibDatabaseContext.getDatabase().getEntriesByFileLink(link).stream();
     }
 
     private String applyPrompt(String userMessage, String contents) {
@@ -0,0 +1,28 @@
+package org.jabref.logic.ai.ingestion;
+
+/**
+ * How the components of the embedding vectors are stored by {@link MVStoreEmbeddingStore}.
+ */
+public enum EmbeddingVectorEncoding {
+    FLOAT32(Float.BYTES),
+
+    /**
+     * Half precision. Halves the size of the vectors with a negligible loss of precision for normalized embeddings.
+     */
+    FLOAT16(Short.BYTES),
+
+    /**
+     * Symmetric scalar quantization to one byte per component, relative to the largest absolute component of a vector.
+     */
+    INT8(Byte.BYTES);
+
+    private final int bytesPerComponent;
+
+    EmbeddingVectorEncoding(int bytesPerComponent) {
+        this.bytesPerComponent = bytesPerComponent;
+    }
+
+    public int getBytesPerComponent() {
+        return bytesPerComponent;
+    }
+}
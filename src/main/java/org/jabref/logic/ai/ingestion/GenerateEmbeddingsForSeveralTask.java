@@ -1,6 +1,7 @@
 package org.jabref.logic.ai.ingestion;
 
-import java.util.ArrayList;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.List;
 import java.util.concurrent.Future;
 
@@ -75,32 +76,35 @@ public class GenerateEmbeddingsForSeveralTask extends BackgroundTask<Void> {
     public Void call() throws Exception {
         LOGGER.debug("Starting embeddings generation of several files for {}", groupName.get());
 
-        List<Pair<? extends Future<?>, String>> futures = new ArrayList<>();
-
-        linkedFiles
-                .stream()
-                .map(processingInfo -> {
-                    processingInfo.setState(ProcessingState.PROCESSING);
-                    return new Pair<>(
-                            new GenerateEmbeddingsTask(
-                                    processingInfo.getObject(),
-                                    fileEmbeddingsManager,
-                                    bibDatabaseContext,
-                                    filePreferences,
-                                    shutdownSignal
-                            )
-                                    .showToUser(false)
-                                    .onSuccess(v -> processingInfo.setState(ProcessingState.SUCCESS))
-                                    .onFailure(processingInfo::setException)
-                                    .onFinished(() -> progressCounter.increaseWorkDone(1))
-                                    .executeWith(taskExecutor),
-                            processingInfo.getObject().getLink());
-                })
-                .forEach(futures::add);
-
-        for (Pair<? extends Future<?>, String> pair : futures) {
-            currentFile = pair.getValue();
-            pair.getKey().get();
+        linkedFiles.forEach(processingInfo -> processingInfo.setState(ProcessingState.PROCESSING));
+
+        // Several documents are ingested in parallel, but not more than there are cores for computing their embeddings
+        int maxParallelDocuments = Math.max(1, Runtime.getRuntime().availableProcessors());
+        Deque<Pair<? extends Future<?>, String>> futures = new ArrayDeque<>();
+
+        for (ProcessingInfo<LinkedFile, Void> processingInfo : linkedFiles) {
+            if (futures.size() >= maxParallelDocuments) {
+                awaitOldest(futures);
+            }
+
+            futures.add(new Pair<>(
+                    new GenerateEmbeddingsTask(
+                            processingInfo.getObject(),
+                            fileEmbeddingsManager,
+                            bibDatabaseContext,
+                            filePreferences,
+                            shutdownSignal
+                    )
+                            .showToUser(false)
+                            .onSuccess(v -> processingInfo.setState(ProcessingState.SUCCESS))
+                            .onFailure(processingInfo::setException)
+                            .onFinished(() -> progressCounter.increaseWorkDone(1))
+                            .executeWith(taskExecutor),
+                    processingInfo.getObject().getLink()));
+        }
+
+        while (!futures.isEmpty()) {
+            awaitOldest(futures);
         }
 
         LOGGER.debug("Finished embeddings generation task of several files for {}", groupName.get());
@@ -108,6 +112,12 @@ public class GenerateEmbeddingsForSeveralTask extends BackgroundTask<Void> {
         return null;
     }
 
+    private void awaitOldest(Deque<Pair<? extends Future<?>, String>> futures) throws Exception {
+        Pair<? extends Future<?>, String> pair = futures.poll();
+        currentFile = pair.getValue();
+        pair.getKey().get();
+    }
+
     private void updateProgress() {
         updateProgress(progressCounter.getWorkDone(), progressCounter.getWorkMax());
         updateMessage(progressCounter.getMessage() + " - " + currentFile + ", ...");
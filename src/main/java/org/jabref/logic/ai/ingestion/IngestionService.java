@@ -81,7 +81,7 @@ public class IngestionService {
         public void listen(EntriesAddedEvent e) {
             e.getBibEntries().forEach(entry -> {
                 if (aiPreferences.getAutoGenerateEmbeddings()) {
-                    entry.getFiles().forEach(linkedFile -> ingest(linkedFile, bibDatabaseContext));
+                    entry.getParsedFiles().forEach(linkedFile -> ingest(linkedFile, bibDatabaseContext));
                 }
 
                 entry.registerListener(this);
@@ -91,7 +91,7 @@ public class IngestionService {
         @Subscribe
         public void listen(FieldChangedEvent e) {
             if (e.getField() == StandardField.FILE && aiPreferences.getAutoGenerateEmbeddings()) {
-                e.getBibEntry().getFiles().forEach(linkedFile -> ingest(linkedFile, bibDatabaseContext));
+                e.getBibEntry().getParsedFiles().forEach(linkedFile -> ingest(linkedFile, bibDatabaseContext));
             }
         }
     }
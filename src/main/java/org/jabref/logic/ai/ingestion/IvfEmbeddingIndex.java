@@ -0,0 +1,388 @@
+package org.jabref.logic.ai.ingestion;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+import org.h2.mvstore.MVMap;
+import org.h2.mvstore.MVStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Inverted file (IVF) index for the embeddings of {@link MVStoreEmbeddingStore}.
+ * <p>
+ * The embeddings are partitioned into clusters with spherical k-means. A search only considers the embeddings of the
+ * clusters whose centroids are most similar to the query. The number of these clusters ("probes") trades recall for
+ * latency.
+ * <p>
+ * The centroids and the cluster of each embedding are stored in the same {@link MVStore} as the embeddings. The index is
+ * trained in the background as soon as enough embeddings are stored and retrained when the number of embeddings grew
+ * considerably, so that the clusters stay balanced. Until the first training finished,
+ * {@link #getCandidates(float[], int)} returns an empty optional and callers have to scan all embeddings. During a
+ * retraining, the previous clusters are used.
+ */
+class IvfEmbeddingIndex {
+    static final int MIN_TRAINING_SIZE = 2048;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(IvfEmbeddingIndex.class);
+
+    private static final String CENTROIDS_MAP_NAME = "embeddingsIndexCentroids";
+    private static final String ASSIGNMENTS_MAP_NAME = "embeddingsIndexAssignments";
+    private static final String METADATA_MAP_NAME = "embeddingsIndexMetadata";
+    private static final String TRAINED_SIZE_KEY = "trainedSize";
+
+    private static final int RETRAINING_GROWTH_FACTOR = 4;
+    private static final int TRAINING_SAMPLES_PER_CLUSTER = 64;
+    private static final int TRAINING_ITERATIONS = 10;
+
+    private final MVMap<Integer, float[]> centroidsMap;
+    private final MVMap<String, Integer> assignmentsMap;
+    private final MVMap<String, Integer> metadataMap;
+
+    private final Set<String> ids;
+    private final Function<String, float[]> vectorLookup;
+    private final Executor trainingExecutor;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicBoolean trainingScheduled = new AtomicBoolean();
+
+    private float[][] centroids;
+    private List<Set<String>> clusterMembers;
+    // Increased on clear, so that a training running meanwhile is discarded
+    private long clearCount;
+    private volatile boolean closed;
+
+    /**
+     * @param ids              live view of the ids of all stored embeddings
+     * @param vectorLookup     returns the vector of the embedding with the given id, or null if it does not exist (anymore)
+     * @param trainingExecutor runs the training of the index
+     */
+    IvfEmbeddingIndex(MVStore mvStore, Set<String> ids, Function<String, float[]> vectorLookup, Executor trainingExecutor) {
+        this.centroidsMap = mvStore.openMap(CENTROIDS_MAP_NAME);
+        this.assignmentsMap = mvStore.openMap(ASSIGNMENTS_MAP_NAME);
+        this.metadataMap = mvStore.openMap(METADATA_MAP_NAME);
+        this.ids = ids;
+        this.vectorLookup = vectorLookup;
+        this.trainingExecutor = trainingExecutor;
+
+        this.centroids = new float[centroidsMap.size()][];
+        centroidsMap.forEach((cluster, centroid) -> centroids[cluster] = centroid);
+        this.clusterMembers = createClusters(centroids.length);
+        assignmentsMap.forEach((id, cluster) -> clusterMembers.get(cluster).add(id));
+    }
+
+    public int getClusterCount() {
+        lock.readLock().lock();
+        try {
+            return centroids.length;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the ids of the embeddings in the clusters most similar to the query.
+     *
+     * @return an empty optional if the index is not trained yet or all clusters would need to be probed. In that case,
+     * all embeddings need to be scanned.
+     */
+    public Optional<List<String>> getCandidates(float[] queryVector, int probes) {
+        lock.readLock().lock();
+        try {
+            if ((centroids.length == 0) || (probes >= centroids.length) || (queryVector.length != centroids[0].length)) {
+                return Optional.empty();
+            }
+
+            float[] query = normalize(queryVector);
+            Integer[] clusters = new Integer[centroids.length];
+            double[] similarities = new double[centroids.length];
+            for (int i = 0; i < centroids.length; i++) {
+                clusters[i] = i;
+                similarities[i] = dot(centroids[i], query);
+            }
+            Arrays.sort(clusters, (a, b) -> Double.compare(similarities[b], similarities[a]));
+
+            List<String> candidates = new ArrayList<>();
+            for (int i = 0; i < probes; i++) {
+                candidates.addAll(clusterMembers.get(clusters[i]));
+            }
+            return Optional.of(candidates);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Estimates the number of embeddings {@link #getCandidates(float[], int)} returns for the given number of probes.
+     */
+    public int getExpectedCandidateCount(int probes) {
+        int clusters = getClusterCount();
+        if ((clusters == 0) || (probes >= clusters)) {
+            return ids.size();
+        }
+        return (int) ((long) ids.size() * probes / clusters);
+    }
+
+    public void add(String id, float[] vector) {
+        addAll(List.of(id), List.of(vector));
+    }
+
+    /**
+     * Adds several embeddings, which must already be stored. The index is trained at most once for all of them.
+     */
+    public void addAll(List<String> addedIds, List<float[]> vectors) {
+        lock.writeLock().lock();
+        try {
+            for (int i = 0; i < addedIds.size(); i++) {
+                assign(addedIds.get(i), vectors.get(i));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        trainInBackgroundIfNeeded();
+    }
+
+    /**
+     * Must be called while holding the write lock.
+     */
+    private void assign(String id, float[] vector) {
+        if ((centroids.length == 0) || (vector.length != centroids[0].length)) {
+            return;
+        }
+        int cluster = nearestCluster(centroids, normalize(vector));
+        Integer previous = assignmentsMap.put(id, cluster);
+        if (previous != null) {
+            clusterMembers.get(previous).remove(id);
+        }
+        clusterMembers.get(cluster).add(id);
+    }
+
+    public void remove(String id) {
+        lock.writeLock().lock();
+        try {
+            Integer cluster = assignmentsMap.remove(id);
+            if ((cluster != null) && (cluster < clusterMembers.size())) {
+                clusterMembers.get(cluster).remove(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            centroidsMap.clear();
+            assignmentsMap.clear();
+            metadataMap.clear();
+            centroids = new float[0][];
+            clusterMembers = List.of();
+            clearCount++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Stops training the index. The index must not be used afterward.
+     */
+    public void close() {
+        closed = true;
+        // Waits for a running training to finish storing its results
+        lock.writeLock().lock();
+        lock.writeLock().unlock();
+    }
+
+    /**
+     * Trains the index in the background if enough embeddings were added since the last training.
+     */
+    public void trainInBackgroundIfNeeded() {
+        if (closed || !needsTraining() || !trainingScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        trainingExecutor.execute(() -> {
+            try {
+                train();
+            } catch (IllegalStateException e) {
+                // The store or the vectors were closed meanwhile
+                LOGGER.debug("Could not train embeddings index", e);
+            } finally {
+                trainingScheduled.set(false);
+            }
+        });
+    }
+
+    private boolean needsTraining() {
+        int trainedSize = metadataMap.getOrDefault(TRAINED_SIZE_KEY, 0);
+        int nextTrainingSize = trainedSize == 0 ? MIN_TRAINING_SIZE : trainedSize * RETRAINING_GROWTH_FACTOR;
+        return ids.size() >= nextTrainingSize;
+    }
+
+    /**
+     * Runs spherical k-means on a sample of the embeddings and assigns all embeddings to the resulting clusters.
+     * The clusters are computed without holding the lock; embeddings added or removed meanwhile are accounted for when
+     * the clusters are stored.
+     */
+    private void train() {
+        List<String> allIds;
+        long trainingClearCount;
+        lock.readLock().lock();
+        try {
+            allIds = new ArrayList<>(ids);
+            trainingClearCount = clearCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+        int clusterCount = Math.max(1, (int) Math.sqrt(allIds.size()));
+
+        List<String> sampleIds = new ArrayList<>(allIds);
+        Collections.shuffle(sampleIds, new Random(allIds.size()));
+        List<float[]> sample = new ArrayList<>();
+        for (String id : sampleIds.subList(0, Math.min(sampleIds.size(), clusterCount * TRAINING_SAMPLES_PER_CLUSTER))) {
+            if (closed) {
+                return;
+            }
+            float[] vector = vectorLookup.apply(id);
+            if ((vector != null) && (sample.isEmpty() || (vector.length == sample.getFirst().length))) {
+                sample.add(normalize(vector));
+            }
+        }
+        if (sample.size() < clusterCount) {
+            lock.writeLock().lock();
+            try {
+                if (!closed && (clearCount == trainingClearCount)) {
+                    // Do not retry with every added embedding
+                    metadataMap.put(TRAINED_SIZE_KEY, allIds.size());
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            return;
+        }
+
+        float[][] newCentroids = new float[clusterCount][];
+        for (int i = 0; i < clusterCount; i++) {
+            newCentroids[i] = sample.get(i).clone();
+        }
+
+        int dimensions = sample.getFirst().length;
+        for (int iteration = 0; iteration < TRAINING_ITERATIONS; iteration++) {
+            if (closed) {
+                return;
+            }
+            float[][] sums = new float[clusterCount][dimensions];
+            int[] counts = new int[clusterCount];
+            for (float[] vector : sample) {
+                int cluster = nearestCluster(newCentroids, vector);
+                counts[cluster]++;
+                for (int d = 0; d < dimensions; d++) {
+                    sums[cluster][d] += vector[d];
+                }
+            }
+            for (int cluster = 0; cluster < clusterCount; cluster++) {
+                // An empty cluster keeps its previous centroid
+                if (counts[cluster] > 0) {
+                    newCentroids[cluster] = normalize(sums[cluster]);
+                }
+            }
+        }
+
+        Map<String, Integer> newAssignments = new HashMap<>();
+        for (String id : allIds) {
+            if (closed) {
+                return;
+            }
+            float[] vector = vectorLookup.apply(id);
+            if ((vector != null) && (vector.length == dimensions)) {
+                newAssignments.put(id, nearestCluster(newCentroids, normalize(vector)));
+            }
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (closed || (clearCount != trainingClearCount)) {
+                return;
+            }
+            // Embeddings removed or added during the training
+            newAssignments.keySet().retainAll(ids);
+            for (String id : ids) {
+                if (!newAssignments.containsKey(id)) {
+                    float[] vector = vectorLookup.apply(id);
+                    if ((vector != null) && (vector.length == dimensions)) {
+                        newAssignments.put(id, nearestCluster(newCentroids, normalize(vector)));
+                    }
+                }
+            }
+
+            centroids = newCentroids;
+            clusterMembers = createClusters(clusterCount);
+            newAssignments.forEach((id, cluster) -> clusterMembers.get(cluster).add(id));
+
+            assignmentsMap.clear();
+            assignmentsMap.putAll(newAssignments);
+            centroidsMap.clear();
+            for (int cluster = 0; cluster < clusterCount; cluster++) {
+                centroidsMap.put(cluster, centroids[cluster]);
+            }
+            metadataMap.put(TRAINED_SIZE_KEY, allIds.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        LOGGER.debug("Trained embeddings index with {} clusters for {} embeddings", clusterCount, allIds.size());
+    }
+
+    private static int nearestCluster(float[][] centroids, float[] normalizedVector) {
+        int nearest = 0;
+        double bestSimilarity = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < centroids.length; i++) {
+            double similarity = dot(centroids[i], normalizedVector);
+            if (similarity > bestSimilarity) {
+                bestSimilarity = similarity;
+                nearest = i;
+            }
+        }
+        return nearest;
+    }
+
+    private static List<Set<String>> createClusters(int count) {
+        List<Set<String>> clusters = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            clusters.add(new HashSet<>());
+        }
+        return clusters;
+    }
+
+    private static double dot(float[] a, float[] b) {
+        double result = 0;
+        for (int i = 0; i < a.length; i++) {
+            result += a[i] * b[i];
+        }
+        return result;
+    }
+
+    private static float[] normalize(float[] vector) {
+        double norm = Math.sqrt(dot(vector, vector));
+        float[] result = new float[vector.length];
+        if (norm == 0) {
+            return result;
+        }
+        for (int i = 0; i < vector.length; i++) {
+            result[i] = (float) (vector[i] / norm);
+        }
+        return result;
+    }
+}
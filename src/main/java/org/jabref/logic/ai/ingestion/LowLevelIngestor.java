@@ -1,5 +1,6 @@
 package org.jabref.logic.ai.ingestion;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import javafx.beans.property.IntegerProperty;
@@ -7,13 +8,14 @@ import javafx.beans.property.ReadOnlyBooleanProperty;
 
 import org.jabref.logic.ai.AiPreferences;
 
+import com.google.common.collect.Lists;
 import dev.langchain4j.data.document.Document;
 import dev.langchain4j.data.document.DocumentSplitter;
 import dev.langchain4j.data.document.splitter.DocumentSplitters;
+import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.model.embedding.EmbeddingModel;
 import dev.langchain4j.store.embedding.EmbeddingStore;
-import dev.langchain4j.store.embedding.EmbeddingStoreIngestor;
 
 public class LowLevelIngestor {
     private final AiPreferences aiPreferences;
@@ -21,7 +23,6 @@ public class LowLevelIngestor {
     private final EmbeddingStore<TextSegment> embeddingStore;
     private final EmbeddingModel embeddingModel;
 
-    private EmbeddingStoreIngestor ingestor;
     private DocumentSplitter documentSplitter;
 
     public LowLevelIngestor(AiPreferences aiPreferences, EmbeddingStore<TextSegment> embeddingStore, EmbeddingModel embeddingModel) {
@@ -38,13 +39,6 @@ public class LowLevelIngestor {
         this.documentSplitter = DocumentSplitters
                 .recursive(aiPreferences.getDocumentSplitterChunkSize(),
                            aiPreferences.getDocumentSplitterOverlapSize());
-
-        this.ingestor = EmbeddingStoreIngestor
-                .builder()
-                .embeddingStore(embeddingStore)
-                .embeddingModel(embeddingModel)
-                .documentSplitter(documentSplitter)
-                .build();
     }
 
     private void setupListeningToPreferencesChanges() {
@@ -55,6 +49,9 @@ public class LowLevelIngestor {
     /**
      * Add document to embedding store.
      * This method does not check if file was already ingested.
+     * <p>
+     * The segments of the document are passed to the embedding model in batches of
+     * {@link AiPreferences#getEmbeddingsBatchSize()}, and all embeddings of the document are added to the store at once.
      *
      * @param document - document to add.
      * @param stopProperty - in case you want to stop the ingestion process, set this property to true.
@@ -63,14 +60,17 @@ public class LowLevelIngestor {
         List<TextSegment> textSegments = documentSplitter.split(document);
         workMax.set(textSegments.size());
 
-        for (TextSegment documentPart : textSegments) {
+        List<Embedding> embeddings = new ArrayList<>(textSegments.size());
+        for (List<TextSegment> batch : Lists.partition(textSegments, Math.max(1, aiPreferences.getEmbeddingsBatchSize()))) {
             if (stopProperty.get()) {
                 throw new InterruptedException();
             }
 
-            ingestor.ingest(new Document(documentPart.text(), document.metadata()));
+            embeddings.addAll(embeddingModel.embedAll(batch).content());
 
-            workDone.set(workDone.get() + 1);
+            workDone.set(workDone.get() + batch.size());
         }
+
+        embeddingStore.addAll(embeddings, textSegments);
     }
 }
@@ -9,19 +9,22 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.PriorityQueue;
+import java.util.Set;
 import java.util.UUID;
-import java.util.function.Predicate;
-import java.util.stream.IntStream;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import org.jabref.logic.ai.AiPreferences;
 import org.jabref.logic.ai.util.MVStoreBase;
 import org.jabref.logic.l10n.Localization;
+import org.jabref.logic.util.HeadlessExecutorService;
 import org.jabref.logic.util.NotificationService;
 
+import com.google.common.collect.Streams;
 import dev.langchain4j.data.document.Metadata;
 import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
-import dev.langchain4j.store.embedding.CosineSimilarity;
 import dev.langchain4j.store.embedding.EmbeddingMatch;
 import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
 import dev.langchain4j.store.embedding.EmbeddingSearchResult;
@@ -31,6 +34,7 @@ import dev.langchain4j.store.embedding.filter.Filter;
 import dev.langchain4j.store.embedding.filter.comparison.IsEqualTo;
 import dev.langchain4j.store.embedding.filter.comparison.IsIn;
 import jakarta.annotation.Nullable;
+import org.h2.mvstore.MVMap;
 import org.h2.mvstore.MVStore;
 
 import static java.util.Comparator.comparingDouble;
@@ -42,19 +46,76 @@ import static org.jabref.logic.ai.ingestion.FileEmbeddingsManager.LINK_METADATA_
  * Every embedding has 3 fields: float array (the embedding itself), file where it was generated from, and the embedded
  * string (the content).
  * <p>
+ * The vectors are stored separately from the content in a {@link MappedVectorStorage} next to the MVStore file, so
+ * that scoring does not need to deserialize the content of the segments. The content is only read for the best matches.
+ * <p>
+ * To avoid scanning all embeddings on every search, the store maintains two additional maps in the same {@link MVStore}:
+ * the ids of the embeddings per file (used for filtering) and an {@link IvfEmbeddingIndex} for approximate nearest
+ * neighbour search. The number of probed clusters is taken from {@link AiPreferences#getRagSearchProbes()}.
  */
 public class MVStoreEmbeddingStore extends MVStoreBase implements EmbeddingStore<TextSegment> {
-    // `file` field is nullable, because {@link Optional} can't be serialized.
+    // Format of earlier versions, which stored the vector together with the content. Only used for migration.
     private record EmbeddingRecord(@Nullable String file, String content, float[] embeddingVector) implements Serializable { }
 
-    private static final String EMBEDDINGS_MAP_NAME = "embeddings";
+    // `file` field is nullable, because {@link Optional} can't be serialized.
+    private record SegmentRecord(@Nullable String file, String content) implements Serializable { }
+
+    private record ScoredEmbedding(String id, double score) { }
+
+    private static final String LEGACY_EMBEDDINGS_MAP_NAME = "embeddings";
+    private static final String SEGMENTS_MAP_NAME = "embeddingSegments";
+    private static final String FILE_INDEX_MAP_NAME = "embeddingsByFile";
+    private static final String VECTORS_FILE_SUFFIX = ".vectors";
+
+    // Separates the file and the embedding id in the keys of the file index
+    private static final char FILE_INDEX_SEPARATOR = '\u0000';
 
-    private final Map<String, EmbeddingRecord> embeddingsMap;
+    private final MVMap<String, SegmentRecord> segmentsMap;
+    private final MVMap<String, Boolean> fileIndexMap;
+    private final MappedVectorStorage vectorStorage;
+    private final IvfEmbeddingIndex embeddingIndex;
+    private final AiPreferences aiPreferences;
 
-    public MVStoreEmbeddingStore(Path path, NotificationService dialogService) {
+    /**
+     * @param vectorEncoding the encoding of the vectors, used only if no vectors are stored yet
+     */
+    public MVStoreEmbeddingStore(Path path, NotificationService dialogService, AiPreferences aiPreferences, EmbeddingVectorEncoding vectorEncoding) {
+        this(path, dialogService, aiPreferences, vectorEncoding, HeadlessExecutorService.INSTANCE);
+    }
+
+    /**
+     * @param indexTrainingExecutor runs the training of the {@link IvfEmbeddingIndex}. A direct executor makes the index
+     *                              available right after adding the embeddings, e.g., for benchmarks.
+     */
+    public MVStoreEmbeddingStore(Path path, NotificationService dialogService, AiPreferences aiPreferences, EmbeddingVectorEncoding vectorEncoding, Executor indexTrainingExecutor) {
         super(path, dialogService);
 
-        this.embeddingsMap = this.mvStore.openMap(EMBEDDINGS_MAP_NAME);
+        this.aiPreferences = aiPreferences;
+        this.segmentsMap = this.mvStore.openMap(SEGMENTS_MAP_NAME);
+        this.fileIndexMap = this.mvStore.openMap(FILE_INDEX_MAP_NAME);
+        // If the MV file could not be opened (e.g., it is locked by another instance), the store is kept in memory.
+        // The vectors file must not be used then, as it belongs to the MV file.
+        @Nullable Path vectorsFile = (mvStore.getFileStore() == null) ? null : path.resolveSibling(path.getFileName() + VECTORS_FILE_SUFFIX);
+        this.vectorStorage = new MappedVectorStorage(vectorsFile, mvStore, vectorEncoding);
+
+        this.embeddingIndex = new IvfEmbeddingIndex(mvStore, segmentsMap.keySet(), vectorStorage::get, indexTrainingExecutor);
+
+        // Segments whose vector was lost (e.g., the vectors file was deleted) cannot be found anyway
+        List<String> segmentsWithoutVector = segmentsMap.keySet().stream().filter(id -> !vectorStorage.ids().contains(id)).toList();
+        segmentsWithoutVector.forEach(this::remove);
+
+        if (mvStore.hasMap(LEGACY_EMBEDDINGS_MAP_NAME)) {
+            migrateLegacyEmbeddings();
+        }
+
+        embeddingIndex.trainInBackgroundIfNeeded();
+    }
+
+    private void migrateLegacyEmbeddings() {
+        MVMap<String, EmbeddingRecord> legacyEmbeddingsMap = mvStore.openMap(LEGACY_EMBEDDINGS_MAP_NAME);
+        legacyEmbeddingsMap.forEach((id, embeddingRecord) ->
+                put(id, new SegmentRecord(embeddingRecord.file, embeddingRecord.content), embeddingRecord.embeddingVector));
+        mvStore.removeMap(legacyEmbeddingsMap);
     }
 
     @Override
@@ -69,32 +130,79 @@ public class MVStoreEmbeddingStore extends MVStoreBase implements EmbeddingStore
 
     @Override
     public List<String> addAll(List<Embedding> embeddings) {
-        return embeddings.stream().map(this::add).toList();
+        List<SegmentRecord> segmentRecords = embeddings.stream().map(embedding -> new SegmentRecord(null, "")).toList();
+        return putAll(segmentRecords, embeddings);
     }
 
     @Override
     public void add(String id, Embedding embedding) {
         // It does not make much sense to store single embedding vector, but this is a requirement from langchain4j's
         // {@link EmbeddingStore}.
-        embeddingsMap.put(id, new EmbeddingRecord(null, "", embedding.vector()));
+        put(id, new SegmentRecord(null, ""), embedding.vector());
     }
 
     @Override
     public String add(Embedding embedding, TextSegment textSegment) {
         String id = String.valueOf(UUID.randomUUID());
         String linkedFile = textSegment.metadata().getString(LINK_METADATA_KEY);
-        embeddingsMap.put(id, new EmbeddingRecord(linkedFile, textSegment.text(), embedding.vector()));
+        put(id, new SegmentRecord(linkedFile, textSegment.text()), embedding.vector());
         return id;
     }
 
+    private void put(String id, SegmentRecord segmentRecord, float[] vector) {
+        vectorStorage.put(id, vector);
+        SegmentRecord previous = segmentsMap.put(id, segmentRecord);
+        if ((previous != null) && (previous.file != null)) {
+            fileIndexMap.remove(fileIndexKey(previous.file, id));
+        }
+        if (segmentRecord.file != null) {
+            fileIndexMap.put(fileIndexKey(segmentRecord.file, id), Boolean.TRUE);
+        }
+        embeddingIndex.add(id, vector);
+    }
+
+    /**
+     * Stores all embeddings at once and commits the store afterwards. The embeddings of a document should be added
+     * with a single call of this method.
+     */
     @Override
     public List<String> addAll(List<Embedding> embeddings, List<TextSegment> embedded) {
-        return IntStream.range(0, embeddings.size()).mapToObj(i -> add(embeddings.get(i), embedded.get(i))).toList();
+        List<SegmentRecord> segmentRecords = embedded.stream()
+                                                     .map(textSegment -> new SegmentRecord(textSegment.metadata().getString(LINK_METADATA_KEY), textSegment.text()))
+                                                     .toList();
+        return putAll(segmentRecords, embeddings);
+    }
+
+    private List<String> putAll(List<SegmentRecord> segmentRecords, List<Embedding> embeddings) {
+        if (segmentRecords.size() != embeddings.size()) {
+            throw new IllegalArgumentException("The number of embeddings and embedded segments differ");
+        }
+
+        List<String> ids = embeddings.stream().map(embedding -> String.valueOf(UUID.randomUUID())).toList();
+        List<float[]> vectors = embeddings.stream().map(Embedding::vector).toList();
+
+        vectorStorage.putAll(ids, vectors);
+        for (int i = 0; i < ids.size(); i++) {
+            SegmentRecord segmentRecord = segmentRecords.get(i);
+            segmentsMap.put(ids.get(i), segmentRecord);
+            if (segmentRecord.file != null) {
+                fileIndexMap.put(fileIndexKey(segmentRecord.file, ids.get(i)), Boolean.TRUE);
+            }
+        }
+        embeddingIndex.addAll(ids, vectors);
+
+        commit();
+        return ids;
     }
 
     @Override
     public void remove(String id) {
-        embeddingsMap.remove(id);
+        SegmentRecord removed = segmentsMap.remove(id);
+        if ((removed != null) && (removed.file != null)) {
+            fileIndexMap.remove(fileIndexKey(removed.file, id));
+        }
+        vectorStorage.remove(id);
+        embeddingIndex.remove(id);
     }
 
     @Override
@@ -105,7 +213,10 @@ public class MVStoreEmbeddingStore extends MVStoreBase implements EmbeddingStore
 
     @Override
     public void removeAll() {
-        embeddingsMap.clear();
+        segmentsMap.clear();
+        fileIndexMap.clear();
+        vectorStorage.clear();
+        embeddingIndex.clear();
     }
 
     /**
@@ -122,33 +233,38 @@ public class MVStoreEmbeddingStore extends MVStoreBase implements EmbeddingStore
     public EmbeddingSearchResult<TextSegment> search(EmbeddingSearchRequest request) {
         // Source: {@link InMemoryEmbeddingStore}.
 
-        Comparator<EmbeddingMatch<TextSegment>> comparator = comparingDouble(EmbeddingMatch::score);
-        PriorityQueue<EmbeddingMatch<TextSegment>> matches = new PriorityQueue<>(comparator);
+        // Only the ids and scores are kept while scoring, the content is read for the best matches only
+        PriorityQueue<ScoredEmbedding> best = new PriorityQueue<>(comparingDouble(ScoredEmbedding::score));
 
-        applyFilter(request.filter()).forEach(id -> {
-            EmbeddingRecord eRecord = embeddingsMap.get(id);
-
-            double cosineSimilarity = CosineSimilarity.between(Embedding.from(eRecord.embeddingVector), request.queryEmbedding());
+        vectorStorage.scoreAll(getSearchCandidates(request), request.queryEmbedding().vector(), (id, cosineSimilarity) -> {
             double score = RelevanceScore.fromCosineSimilarity(cosineSimilarity);
 
             if (score >= request.minScore()) {
-                matches.add(
-                        new EmbeddingMatch<>(
-                                score,
-                                id,
-                                Embedding.from(eRecord.embeddingVector),
-                                new TextSegment(
-                                        eRecord.content,
-                                        new Metadata(
-                                                eRecord.file == null ? Map.of() : Map.of(LINK_METADATA_KEY, eRecord.file)))));
-
-                if (matches.size() > request.maxResults()) {
-                    matches.poll();
+                best.add(new ScoredEmbedding(id, score));
+
+                if (best.size() > request.maxResults()) {
+                    best.poll();
                 }
             }
         });
 
-        List<EmbeddingMatch<TextSegment>> result = new ArrayList<>(matches);
+        Comparator<EmbeddingMatch<TextSegment>> comparator = comparingDouble(EmbeddingMatch::score);
+        List<EmbeddingMatch<TextSegment>> result = new ArrayList<>();
+        for (ScoredEmbedding scoredEmbedding : best) {
+            SegmentRecord segmentRecord = segmentsMap.get(scoredEmbedding.id());
+            float[] vector = vectorStorage.get(scoredEmbedding.id());
+            if ((segmentRecord == null) || (vector == null)) {
+                // Removed concurrently
+                continue;
+            }
+            result.add(new EmbeddingMatch<>(
+                    scoredEmbedding.score(),
+                    scoredEmbedding.id(),
+                    Embedding.from(vector),
+                    new TextSegment(
+                            segmentRecord.content,
+                            new Metadata(segmentRecord.file == null ? Map.of() : Map.of(LINK_METADATA_KEY, segmentRecord.file)))));
+        }
         result.sort(comparator.reversed());
 
         return new EmbeddingSearchResult<>(result);
@@ -156,25 +272,75 @@ public class MVStoreEmbeddingStore extends MVStoreBase implements EmbeddingStore
 
     @Override
     public void removeAll(Collection ids) {
-        embeddingsMap.entrySet().removeIf(entry -> ids.contains(entry.getKey()));
+        for (Object id : ids) {
+            remove((String) id);
+        }
+    }
+
+    /**
+     * Determines the ids of the embeddings to score for the given request.
+     * <p>
+     * If the filter selects only a few embeddings (e.g., when chatting with a single entry), these are scored
+     * exhaustively. Otherwise, the closest clusters of the {@link IvfEmbeddingIndex} are used and the filter is
+     * applied to their members.
+     */
+    private Stream<String> getSearchCandidates(EmbeddingSearchRequest request) {
+        int probes = aiPreferences.getRagSearchProbes();
+        if (request.filter() == null) {
+            return embeddingIndex.getCandidates(request.queryEmbedding().vector(), probes)
+                                 .map(List::stream)
+                                 .orElseGet(() -> applyFilter(null));
+        }
+
+        Set<String> filteredIds = applyFilter(request.filter()).collect(Collectors.toSet());
+        if (filteredIds.size() <= embeddingIndex.getExpectedCandidateCount(probes)) {
+            return filteredIds.stream();
+        }
+        return embeddingIndex.getCandidates(request.queryEmbedding().vector(), probes)
+                             .map(candidates -> candidates.stream().filter(filteredIds::contains))
+                             .orElseGet(filteredIds::stream);
     }
 
     private Stream<String> applyFilter(@Nullable Filter filter) {
         return switch (filter) {
-            case null -> embeddingsMap.keySet().stream();
+            case null -> segmentsMap.keySet().stream();
 
             case IsIn isInFilter when Objects.equals(isInFilter.key(), LINK_METADATA_KEY) ->
-                    filterEntries(entry -> isInFilter.comparisonValues().contains(entry.getValue().file));
+                    isInFilter.comparisonValues().stream().distinct().flatMap(file -> idsOfFile(file.toString()));
 
             case IsEqualTo isEqualToFilter when Objects.equals(isEqualToFilter.key(), LINK_METADATA_KEY) ->
-                    filterEntries(entry -> isEqualToFilter.comparisonValue().equals(entry.getValue().file));
+                    idsOfFile(isEqualToFilter.comparisonValue().toString());
 
             default -> throw new IllegalArgumentException("Wrong filter passed to MVStoreEmbeddingStore");
         };
     }
 
-    private Stream<String> filterEntries(Predicate<Map.Entry<String, EmbeddingRecord>> predicate) {
-        return embeddingsMap.entrySet().stream().filter(predicate).map(Map.Entry::getKey);
+    private Stream<String> idsOfFile(String file) {
+        String prefix = file + FILE_INDEX_SEPARATOR;
+        // The keys are sorted, thus all keys of the file follow each other
+        return Streams.stream(fileIndexMap.keyIterator(prefix))
+                      .takeWhile(key -> key.startsWith(prefix))
+                      .map(key -> key.substring(prefix.length()))
+                      // Materialize, so that removing while iterating is possible
+                      .toList()
+                      .stream();
+    }
+
+    private static String fileIndexKey(String file, String id) {
+        return file + FILE_INDEX_SEPARATOR + id;
+    }
+
+    @Override
+    public void commit() {
+        vectorStorage.force();
+        super.commit();
+    }
+
+    @Override
+    public void close() {
+        embeddingIndex.close();
+        vectorStorage.close();
+        super.close();
     }
 
     @Override
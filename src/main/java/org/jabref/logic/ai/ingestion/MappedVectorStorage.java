@@ -0,0 +1,408 @@
+package org.jabref.logic.ai.ingestion;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.ObjDoubleConsumer;
+import java.util.stream.Stream;
+
+import jakarta.annotation.Nullable;
+import org.apache.lucene.util.VectorUtil;
+import org.h2.mvstore.MVMap;
+import org.h2.mvstore.MVStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Stores embedding vectors in fixed size slots of a contiguous, memory-mapped file.
+ * <p>
+ * Each slot holds the norm of the vector, the scale used for quantization, and the encoded components. The slot of an
+ * embedding is kept in a map of the given {@link MVStore}, so that the vectors can be scored without deserializing
+ * any Java objects. Scoring uses {@link VectorUtil}, which makes use of the Panama Vector API if the
+ * {@code jdk.incubator.vector} module is available.
+ * <p>
+ * The encoding of stored vectors is kept, the requested encoding is used as soon as the storage is empty. If the file
+ * cannot be opened, the vectors are kept in memory.
+ */
+class MappedVectorStorage implements AutoCloseable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(MappedVectorStorage.class);
+
+    private static final String SLOTS_MAP_NAME = "embeddingVectorSlots";
+
+    private static final int MAGIC = 0x4A524556; // "JREV"
+    private static final int VERSION = 1;
+    private static final long HEADER_SIZE = 64;
+    private static final long SLOT_HEADER_SIZE = 2 * Float.BYTES;
+    private static final long INITIAL_CAPACITY = 1024;
+
+    private static final ValueLayout.OfInt INT = ValueLayout.JAVA_INT_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+    private static final ValueLayout.OfFloat FLOAT = ValueLayout.JAVA_FLOAT_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+    private static final ValueLayout.OfShort SHORT = ValueLayout.JAVA_SHORT_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+
+    private final @Nullable FileChannel channel;
+    private final MVMap<String, Integer> slotsMap;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final BitSet usedSlots = new BitSet();
+
+    private final EmbeddingVectorEncoding requestedEncoding;
+
+    private EmbeddingVectorEncoding encoding;
+    private int dimensions;
+    private Arena arena;
+    private MemorySegment segment;
+
+    MappedVectorStorage(@Nullable Path file, MVStore mvStore, EmbeddingVectorEncoding encoding) {
+        this.slotsMap = mvStore.openMap(SLOTS_MAP_NAME);
+        this.requestedEncoding = encoding;
+        this.encoding = encoding;
+
+        FileChannel openedChannel = null;
+        if (file != null) {
+            try {
+                openedChannel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            } catch (IOException e) {
+                LOGGER.error("Could not open the embedding vectors file {}. Vectors will be kept in memory", file, e);
+            }
+        }
+        this.channel = openedChannel;
+
+        try {
+            if ((channel != null) && (channel.size() >= HEADER_SIZE)) {
+                map(channel.size());
+                readHeader();
+            } else {
+                map(HEADER_SIZE);
+                writeHeader();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        // Slots without vectors (e.g., the vectors file was deleted or not written completely) cannot be used
+        List<String> slotsWithoutVector = slotsMap.entrySet().stream()
+                                                  .filter(entry -> (dimensions == 0) || (slotOffset(entry.getValue()) + slotSize() > segment.byteSize()))
+                                                  .map(Map.Entry::getKey)
+                                                  .toList();
+        if (!slotsWithoutVector.isEmpty()) {
+            LOGGER.warn("Discarding {} embeddings without stored vector", slotsWithoutVector.size());
+            slotsWithoutVector.forEach(slotsMap::remove);
+        }
+        slotsMap.values().forEach(usedSlots::set);
+    }
+
+    public Set<String> ids() {
+        return slotsMap.keySet();
+    }
+
+    public void put(String id, float[] vector) {
+        putAll(List.of(id), List.of(vector));
+    }
+
+    public void putAll(List<String> ids, List<float[]> vectors) {
+        lock.writeLock().lock();
+        try {
+            for (int i = 0; i < ids.size(); i++) {
+                putLocked(ids.get(i), vectors.get(i));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Must be called while holding the write lock.
+     */
+    private void putLocked(String id, float[] vector) {
+        if (slotsMap.isEmpty() && ((dimensions != vector.length) || (encoding != requestedEncoding))) {
+            dimensions = vector.length;
+            encoding = requestedEncoding;
+            usedSlots.clear();
+            writeHeader();
+        } else if (dimensions != vector.length) {
+            throw new IllegalArgumentException("Embedding has %d dimensions, but the stored embeddings have %d".formatted(vector.length, dimensions));
+        }
+
+        Integer slot = slotsMap.get(id);
+        if (slot == null) {
+            slot = usedSlots.nextClearBit(0);
+            ensureCapacity(slot + 1);
+        }
+        write(slot, vector);
+        usedSlots.set(slot);
+        slotsMap.put(id, slot);
+    }
+
+    public void remove(String id) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = slotsMap.remove(id);
+            if (slot != null) {
+                usedSlots.clear(slot);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            slotsMap.clear();
+            usedSlots.clear();
+            dimensions = 0;
+            encoding = requestedEncoding;
+            writeHeader();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the decoded vector of the embedding, or null if there is no such embedding.
+     */
+    public @Nullable float[] get(String id) {
+        lock.readLock().lock();
+        try {
+            Integer slot = slotsMap.get(id);
+            if (slot == null) {
+                return null;
+            }
+            float[] vector = new float[dimensions];
+            decode(slot, vector, null);
+            return vector;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Passes the cosine similarity between the query and the vector of each of the given embeddings to the consumer.
+     * Ids without a vector are skipped.
+     */
+    public void scoreAll(Stream<String> ids, float[] query, ObjDoubleConsumer<String> consumer) {
+        lock.readLock().lock();
+        try {
+            if (query.length != dimensions) {
+                return;
+            }
+
+            double queryNorm = Math.sqrt(VectorUtil.dotProduct(query, query));
+            float[] floatBuffer = new float[dimensions];
+            byte[] byteBuffer = new byte[dimensions];
+            byte[] quantizedQuery = new byte[dimensions];
+            float queryScale = encoding == EmbeddingVectorEncoding.INT8 ? quantize(query, quantizedQuery) : 1;
+
+            ids.forEach(id -> {
+                Integer slot = slotsMap.get(id);
+                if (slot == null) {
+                    return;
+                }
+                long offset = slotOffset(slot);
+                double norm = segment.get(FLOAT, offset);
+                if ((norm == 0) || (queryNorm == 0)) {
+                    consumer.accept(id, 0);
+                    return;
+                }
+
+                double dotProduct;
+                if (encoding == EmbeddingVectorEncoding.INT8) {
+                    float scale = segment.get(FLOAT, offset + Float.BYTES);
+                    MemorySegment.copy(segment, ValueLayout.JAVA_BYTE, offset + SLOT_HEADER_SIZE, byteBuffer, 0, dimensions);
+                    dotProduct = (double) VectorUtil.dotProduct(quantizedQuery, byteBuffer) * queryScale * scale;
+                } else {
+                    decode(slot, floatBuffer, byteBuffer);
+                    dotProduct = VectorUtil.dotProduct(query, floatBuffer);
+                }
+                consumer.accept(id, dotProduct / (norm * queryNorm));
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Writes the mapped file to disk.
+     */
+    public void force() {
+        lock.readLock().lock();
+        try {
+            if (channel != null) {
+                segment.force();
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        lock.writeLock().lock();
+        try {
+            if (channel != null) {
+                segment.force();
+            }
+            arena.close();
+            if (channel != null) {
+                channel.close();
+            }
+        } catch (IOException e) {
+            LOGGER.error("Could not close the embedding vectors file", e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void write(int slot, float[] vector) {
+        long offset = slotOffset(slot);
+        segment.set(FLOAT, offset, (float) Math.sqrt(VectorUtil.dotProduct(vector, vector)));
+        long componentsOffset = offset + SLOT_HEADER_SIZE;
+        switch (encoding) {
+            case FLOAT32 -> {
+                segment.set(FLOAT, offset + Float.BYTES, 1);
+                MemorySegment.copy(vector, 0, segment, FLOAT, componentsOffset, dimensions);
+            }
+            case FLOAT16 -> {
+                segment.set(FLOAT, offset + Float.BYTES, 1);
+                for (int i = 0; i < dimensions; i++) {
+                    segment.set(SHORT, componentsOffset + (long) i * Short.BYTES, Float.floatToFloat16(vector[i]));
+                }
+            }
+            case INT8 -> {
+                byte[] quantized = new byte[dimensions];
+                segment.set(FLOAT, offset + Float.BYTES, quantize(vector, quantized));
+                MemorySegment.copy(quantized, 0, segment, ValueLayout.JAVA_BYTE, componentsOffset, dimensions);
+            }
+        }
+    }
+
+    /**
+     * Decodes the components of the slot into the given array.
+     *
+     * @param byteBuffer a buffer of {@link #dimensions} bytes to avoid allocations, may be null
+     */
+    private void decode(int slot, float[] vector, @Nullable byte[] byteBuffer) {
+        long offset = slotOffset(slot);
+        long componentsOffset = offset + SLOT_HEADER_SIZE;
+        switch (encoding) {
+            case FLOAT32 ->
+                    MemorySegment.copy(segment, FLOAT, componentsOffset, vector, 0, dimensions);
+            case FLOAT16 -> {
+                for (int i = 0; i < dimensions; i++) {
+                    vector[i] = Float.float16ToFloat(segment.get(SHORT, componentsOffset + (long) i * Short.BYTES));
+                }
+            }
+            case INT8 -> {
+                float scale = segment.get(FLOAT, offset + Float.BYTES);
+                byte[] bytes = byteBuffer == null ? new byte[dimensions] : byteBuffer;
+                MemorySegment.copy(segment, ValueLayout.JAVA_BYTE, componentsOffset, bytes, 0, dimensions);
+                for (int i = 0; i < dimensions; i++) {
+                    vector[i] = bytes[i] * scale;
+                }
+            }
+        }
+    }
+
+    /**
+     * Quantizes the vector to bytes.
+     *
+     * @return the scale to multiply the bytes with to get the original components
+     */
+    private static float quantize(float[] vector, byte[] quantized) {
+        float maxAbs = 0;
+        for (float component : vector) {
+            maxAbs = Math.max(maxAbs, Math.abs(component));
+        }
+        if (maxAbs == 0) {
+            return 0;
+        }
+        float scale = maxAbs / Byte.MAX_VALUE;
+        for (int i = 0; i < vector.length; i++) {
+            quantized[i] = (byte) Math.round(vector[i] / scale);
+        }
+        return scale;
+    }
+
+    private long slotSize() {
+        return SLOT_HEADER_SIZE + (long) dimensions * encoding.getBytesPerComponent();
+    }
+
+    private long slotOffset(int slot) {
+        return HEADER_SIZE + slot * slotSize();
+    }
+
+    private void ensureCapacity(int slots) {
+        long required = HEADER_SIZE + slots * slotSize();
+        if (required <= segment.byteSize()) {
+            return;
+        }
+        long capacity = Math.max(segment.byteSize(), HEADER_SIZE + INITIAL_CAPACITY * slotSize());
+        while (capacity < required) {
+            capacity *= 2;
+        }
+        try {
+            map(capacity);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * (Re-)maps the storage with the given size. Must be called while holding the write lock.
+     */
+    private void map(long size) throws IOException {
+        Arena newArena = Arena.ofShared();
+        MemorySegment newSegment;
+        if (channel != null) {
+            if (segment != null) {
+                segment.force();
+            }
+            newSegment = channel.map(FileChannel.MapMode.READ_WRITE, 0, size, newArena);
+        } else {
+            newSegment = newArena.allocate(size);
+            if (segment != null) {
+                MemorySegment.copy(segment, 0, newSegment, 0, segment.byteSize());
+            }
+        }
+        if (arena != null) {
+            arena.close();
+        }
+        arena = newArena;
+        segment = newSegment;
+    }
+
+    private void readHeader() {
+        int encodingOrdinal = segment.get(INT, 3 * Integer.BYTES);
+        if ((segment.get(INT, 0) != MAGIC) || (segment.get(INT, Integer.BYTES) != VERSION)
+                || (encodingOrdinal < 0) || (encodingOrdinal >= EmbeddingVectorEncoding.values().length)) {
+            LOGGER.warn("Unknown format of the embedding vectors file, the vectors are discarded");
+            dimensions = 0;
+            writeHeader();
+            return;
+        }
+        dimensions = segment.get(INT, 2 * Integer.BYTES);
+        EmbeddingVectorEncoding storedEncoding = EmbeddingVectorEncoding.values()[encodingOrdinal];
+        if (storedEncoding != encoding) {
+            LOGGER.debug("Embedding vectors are stored as {}, keeping this encoding instead of {} until the store is emptied", storedEncoding, encoding);
+            encoding = storedEncoding;
+        }
+    }
+
+    private void writeHeader() {
+        segment.set(INT, 0, MAGIC);
+        segment.set(INT, Integer.BYTES, VERSION);
+        segment.set(INT, 2 * Integer.BYTES, dimensions);
+        segment.set(INT, 3 * Integer.BYTES, encoding.ordinal());
+    }
+}
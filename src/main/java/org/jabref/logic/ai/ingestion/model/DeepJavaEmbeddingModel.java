@@ -1,7 +1,6 @@
 package org.jabref.logic.ai.ingestion.model;
 
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.List;
 
 import ai.djl.MalformedModelException;
@@ -17,24 +16,20 @@ import dev.langchain4j.model.output.Response;
 
 public class DeepJavaEmbeddingModel implements EmbeddingModel, AutoCloseable {
     private final ZooModel<String, float[]> model;
-    private final Predictor<String, float[]> predictor;
 
     public DeepJavaEmbeddingModel(Criteria<String, float[]> criteria) throws ModelNotFoundException, MalformedModelException, IOException {
         this.model = criteria.loadModel();
-        this.predictor = model.newPredictor();
     }
 
+    /**
+     * Embeds all segments with a single (padded) model invocation, so the list should be split into batches by the caller.
+     */
     @Override
     public Response<List<Embedding>> embedAll(List<TextSegment> list) {
-        try {
-            List<Embedding> result = new ArrayList<>();
-
-            for (TextSegment textSegment : list) {
-                float[] embedding = predictor.predict(textSegment.text());
-                result.add(new Embedding(embedding));
-            }
-
-            return new Response<>(result);
+        // A predictor must not be shared by several threads, and several documents are ingested in parallel
+        try (Predictor<String, float[]> predictor = model.newPredictor()) {
+            List<float[]> vectors = predictor.batchPredict(list.stream().map(TextSegment::text).toList());
+            return new Response<>(vectors.stream().map(Embedding::new).toList());
         } catch (TranslateException e) {
             // The rationale for RuntimeException here:
             // 1. langchain4j error handling is a mess, and it uses RuntimeExceptions
@@ -1,17 +1,27 @@
 package org.jabref.logic.bibtex.comparator;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
 import org.jabref.logic.database.DuplicateCheck;
+import org.jabref.logic.os.OS;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.database.BibDatabaseMode;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.strings.StringUtil;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -74,66 +84,111 @@ public class BibDatabaseDiff {
             return differences;
         }
 
-        // Create a HashSet where we can put references to entries in the new
+        // Create a set where we can put references to entries in the new
         // database that we have matched. This is to avoid matching them twice.
-        Set<Integer> matchedEntries = new HashSet<>(newEntries.size());
-        Set<BibEntry> notMatched = new HashSet<>(originalEntries.size());
+        Set<BibEntry> matchedEntries = Collections.newSetFromMap(new IdentityHashMap<>(newEntries.size()));
+        List<BibEntry> notMatched = new ArrayList<>();
 
-        // Loop through the entries of the original database, looking for exact matches in the new one.
+        // Look up exact matches by the content of the entries instead of comparing each pair of entries:
+        // DuplicateCheck.compareEntriesStrictly rates two entries > 1 if and only if they have the same content.
         // We must finish scanning for exact matches before looking for near matches, to avoid an exact
         // match being "stolen" from another entry.
-        mainLoop:
+        Map<Map<Field, String>, Deque<BibEntry>> newEntriesByContent = new HashMap<>(newEntries.size());
+        for (BibEntry newEntry : newEntries) {
+            newEntriesByContent.computeIfAbsent(getComparableContent(newEntry), k -> new ArrayDeque<>()).add(newEntry);
+        }
         for (BibEntry originalEntry : originalEntries) {
-            for (int i = 0; i < newEntries.size(); i++) {
-                if (!matchedEntries.contains(i)) {
-                    double score = DuplicateCheck.compareEntriesStrictly(originalEntry, newEntries.get(i));
-                    if (score > 1) {
-                        matchedEntries.add(i);
-                        continue mainLoop;
-                    }
-                }
+            Deque<BibEntry> equalEntries = newEntriesByContent.get(getComparableContent(originalEntry));
+            BibEntry equalEntry = (equalEntries == null) ? null : equalEntries.pollFirst();
+            if (equalEntry == null) {
+                notMatched.add(originalEntry);
+            } else {
+                matchedEntries.add(equalEntry);
+            }
+        }
+        List<BibEntry> notMatchedNewEntries = newEntries.stream()
+                                                        .filter(newEntry -> !matchedEntries.contains(newEntry))
+                                                        .toList();
+
+        // An entry keeping its citation key is paired directly, if no other remaining entry has that key
+        Map<String, BibEntry> originalEntriesByCitationKey = getByUniqueCitationKey(notMatched);
+        Map<String, BibEntry> newEntriesByCitationKey = getByUniqueCitationKey(notMatchedNewEntries);
+        for (Iterator<BibEntry> iterator = notMatched.iterator(); iterator.hasNext(); ) {
+            BibEntry originalEntry = iterator.next();
+            Optional<BibEntry> newEntry = originalEntry.getCitationKey()
+                                                       .filter(citationKey -> originalEntriesByCitationKey.get(citationKey) == originalEntry)
+                                                       .map(newEntriesByCitationKey::get);
+            if (newEntry.isPresent()) {
+                iterator.remove();
+                matchedEntries.add(newEntry.get());
+                differences.add(new BibEntryDiff(originalEntry, newEntry.get()));
             }
-
-            // No? Add this entry to the list of non-matched entries.
-            notMatched.add(originalEntry);
         }
 
-        // Now we've found all exact matches, look through the remaining entries, looking for close matches.
+        // Now look through the remaining entries only, looking for close matches.
         DuplicateCheck duplicateCheck = new DuplicateCheck(new BibEntryTypesManager());
         for (BibEntry originalEntry : notMatched) {
             // These two variables will keep track of which entry most closely matches the one we're looking at.
             double bestMatch = 0;
-            int bestMatchIndex = 0;
-            for (int i = 0; i < newEntries.size(); i++) {
-                if (!matchedEntries.contains(i)) {
-                    double score = DuplicateCheck.compareEntriesStrictly(originalEntry, newEntries.get(i));
-                    if (score > bestMatch) {
+            BibEntry bestEntry = null;
+            for (BibEntry newEntry : notMatchedNewEntries) {
+                if (!matchedEntries.contains(newEntry)) {
+                    double score = DuplicateCheck.compareEntriesStrictly(originalEntry, newEntry);
+                    if ((bestEntry == null) || (score > bestMatch)) {
                         bestMatch = score;
-                        bestMatchIndex = i;
+                        bestEntry = newEntry;
                     }
                 }
             }
-            BibEntry bestEntry = newEntries.get(bestMatchIndex);
-            if (bestMatch > MATCH_THRESHOLD
+            if ((bestEntry != null)
+                    && (bestMatch > MATCH_THRESHOLD
                     || hasEqualCitationKey(originalEntry, bestEntry)
-                    || duplicateCheck.isDuplicate(originalEntry, bestEntry, mode)) {
-                matchedEntries.add(bestMatchIndex);
-                differences.add(new BibEntryDiff(originalEntry, newEntries.get(bestMatchIndex)));
+                    || duplicateCheck.isDuplicate(originalEntry, bestEntry, mode))) {
+                matchedEntries.add(bestEntry);
+                differences.add(new BibEntryDiff(originalEntry, bestEntry));
             } else {
                 differences.add(new BibEntryDiff(originalEntry, null));
             }
         }
 
         // Finally, look if there are still untouched entries in the new database. These may have been added.
-        for (int i = 0; i < newEntries.size(); i++) {
-            if (!matchedEntries.contains(i)) {
-                differences.add(new BibEntryDiff(null, newEntries.get(i)));
+        for (BibEntry newEntry : notMatchedNewEntries) {
+            if (!matchedEntries.contains(newEntry)) {
+                differences.add(new BibEntryDiff(null, newEntry));
             }
         }
 
         return differences;
     }
 
+    /**
+     * Returns the fields of the given entry with unified line breaks, as compared by {@link DuplicateCheck#compareEntriesStrictly(BibEntry, BibEntry)}.
+     */
+    private static Map<Field, String> getComparableContent(BibEntry entry) {
+        Map<Field, String> content = new HashMap<>();
+        for (Field field : entry.getFields()) {
+            entry.getField(field).ifPresent(value -> content.put(field, StringUtil.unifyLineBreaks(value, OS.NEWLINE)));
+        }
+        return content;
+    }
+
+    /**
+     * Returns the entries by their citation key. Entries sharing their citation key with another entry are left out.
+     */
+    private static Map<String, BibEntry> getByUniqueCitationKey(List<BibEntry> entries) {
+        Map<String, BibEntry> entriesByCitationKey = new HashMap<>();
+        Set<String> duplicateCitationKeys = new HashSet<>();
+        for (BibEntry entry : entries) {
+            entry.getCitationKey().ifPresent(citationKey -> {
+                if (entriesByCitationKey.putIfAbsent(citationKey, entry) != null) {
+                    duplicateCitationKeys.add(citationKey);
+                }
+            });
+        }
+        entriesByCitationKey.keySet().removeAll(duplicateCitationKeys);
+        return entriesByCitationKey;
+    }
+
     private static boolean hasEqualCitationKey(BibEntry oneEntry, BibEntry twoEntry) {
         return oneEntry.hasCitationKey() && twoEntry.hasCitationKey() && oneEntry.getCitationKey().equals(twoEntry.getCitationKey());
     }
@@ -25,10 +25,8 @@ import de.undercouch.citeproc.output.Citation;
  * <p>
  * Note on the implementation:
  * The main function {@link #makeBibliography} will enforce
- * synchronized calling. The main CSL engine under the hood is not thread-safe. Since this class is usually called from
- * a BackgroundTask, the only other option would be to create several CSL instances which is wasting a lot of resources and very slow.
- * In the current scheme, {@link #makeBibliography} can be called as usual
- * background task and to the best of my knowledge, concurrent calls will pile up and processed sequentially.
+ * synchronized calling. The main CSL engine under the hood is not thread-safe. To render in parallel, several
+ * instances are kept by {@link CSLAdapterPool}, which hands out each instance to one caller at a time.
  */
 public class CSLAdapter {
 
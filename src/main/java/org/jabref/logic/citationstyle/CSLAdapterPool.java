@@ -0,0 +1,156 @@
+package org.jabref.logic.citationstyle;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+
+import com.google.common.annotations.VisibleForTesting;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Bounded pool of {@link CSLAdapter}s, each holding a CSL engine for one style.
+ * <p>
+ * A CSL engine is not thread-safe and expensive to create. The pool therefore hands out each adapter to one caller at a
+ * time and keeps it for later calls with the same style. At most {@link #getMaximumSize()} engines exist at the same
+ * time; further callers wait until an adapter is returned. If no idle adapter for the requested style exists and the
+ * pool is full, the least recently used idle adapter of another style is dropped.
+ * <p>
+ * Adapters not used for longer than the idle timeout are dropped on the next access of the pool so that the memory of
+ * the JavaScript engines is freed after a burst of rendering (e.g., an export).
+ */
+class CSLAdapterPool {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CSLAdapterPool.class);
+
+    private final int maximumSize;
+    private final long idleTimeoutNanos;
+    private final Semaphore permits;
+
+    // All fields below are guarded by "this"
+    private final Map<String, Deque<IdleAdapter>> idleAdapters = new HashMap<>();
+    private int adapterCount;
+
+    @FunctionalInterface
+    interface AdapterCall<T> {
+        T apply(CSLAdapter adapter) throws IOException;
+    }
+
+    private record IdleAdapter(CSLAdapter adapter, long idleSince) {
+    }
+
+    CSLAdapterPool(int maximumSize, Duration idleTimeout) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("The pool needs to hold at least one adapter");
+        }
+        this.maximumSize = maximumSize;
+        this.idleTimeoutNanos = idleTimeout.toNanos();
+        this.permits = new Semaphore(maximumSize, true);
+    }
+
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Runs the given call with an adapter that is not used by any other thread. An adapter for which the call fails is
+     * not reused, because the state of its engine is unknown.
+     */
+    public <T> T execute(String style, AdapterCall<T> call) throws IOException {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for a citation style engine", e);
+        }
+
+        try {
+            CSLAdapter adapter = borrow(style);
+            boolean succeeded = false;
+            try {
+                T result = call.apply(adapter);
+                succeeded = true;
+                return result;
+            } finally {
+                if (succeeded) {
+                    giveBack(style, adapter);
+                } else {
+                    discard();
+                }
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    @VisibleForTesting
+    synchronized int getAdapterCount() {
+        return adapterCount;
+    }
+
+    private synchronized CSLAdapter borrow(String style) {
+        evictIdleAdapters(System.nanoTime());
+
+        Deque<IdleAdapter> adaptersOfStyle = idleAdapters.get(style);
+        if ((adaptersOfStyle != null) && !adaptersOfStyle.isEmpty()) {
+            CSLAdapter adapter = adaptersOfStyle.pollLast().adapter();
+            if (adaptersOfStyle.isEmpty()) {
+                idleAdapters.remove(style);
+            }
+            return adapter;
+        }
+
+        // The permit guarantees that less than maximumSize adapters are in use, thus an idle one can be dropped
+        if (adapterCount >= maximumSize) {
+            evictLeastRecentlyUsed();
+        }
+        adapterCount++;
+        return new CSLAdapter();
+    }
+
+    private synchronized void giveBack(String style, CSLAdapter adapter) {
+        long now = System.nanoTime();
+        idleAdapters.computeIfAbsent(style, key -> new ArrayDeque<>()).addLast(new IdleAdapter(adapter, now));
+        evictIdleAdapters(now);
+    }
+
+    private synchronized void discard() {
+        adapterCount--;
+    }
+
+    private void evictIdleAdapters(long now) {
+        Iterator<Deque<IdleAdapter>> iterator = idleAdapters.values().iterator();
+        while (iterator.hasNext()) {
+            Deque<IdleAdapter> adapters = iterator.next();
+            // The adapters of a style are ordered by the time they were given back
+            while (!adapters.isEmpty() && ((now - adapters.peekFirst().idleSince()) > idleTimeoutNanos)) {
+                adapters.pollFirst();
+                adapterCount--;
+                LOGGER.debug("Dropped idle citation style engine");
+            }
+            if (adapters.isEmpty()) {
+                iterator.remove();
+            }
+        }
+    }
+
+    private void evictLeastRecentlyUsed() {
+        Deque<IdleAdapter> oldest = null;
+        for (Deque<IdleAdapter> adapters : idleAdapters.values()) {
+            if ((oldest == null) || (adapters.peekFirst().idleSince() < oldest.peekFirst().idleSince())) {
+                oldest = adapters;
+            }
+        }
+        if (oldest == null) {
+            return;
+        }
+        oldest.pollFirst();
+        adapterCount--;
+        idleAdapters.values().removeIf(Deque::isEmpty);
+    }
+}
@@ -32,8 +32,11 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Representation of a CitationStyle. Stores its name, the file path and the style itself
+ * <p>
+ * The styles shipped with JabRef are listed in the {@link CitationStyleCatalog}. Their source is read when it is
+ * needed for the first time.
  */
-@AllowedToUseClassGetResource("org.jabref.logic.citationstyle.CitationStyle.discoverCitationStyles reads the whole path to discover all available styles. Should be converted to a build-time job.")
+@AllowedToUseClassGetResource("org.jabref.logic.citationstyle.CitationStyle.discoverCitationStyles reads the whole path to discover all available styles if there is no catalog.")
 public class CitationStyle implements OOStyle {
 
     public static final String DEFAULT = "/ieee.csl";
@@ -46,7 +49,7 @@ public class CitationStyle implements OOStyle {
     private final String filePath;
     private final String title;
     private final boolean isNumericStyle;
-    private final String source;
+    private volatile String source;
 
     private CitationStyle(final String filename, final String title, final boolean isNumericStyle, final String source) {
         this.filePath = Objects.requireNonNull(filename);
@@ -55,6 +58,16 @@ public class CitationStyle implements OOStyle {
         this.source = Objects.requireNonNull(source);
     }
 
+    /**
+     * Creates a CitationStyle of the catalog, whose source is read on first access
+     */
+    private CitationStyle(final CitationStyleCatalog.Entry catalogEntry) {
+        this.filePath = catalogEntry.fileName();
+        this.title = catalogEntry.title();
+        this.isNumericStyle = catalogEntry.isNumericStyle();
+        this.source = null;
+    }
+
     /**
      * Creates an CitationStyle instance out of the style string
      */
@@ -79,6 +92,16 @@ public class CitationStyle implements OOStyle {
 
     @VisibleForTesting
     static Optional<StyleInfo> parseStyleInfo(String filename, String content) {
+        Optional<CitationStyleCatalog.Entry> catalogEntry = parseCatalogEntry(filename, content);
+        if (catalogEntry.isPresent() && catalogEntry.get().hasBibliography()) {
+            return Optional.of(new StyleInfo(catalogEntry.get().title(), catalogEntry.get().isNumericStyle()));
+        } else {
+            LOGGER.debug("No valid title or bibliography found for file {}", filename);
+            return Optional.empty();
+        }
+    }
+
+    static Optional<CitationStyleCatalog.Entry> parseCatalogEntry(String filename, String content) {
         FACTORY.setProperty(XMLInputFactory.IS_COALESCING, true);
 
         try {
@@ -117,12 +140,7 @@ public class CitationStyle implements OOStyle {
                 }
             }
 
-            if (hasBibliography && title != null) {
-                return Optional.of(new StyleInfo(title, isNumericStyle));
-            } else {
-                LOGGER.debug("No valid title or bibliography found for file {}", filename);
-                return Optional.empty();
-            }
+            return Optional.of(new CitationStyleCatalog.Entry(filename, title, isNumericStyle, hasBibliography));
         } catch (XMLStreamException e) {
             LOGGER.error("Error parsing XML for file {}: {}", filename, e.getMessage(), e);
             return Optional.empty();
@@ -183,8 +201,16 @@ public class CitationStyle implements OOStyle {
             return STYLES;
         }
 
-        // TODO: The list of files should be determined at build time (instead of the dynamic method in discoverCitationStylesInPath(path))
+        Optional<List<CitationStyleCatalog.Entry>> catalog = CitationStyleCatalog.read(STYLES_ROOT);
+        if (catalog.isPresent()) {
+            catalog.get().stream()
+                   .filter(CitationStyleCatalog.Entry::hasBibliography)
+                   .map(CitationStyle::new)
+                   .forEach(STYLES::add);
+            return STYLES;
+        }
 
+        LOGGER.debug("No citation style catalog found, parsing all styles");
         URL url = CitationStyle.class.getResource(STYLES_ROOT + DEFAULT);
         if (url == null) {
             LOGGER.error("Could not find any citation style. Tried with {}.", DEFAULT);
@@ -231,7 +257,26 @@ public class CitationStyle implements OOStyle {
     }
 
     public String getSource() {
-        return source;
+        String result = source;
+        if (result == null) {
+            result = readSource();
+            source = result;
+        }
+        return result;
+    }
+
+    private String readSource() {
+        String internalFile = STYLES_ROOT + (filePath.startsWith("/") ? "" : "/") + filePath;
+        try (InputStream inputStream = CitationStyle.class.getResourceAsStream(internalFile)) {
+            if (inputStream == null) {
+                LOGGER.error("Could not find file: {}", filePath);
+                return "";
+            }
+            return new String(inputStream.readAllBytes());
+        } catch (IOException e) {
+            LOGGER.error("Error reading source file", e);
+            return "";
+        }
     }
 
     public String getFilePath() {
@@ -253,12 +298,12 @@ public class CitationStyle implements OOStyle {
         }
 
         CitationStyle other = (CitationStyle) o;
-        return Objects.equals(source, other.source);
+        return Objects.equals(getSource(), other.getSource());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(source);
+        return Objects.hash(getSource());
     }
 
     @Override
@@ -0,0 +1,111 @@
+package org.jabref.logic.citationstyle;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.jabref.architecture.AllowedToUseClassGetResource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Catalog of the citation styles shipped with JabRef. It lists the file name, title and type of each style, so that the
+ * available styles are known without parsing all style files at startup.
+ * <p>
+ * The catalog is generated at build time by the Gradle task {@code generateCitationStyleCatalog} and stored next to
+ * the styles. Each line holds one style with its tab-separated properties.
+ */
+@AllowedToUseClassGetResource("The catalog is a resource generated at build time")
+public class CitationStyleCatalog {
+
+    public static final String CATALOG_FILE_NAME = "catalog.tsv";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CitationStyleCatalog.class);
+    private static final String SEPARATOR = "\t";
+
+    public record Entry(String fileName, String title, boolean isNumericStyle, boolean hasBibliography) {
+    }
+
+    private CitationStyleCatalog() {
+    }
+
+    /**
+     * Reads the catalog from the resources.
+     *
+     * @return an empty optional if there is no catalog, e.g., when running from an IDE without the build step
+     */
+    public static Optional<List<Entry>> read(String stylesRoot) {
+        try (InputStream inputStream = CitationStyleCatalog.class.getResourceAsStream(stylesRoot + "/" + CATALOG_FILE_NAME)) {
+            if (inputStream == null) {
+                return Optional.empty();
+            }
+            BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+            List<Entry> entries = new ArrayList<>();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                parseLine(line).ifPresent(entries::add);
+            }
+            return Optional.of(entries);
+        } catch (IOException e) {
+            LOGGER.error("Could not read citation style catalog", e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Parses all style files of the given directory and writes the catalog.
+     */
+    public static void write(Path stylesDirectory, Path catalogFile) throws IOException {
+        List<Entry> entries;
+        try (Stream<Path> stream = Files.find(stylesDirectory, 1, (file, attr) -> CitationStyle.isCitationStyleFile(file.toString()))) {
+            entries = stream.sorted()
+                            .map(CitationStyleCatalog::readEntry)
+                            .flatMap(Optional::stream)
+                            .toList();
+        }
+
+        Files.createDirectories(catalogFile.getParent());
+        try (BufferedWriter writer = Files.newBufferedWriter(catalogFile, StandardCharsets.UTF_8)) {
+            for (Entry entry : entries) {
+                writer.write(toLine(entry));
+                writer.newLine();
+            }
+        }
+        LOGGER.info("Wrote {} citation styles to {}", entries.size(), catalogFile);
+    }
+
+    private static Optional<Entry> readEntry(Path file) {
+        String fileName = file.getFileName().toString();
+        try {
+            return CitationStyle.parseCatalogEntry(fileName, Files.readString(file));
+        } catch (IOException e) {
+            LOGGER.error("Could not read citation style {}", file, e);
+            return Optional.empty();
+        }
+    }
+
+    static String toLine(Entry entry) {
+        // Titles are single-line text, but we do not want to rely on that for the format
+        String title = entry.title().replaceAll("[\\t\\r\\n]+", " ").strip();
+        return String.join(SEPARATOR, entry.fileName(), title, String.valueOf(entry.isNumericStyle()), String.valueOf(entry.hasBibliography()));
+    }
+
+    static Optional<Entry> parseLine(String line) {
+        String[] parts = line.split(SEPARATOR, -1);
+        if (parts.length != 4) {
+            LOGGER.debug("Ignoring malformed catalog line {}", line);
+            return Optional.empty();
+        }
+        return Optional.of(new Entry(parts[0], parts[1], Boolean.parseBoolean(parts[2]), Boolean.parseBoolean(parts[3])));
+    }
+}
@@ -1,14 +1,28 @@
 package org.jabref.logic.citationstyle;
 
 import java.io.IOException;
+import java.io.StringReader;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 
 import org.jabref.logic.l10n.Localization;
+import org.jabref.logic.util.HeadlessExecutorService;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryTypesManager;
 
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.Lists;
 import de.undercouch.citeproc.output.Citation;
 import org.jbibtex.TokenMgrException;
 import org.slf4j.Logger;
@@ -16,12 +30,27 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Facade to unify the access to the citation style engine. Use these methods if you need rendered BibTeX item(s) in a
- * given journal style. This class uses {@link CSLAdapter} to create output.
+ * given journal style. This class uses {@link CSLAdapter}s of a {@link CSLAdapterPool} to create output, so that
+ * independent requests are rendered in parallel.
  */
 public class CitationStyleGenerator {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(CitationStyleGenerator.class);
-    private static final CSLAdapter CSL_ADAPTER = new CSLAdapter();
+    private static final CSLAdapterPool CSL_ADAPTER_POOL = new CSLAdapterPool(
+            Math.clamp(Runtime.getRuntime().availableProcessors() / 2, 1, 4),
+            Duration.ofMinutes(5));
+
+    /**
+     * Bibliographies with fewer entries are rendered by a single engine, because the setup of an engine takes longer
+     * than rendering such a chunk.
+     */
+    private static final int MINIMUM_ENTRIES_PER_CHUNK = 100;
+
+    private static final XMLInputFactory XML_INPUT_FACTORY = XMLInputFactory.newInstance();
+    private static final List<String> DISAMBIGUATION_ATTRIBUTES = List.of(
+            "disambiguate-add-year-suffix",
+            "disambiguate-add-givenname",
+            "disambiguate-add-names");
 
     private CitationStyleGenerator() {
     }
@@ -54,17 +83,19 @@ public class CitationStyleGenerator {
     }
 
     public static Citation generateCitation(List<BibEntry> bibEntries, String style, CitationStyleOutputFormat outputFormat, BibDatabaseContext databaseContext, BibEntryTypesManager entryTypesManager) throws IOException {
-        return CSL_ADAPTER.makeCitation(bibEntries, style, outputFormat, databaseContext, entryTypesManager);
+        return CSL_ADAPTER_POOL.execute(style, adapter -> adapter.makeCitation(bibEntries, style, outputFormat, databaseContext, entryTypesManager));
     }
 
     /**
      * Generates the citation for multiple entries at once.
      *
      * @implNote The citations are generated using JavaScript which may take some time, better call it from outside the main thread.
+     * Large requests are split into chunks rendered in parallel if the rendering of an entry does not depend on the
+     * other entries (see {@link #isRenderedPerEntry(String)}).
      */
     public static List<String> generateBibliographies(List<BibEntry> bibEntries, String style, CitationStyleOutputFormat outputFormat, BibDatabaseContext databaseContext, BibEntryTypesManager entryTypesManager) {
         try {
-            return CSL_ADAPTER.makeBibliography(bibEntries, style, outputFormat, databaseContext, entryTypesManager);
+            return makeBibliography(bibEntries, style, outputFormat, databaseContext, entryTypesManager);
         } catch (IllegalArgumentException e) {
             LOGGER.error("Could not generate BibEntry citation. The CSL engine could not create a preview for your item.", e);
             return Collections.singletonList(Localization.lang("Cannot generate preview based on selected citation style."));
@@ -81,4 +112,90 @@ public class CitationStyleGenerator {
                     e.getLocalizedMessage());
         }
     }
+
+    private static List<String> makeBibliography(List<BibEntry> bibEntries, String style, CitationStyleOutputFormat outputFormat, BibDatabaseContext databaseContext, BibEntryTypesManager entryTypesManager) throws IOException {
+        int chunkSize = Math.max(MINIMUM_ENTRIES_PER_CHUNK, Math.ceilDiv(bibEntries.size(), CSL_ADAPTER_POOL.getMaximumSize()));
+        if ((bibEntries.size() <= chunkSize) || !isRenderedPerEntry(style)) {
+            return CSL_ADAPTER_POOL.execute(style, adapter -> adapter.makeBibliography(bibEntries, style, outputFormat, databaseContext, entryTypesManager));
+        }
+
+        List<Callable<List<String>>> tasks = Lists.partition(bibEntries, chunkSize).stream()
+                                                  .<Callable<List<String>>>map(chunk -> () -> CSL_ADAPTER_POOL.execute(style, adapter -> adapter.makeBibliography(chunk, style, outputFormat, databaseContext, entryTypesManager)))
+                                                  .toList();
+        List<Future<List<String>>> futures = HeadlessExecutorService.INSTANCE.executeAll(tasks);
+        if (futures.size() != tasks.size()) {
+            throw new IOException("Interrupted while generating the bibliography");
+        }
+
+        List<String> bibliography = new ArrayList<>(bibEntries.size());
+        for (Future<List<String>> future : futures) {
+            try {
+                bibliography.addAll(future.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while generating the bibliography", e);
+            } catch (ExecutionException e) {
+                switch (e.getCause()) {
+                    case IOException ioException -> throw ioException;
+                    case RuntimeException runtimeException -> throw runtimeException;
+                    case Error error -> throw error;
+                    default -> throw new IOException(e.getCause());
+                }
+            }
+        }
+        return bibliography;
+    }
+
+    /**
+     * Checks whether the bibliography of a set of entries is the concatenation of the bibliographies of its parts.
+     * This is not the case if the style sorts or numbers the entries, replaces repeated authors, or disambiguates
+     * entries (e.g., by adding year suffixes or given names).
+     */
+    @VisibleForTesting
+    static boolean isRenderedPerEntry(String style) {
+        try {
+            XMLStreamReader reader = XML_INPUT_FACTORY.createXMLStreamReader(new StringReader(style));
+            boolean hasBibliography = false;
+            boolean inBibliography = false;
+            while (reader.hasNext()) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    switch (reader.getLocalName()) {
+                        case "citation" -> {
+                            for (String attribute : DISAMBIGUATION_ATTRIBUTES) {
+                                if ("true".equals(reader.getAttributeValue(null, attribute))) {
+                                    return false;
+                                }
+                            }
+                        }
+                        case "bibliography" -> {
+                            if (reader.getAttributeValue(null, "subsequent-author-substitute") != null) {
+                                return false;
+                            }
+                            hasBibliography = true;
+                            inBibliography = true;
+                        }
+                        case "sort" -> {
+                            if (inBibliography) {
+                                return false;
+                            }
+                        }
+                        default -> {
+                        }
+                    }
+                    for (int i = 0; i < reader.getAttributeCount(); i++) {
+                        if ("citation-number".equals(reader.getAttributeValue(i))) {
+                            return false;
+                        }
+                    }
+                } else if ((event == XMLStreamConstants.END_ELEMENT) && "bibliography".equals(reader.getLocalName())) {
+                    inBibliography = false;
+                }
+            }
+            return hasBibliography;
+        } catch (XMLStreamException e) {
+            LOGGER.debug("Could not parse citation style", e);
+            return false;
+        }
+    }
 }
@@ -0,0 +1,215 @@
+package org.jabref.logic.database;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+
+import org.jabref.model.entry.AuthorList;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.FieldProperty;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.identifier.DOI;
+import org.jabref.model.entry.identifier.ISBN;
+
+/**
+ * Blocking index to find candidate pairs for {@link DuplicateCheck#isDuplicate}.
+ * <p>
+ * Comparing every entry with every other entry is quadratic in the size of the library. This index assigns each entry
+ * to a small number of blocks and only entries sharing at least one block are reported as candidates:
+ * <ul>
+ *     <li>each identifier (DOI, eprint, ...) and the ISBN,</li>
+ *     <li>the family name of the first author (or editor) combined with the year,</li>
+ *     <li>locality sensitive hashing (MinHash over character 3-grams) of the title, so that titles differing by
+ *     typos, punctuation or casing still end up in a common block.</li>
+ * </ul>
+ * Entries without a title cannot be blocked reliably and are therefore candidates for every other entry.
+ * <p>
+ * The index is a snapshot of the given entries and is safe to be queried from multiple threads.
+ */
+public class DuplicateCandidateIndex {
+
+    private static final int BANDS = 24;
+    private static final int ROWS_PER_BAND = 3;
+    private static final int SHINGLE_LENGTH = 3;
+
+    private static final long[] MIN_HASH_SEEDS = new Random(42).longs(BANDS * ROWS_PER_BAND).toArray();
+
+    private static final long IDENTIFIER_TAG = 1;
+    private static final long ISBN_TAG = 2;
+    private static final long AUTHOR_YEAR_TAG = 3;
+    private static final long TITLE_BAND_TAG = 4;
+
+    private final List<BibEntry> entries;
+    private final Map<Long, List<Integer>> blocks = new HashMap<>();
+    private final long[][] blockKeysOfEntry;
+    private final BitSet unblocked = new BitSet();
+
+    public DuplicateCandidateIndex(List<BibEntry> entries) {
+        this.entries = List.copyOf(entries);
+        this.blockKeysOfEntry = new long[this.entries.size()][];
+        for (int i = 0; i < this.entries.size(); i++) {
+            long[] keys = computeBlockKeys(this.entries.get(i));
+            blockKeysOfEntry[i] = keys;
+            if (keys.length == 0) {
+                unblocked.set(i);
+            }
+            for (long key : keys) {
+                blocks.computeIfAbsent(key, k -> new ArrayList<>()).add(i);
+            }
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public BibEntry get(int index) {
+        return entries.get(index);
+    }
+
+    /**
+     * Returns the indices of all entries after the given one which are possible duplicates of it.
+     * Iterating over all indices and their candidates thus visits every candidate pair exactly once.
+     */
+    public int[] getCandidateIndices(int index) {
+        BitSet candidates = new BitSet(entries.size());
+        if (unblocked.get(index)) {
+            candidates.set(index + 1, entries.size());
+        } else {
+            collectBlockMembers(blockKeysOfEntry[index], candidates);
+            candidates.or(unblocked);
+            candidates.clear(0, index + 1);
+        }
+        return candidates.stream().toArray();
+    }
+
+    /**
+     * Returns all indexed entries which are possible duplicates of the given (not necessarily indexed) entry,
+     * in the order in which they were passed to the index.
+     */
+    public List<BibEntry> getCandidates(BibEntry entry) {
+        long[] keys = computeBlockKeys(entry);
+        if (keys.length == 0) {
+            return entries;
+        }
+        BitSet candidates = new BitSet(entries.size());
+        collectBlockMembers(keys, candidates);
+        candidates.or(unblocked);
+        return candidates.stream().mapToObj(entries::get).toList();
+    }
+
+    private void collectBlockMembers(long[] keys, BitSet candidates) {
+        for (long key : keys) {
+            List<Integer> members = blocks.get(key);
+            if (members != null) {
+                members.forEach(candidates::set);
+            }
+        }
+    }
+
+    private static long[] computeBlockKeys(BibEntry entry) {
+        Optional<String> title = entry.getFieldLatexFree(StandardField.TITLE)
+                                      .map(DuplicateCandidateIndex::normalize)
+                                      .filter(value -> !value.isEmpty());
+        if (title.isEmpty()) {
+            return new long[0];
+        }
+
+        List<Long> keys = new ArrayList<>();
+        for (Field field : entry.getFields()) {
+            if (field == StandardField.DOI) {
+                // DOIs are case-insensitive and may be stored as URL
+                entry.getField(field)
+                     .flatMap(DOI::parse)
+                     .map(doi -> doi.asString().toLowerCase(Locale.ROOT))
+                     .ifPresent(doi -> keys.add(hash(IDENTIFIER_TAG, field.getName() + '\0' + doi)));
+            } else if (field.getProperties().contains(FieldProperty.IDENTIFIER)) {
+                entry.getField(field).ifPresent(value -> keys.add(hash(IDENTIFIER_TAG, field.getName() + '\0' + value)));
+            }
+        }
+        entry.getISBN().map(ISBN::asString)
+             .ifPresent(isbn -> keys.add(hash(ISBN_TAG, isbn.toLowerCase(Locale.ROOT))));
+        getFirstFamilyName(entry).ifPresent(name -> keys.add(hash(AUTHOR_YEAR_TAG, name + '\0' + entry.getFieldOrAlias(StandardField.YEAR).orElse(""))));
+
+        long[] minHashes = minHash(title.get());
+        for (int band = 0; band < BANDS; band++) {
+            long bandHash = TITLE_BAND_TAG + band;
+            for (int row = 0; row < ROWS_PER_BAND; row++) {
+                bandHash = mix(bandHash * 31 + minHashes[band * ROWS_PER_BAND + row]);
+            }
+            keys.add(bandHash);
+        }
+        return keys.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private static Optional<String> getFirstFamilyName(BibEntry entry) {
+        return entry.getFieldLatexFree(StandardField.AUTHOR)
+                    .or(() -> entry.getFieldLatexFree(StandardField.EDITOR))
+                    .map(AuthorList::parse)
+                    .filter(authors -> !authors.isEmpty())
+                    .flatMap(authors -> authors.getAuthors().getFirst().getFamilyName())
+                    .map(DuplicateCandidateIndex::normalize)
+                    .filter(name -> !name.isEmpty());
+    }
+
+    private static long[] minHash(String text) {
+        long[] minHashes = new long[BANDS * ROWS_PER_BAND];
+        Arrays.fill(minHashes, Long.MAX_VALUE);
+        String padded = " " + text + " ";
+        int shingles = Math.max(1, padded.length() - SHINGLE_LENGTH + 1);
+        for (int start = 0; start < shingles; start++) {
+            long shingleHash = padded.substring(start, Math.min(padded.length(), start + SHINGLE_LENGTH)).hashCode();
+            for (int i = 0; i < minHashes.length; i++) {
+                long value = mix(shingleHash ^ MIN_HASH_SEEDS[i]);
+                if (value < minHashes[i]) {
+                    minHashes[i] = value;
+                }
+            }
+        }
+        return minHashes;
+    }
+
+    /**
+     * Lower-cases the text and reduces it to letters and digits separated by single spaces
+     */
+    private static String normalize(String text) {
+        StringBuilder result = new StringBuilder(text.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                if (pendingSpace && !result.isEmpty()) {
+                    result.append(' ');
+                }
+                pendingSpace = false;
+                result.append(Character.toLowerCase(c));
+            } else {
+                pendingSpace = true;
+            }
+        }
+        return result.toString();
+    }
+
+    private static long hash(long tag, String value) {
+        return mix(tag * 31 + value.hashCode());
+    }
+
+    /**
+     * Finalizer of MurmurHash3 to spread the bits of the given value
+     */
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
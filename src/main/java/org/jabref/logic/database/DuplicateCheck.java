@@ -374,4 +374,18 @@ public class DuplicateCheck {
 
         return database.getEntries().stream().filter(other -> isDuplicate(entry, other, bibDatabaseMode)).findFirst();
     }
+
+    /**
+     * Same as {@link #containsDuplicate(BibDatabase, BibEntry, BibDatabaseMode)}, but only compares the entry with the
+     * candidates of the given index instead of all entries of the database.
+     *
+     * @param index The index of the entries to search.
+     * @param entry The entry of which we are looking for duplicates.
+     * @return The first duplicate entry found. Empty Optional if no duplicates are found.
+     */
+    public Optional<BibEntry> containsDuplicate(final DuplicateCandidateIndex index,
+                                                final BibEntry entry,
+                                                final BibDatabaseMode bibDatabaseMode) {
+        return index.getCandidates(entry).stream().filter(other -> isDuplicate(entry, other, bibDatabaseMode)).findFirst();
+    }
 }
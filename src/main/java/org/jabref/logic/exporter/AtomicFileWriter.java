@@ -1,10 +1,14 @@
 package org.jabref.logic.exporter;
 
+import java.io.FilterOutputStream;
 import java.io.IOException;
 import java.io.OutputStreamWriter;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
 import java.nio.charset.CharsetEncoder;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.Collections;
 import java.util.Set;
 import java.util.TreeSet;
@@ -15,19 +19,33 @@ import java.util.TreeSet;
  * contents of the target file.
  * Moreover, this writer checks if the chosen encoding supports all text that is written. Characters whose encoding
  * was problematic can be retrieved by {@link #getEncodingProblems()}.
+ * <p>
+ * As the target file is only replaced when closing the writer, parts of its current content can be copied to the new
+ * content (see {@link #copyFromTarget(long, long)}). This allows to write unchanged parts without encoding them again.
  */
 public class AtomicFileWriter extends OutputStreamWriter {
 
+    private final Path file;
+    private final Charset encoding;
     private final CharsetEncoder encoder;
+    private final TrackingOutputStream outputStream;
     private final Set<Character> problemCharacters = new TreeSet<>();
+    private boolean closed;
 
     public AtomicFileWriter(Path file, Charset encoding) throws IOException {
         this(file, encoding, false);
     }
 
     public AtomicFileWriter(Path file, Charset encoding, boolean keepBackup) throws IOException {
-        super(new AtomicFileOutputStream(file, keepBackup), encoding);
-        encoder = encoding.newEncoder();
+        this(file, encoding, new TrackingOutputStream(file, new AtomicFileOutputStream(file, keepBackup)));
+    }
+
+    private AtomicFileWriter(Path file, Charset encoding, TrackingOutputStream outputStream) {
+        super(outputStream, encoding);
+        this.file = file;
+        this.encoding = encoding;
+        this.encoder = encoding.newEncoder();
+        this.outputStream = outputStream;
     }
 
     @Override
@@ -50,4 +68,196 @@ public class AtomicFileWriter extends OutputStreamWriter {
     public Set<Character> getEncodingProblems() {
         return Collections.unmodifiableSet(problemCharacters);
     }
+
+    public Path getFile() {
+        return file;
+    }
+
+    public Charset getCharset() {
+        return encoding;
+    }
+
+    /**
+     * Returns the number of bytes written so far, or in total if the writer is closed.
+     */
+    public long getPosition() throws IOException {
+        if (!closed) {
+            encodePending();
+        }
+        return outputStream.getPosition();
+    }
+
+    /**
+     * Appends the given bytes of the current content of the target file. Subsequent calls copying adjacent bytes are
+     * combined into a single copy.
+     */
+    public void copyFromTarget(long position, long count) throws IOException {
+        encodePending();
+        outputStream.copyFromTarget(position, count);
+    }
+
+    /**
+     * Passes the characters buffered by the encoder to the output stream, without flushing the output stream itself.
+     * Otherwise, the bytes written since the last copy would be written to the file on every copy.
+     */
+    private void encodePending() throws IOException {
+        outputStream.flushDeferred = true;
+        try {
+            flush();
+        } finally {
+            outputStream.flushDeferred = false;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            super.close();
+        } finally {
+            closed = true;
+        }
+    }
+
+    /**
+     * Buffers the bytes, counts them and copies from the target file.
+     */
+    private static class TrackingOutputStream extends FilterOutputStream {
+
+        private static final int BUFFER_SIZE = 64 * 1024;
+
+        private final Path targetFile;
+        private final AtomicFileOutputStream atomicOutputStream;
+        private final byte[] buffer = new byte[BUFFER_SIZE];
+        private int bufferCount;
+        private long position;
+        private FileChannel targetChannel;
+        private long pendingCopyStart;
+        private long pendingCopyCount;
+        private boolean failed;
+        // Set while the writer encodes its pending characters only
+        private boolean flushDeferred;
+
+        TrackingOutputStream(Path targetFile, AtomicFileOutputStream out) {
+            super(out);
+            this.targetFile = targetFile;
+            this.atomicOutputStream = out;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            writePendingCopy();
+            if (bufferCount == buffer.length) {
+                writeBuffer();
+            }
+            buffer[bufferCount++] = (byte) b;
+            position++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            writePendingCopy();
+            if (len > (buffer.length - bufferCount)) {
+                writeBuffer();
+            }
+            if (len >= buffer.length) {
+                writeBytes(b, off, len);
+            } else {
+                System.arraycopy(b, off, buffer, bufferCount, len);
+                bufferCount += len;
+            }
+            position += len;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (flushDeferred) {
+                return;
+            }
+            writePendingCopy();
+            writeBuffer();
+            out.flush();
+        }
+
+        void copyFromTarget(long start, long count) throws IOException {
+            if ((pendingCopyCount > 0) && (start == (pendingCopyStart + pendingCopyCount))) {
+                pendingCopyCount += count;
+            } else {
+                writePendingCopy();
+                writeBuffer();
+                pendingCopyStart = start;
+                pendingCopyCount = count;
+            }
+            position += count;
+        }
+
+        long getPosition() {
+            return position;
+        }
+
+        private void writeBuffer() throws IOException {
+            if (bufferCount > 0) {
+                writeBytes(buffer, 0, bufferCount);
+                bufferCount = 0;
+            }
+        }
+
+        private void writeBytes(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+        }
+
+        /**
+         * Copies the pending bytes of the target file, using the (then empty) buffer.
+         */
+        private void writePendingCopy() throws IOException {
+            if (pendingCopyCount == 0) {
+                return;
+            }
+            long start = pendingCopyStart;
+            long count = pendingCopyCount;
+            pendingCopyCount = 0;
+            try {
+                if (targetChannel == null) {
+                    targetChannel = FileChannel.open(targetFile, StandardOpenOption.READ);
+                }
+                ByteBuffer byteBuffer = ByteBuffer.wrap(buffer);
+                long copied = 0;
+                while (copied < count) {
+                    byteBuffer.clear().limit((int) Math.min(buffer.length, count - copied));
+                    int read = targetChannel.read(byteBuffer, start + copied);
+                    if (read < 0) {
+                        throw new IOException("%s ended before position %d".formatted(targetFile, start + count));
+                    }
+                    writeBytes(buffer, 0, read);
+                    copied += read;
+                }
+            } catch (IOException exception) {
+                failed = true;
+                throw exception;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                if (!failed) {
+                    writePendingCopy();
+                    writeBuffer();
+                }
+            } finally {
+                try {
+                    // The target file has to be closed before it is replaced
+                    if (targetChannel != null) {
+                        targetChannel.close();
+                    }
+                } finally {
+                    if (failed) {
+                        // Do not replace the target file by incomplete content
+                        atomicOutputStream.abort();
+                    } else {
+                        atomicOutputStream.close();
+                    }
+                }
+            }
+        }
+    }
 }
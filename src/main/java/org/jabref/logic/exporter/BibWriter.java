@@ -72,6 +72,24 @@ public class BibWriter {
         this.precedingNewLineRequired = true;
     }
 
+    /**
+     * Returns whether the next write starts with a line break separating it from the previous block
+     */
+    public boolean isPrecedingNewLineRequired() {
+        return precedingNewLineRequired;
+    }
+
+    /**
+     * Records that the given string has been written as a finished block directly to the underlying writer, preceded by
+     * a line break if {@link #isPrecedingNewLineRequired() required}. Used when the bytes of an earlier write are copied.
+     */
+    public void blockWritten(String string) {
+        currentPosition += string.length();
+        lastWriteWasNewline = true;
+        somethingWasWritten = false;
+        precedingNewLineRequired = true;
+    }
+
     public int getCurrentPosition() {
         return currentPosition;
     }
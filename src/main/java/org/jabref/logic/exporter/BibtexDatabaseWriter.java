@@ -21,6 +21,7 @@ import org.jabref.model.entry.field.InternalField;
 import org.jabref.model.metadata.MetaData;
 import org.jabref.model.strings.StringUtil;
 
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -38,6 +39,8 @@ public class BibtexDatabaseWriter extends BibDatabaseWriter {
     private static final String PREAMBLE_PREFIX = "@Preamble";
     private static final String STRING_PREFIX = "@String";
 
+    private SavedFileLayout.@Nullable Save savedFileLayoutSave;
+
     public BibtexDatabaseWriter(BibWriter bibWriter,
                                 SelfContainedSaveConfiguration saveConfiguration,
                                 FieldPreferences fieldPreferences,
@@ -63,6 +66,13 @@ public class BibtexDatabaseWriter extends BibDatabaseWriter {
                 entryTypesManager);
     }
 
+    /**
+     * Lets unchanged entries be copied from the file written by the last save instead of being written again
+     */
+    public void reuseUnchangedEntries(SavedFileLayout.Save save) {
+        this.savedFileLayoutSave = save;
+    }
+
     @Override
     protected void writeEpilogue(String epilogue) throws IOException {
         if (!StringUtil.isNullOrEmpty(epilogue)) {
@@ -157,6 +167,11 @@ public class BibtexDatabaseWriter extends BibDatabaseWriter {
 
     @Override
     protected void writeEntry(BibEntry entry, BibDatabaseMode mode) throws IOException {
+        if ((savedFileLayoutSave != null) && !saveConfiguration.shouldReformatFile() && !entry.hasChanged()) {
+            savedFileLayoutSave.writeUnchangedEntry(entry, bibWriter);
+            return;
+        }
+
         BibEntryWriter bibtexEntryWriter = new BibEntryWriter(new FieldWriter(fieldPreferences), entryTypesManager);
         bibtexEntryWriter.write(entry, bibWriter, mode, saveConfiguration.shouldReformatFile());
     }
@@ -0,0 +1,135 @@
+package org.jabref.logic.exporter;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import org.jabref.model.entry.BibEntry;
+
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Positions of the entries written unchanged (i.e., by their parsed serialization) to a library file by its last save.
+ * <p>
+ * When saving the library to the same file again, the entries that are still unchanged are copied byte by byte from the
+ * file instead of being encoded again. Thus, the time of saving a large library depends on the number of changed
+ * entries. The file is only copied from if its size, modification time and file key (e.g., the inode) are the ones
+ * recorded after writing it. Thus, checking the file does not require reading it.
+ */
+public class SavedFileLayout {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SavedFileLayout.class);
+
+    /**
+     * Bytes of an entry in the saved file, including the line break separating it from the previous block if {@code
+     * separated} is set, and the line break finishing its block.
+     *
+     * @param serialization the serialization written, compared by identity to detect a replaced serialization
+     */
+    private record EntryRange(String serialization, boolean separated, long start, long end) {
+    }
+
+    /**
+     * @param fileKey the key identifying the file, if supported by the file system
+     */
+    private record SavedFile(Path path, Charset encoding, String newLineSeparator, long size, FileTime lastModifiedTime, @Nullable Object fileKey) {
+    }
+
+    private @Nullable SavedFile savedFile;
+    private Map<String, EntryRange> entryRanges = Map.of();
+
+    /**
+     * Starts saving the library with the given writer. The ranges recorded by the returned save are taken over once
+     * it is {@link Save#finish() finished}.
+     */
+    public synchronized Save startSave(AtomicFileWriter fileWriter, String newLineSeparator) {
+        boolean canCopy = (savedFile != null)
+                && savedFile.path().equals(fileWriter.getFile())
+                && savedFile.encoding().equals(fileWriter.getCharset())
+                && savedFile.newLineSeparator().equals(newLineSeparator)
+                && isUnchanged(savedFile);
+        return new Save(fileWriter, newLineSeparator, canCopy ? entryRanges : Map.of());
+    }
+
+    private static boolean isUnchanged(SavedFile savedFile) {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(savedFile.path(), BasicFileAttributes.class);
+            return (attributes.size() == savedFile.size())
+                    && attributes.lastModifiedTime().equals(savedFile.lastModifiedTime())
+                    && Objects.equals(attributes.fileKey(), savedFile.fileKey());
+        } catch (IOException e) {
+            LOGGER.debug("Could not check {}", savedFile.path(), e);
+            return false;
+        }
+    }
+
+    private synchronized void update(@Nullable SavedFile file, Map<String, EntryRange> ranges) {
+        this.savedFile = file;
+        this.entryRanges = ranges;
+    }
+
+    /**
+     * A single save of the library. Unchanged entries have to be written by {@link #writeUnchangedEntry(BibEntry,
+     * BibWriter)}.
+     */
+    public class Save {
+
+        private final AtomicFileWriter fileWriter;
+        private final String newLineSeparator;
+        private final Map<String, EntryRange> previousRanges;
+        private final Map<String, EntryRange> ranges = new HashMap<>();
+
+        private Save(AtomicFileWriter fileWriter, String newLineSeparator, Map<String, EntryRange> previousRanges) {
+            this.fileWriter = fileWriter;
+            this.newLineSeparator = newLineSeparator;
+            this.previousRanges = previousRanges;
+        }
+
+        /**
+         * Writes the parsed serialization of the given entry, copying it from the saved file if possible.
+         */
+        public void writeUnchangedEntry(BibEntry entry, BibWriter bibWriter) throws IOException {
+            String serialization = entry.getParsedSerialization();
+            boolean separated = bibWriter.isPrecedingNewLineRequired();
+            long start = fileWriter.getPosition();
+
+            EntryRange previous = previousRanges.get(entry.getId());
+            if ((previous != null) && (previous.serialization() == serialization) && (previous.separated() == separated)) {
+                fileWriter.copyFromTarget(previous.start(), previous.end() - previous.start());
+                bibWriter.blockWritten(serialization);
+            } else {
+                bibWriter.write(serialization);
+                bibWriter.finishBlock();
+            }
+
+            ranges.put(entry.getId(), new EntryRange(serialization, separated, start, fileWriter.getPosition()));
+        }
+
+        /**
+         * Records the positions of the entries written. To be called after the file writer has been closed
+         * successfully, as the file is replaced when closing.
+         */
+        public void finish() {
+            Path path = fileWriter.getFile();
+            try {
+                BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                if (attributes.size() == fileWriter.getPosition()) {
+                    update(new SavedFile(path, fileWriter.getCharset(), newLineSeparator, attributes.size(), attributes.lastModifiedTime(), attributes.fileKey()), ranges);
+                    return;
+                }
+                // Changed right after writing
+            } catch (IOException e) {
+                LOGGER.debug("Could not record the layout of {}", path, e);
+            }
+            update(null, Map.of());
+        }
+    }
+}
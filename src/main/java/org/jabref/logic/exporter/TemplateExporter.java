@@ -15,6 +15,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Supplier;
 
 import org.jabref.logic.journals.JournalAbbreviationLoader;
 import org.jabref.logic.journals.JournalAbbreviationRepository;
@@ -31,6 +32,7 @@ import org.jabref.model.entry.types.EntryType;
 import org.jabref.model.metadata.SaveOrder;
 import org.jabref.model.metadata.SelfContainedSaveOrder;
 
+import com.google.common.base.Suppliers;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -48,6 +50,9 @@ public class TemplateExporter extends Exporter {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(TemplateExporter.class);
 
+    // Exports without a given repository only read the built-in abbreviations, thus they share one repository
+    private static final Supplier<JournalAbbreviationRepository> BUILT_IN_ABBREVIATIONS = Suppliers.memoize(JournalAbbreviationLoader::loadBuiltInRepository);
+
     private final String lfFileName;
     private final String directory;
     private final LayoutFormatterPreferences layoutPreferences;
@@ -193,7 +198,7 @@ public class TemplateExporter extends Exporter {
 
     @Override
     public void export(BibDatabaseContext databaseContext, Path file, List<BibEntry> entries) throws Exception {
-        export(databaseContext, file, entries, Collections.emptyList(), JournalAbbreviationLoader.loadBuiltInRepository());
+        export(databaseContext, file, entries, Collections.emptyList(), BUILT_IN_ABBREVIATIONS.get());
     }
 
     @Override
@@ -3,25 +3,29 @@ package org.jabref.logic.importer.fileformat;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.PushbackReader;
+import java.io.InterruptedIOException;
 import java.io.Reader;
-import java.io.StringWriter;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Base64;
 import java.util.Collection;
-import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
 
+import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
 
@@ -92,19 +96,47 @@ public class BibtexParser implements Parser {
     private static final Integer LOOKAHEAD = 1024;
     private static final String BIB_DESK_ROOT_GROUP_NAME = "BibDeskGroups";
     private static final DocumentBuilderFactory DOCUMENT_BUILDER_FACTORY = DocumentBuilderFactory.newInstance();
-    private final Deque<Character> pureTextFromFile = new LinkedList<>();
+    private static final char EOF_CHARACTER = 65535;
+    // Number of characters of a chunk parsed on its own by parseInParallel(Reader)
+    private static final int CHUNK_LENGTH = 1024 * 1024;
     private final ImportFormatPreferences importFormatPreferences;
-    private PushbackReader pushbackReader;
+
+    // The complete input. The text read so far is a range of it, thus it does not have to be collected character by character.
+    private char[] buffer;
+    private int length;
+    private int position;
+    // Start of the text read since the last call of dumpTextReadSoFarToString()
+    private int textStart;
+    // Characters pushed back, which are not the ones read before (top at the end)
+    private final char[] pushedBack = new char[LOOKAHEAD];
+    private int pushedBackCount;
+    // The text read so far in case it is not the range [textStart, position) of the buffer, because characters differing from the input were pushed back
+    private StringBuilder pureTextFromFile;
+
     private BibDatabase database;
+    // Entries are inserted into the database at once after parsing
+    private List<BibEntry> parsedEntries;
+    private boolean preambleParsed;
     private Set<BibEntryType> entryTypes;
     private boolean eof;
     private int line = 1;
     private ParserResult parserResult;
     private final MetaDataParser metaDataParser;
-    private final Map<String, String> parsedBibdeskGroups;
+    private Map<String, String> parsedBibdeskGroups;
 
     private GroupTreeNode bibDeskGroupTreeNode;
 
+    // Number of chunks merged by the last call of parseInParallel(Reader); 1 if the input was parsed as a whole
+    private int parsedChunkCount;
+
+    /**
+     * Position right after the {@code @} starting a chunk of the input, together with the state the parser has there.
+     *
+     * @param textStart start of the text read so far, i.e., the end of the block before plus one line break
+     */
+    private record ChunkStart(int position, int textStart, int line) {
+    }
+
     public BibtexParser(ImportFormatPreferences importFormatPreferences, FileUpdateMonitor fileMonitor) {
         this.importFormatPreferences = Objects.requireNonNull(importFormatPreferences);
         this.metaDataParser = new MetaDataParser(fileMonitor);
@@ -115,6 +147,19 @@ public class BibtexParser implements Parser {
         this(importFormatPreferences, new DummyFileUpdateMonitor());
     }
 
+    /**
+     * Creates a parser for the chunk of the input of the given parser starting at the given position.
+     */
+    private BibtexParser(BibtexParser parser, ChunkStart chunkStart) {
+        this(parser.importFormatPreferences);
+        this.buffer = parser.buffer;
+        this.length = parser.length;
+        this.position = chunkStart.position();
+        this.textStart = chunkStart.textStart();
+        this.line = chunkStart.line();
+        initializeParserResult(parser.database.getNewLineSeparator());
+    }
+
     /**
      * Parses BibtexEntries from the given string and returns one entry found (or null if none found)
      * <p>
@@ -160,8 +205,48 @@ public class BibtexParser implements Parser {
      */
     public ParserResult parse(Reader in) throws IOException {
         Objects.requireNonNull(in);
-        pushbackReader = new PushbackReader(in, BibtexParser.LOOKAHEAD);
+        readInput(in);
+
+        parseHeader();
+
+        return parseFileContent();
+    }
 
+    /**
+     * Parses BibTeX data found when reading from reader like {@link #parse(Reader)}, but uses multiple cores for large
+     * data.
+     * <p>
+     * A fast scan splits the data at the {@code @} of blocks following an entry or a string. The chunks are parsed in
+     * parallel and merged in order. The result is the same as the one of {@link #parse(Reader)}: if the parser of a
+     * chunk does not stop exactly where the next chunk starts (e.g., because of malformed data), or if the chunks cannot
+     * be merged (e.g., because of duplicate strings), the data is parsed sequentially.
+     */
+    public ParserResult parseInParallel(Reader in) throws IOException {
+        Objects.requireNonNull(in);
+        readInput(in);
+        boolean eofAtStart = eof;
+        int lineAtStart = line;
+
+        Optional<ParserResult> result = parseChunks();
+        if (result.isPresent()) {
+            return result.get();
+        }
+
+        LOGGER.debug("Could not parse chunks independently, parsing sequentially");
+        parsedChunkCount = 1;
+        position = 0;
+        textStart = 0;
+        pushedBackCount = 0;
+        pureTextFromFile = null;
+        eof = eofAtStart;
+        line = lineAtStart;
+        parsedBibdeskGroups = new HashMap<>();
+        bibDeskGroupTreeNode = null;
+        parseHeader();
+        return parseFileContent();
+    }
+
+    private void parseHeader() throws IOException {
         String newLineSeparator = determineNewLineSeparator();
 
         // BibTeX related contents
@@ -170,35 +255,286 @@ public class BibtexParser implements Parser {
         parseDatabaseID();
 
         skipWhitespace();
+    }
 
-        return parseFileContent();
+    /**
+     * Parses the input in chunks in parallel.
+     *
+     * @return an empty optional if the results of the chunks do not equal the result of parsing sequentially
+     */
+    private Optional<ParserResult> parseChunks() throws IOException {
+        parseHeader();
+
+        List<ChunkStart> chunkStarts = findChunkStarts();
+        if (chunkStarts.isEmpty()) {
+            parsedChunkCount = 1;
+            return Optional.of(parseFileContent());
+        }
+
+        // This parser parses the first chunk
+        List<BibtexParser> parsers = new ArrayList<>();
+        parsers.add(this);
+        chunkStarts.forEach(chunkStart -> parsers.add(new BibtexParser(this, chunkStart)));
+        List<Callable<Map<String, String>>> tasks = new ArrayList<>();
+        for (int i = 0; i < parsers.size(); i++) {
+            BibtexParser parser = parsers.get(i);
+            boolean startsAtBlock = i > 0;
+            int stop = (i < chunkStarts.size()) ? chunkStarts.get(i).position() - 1 : length;
+            tasks.add(() -> parser.parseChunk(startsAtBlock, stop));
+        }
+
+        List<Map<String, String>> metaOfChunks = new ArrayList<>();
+        try {
+            for (Future<Map<String, String>> result : ForkJoinPool.commonPool().invokeAll(tasks)) {
+                metaOfChunks.add(result.get());
+            }
+        } catch (ExecutionException e) {
+            LOGGER.debug("Could not parse chunk", e);
+            return Optional.empty();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Parsing interrupted");
+        }
+
+        if (!canMerge(parsers, chunkStarts)) {
+            return Optional.empty();
+        }
+
+        Map<String, String> meta = metaOfChunks.getFirst();
+        for (int i = 1; i < parsers.size(); i++) {
+            BibtexParser parser = parsers.get(i);
+            parsedEntries.addAll(parser.parsedEntries);
+            parser.database.getStringValues().forEach(database::addString);
+            if (parser.preambleParsed) {
+                database.setPreamble(parser.database.getPreamble().orElse(""));
+            }
+            entryTypes.addAll(parser.entryTypes);
+            parser.parserResult.warnings().forEach(parserResult::addWarning);
+            if (meta.isEmpty()) {
+                // Keeps the order of the meta data of a single chunk, usually the last one
+                meta = metaOfChunks.get(i);
+            } else {
+                meta.putAll(metaOfChunks.get(i));
+            }
+            if (parser.bibDeskGroupTreeNode != null) {
+                bibDeskGroupTreeNode = parser.bibDeskGroupTreeNode;
+                parsedBibdeskGroups = parser.parsedBibdeskGroups;
+            }
+        }
+
+        parsedChunkCount = parsers.size();
+
+        // The remaining content is the one after the last chunk
+        BibtexParser lastParser = parsers.getLast();
+        position = lastParser.position;
+        textStart = lastParser.textStart;
+        pureTextFromFile = lastParser.pureTextFromFile;
+        System.arraycopy(lastParser.pushedBack, 0, pushedBack, 0, lastParser.pushedBackCount);
+        pushedBackCount = lastParser.pushedBackCount;
+        line = lastParser.line;
+        eof = lastParser.eof;
+
+        return Optional.of(finishFileContent(meta));
     }
 
-    private String determineNewLineSeparator() throws IOException {
-        String newLineSeparator = OS.NEWLINE;
-        StringWriter stringWriter = new StringWriter(BibtexParser.LOOKAHEAD);
-        int i = 0;
-        int currentChar;
-        do {
-            currentChar = pushbackReader.read();
-            stringWriter.append((char) currentChar);
-            i++;
-        } while ((i < BibtexParser.LOOKAHEAD) && (currentChar != '\r') && (currentChar != '\n'));
-        if (currentChar == '\r') {
-            newLineSeparator = "\r\n";
-        } else if (currentChar == '\n') {
-            newLineSeparator = "\n";
+    /**
+     * Returns the number of chunks whose results were merged by the last call of {@link #parseInParallel(Reader)}. If
+     * the input was not split or had to be parsed sequentially, this is 1.
+     */
+    int getParsedChunkCount() {
+        return parsedChunkCount;
+    }
+
+    private Map<String, String> parseChunk(boolean startsAtBlock, int stop) throws IOException {
+        Map<String, String> meta = new HashMap<>();
+        if (startsAtBlock) {
+            parseBlock(meta);
+        }
+        parseBlocks(meta, stop);
+        return meta;
+    }
+
+    /**
+     * Checks that each parser stopped in the state the parser of the next chunk started with, and that the results do
+     * not depend on each other.
+     */
+    private static boolean canMerge(List<BibtexParser> parsers, List<ChunkStart> chunkStarts) {
+        Set<String> stringNames = new HashSet<>();
+        int parsersWithBibDeskGroups = 0;
+        for (int i = 0; i < parsers.size(); i++) {
+            BibtexParser parser = parsers.get(i);
+            if ((i < chunkStarts.size()) && !parser.isAt(chunkStarts.get(i))) {
+                LOGGER.debug("Parser of chunk {} did not stop at the start of the next chunk", i);
+                return false;
+            }
+            for (BibtexString string : parser.database.getStringValues()) {
+                if (!stringNames.add(string.getName())) {
+                    return false;
+                }
+            }
+            if ((parser.bibDeskGroupTreeNode != null) || !parser.parsedBibdeskGroups.isEmpty()) {
+                parsersWithBibDeskGroups++;
+            }
+        }
+        return parsersWithBibDeskGroups <= 1;
+    }
+
+    private boolean isAt(ChunkStart chunkStart) {
+        return (position == chunkStart.position())
+                && (textStart == chunkStart.textStart())
+                && (pureTextFromFile == null)
+                && (pushedBackCount == 0)
+                && (line == chunkStart.line())
+                && !eof;
+    }
+
+    /**
+     * Scans the remaining input for the starts of chunks of about {@link #CHUNK_LENGTH} characters. A chunk starts at
+     * the {@code @} of a block following an entry or a string, because the parser drops the text read so far after
+     * these. Blocks are delimited by counting braces.
+     */
+    private List<ChunkStart> findChunkStarts() {
+        List<ChunkStart> chunkStarts = new ArrayList<>();
+        if ((length - position) < (2 * CHUNK_LENGTH)) {
+            return chunkStarts;
+        }
+
+        int nextChunk = position + CHUNK_LENGTH;
+        int currentLine = line;
+        int lineCounted = position;
+        // Start of the text after the block before, or -1 if the text read so far is not dropped after it
+        int textStartAfterBlock = -1;
+        int i = position;
+        while (i < length) {
+            if (buffer[i] != '@') {
+                i++;
+                continue;
+            }
+
+            int blockStart = i;
+            int typeStart = indexOfNonWhitespace(blockStart + 1);
+            int typeEnd = typeStart;
+            while ((typeEnd < length) && isTextTokenCharacter(buffer[typeEnd])) {
+                typeEnd++;
+            }
+            int opening = indexOfNonWhitespace(typeEnd);
+            if ((opening >= length) || ((buffer[opening] != '{') && (buffer[opening] != '('))) {
+                // Not a block, the parser skips the text read so far in an unknown way
+                textStartAfterBlock = -1;
+                i = opening;
+                continue;
+            }
+
+            if ((textStartAfterBlock >= 0) && (blockStart >= nextChunk)) {
+                for (; lineCounted < blockStart; lineCounted++) {
+                    if (buffer[lineCounted] == '\n') {
+                        currentLine++;
+                    }
+                }
+                chunkStarts.add(new ChunkStart(blockStart + 1, textStartAfterBlock, currentLine));
+                nextChunk = blockStart + CHUNK_LENGTH;
+            }
+
+            int closing = findClosingBracket(opening);
+            if (closing < 0) {
+                break;
+            }
+            String type = new String(buffer, typeStart, typeEnd - typeStart);
+            if ("comment".equalsIgnoreCase(type) || "preamble".equalsIgnoreCase(type)) {
+                textStartAfterBlock = -1;
+            } else {
+                // The parser consumes one line break after the block
+                textStartAfterBlock = closing + 1;
+                while ((textStartAfterBlock < length) && (buffer[textStartAfterBlock] == ' ')) {
+                    textStartAfterBlock++;
+                }
+                if ((textStartAfterBlock < length) && (buffer[textStartAfterBlock] == '\r')) {
+                    textStartAfterBlock++;
+                }
+                if ((textStartAfterBlock < length) && (buffer[textStartAfterBlock] == '\n')) {
+                    textStartAfterBlock++;
+                }
+            }
+            i = closing + 1;
         }
+        return chunkStarts;
+    }
 
-        // unread all sneaked characters
-        pushbackReader.unread(stringWriter.toString().toCharArray());
+    private int indexOfNonWhitespace(int index) {
+        while ((index < length) && Character.isWhitespace(buffer[index])) {
+            index++;
+        }
+        return index;
+    }
 
-        return newLineSeparator;
+    /**
+     * Returns the index of the bracket closing the block opened at the given index, or -1 if there is none.
+     */
+    private int findClosingBracket(int opening) {
+        boolean parenthesized = buffer[opening] == '(';
+        int braces = parenthesized ? 0 : 1;
+        boolean quoted = false;
+        for (int i = opening + 1; i < length; i++) {
+            char character = buffer[i];
+            if ((character == '{') && (buffer[i - 1] != '\\')) {
+                braces++;
+            } else if (character == '}') {
+                braces--;
+                if (!parenthesized && (braces == 0)) {
+                    return i;
+                }
+            } else if (parenthesized && (braces == 0)) {
+                if (character == '"') {
+                    quoted = !quoted;
+                } else if ((character == ')') && !quoted) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    private void readInput(Reader in) throws IOException {
+        buffer = new char[64 * 1024];
+        length = 0;
+        int read;
+        while ((read = in.read(buffer, length, buffer.length - length)) >= 0) {
+            length += read;
+            if (length == buffer.length) {
+                buffer = Arrays.copyOf(buffer, buffer.length * 2);
+            }
+        }
+        position = 0;
+        textStart = 0;
+        pushedBackCount = 0;
+        pureTextFromFile = null;
+    }
+
+    private String determineNewLineSeparator() {
+        int end = Math.min(length, BibtexParser.LOOKAHEAD);
+        for (int i = 0; i < end; i++) {
+            if (buffer[i] == '\r') {
+                return "\r\n";
+            } else if (buffer[i] == '\n') {
+                return "\n";
+            }
+        }
+
+        if (length < BibtexParser.LOOKAHEAD) {
+            // A short input without a line break is looked ahead up to its end and beyond.
+            // The EOF characters returned beyond the end remain in front of the actual end of the input.
+            buffer = Arrays.copyOf(buffer, BibtexParser.LOOKAHEAD);
+            Arrays.fill(buffer, length, BibtexParser.LOOKAHEAD, EOF_CHARACTER);
+            length = BibtexParser.LOOKAHEAD;
+        }
+        return OS.NEWLINE;
     }
 
     private void initializeParserResult(String newLineSeparator) {
         database = new BibDatabase();
         database.setNewLineSeparator(newLineSeparator);
+        parsedEntries = new ArrayList<>();
+        preambleParsed = false;
         entryTypes = new HashSet<>(); // To store custom entry types parsed.
         parserResult = new ParserResult(database, new MetaData(), entryTypes);
     }
@@ -226,37 +562,59 @@ public class BibtexParser implements Parser {
     private ParserResult parseFileContent() throws IOException {
         Map<String, String> meta = new HashMap<>();
 
+        parseBlocks(meta, length);
+
+        return finishFileContent(meta);
+    }
+
+    /**
+     * Parses the blocks until the end of the input or until the {@code @} of a block after the given position is
+     * consumed.
+     */
+    private void parseBlocks(Map<String, String> meta, int stop) throws IOException {
         while (!eof) {
             boolean found = consumeUncritically('@');
-            if (!found) {
+            if (!found || (position > stop)) {
                 break;
             }
 
-            skipWhitespace();
+            parseBlock(meta);
+        }
+    }
 
-            // Try to read the entry type
-            String entryType = parseTextToken().toLowerCase(Locale.ROOT).trim();
+    /**
+     * Parses the block whose {@code @} has just been consumed.
+     */
+    private void parseBlock(Map<String, String> meta) throws IOException {
+        skipWhitespace();
 
-            switch (entryType) {
-                case "preamble" -> {
-                    database.setPreamble(parsePreamble());
-                    // Consume a new line which separates the preamble from the next part (if the file was written with JabRef)
-                    skipOneNewline();
-                    // the preamble is saved verbatim anyway, so the text read so far can be dropped
-                    dumpTextReadSoFarToString();
-                }
-                case "string" ->
-                        parseBibtexString();
-                case "comment" ->
-                        parseJabRefComment(meta);
-                default ->
-                    // Not a comment, preamble, or string. Thus, it is an entry
-                        parseAndAddEntry(entryType);
+        // Try to read the entry type
+        String entryType = parseTextToken().toLowerCase(Locale.ROOT).trim();
+
+        switch (entryType) {
+            case "preamble" -> {
+                database.setPreamble(parsePreamble());
+                preambleParsed = true;
+                // Consume a new line which separates the preamble from the next part (if the file was written with JabRef)
+                skipOneNewline();
+                // the preamble is saved verbatim anyway, so the text read so far can be dropped
+                dumpTextReadSoFarToString();
             }
-
-            skipWhitespace();
+            case "string" ->
+                    parseBibtexString();
+            case "comment" ->
+                    parseJabRefComment(meta);
+            default ->
+                // Not a comment, preamble, or string. Thus, it is an entry
+                    parseAndAddEntry(entryType);
         }
 
+        skipWhitespace();
+    }
+
+    private ParserResult finishFileContent(Map<String, String> meta) {
+        database.insertEntries(parsedEntries);
+
         addBibDeskGroupEntriesToJabRefGroups();
 
         try {
@@ -329,7 +687,7 @@ public class BibtexParser implements Parser {
             String parsedSerialization = commentsAndEntryTypeDefinition + dumpTextReadSoFarToString();
             entry.setParsedSerialization(parsedSerialization);
 
-            database.insertEntry(entry);
+            parsedEntries.add(entry);
         } catch (IOException ex) {
             // This makes the parser more robust:
             // If an exception is thrown when parsing an entry, drop the entry and try to resume parsing.
@@ -340,9 +698,9 @@ public class BibtexParser implements Parser {
     }
 
     private void parseJabRefComment(Map<String, String> meta) {
-        StringBuilder buffer;
+        StringBuilder buffer = new StringBuilder();
         try {
-            buffer = parseBracketedFieldContent();
+            parseBracketedFieldContent(buffer);
         } catch (IOException e) {
             // if we get an IO Exception here, then we have an unbracketed comment,
             // which means that we should just return and the comment will be picked up as arbitrary text
@@ -416,7 +774,12 @@ public class BibtexParser implements Parser {
         String xml = comment.substring(MetaData.BIBDESK_STATIC_FLAG.length() + 1, comment.length() - 1);
         try {
             // Build a document to handle the xml tags
-            Document doc = DOCUMENT_BUILDER_FACTORY.newDocumentBuilder().parse(new ByteArrayInputStream(xml.getBytes()));
+            DocumentBuilder documentBuilder;
+            // Chunks are parsed in parallel
+            synchronized (DOCUMENT_BUILDER_FACTORY) {
+                documentBuilder = DOCUMENT_BUILDER_FACTORY.newDocumentBuilder();
+            }
+            Document doc = documentBuilder.parse(new ByteArrayInputStream(xml.getBytes()));
             doc.getDocumentElement().normalize();
 
             NodeList dictList = doc.getElementsByTagName("dict");
@@ -510,12 +873,24 @@ public class BibtexParser implements Parser {
     }
 
     private String getPureTextFromFile() {
-        StringBuilder entry = new StringBuilder();
-        while (!pureTextFromFile.isEmpty()) {
-            entry.append(pureTextFromFile.pollFirst());
+        String text;
+        if (pureTextFromFile == null) {
+            text = new String(buffer, textStart, position - textStart);
+        } else {
+            text = pureTextFromFile.toString();
+            pureTextFromFile = null;
         }
+        textStart = position;
+        return text;
+    }
 
-        return entry.toString();
+    /**
+     * Copies the text read so far, so that it can be continued independently of the buffer.
+     */
+    private void detachPureTextFromFile() {
+        if (pureTextFromFile == null) {
+            pureTextFromFile = new StringBuilder(position - textStart + 16).append(buffer, textStart, position - textStart);
+        }
     }
 
     /**
@@ -626,12 +1001,27 @@ public class BibtexParser implements Parser {
         };
     }
 
-    private int read() throws IOException {
-        int character = pushbackReader.read();
-
-        if (!isEOFCharacter(character)) {
-            pureTextFromFile.offerLast((char) character);
+    private int read() {
+        int character;
+        if (pushedBackCount > 0) {
+            character = pushedBack[--pushedBackCount];
+            if (!isEOFCharacter(character)) {
+                detachPureTextFromFile();
+                pureTextFromFile.append((char) character);
+            }
+        } else if (position < length) {
+            character = buffer[position];
+            if (isEOFCharacter(character)) {
+                // EOF characters are not part of the text read
+                detachPureTextFromFile();
+            } else if (pureTextFromFile != null) {
+                pureTextFromFile.append((char) character);
+            }
+            position++;
+        } else {
+            character = -1;
         }
+
         if (character == '\n') {
             line++;
         }
@@ -642,9 +1032,20 @@ public class BibtexParser implements Parser {
         if (character == '\n') {
             line--;
         }
-        pushbackReader.unread(character);
-        if (pureTextFromFile.getLast() == character) {
-            pureTextFromFile.pollLast();
+        if ((pureTextFromFile == null) && (pushedBackCount == 0) && (position > textStart) && (buffer[position - 1] == character)) {
+            // The usual case: the character read last is pushed back
+            position--;
+            return;
+        }
+
+        if (pushedBackCount == pushedBack.length) {
+            throw new IOException("Pushback buffer overflow");
+        }
+        pushedBack[pushedBackCount++] = (char) character;
+        detachPureTextFromFile();
+        int textLength = pureTextFromFile.length();
+        if ((textLength > 0) && (pureTextFromFile.charAt(textLength - 1) == character)) {
+            pureTextFromFile.setLength(textLength - 1);
         }
     }
 
@@ -774,14 +1175,12 @@ public class BibtexParser implements Parser {
                 throw new IOException("Error in line " + line + ": EOF in mid-string");
             }
             if (character == '"') {
-                StringBuilder text = parseQuotedFieldExactly();
-                value.append(text.toString());
+                parseQuotedFieldExactly(value);
             } else if (character == '{') {
                 // Value is a string enclosed in brackets. There can be pairs
                 // of brackets inside a field, so we need to count the
                 // brackets to know when the string is finished.
-                StringBuilder text = parseBracketedFieldContent();
-                value.append(text.toString());
+                parseBracketedFieldContent(value);
             } else if (Character.isDigit((char) character)) { // value is a number
                 String number = parseTextToken();
                 value.append(number);
@@ -816,7 +1215,7 @@ public class BibtexParser implements Parser {
                 return token.toString();
             }
 
-            if (Character.isLetterOrDigit((char) character) || (":-_*+./'".indexOf(character) >= 0)) {
+            if (isTextTokenCharacter((char) character)) {
                 token.append((char) character);
             } else {
                 unread(character);
@@ -825,6 +1224,10 @@ public class BibtexParser implements Parser {
         }
     }
 
+    private static boolean isTextTokenCharacter(char character) {
+        return Character.isLetterOrDigit(character) || (":-_*+./'".indexOf(character) >= 0);
+    }
+
     /**
      * Tries to restore the key
      *
@@ -1029,10 +1432,9 @@ public class BibtexParser implements Parser {
     /**
      * This is called if a field in the form of <code>field = {content}</code> is parsed.
      * The global variable <code>character</code> contains <code>{</code>.
+     * The content is appended to the given value.
      */
-    private StringBuilder parseBracketedFieldContent() throws IOException {
-        StringBuilder value = new StringBuilder();
-
+    private void parseBracketedFieldContent(StringBuilder value) throws IOException {
         consume('{');
 
         int brackets = 0;
@@ -1069,7 +1471,7 @@ public class BibtexParser implements Parser {
             }
 
             if (isClosingBracket && (brackets == 0)) {
-                return value;
+                return;
             } else if (isEOFCharacter(character)) {
                 throw new IOException("Error in line " + line + ": EOF in mid-string");
             } else if ((character == '{') && (!isEscapeSymbol(lastCharacter))) {
@@ -1088,9 +1490,7 @@ public class BibtexParser implements Parser {
         return '\\' == character;
     }
 
-    private StringBuilder parseQuotedFieldExactly() throws IOException {
-        StringBuilder value = new StringBuilder();
-
+    private void parseQuotedFieldExactly(StringBuilder value) throws IOException {
         consume('"');
 
         int brackets = 0;
@@ -1108,8 +1508,6 @@ public class BibtexParser implements Parser {
         }
 
         consume('"');
-
-        return value;
     }
 
     private void consume(char expected) throws IOException {
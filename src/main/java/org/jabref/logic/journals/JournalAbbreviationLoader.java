@@ -7,7 +7,10 @@ import java.nio.file.Path;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
+import org.h2.mvstore.MVStore;
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -24,6 +27,9 @@ public class JournalAbbreviationLoader {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(JournalAbbreviationLoader.class);
 
+    // The built-in list is copied and opened once. All repositories share the read-only store.
+    private static @Nullable MVStore builtInStore;
+
     public static Collection<Abbreviation> readAbbreviationsFromCsvFile(Path file) throws IOException {
         LOGGER.debug("Reading journal list from file {}", file);
         AbbreviationParser parser = new AbbreviationParser();
@@ -35,17 +41,13 @@ public class JournalAbbreviationLoader {
         JournalAbbreviationRepository repository;
 
         // Initialize with built-in list
-        try (InputStream resourceAsStream = JournalAbbreviationRepository.class.getResourceAsStream("/journals/journal-list.mv")) {
-            if (resourceAsStream == null) {
+        try {
+            Optional<MVStore> store = getBuiltInStore();
+            if (store.isEmpty()) {
                 LOGGER.warn("There is no journal-list.mv. We use a default journal list");
                 repository = new JournalAbbreviationRepository();
             } else {
-                Path tempDir = Files.createTempDirectory("jabref-journal");
-                Path tempJournalList = tempDir.resolve("journal-list.mv");
-                Files.copy(resourceAsStream, tempJournalList);
-                repository = new JournalAbbreviationRepository(tempJournalList);
-                tempDir.toFile().deleteOnExit();
-                tempJournalList.toFile().deleteOnExit();
+                repository = new JournalAbbreviationRepository(store.get(), false);
             }
         } catch (IOException e) {
             LOGGER.error("Error while copying journal list", e);
@@ -69,6 +71,24 @@ public class JournalAbbreviationLoader {
         return repository;
     }
 
+    private static synchronized Optional<MVStore> getBuiltInStore() throws IOException {
+        if (builtInStore != null) {
+            return Optional.of(builtInStore);
+        }
+        try (InputStream resourceAsStream = JournalAbbreviationRepository.class.getResourceAsStream("/journals/journal-list.mv")) {
+            if (resourceAsStream == null) {
+                return Optional.empty();
+            }
+            Path tempDir = Files.createTempDirectory("jabref-journal");
+            Path tempJournalList = tempDir.resolve("journal-list.mv");
+            Files.copy(resourceAsStream, tempJournalList);
+            tempDir.toFile().deleteOnExit();
+            tempJournalList.toFile().deleteOnExit();
+            builtInStore = new MVStore.Builder().readOnly().fileName(tempJournalList.toAbsolutePath().toString()).open();
+            return Optional.of(builtInStore);
+        }
+    }
+
     public static JournalAbbreviationRepository loadBuiltInRepository() {
         return loadRepository(new JournalAbbreviationPreferences(Collections.emptyList(), true));
     }
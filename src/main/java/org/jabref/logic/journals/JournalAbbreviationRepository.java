@@ -2,51 +2,92 @@ package org.jabref.logic.journals;
 
 import java.nio.file.Path;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.SortedSet;
 import java.util.TreeSet;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
 import org.h2.mvstore.MVMap;
 import org.h2.mvstore.MVStore;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * A repository for all journal abbreviations, including add and find methods.
+ * <p>
+ * The built-in abbreviations are not loaded into memory. They are looked up in the MV file, which contains a map for
+ * each lookup direction (generated by {@code JournalListMvGenerator}). Recent lookups are cached. Custom abbreviations
+ * are kept in memory and indexed by all their names.
  */
-public class JournalAbbreviationRepository {
+public class JournalAbbreviationRepository implements AutoCloseable {
+    public static final String FULL_TO_ABBREVIATION_MAP_NAME = "FullToAbbreviation";
+    public static final String ABBREVIATION_TO_FULL_MAP_NAME = "AbbreviationToFull";
+    public static final String DOTLESS_TO_FULL_MAP_NAME = "DotlessToFull";
+    public static final String SHORTEST_UNIQUE_TO_FULL_MAP_NAME = "ShortestUniqueToFull";
+
     static final Pattern QUESTION_MARK = Pattern.compile("\\?");
 
-    private final Map<String, Abbreviation> fullToAbbreviationObject = new HashMap<>();
-    private final Map<String, Abbreviation> abbreviationToAbbreviationObject = new HashMap<>();
-    private final Map<String, Abbreviation> dotlessToAbbreviationObject = new HashMap<>();
-    private final Map<String, Abbreviation> shortestUniqueToAbbreviationObject = new HashMap<>();
+    private static final Logger LOGGER = LoggerFactory.getLogger(JournalAbbreviationRepository.class);
+    private static final int CACHE_SIZE = 1024;
+
+    // The values of the MV file do not contain the name (it is transient), thus the key is the source of the name
+    private final Map<String, Abbreviation> fullToAbbreviationObject;
+    private final Map<String, String> abbreviationToFull;
+    private final Map<String, String> dotlessToFull;
+    private final Map<String, String> shortestUniqueToFull;
+    private final LoadingCache<String, BuiltInLookup> builtInCache;
+    // Only set if the MV file was opened by this repository
+    private final @Nullable MVStore store;
+
     private final TreeSet<Abbreviation> customAbbreviations = new TreeSet<>();
+    private final Map<String, SortedSet<Abbreviation>> customAbbreviationsByName = new HashMap<>();
+
+    private record BuiltInLookup(@Nullable Abbreviation abbreviation, boolean isAbbreviated) {
+    }
 
     /**
-     * Initializes the internal data based on the abbreviations found in the given MV file
+     * Initializes the repository based on the abbreviations found in the given MV file. The file is kept open and
+     * queried on demand until the repository is {@link #close() closed}.
      */
     public JournalAbbreviationRepository(Path journalList) {
-        MVMap<String, Abbreviation> mvFullToAbbreviationObject;
-        try (MVStore store = new MVStore.Builder().readOnly().fileName(journalList.toAbsolutePath().toString()).open()) {
-            mvFullToAbbreviationObject = store.openMap("FullToAbbreviation");
-            mvFullToAbbreviationObject.forEach((name, abbreviation) -> {
-                String abbrevationString = abbreviation.getAbbreviation();
-                String shortestUniqueAbbreviation = abbreviation.getShortestUniqueAbbreviation();
-                Abbreviation newAbbreviation = new Abbreviation(
-                        name,
-                        abbrevationString,
-                        shortestUniqueAbbreviation
-                );
-                fullToAbbreviationObject.put(name, newAbbreviation);
-                abbreviationToAbbreviationObject.put(abbrevationString, newAbbreviation);
-                dotlessToAbbreviationObject.put(newAbbreviation.getDotlessAbbreviation(), newAbbreviation);
-                shortestUniqueToAbbreviationObject.put(shortestUniqueAbbreviation, newAbbreviation);
-            });
+        this(new MVStore.Builder().readOnly().fileName(journalList.toAbsolutePath().toString()).open(), true);
+    }
+
+    /**
+     * Initializes the repository based on the abbreviations found in the given store.
+     *
+     * @param closeStore whether the store is closed when this repository is closed. Stores shared by several
+     *                   repositories must stay open.
+     */
+    JournalAbbreviationRepository(MVStore store, boolean closeStore) {
+        MVMap<String, Abbreviation> mvFullToAbbreviationObject = store.openMap(FULL_TO_ABBREVIATION_MAP_NAME);
+        this.fullToAbbreviationObject = mvFullToAbbreviationObject;
+
+        if (store.hasMap(ABBREVIATION_TO_FULL_MAP_NAME) && store.hasMap(DOTLESS_TO_FULL_MAP_NAME) && store.hasMap(SHORTEST_UNIQUE_TO_FULL_MAP_NAME)) {
+            this.abbreviationToFull = store.openMap(ABBREVIATION_TO_FULL_MAP_NAME);
+            this.dotlessToFull = store.openMap(DOTLESS_TO_FULL_MAP_NAME);
+            this.shortestUniqueToFull = store.openMap(SHORTEST_UNIQUE_TO_FULL_MAP_NAME);
+        } else {
+            // Journal lists generated by older versions only contain the map of the full names
+            LOGGER.debug("{} does not contain the abbreviation maps, building them in memory", store.getFileStore().getFileName());
+            this.abbreviationToFull = new HashMap<>();
+            this.dotlessToFull = new HashMap<>();
+            this.shortestUniqueToFull = new HashMap<>();
+            mvFullToAbbreviationObject.forEach((name, abbreviation) -> putAbbreviatedNames(withName(name, abbreviation), abbreviationToFull, dotlessToFull, shortestUniqueToFull));
         }
+        this.builtInCache = createBuiltInCache();
+        this.store = closeStore ? store : null;
     }
 
     /**
@@ -58,17 +99,64 @@ public class JournalAbbreviationRepository {
                 "Demo",
                 "Dem"
         );
-        fullToAbbreviationObject.put("Demonstration", newAbbreviation);
-        abbreviationToAbbreviationObject.put("Demo", newAbbreviation);
-        dotlessToAbbreviationObject.put("Demo", newAbbreviation);
-        shortestUniqueToAbbreviationObject.put("Dem", newAbbreviation);
+        this.fullToAbbreviationObject = Map.of("Demonstration", newAbbreviation);
+        this.abbreviationToFull = Map.of("Demo", "Demonstration");
+        this.dotlessToFull = Map.of("Demo", "Demonstration");
+        this.shortestUniqueToFull = Map.of("Dem", "Demonstration");
+        this.builtInCache = createBuiltInCache();
+        this.store = null;
     }
 
-    private static boolean isMatched(String name, Abbreviation abbreviation) {
-        return name.equalsIgnoreCase(abbreviation.getName())
-                || name.equalsIgnoreCase(abbreviation.getAbbreviation())
-                || name.equalsIgnoreCase(abbreviation.getDotlessAbbreviation())
-                || name.equalsIgnoreCase(abbreviation.getShortestUniqueAbbreviation());
+    /**
+     * Adds the abbreviated names of the given abbreviation to the given maps. If an abbreviated name is used by
+     * several journals, the last one wins.
+     */
+    public static void putAbbreviatedNames(Abbreviation abbreviation, Map<String, String> abbreviationToFull, Map<String, String> dotlessToFull, Map<String, String> shortestUniqueToFull) {
+        abbreviationToFull.put(abbreviation.getAbbreviation(), abbreviation.getName());
+        dotlessToFull.put(abbreviation.getDotlessAbbreviation(), abbreviation.getName());
+        shortestUniqueToFull.put(abbreviation.getShortestUniqueAbbreviation(), abbreviation.getName());
+    }
+
+    private LoadingCache<String, BuiltInLookup> createBuiltInCache() {
+        return CacheBuilder.newBuilder().maximumSize(CACHE_SIZE).build(new CacheLoader<>() {
+            @Override
+            public BuiltInLookup load(String journal) {
+                return lookUpBuiltIn(journal);
+            }
+        });
+    }
+
+    private BuiltInLookup lookUpBuiltIn(String journal) {
+        String abbreviatedFullName = Optional.ofNullable(abbreviationToFull.get(journal))
+                                             .or(() -> Optional.ofNullable(dotlessToFull.get(journal)))
+                                             .orElseGet(() -> shortestUniqueToFull.get(journal));
+        Abbreviation abbreviation = getBuiltIn(journal);
+        if ((abbreviation == null) && (abbreviatedFullName != null)) {
+            abbreviation = getBuiltIn(abbreviatedFullName);
+        }
+        return new BuiltInLookup(abbreviation, abbreviatedFullName != null);
+    }
+
+    private @Nullable Abbreviation getBuiltIn(String fullName) {
+        Abbreviation abbreviation = fullToAbbreviationObject.get(fullName);
+        return abbreviation == null ? null : withName(fullName, abbreviation);
+    }
+
+    private static Abbreviation withName(String name, Abbreviation abbreviation) {
+        return new Abbreviation(name, abbreviation.getAbbreviation(), abbreviation.getShortestUniqueAbbreviation());
+    }
+
+    /**
+     * Returns a key that is equal for two names if and only if {@link String#equalsIgnoreCase(String)} holds for them.
+     */
+    private static String caseInsensitiveKey(String name) {
+        StringBuilder key = new StringBuilder(name.length());
+        name.codePoints().map(codePoint -> Character.toLowerCase(Character.toUpperCase(codePoint))).forEach(key::appendCodePoint);
+        return key.toString();
+    }
+
+    private SortedSet<Abbreviation> getCustomCandidates(String name) {
+        return customAbbreviationsByName.getOrDefault(caseInsensitiveKey(name), Collections.emptySortedSet());
     }
 
     private static boolean isMatchedAbbreviated(String name, Abbreviation abbreviation) {
@@ -90,11 +178,8 @@ public class JournalAbbreviationRepository {
             return false;
         }
         String journal = journalName.trim().replaceAll(Matcher.quoteReplacement("\\&"), "&");
-        return customAbbreviations.stream().anyMatch(abbreviation -> isMatched(journal, abbreviation))
-                || fullToAbbreviationObject.containsKey(journal)
-                || abbreviationToAbbreviationObject.containsKey(journal)
-                || dotlessToAbbreviationObject.containsKey(journal)
-                || shortestUniqueToAbbreviationObject.containsKey(journal);
+        return !getCustomCandidates(journal).isEmpty()
+                || (builtInCache.getUnchecked(journal).abbreviation() != null);
     }
 
     /**
@@ -106,10 +191,8 @@ public class JournalAbbreviationRepository {
             return false;
         }
         String journal = journalName.trim().replaceAll(Matcher.quoteReplacement("\\&"), "&");
-        return customAbbreviations.stream().anyMatch(abbreviation -> isMatchedAbbreviated(journal, abbreviation))
-                || abbreviationToAbbreviationObject.containsKey(journal)
-                || dotlessToAbbreviationObject.containsKey(journal)
-                || shortestUniqueToAbbreviationObject.containsKey(journal);
+        return getCustomCandidates(journal).stream().anyMatch(abbreviation -> isMatchedAbbreviated(journal, abbreviation))
+                || builtInCache.getUnchecked(journal).isAbbreviated();
     }
 
     /**
@@ -121,17 +204,12 @@ public class JournalAbbreviationRepository {
         // Clean up input: trim and unescape ampersand
         String journal = input.trim().replaceAll(Matcher.quoteReplacement("\\&"), "&");
 
-        Optional<Abbreviation> customAbbreviation = customAbbreviations.stream()
-                                                                       .filter(abbreviation -> isMatched(journal, abbreviation))
-                                                                       .findFirst();
-        if (customAbbreviation.isPresent()) {
-            return customAbbreviation;
+        SortedSet<Abbreviation> customCandidates = getCustomCandidates(journal);
+        if (!customCandidates.isEmpty()) {
+            return Optional.of(customCandidates.first());
         }
 
-        return Optional.ofNullable(fullToAbbreviationObject.get(journal))
-                .or(() -> Optional.ofNullable(abbreviationToAbbreviationObject.get(journal)))
-                .or(() -> Optional.ofNullable(dotlessToAbbreviationObject.get(journal)))
-                .or(() -> Optional.ofNullable(shortestUniqueToAbbreviationObject.get(journal)));
+        return Optional.ofNullable(builtInCache.getUnchecked(journal).abbreviation());
     }
 
     public void addCustomAbbreviation(Abbreviation abbreviation) {
@@ -140,11 +218,16 @@ public class JournalAbbreviationRepository {
         // We do NOT want to keep duplicates
         // The set automatically "removes" duplicates
         // What is a duplicate? An abbreviation is NOT the same if any field is NOT equal (e.g., if the shortest unique differs, the abbreviation is NOT the same)
-        customAbbreviations.add(abbreviation);
+        if (customAbbreviations.add(abbreviation)) {
+            Stream.of(abbreviation.getName(), abbreviation.getAbbreviation(), abbreviation.getDotlessAbbreviation(), abbreviation.getShortestUniqueAbbreviation())
+                  .map(JournalAbbreviationRepository::caseInsensitiveKey)
+                  .distinct()
+                  .forEach(key -> customAbbreviationsByName.computeIfAbsent(key, k -> new TreeSet<>()).add(abbreviation));
+        }
     }
 
     public Collection<Abbreviation> getCustomAbbreviations() {
-        return customAbbreviations;
+        return Collections.unmodifiableSet(customAbbreviations);
     }
 
     public void addCustomAbbreviations(Collection<Abbreviation> abbreviationsToAdd) {
@@ -171,7 +254,22 @@ public class JournalAbbreviationRepository {
         return fullToAbbreviationObject.keySet();
     }
 
+    /**
+     * Returns all built-in abbreviations. As these are not held in memory, this reads the whole journal list.
+     */
     public Collection<Abbreviation> getAllLoaded() {
-        return fullToAbbreviationObject.values();
+        return fullToAbbreviationObject.entrySet().stream()
+                                       .map(entry -> withName(entry.getKey(), entry.getValue()))
+                                       .toList();
+    }
+
+    /**
+     * Closes the MV file if it was opened by this repository. The repository must not be used afterwards.
+     */
+    @Override
+    public void close() {
+        if (store != null) {
+            store.close();
+        }
     }
 }
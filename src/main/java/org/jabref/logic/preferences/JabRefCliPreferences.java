@@ -38,6 +38,7 @@ import org.jabref.logic.JabRefException;
 import org.jabref.logic.LibraryPreferences;
 import org.jabref.logic.ai.AiDefaultPreferences;
 import org.jabref.logic.ai.AiPreferences;
+import org.jabref.logic.ai.ingestion.EmbeddingVectorEncoding;
 import org.jabref.logic.ai.templates.AiTemplate;
 import org.jabref.logic.bibtex.FieldPreferences;
 import org.jabref.logic.citationkeypattern.CitationKeyPattern;
@@ -338,6 +339,7 @@ public class JabRefCliPreferences implements CliPreferences {
     private static final String PREFS_EXPORT_PATH = "prefsExportPath";
     private static final String DOWNLOAD_LINKED_FILES = "downloadLinkedFiles";
     private static final String FULLTEXT_INDEX_LINKED_FILES = "fulltextIndexLinkedFiles";
+    private static final String FULLTEXT_MAX_HITS_PER_FILE = "fulltextMaxHitsPerFile";
     private static final String KEEP_DOWNLOAD_URL = "keepDownloadUrl";
 
     // Indexes for Strings within stored custom export entries
@@ -372,6 +374,9 @@ public class JabRefCliPreferences implements CliPreferences {
     private static final String AI_DOCUMENT_SPLITTER_OVERLAP_SIZE = "aiDocumentSplitterOverlapSize";
     private static final String AI_RAG_MAX_RESULTS_COUNT = "aiRagMaxResultsCount";
     private static final String AI_RAG_MIN_SCORE = "aiRagMinScore";
+    private static final String AI_RAG_SEARCH_PROBES = "aiRagSearchProbes";
+    private static final String AI_EMBEDDINGS_BATCH_SIZE = "aiEmbeddingsBatchSize";
+    private static final String AI_EMBEDDING_VECTOR_ENCODING = "aiEmbeddingVectorEncoding";
 
     private static final String AI_CHATTING_SYSTEM_MESSAGE_TEMPLATE = "aiChattingSystemMessageTemplate";
     private static final String AI_CHATTING_USER_MESSAGE_TEMPLATE = "aiChattingUserMessageTemplate";
@@ -623,6 +628,7 @@ public class JabRefCliPreferences implements CliPreferences {
         defaults.put(DOWNLOAD_LINKED_FILES, true);
         // Create Fulltext-Index by default
         defaults.put(FULLTEXT_INDEX_LINKED_FILES, true);
+        defaults.put(FULLTEXT_MAX_HITS_PER_FILE, 10);
 
         String defaultExpression = "**/.*[citationkey].*\\\\.[extension]";
         defaults.put(AUTOLINK_REG_EXP_SEARCH_EXPRESSION_KEY, defaultExpression);
@@ -664,6 +670,9 @@ public class JabRefCliPreferences implements CliPreferences {
         defaults.put(AI_DOCUMENT_SPLITTER_OVERLAP_SIZE, AiDefaultPreferences.DOCUMENT_SPLITTER_OVERLAP);
         defaults.put(AI_RAG_MAX_RESULTS_COUNT, AiDefaultPreferences.RAG_MAX_RESULTS_COUNT);
         defaults.put(AI_RAG_MIN_SCORE, AiDefaultPreferences.RAG_MIN_SCORE);
+        defaults.put(AI_RAG_SEARCH_PROBES, AiDefaultPreferences.RAG_SEARCH_PROBES);
+        defaults.put(AI_EMBEDDINGS_BATCH_SIZE, AiDefaultPreferences.EMBEDDINGS_BATCH_SIZE);
+        defaults.put(AI_EMBEDDING_VECTOR_ENCODING, AiDefaultPreferences.EMBEDDING_VECTOR_ENCODING.name());
 
         // region:AI templates
         defaults.put(AI_CHATTING_SYSTEM_MESSAGE_TEMPLATE, AiDefaultPreferences.TEMPLATES.get(AiTemplate.CHATTING_SYSTEM_MESSAGE));
@@ -1547,6 +1556,7 @@ public class JabRefCliPreferences implements CliPreferences {
                 get(IMPORT_FILEDIRPATTERN),
                 getBoolean(DOWNLOAD_LINKED_FILES),
                 getBoolean(FULLTEXT_INDEX_LINKED_FILES),
+                getInt(FULLTEXT_MAX_HITS_PER_FILE),
                 Path.of(get(WORKING_DIRECTORY)),
                 getBoolean(CREATE_BACKUP),
                 // We choose the data directory, because a ".bak" file should survive cache cleanups
@@ -1563,6 +1573,7 @@ public class JabRefCliPreferences implements CliPreferences {
         EasyBind.listen(filePreferences.fileDirectoryPatternProperty(), (obs, oldValue, newValue) -> put(IMPORT_FILEDIRPATTERN, newValue));
         EasyBind.listen(filePreferences.downloadLinkedFilesProperty(), (obs, oldValue, newValue) -> putBoolean(DOWNLOAD_LINKED_FILES, newValue));
         EasyBind.listen(filePreferences.fulltextIndexLinkedFilesProperty(), (obs, oldValue, newValue) -> putBoolean(FULLTEXT_INDEX_LINKED_FILES, newValue));
+        EasyBind.listen(filePreferences.fulltextMaxHitsPerFileProperty(), (obs, oldValue, newValue) -> putInt(FULLTEXT_MAX_HITS_PER_FILE, newValue));
         EasyBind.listen(filePreferences.workingDirectoryProperty(), (obs, oldValue, newValue) -> put(WORKING_DIRECTORY, newValue.toString()));
         EasyBind.listen(filePreferences.createBackupProperty(), (obs, oldValue, newValue) -> putBoolean(CREATE_BACKUP, newValue));
         EasyBind.listen(filePreferences.backupDirectoryProperty(), (obs, oldValue, newValue) -> put(BACKUP_DIRECTORY, newValue.toString()));
@@ -1868,6 +1879,9 @@ public class JabRefCliPreferences implements CliPreferences {
                 getInt(AI_DOCUMENT_SPLITTER_OVERLAP_SIZE),
                 getInt(AI_RAG_MAX_RESULTS_COUNT),
                 getDouble(AI_RAG_MIN_SCORE),
+                getInt(AI_RAG_SEARCH_PROBES),
+                getInt(AI_EMBEDDINGS_BATCH_SIZE),
+                EmbeddingVectorEncoding.valueOf(get(AI_EMBEDDING_VECTOR_ENCODING)),
                 Map.of(
                         AiTemplate.CHATTING_SYSTEM_MESSAGE, get(AI_CHATTING_SYSTEM_MESSAGE_TEMPLATE),
                         AiTemplate.CHATTING_USER_MESSAGE, get(AI_CHATTING_USER_MESSAGE_TEMPLATE),
@@ -1903,6 +1917,9 @@ public class JabRefCliPreferences implements CliPreferences {
         EasyBind.listen(aiPreferences.documentSplitterOverlapSizeProperty(), (obs, oldValue, newValue) -> putInt(AI_DOCUMENT_SPLITTER_OVERLAP_SIZE, newValue));
         EasyBind.listen(aiPreferences.ragMaxResultsCountProperty(), (obs, oldValue, newValue) -> putInt(AI_RAG_MAX_RESULTS_COUNT, newValue));
         EasyBind.listen(aiPreferences.ragMinScoreProperty(), (obs, oldValue, newValue) -> putDouble(AI_RAG_MIN_SCORE, newValue.doubleValue()));
+        EasyBind.listen(aiPreferences.ragSearchProbesProperty(), (obs, oldValue, newValue) -> putInt(AI_RAG_SEARCH_PROBES, newValue));
+        EasyBind.listen(aiPreferences.embeddingsBatchSizeProperty(), (obs, oldValue, newValue) -> putInt(AI_EMBEDDINGS_BATCH_SIZE, newValue));
+        EasyBind.listen(aiPreferences.embeddingVectorEncodingProperty(), (obs, oldValue, newValue) -> put(AI_EMBEDDING_VECTOR_ENCODING, newValue.name()));
 
         EasyBind.listen(aiPreferences.templateProperty(AiTemplate.CHATTING_SYSTEM_MESSAGE), (obs, oldValue, newValue) -> put(AI_CHATTING_SYSTEM_MESSAGE_TEMPLATE, newValue));
         EasyBind.listen(aiPreferences.templateProperty(AiTemplate.CHATTING_USER_MESSAGE), (obs, oldValue, newValue) -> put(AI_CHATTING_USER_MESSAGE_TEMPLATE, newValue));
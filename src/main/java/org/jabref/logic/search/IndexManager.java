@@ -2,7 +2,9 @@ package org.jabref.logic.search;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
@@ -67,7 +69,7 @@ public class IndexManager {
         linkedFilesIndexer = indexer;
 
         this.bibFieldsSearcher = new BibFieldsSearcher(postgreServer.getConnection(), bibFieldsIndexer.getTable());
-        this.linkedFilesSearcher = new LinkedFilesSearcher(databaseContext, linkedFilesIndexer, preferences.getFilePreferences());
+        this.linkedFilesSearcher = new LinkedFilesSearcher(databaseContext, linkedFilesIndexer, preferences.getFilePreferences(), preferences.getFilePreferences().getFulltextMaxHitsPerFile());
         updateOnStart();
     }
 
@@ -224,4 +226,23 @@ public class IndexManager {
     public boolean isEntryMatched(BibEntry entry, SearchQuery query) {
         return bibFieldsSearcher.isMatched(entry, query);
     }
+
+    /**
+     * Evaluates the query of a search group once for the whole library.
+     *
+     * @implNote No need to check for full-text searches as this method only used by the search groups
+     */
+    public Set<String> getMatchedEntryIds(SearchQuery query) {
+        return bibFieldsSearcher.getMatchedEntryIds(query);
+    }
+
+    /**
+     * Re-evaluates the query of a search group for the given entries only, e.g., the ones of an {@link IndexAddedOrUpdatedEvent}.
+     *
+     * @return the ids of the given entries matching the query
+     * @implNote No need to check for full-text searches as this method only used by the search groups
+     */
+    public Set<String> getMatchedEntryIds(SearchQuery query, Collection<BibEntry> entries) {
+        return bibFieldsSearcher.getMatchedEntryIds(query, entries);
+    }
 }
@@ -1,10 +1,13 @@
 package org.jabref.logic.search.indexing;
 
+import java.io.IOException;
+import java.io.StringReader;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Optional;
 import java.util.regex.Pattern;
@@ -24,6 +27,8 @@ import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.search.PostgreConstants;
 
 import io.github.thibaultmeyer.cuid.CUID;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -39,6 +44,12 @@ public class BibFieldsIndexer {
     private static final LatexToUnicodeFormatter LATEX_TO_UNICODE_FORMATTER = new LatexToUnicodeFormatter();
     private static final Pattern GROUPS_SEPARATOR_REGEX = Pattern.compile("\s*,\s*");
 
+    /**
+     * Number of entries sent to Postgres in one COPY round trip during bulk loading.
+     * Large enough to amortize the round trip, small enough to keep progress reporting and cancellation responsive.
+     */
+    private static final int BULK_LOAD_CHUNK_SIZE = 5_000;
+
     private final BibDatabaseContext databaseContext;
     private final Connection connection;
     private final String libraryName;
@@ -60,13 +71,14 @@ public class BibFieldsIndexer {
         this.schemaMainTableReference = PostgreConstants.getMainTableSchemaReference(mainTable);
         this.schemaSplitValuesTableReference = PostgreConstants.getSplitTableSchemaReference(mainTable);
         // TODO: Set-up should be in a background task
-        setup();
+        createTables();
     }
 
     /**
-     * Creates a table for the library in the database, and sets up indexes on the columns.
+     * Creates the tables for the library in the database.
+     * The indexes on the columns are created by {@link #createIndexes()} after the initial bulk load, because maintaining them row by row is much slower than building them once.
      */
-    private void setup() {
+    private void createTables() {
         try {
             connection.createStatement().executeUpdate("""
                     CREATE TABLE IF NOT EXISTS %s (
@@ -102,6 +114,12 @@ public class BibFieldsIndexer {
         } catch (SQLException e) {
             LOGGER.error("Could not create tables for library: {}", libraryName, e);
         }
+    }
+
+    /**
+     * Sets up indexes on the columns of the tables of the library.
+     */
+    private void createIndexes() {
         try {
             // region btree index on id column
             connection.createStatement().executeUpdate("""
@@ -158,8 +176,107 @@ public class BibFieldsIndexer {
         }
     }
 
+    /**
+     * Loads all entries of the library into the (empty) tables and creates the indexes afterwards.
+     * The rows are streamed using the Postgres COPY protocol in a single transaction.
+     * In case COPY is not available, the entries are added one by one.
+     */
     public void updateOnStart(BackgroundTask<?> task) {
-        addToIndex(databaseContext.getDatabase().getEntries(), task);
+        Collection<BibEntry> entries = databaseContext.getDatabase().getEntries();
+        long startTime = System.currentTimeMillis();
+        try {
+            if (!bulkAddToIndex(entries, task)) {
+                addToIndex(entries, task);
+            }
+        } finally {
+            // Entries added or updated later are written row by row, which needs the indexes even if the load was cancelled
+            createIndexes();
+        }
+        LOGGER.debug("Indexed {} entries on start in {} ms", entries.size(), System.currentTimeMillis() - startTime);
+    }
+
+    /**
+     * Runs in a single transaction on the connection. Thus, the other writes are synchronized against it, as they
+     * would otherwise become part of the transaction and be lost on a rollback.
+     *
+     * @return true if all entries were added (or the task was cancelled), false if the caller should fall back to {@link #addToIndex(Collection, BackgroundTask)}
+     */
+    private synchronized boolean bulkAddToIndex(Collection<BibEntry> entries, BackgroundTask<?> task) {
+        CopyManager copyManager;
+        try {
+            copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+        } catch (SQLException e) {
+            LOGGER.debug("COPY not supported by the connection, falling back to batched inserts", e);
+            return false;
+        }
+
+        if (entries.size() > 1) {
+            task.showToUser(true);
+            task.setTitle(Localization.lang("Indexing bib fields for %0", libraryName));
+        }
+
+        String copyIntoMainTable = """
+                COPY %s ("%s", "%s", "%s", "%s") FROM STDIN
+                """.formatted(
+                schemaMainTableReference,
+                ENTRY_ID,
+                FIELD_NAME,
+                FIELD_VALUE_LITERAL,
+                FIELD_VALUE_TRANSFORMED);
+
+        String copyIntoSplitTable = """
+                COPY %s ("%s", "%s", "%s", "%s") FROM STDIN
+                """.formatted(
+                schemaSplitValuesTableReference,
+                ENTRY_ID,
+                FIELD_NAME,
+                FIELD_VALUE_LITERAL,
+                FIELD_VALUE_TRANSFORMED);
+
+        boolean autoCommit = true;
+        try {
+            autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+
+            int i = 0;
+            Iterator<BibEntry> iterator = entries.iterator();
+            while (iterator.hasNext()) {
+                if (task.isCancelled()) {
+                    LOGGER.debug("Indexing canceled");
+                    connection.rollback();
+                    return true;
+                }
+                CopyRowWriter mainRows = new CopyRowWriter();
+                CopyRowWriter splitRows = new CopyRowWriter();
+                int chunkEnd = Math.min(i + BULK_LOAD_CHUNK_SIZE, entries.size());
+                while (iterator.hasNext() && i < chunkEnd) {
+                    writeEntry(iterator.next(), mainRows, splitRows);
+                    i++;
+                }
+                copyManager.copyIn(copyIntoMainTable, new StringReader(mainRows.toString()));
+                copyManager.copyIn(copyIntoSplitTable, new StringReader(splitRows.toString()));
+                task.updateProgress(i, entries.size());
+                task.updateMessage(Localization.lang("%0 of %1 entries added to the index.", i, entries.size()));
+            }
+
+            connection.commit();
+            LOGGER.debug("Bulk loaded {} entries into index", entries.size());
+            return true;
+        } catch (SQLException | IOException e) {
+            LOGGER.error("Could not bulk load entries into the index, falling back to batched inserts", e);
+            try {
+                connection.rollback();
+            } catch (SQLException ex) {
+                LOGGER.error("Could not roll back bulk load", ex);
+            }
+            return false;
+        } finally {
+            try {
+                connection.setAutoCommit(autoCommit);
+            } catch (SQLException e) {
+                LOGGER.error("Could not restore auto commit mode", e);
+            }
+        }
     }
 
     public void addToIndex(Collection<BibEntry> entries, BackgroundTask<?> task) {
@@ -183,7 +300,7 @@ public class BibFieldsIndexer {
         LOGGER.debug("Added {} entries to index in {} ms", entries.size(), System.currentTimeMillis() - startTime);
     }
 
-    private void addToIndex(BibEntry bibEntry) {
+    private synchronized void addToIndex(BibEntry bibEntry) {
         String insertFieldQuery = """
                 INSERT INTO %s ("%s", "%s", "%s", "%s")
                 VALUES (?, ?, ?, ?)
@@ -206,42 +323,9 @@ public class BibFieldsIndexer {
 
         try (PreparedStatement preparedStatement = connection.prepareStatement(insertFieldQuery);
              PreparedStatement preparedStatementSplitValues = connection.prepareStatement(insertIntoSplitTable)) {
-            String entryId = bibEntry.getId();
-            for (Map.Entry<Field, String> fieldPair : bibEntry.getFieldMap().entrySet()) {
-                Field field = fieldPair.getKey();
-                String value = fieldPair.getValue();
-
-                // If a field exists, there also exists a resolved field latex free.
-                // We add a `.orElse("")` only because there could be some flaw in the future in the code - and we want to have search working even if the flaws are present.
-                // To uncover these flaws, we add the "assert" statement.
-                // One potential future flaw is that the bibEntry is modified concurrently and the field being deleted.
-                Optional<String> resolvedFieldLatexFree = bibEntry.getResolvedFieldOrAliasLatexFree(field, this.databaseContext.getDatabase());
-                assert resolvedFieldLatexFree.isPresent();
-                addBatch(preparedStatement, entryId, field, value, resolvedFieldLatexFree.orElse(""));
-
-                // region Handling of known multi-value fields
-                // split and convert to Unicode
-                if (field.getProperties().contains(FieldProperty.PERSON_NAMES)) {
-                    addAuthors(value, preparedStatementSplitValues, entryId, field);
-                } else if (field == StandardField.KEYWORDS) {
-                    addKeywords(value, preparedStatementSplitValues, entryId, field, keywordSeparator);
-                } else if (field == StandardField.GROUPS) {
-                    addGroups(value, preparedStatementSplitValues, entryId, field);
-                } else if (field.getProperties().contains(FieldProperty.MULTIPLE_ENTRY_LINK)) {
-                    addEntryLinks(bibEntry, field, preparedStatementSplitValues, entryId);
-                } else if (field == StandardField.FILE) {
-                    // No handling of File, because due to relative paths, we think, there won't be any exact match operation
-                    // We could add the filename itself (with and without extension). However, the user can also use regular expressions to achieve the same.
-                    // The use case to search for file names seems pretty seldom, therefore we omit it.
-                } else {
-                    // No other multi-value fields are known
-                    // No action needed -> main table has the value
-                }
-                // endregion
-            }
-
-            // add entry type
-            addBatch(preparedStatement, entryId, TYPE_HEADER, bibEntry.getType().getName());
+            writeEntry(bibEntry,
+                    (entryId, field, value, normalized) -> addBatch(preparedStatement, entryId, field, value, normalized),
+                    (entryId, field, value, normalized) -> addBatch(preparedStatementSplitValues, entryId, field, value, normalized));
 
             preparedStatement.executeBatch();
             preparedStatementSplitValues.executeBatch();
@@ -250,6 +334,48 @@ public class BibFieldsIndexer {
         }
     }
 
+    /**
+     * Converts the entry into the rows of the main table and the split values table, and hands them to the given consumers.
+     */
+    private void writeEntry(BibEntry bibEntry, RowConsumer mainRows, RowConsumer splitRows) {
+        String entryId = bibEntry.getId();
+        for (Map.Entry<Field, String> fieldPair : bibEntry.getFieldMap().entrySet()) {
+            Field field = fieldPair.getKey();
+            String value = fieldPair.getValue();
+
+            // If a field exists, there also exists a resolved field latex free.
+            // We add a `.orElse("")` only because there could be some flaw in the future in the code - and we want to have search working even if the flaws are present.
+            // To uncover these flaws, we add the "assert" statement.
+            // One potential future flaw is that the bibEntry is modified concurrently and the field being deleted.
+            Optional<String> resolvedFieldLatexFree = bibEntry.getResolvedFieldOrAliasLatexFree(field, this.databaseContext.getDatabase());
+            assert resolvedFieldLatexFree.isPresent();
+            mainRows.accept(entryId, field, value, resolvedFieldLatexFree.orElse(""));
+
+            // region Handling of known multi-value fields
+            // split and convert to Unicode
+            if (field.getProperties().contains(FieldProperty.PERSON_NAMES)) {
+                addAuthors(value, splitRows, entryId, field);
+            } else if (field == StandardField.KEYWORDS) {
+                addKeywords(value, splitRows, entryId, field, keywordSeparator);
+            } else if (field == StandardField.GROUPS) {
+                addGroups(value, splitRows, entryId, field);
+            } else if (field.getProperties().contains(FieldProperty.MULTIPLE_ENTRY_LINK)) {
+                addEntryLinks(bibEntry, field, splitRows, entryId);
+            } else if (field == StandardField.FILE) {
+                // No handling of File, because due to relative paths, we think, there won't be any exact match operation
+                // We could add the filename itself (with and without extension). However, the user can also use regular expressions to achieve the same.
+                // The use case to search for file names seems pretty seldom, therefore we omit it.
+            } else {
+                // No other multi-value fields are known
+                // No action needed -> main table has the value
+            }
+            // endregion
+        }
+
+        // add entry type
+        addRow(mainRows, entryId, TYPE_HEADER, bibEntry.getType().getName());
+    }
+
     public void removeFromIndex(Collection<BibEntry> entries, BackgroundTask<?> task) {
         if (entries.size() > 1) {
             task.showToUser(true);
@@ -268,7 +394,7 @@ public class BibFieldsIndexer {
         }
     }
 
-    private void removeFromIndex(BibEntry entry) {
+    private synchronized void removeFromIndex(BibEntry entry) {
         try {
             connection.createStatement().executeUpdate("""
                     DELETE FROM %s
@@ -284,7 +410,7 @@ public class BibFieldsIndexer {
         }
     }
 
-    public void updateEntry(BibEntry entry, Field field) {
+    public synchronized void updateEntry(BibEntry entry, Field field) {
         removeField(entry, field);
         insertField(entry, field);
     }
@@ -326,14 +452,15 @@ public class BibFieldsIndexer {
             String entryId = entry.getId();
             String value = entry.getField(field).orElse("");
 
+            RowConsumer splitRows = (id, splitField, splitValue, normalized) -> addBatch(preparedStatement, id, splitField, splitValue, normalized);
             if (field.getProperties().contains(FieldProperty.PERSON_NAMES)) {
-                addAuthors(value, preparedStatement, entryId, field);
+                addAuthors(value, splitRows, entryId, field);
             } else if (field == StandardField.KEYWORDS) {
-                addKeywords(value, preparedStatement, entryId, field, keywordSeparator);
+                addKeywords(value, splitRows, entryId, field, keywordSeparator);
             } else if (field == StandardField.GROUPS) {
-                addGroups(value, preparedStatement, entryId, field);
+                addGroups(value, splitRows, entryId, field);
             } else if (field.getProperties().contains(FieldProperty.MULTIPLE_ENTRY_LINK)) {
-                addEntryLinks(entry, field, preparedStatement, entryId);
+                addEntryLinks(entry, field, splitRows, entryId);
             } else if (field == StandardField.FILE) {
                 // No handling of File, because due to relative paths, we think, there won't be any exact match operation
             }
@@ -367,7 +494,7 @@ public class BibFieldsIndexer {
         HeadlessExecutorService.INSTANCE.executeAndWait(this::closeIndex);
     }
 
-    private void closeIndex() {
+    private synchronized void closeIndex() {
         try {
             LOGGER.debug("Closing connection to Postgres server for library: {}", libraryName);
             connection.createStatement().executeUpdate("""
@@ -386,41 +513,41 @@ public class BibFieldsIndexer {
         return mainTable;
     }
 
-    private void addEntryLinks(BibEntry bibEntry, Field field, PreparedStatement preparedStatementSplitValues, String entryId) {
+    private void addEntryLinks(BibEntry bibEntry, Field field, RowConsumer splitRows, String entryId) {
         bibEntry.getEntryLinkList(field, databaseContext.getDatabase()).stream().distinct().forEach(link -> {
-            addBatch(preparedStatementSplitValues, entryId, field, link.getKey());
+            addRow(splitRows, entryId, field, link.getKey());
         });
     }
 
-    private static void addGroups(String value, PreparedStatement preparedStatementSplitValues, String entryId, Field field) {
+    private static void addGroups(String value, RowConsumer splitRows, String entryId, Field field) {
         // We could use KeywordList, but we are afraid that group names could have ">" in their name, and then they would not be handled correctly
         Arrays.stream(GROUPS_SEPARATOR_REGEX.split(value))
               .distinct()
               .forEach(group -> {
-                  addBatch(preparedStatementSplitValues, entryId, field, group);
+                  addRow(splitRows, entryId, field, group);
               });
     }
 
-    private static void addKeywords(String keywordsString, PreparedStatement preparedStatementSplitValues, String entryId, Field field, Character keywordSeparator) {
+    private static void addKeywords(String keywordsString, RowConsumer splitRows, String entryId, Field field, Character keywordSeparator) {
         KeywordList keywordList = KeywordList.parse(keywordsString, keywordSeparator);
         keywordList.stream().flatMap(keyword -> keyword.flatten().stream()).forEach(keyword -> {
             String value = keyword.toString();
-            addBatch(preparedStatementSplitValues, entryId, field, value);
+            addRow(splitRows, entryId, field, value);
         });
     }
 
-    private static void addAuthors(String value, PreparedStatement preparedStatementSplitValues, String entryId, Field field) {
+    private static void addAuthors(String value, RowConsumer splitRows, String entryId, Field field) {
         AuthorList.parse(value).getAuthors().forEach(author -> {
             // Author object does not support literal values
             // We use the method giving us the most complete information for the literal value;
             String literal = author.getGivenFamily(false);
             String transformed = author.latexFree().getGivenFamily(false);
-            addBatch(preparedStatementSplitValues, entryId, field, literal, transformed);
+            splitRows.accept(entryId, field, literal, transformed);
         });
     }
 
-    private static void addBatch(PreparedStatement preparedStatement, String entryId, Field field, String value) {
-        addBatch(preparedStatement, entryId, field, value, LATEX_TO_UNICODE_FORMATTER.format(value));
+    private static void addRow(RowConsumer rows, String entryId, Field field, String value) {
+        rows.accept(entryId, field, value, LATEX_TO_UNICODE_FORMATTER.format(value));
     }
 
     /**
@@ -437,4 +564,56 @@ public class BibFieldsIndexer {
             LOGGER.error("Could not add field {} having value {} of entry {} to the index.", field.getName(), value, entryId, e);
         }
     }
+
+    /**
+     * Receives one row (entry id, field name, literal value, transformed value) of a table of the index.
+     */
+    @FunctionalInterface
+    private interface RowConsumer {
+        void accept(String entryId, Field field, String value, String normalized);
+    }
+
+    /**
+     * Collects rows in the text format of the Postgres COPY command.
+     *
+     * @see <a href="https://www.postgresql.org/docs/current/sql-copy.html#id-1.9.3.55.9.2">COPY Text Format</a>
+     */
+    private static class CopyRowWriter implements RowConsumer {
+        private final StringBuilder rows = new StringBuilder();
+
+        @Override
+        public void accept(String entryId, Field field, String value, String normalized) {
+            appendEscaped(entryId);
+            rows.append('\t');
+            appendEscaped(field.getName());
+            rows.append('\t');
+            appendEscaped(value);
+            rows.append('\t');
+            appendEscaped(normalized);
+            rows.append('\n');
+        }
+
+        private void appendEscaped(String value) {
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                switch (c) {
+                    case '\\' ->
+                            rows.append("\\\\");
+                    case '\n' ->
+                            rows.append("\\n");
+                    case '\r' ->
+                            rows.append("\\r");
+                    case '\t' ->
+                            rows.append("\\t");
+                    default ->
+                            rows.append(c);
+                }
+            }
+        }
+
+        @Override
+        public String toString() {
+            return rows.toString();
+        }
+    }
 }
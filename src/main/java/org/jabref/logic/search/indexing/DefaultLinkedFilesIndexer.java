@@ -6,11 +6,19 @@ import java.nio.file.Path;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletionService;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
@@ -29,6 +37,7 @@ import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.LinkedFile;
 import org.jabref.model.search.LinkedFilesConstants;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.apache.commons.io.FileUtils;
 import org.apache.lucene.document.Document;
 import org.apache.lucene.index.IndexWriter;
@@ -50,6 +59,12 @@ public class DefaultLinkedFilesIndexer implements LuceneIndexer {
     private static final DocumentReader DOCUMENT_READER = new DocumentReader();
     private static int NUMBER_OF_UNSAVED_LIBRARIES = 1;
 
+    /**
+     * Files larger than this are counted as large documents. Only {@link #MAX_LARGE_DOCUMENTS_IN_MEMORY} of them are read at the same time.
+     */
+    private static final long LARGE_DOCUMENT_SIZE = 20 * 1024 * 1024;
+    private static final int MAX_LARGE_DOCUMENTS_IN_MEMORY = 2;
+
     private final BibDatabaseContext databaseContext;
     private final FilePreferences filePreferences;
     private final String libraryName;
@@ -123,42 +138,115 @@ public class DefaultLinkedFilesIndexer implements LuceneIndexer {
         addToIndex(filesToAdd, task);
     }
 
+    /**
+     * Reads the files using a pool of threads sized to the available cores and adds them to the index from the calling thread.
+     * The number of files read but not yet written to the index is bounded, so that only a limited number of documents is kept in memory.
+     */
     private void addToIndex(Map<String, Pair<Long, Path>> linkedFiles, BackgroundTask<?> task) {
-        for (String fileLink : linkedFiles.keySet()) {
+        linkedFiles.keySet().removeIf(fileLink -> {
             if (indexedFiles.containsKey(fileLink)) {
                 LOGGER.debug("File {} is already indexed.", fileLink);
-                linkedFiles.remove(fileLink);
+                return true;
             }
-        }
+            return false;
+        });
         if (linkedFiles.isEmpty()) {
             return;
         }
 
         LOGGER.debug("Adding {} files to index", linkedFiles.size());
+        int numberOfThreads = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+        int maxFilesInMemory = 2 * numberOfThreads;
+        ExecutorService executorService = Executors.newFixedThreadPool(numberOfThreads,
+                new ThreadFactoryBuilder().setNameFormat("linked-files-indexer-%d").setDaemon(true).build());
+        CompletionService<LinkedFileContent> completionService = new ExecutorCompletionService<>(executorService);
+        Semaphore largeDocumentPermits = new Semaphore(MAX_LARGE_DOCUMENTS_IN_MEMORY);
+
+        Iterator<Map.Entry<String, Pair<Long, Path>>> filesToRead = linkedFiles.entrySet().iterator();
+        int filesInMemory = 0;
         int i = 1;
-        for (Map.Entry<String, Pair<Long, Path>> entry : linkedFiles.entrySet()) {
-            if (task.isCancelled()) {
-                LOGGER.debug("Adding files to index canceled");
-                return;
+        try {
+            while (filesToRead.hasNext() || filesInMemory > 0) {
+                if (task.isCancelled()) {
+                    LOGGER.debug("Adding files to index canceled");
+                    return;
+                }
+                while (filesToRead.hasNext() && filesInMemory < maxFilesInMemory) {
+                    Map.Entry<String, Pair<Long, Path>> entry = filesToRead.next();
+                    completionService.submit(() -> readLinkedFile(entry.getKey(), entry.getValue().getKey(), entry.getValue().getValue(), largeDocumentPermits));
+                    filesInMemory++;
+                }
+
+                Future<LinkedFileContent> readFile = completionService.poll(500, TimeUnit.MILLISECONDS);
+                if (readFile == null) {
+                    continue;
+                }
+                filesInMemory--;
+
+                try {
+                    LinkedFileContent content = readFile.get();
+                    try {
+                        addToIndex(content);
+                    } finally {
+                        if (content.isLarge()) {
+                            largeDocumentPermits.release();
+                        }
+                    }
+                    task.updateMessage(Localization.lang("Indexing %0", FileUtil.shortenFileName(content.resolvedPath().getFileName().toString(), 68)));
+                } catch (ExecutionException e) {
+                    // A file that cannot be read still counts as processed
+                    LOGGER.warn("Could not read linked file.", e.getCause());
+                }
+
+                task.setTitle(Localization.lang("Indexing files for %1 | %2 of %0 file(s) indexed.", linkedFiles.size(), libraryName, i));
+                task.updateProgress(i, linkedFiles.size());
+                task.showToUser(true);
+                i++;
             }
-            addToIndex(entry.getKey(), entry.getValue().getKey(), entry.getValue().getValue());
-            task.setTitle(Localization.lang("Indexing files for %1 | %2 of %0 file(s) indexed.", linkedFiles.size(), libraryName, i));
-            task.updateProgress(i, linkedFiles.size());
-            task.updateMessage(Localization.lang("Indexing %0", FileUtil.shortenFileName(entry.getValue().getValue().getFileName().toString(), 68)));
-            task.showToUser(true);
-            i++;
+        } catch (InterruptedException e) {
+            LOGGER.debug("Adding files to index interrupted");
+            Thread.currentThread().interrupt();
+            return;
+        } finally {
+            executorService.shutdownNow();
         }
         LOGGER.debug("Added {} files to index", linkedFiles.size());
     }
 
-    private void addToIndex(String fileLink, long modifiedTime, Path resolvedPath) {
-        LOGGER.debug("Adding file {} to the index.", fileLink);
-        List<Document> pages = DOCUMENT_READER.readPdfContents(fileLink, resolvedPath);
+    /**
+     * Runs on the reader pool. The caller has to release the permit for large documents after the content has been added to the index.
+     */
+    private LinkedFileContent readLinkedFile(String fileLink, long modifiedTime, Path resolvedPath, Semaphore largeDocumentPermits) throws InterruptedException {
+        boolean isLarge = isLargeDocument(resolvedPath);
+        if (isLarge) {
+            largeDocumentPermits.acquire();
+        }
+        try {
+            LOGGER.debug("Reading file {} for the index.", fileLink);
+            return new LinkedFileContent(fileLink, modifiedTime, resolvedPath, DOCUMENT_READER.readPdfContents(fileLink, resolvedPath), isLarge);
+        } catch (RuntimeException e) {
+            if (isLarge) {
+                largeDocumentPermits.release();
+            }
+            throw e;
+        }
+    }
+
+    private static boolean isLargeDocument(Path resolvedPath) {
+        try {
+            return Files.size(resolvedPath) > LARGE_DOCUMENT_SIZE;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private void addToIndex(LinkedFileContent content) {
+        LOGGER.debug("Adding file {} to the index.", content.fileLink());
         try {
-            indexWriter.addDocuments(pages);
-            indexedFiles.put(fileLink, modifiedTime);
+            indexWriter.addDocuments(content.pages());
+            indexedFiles.put(content.fileLink(), content.modifiedTime());
         } catch (IOException e) {
-            LOGGER.warn("Could not add the document {} to the index.", fileLink, e);
+            LOGGER.warn("Could not add the document {} to the index.", content.fileLink(), e);
         }
     }
 
@@ -260,7 +348,7 @@ public class DefaultLinkedFilesIndexer implements LuceneIndexer {
     private Map<String, Pair<Long, Path>> getLinkedFilesFromEntries(Collection<BibEntry> entries) {
         Map<String, Pair<Long, Path>> linkedFiles = new HashMap<>();
         for (BibEntry entry : entries) {
-            for (LinkedFile linkedFile : entry.getFiles()) {
+            for (LinkedFile linkedFile : entry.getParsedFiles()) {
                 Pair<Long, Path> fileInfo = getLinkedFileInfo(linkedFile);
                 if (fileInfo != null) {
                     linkedFiles.put(linkedFile.getLink(), fileInfo);
@@ -338,4 +426,7 @@ public class DefaultLinkedFilesIndexer implements LuceneIndexer {
             LOGGER.error("Error while closing linked files index", e);
         }
     }
+
+    private record LinkedFileContent(String fileLink, long modifiedTime, Path resolvedPath, List<Document> pages, boolean isLarge) {
+    }
 }
@@ -18,6 +18,14 @@ public class SearchQueryConversion {
         return new SearchToSqlVisitor(table, searchQuery.getSearchFlags()).visit(searchQuery.getContext());
     }
 
+    /**
+     * Converts the search expression to a query that only considers the entries with the given ids.
+     */
+    public static SqlQueryNode searchToSql(String table, SearchQuery searchQuery, List<String> entryIds) {
+        LOGGER.debug("Converting search expression to SQL restricted to {} entries: {}", entryIds.size(), searchQuery.getSearchExpression());
+        return new SearchToSqlVisitor(table, searchQuery.getSearchFlags(), entryIds).visit(searchQuery.getContext());
+    }
+
     public static String flagsToSearchExpression(SearchQuery searchQuery) {
         LOGGER.debug("Converting search flags to search expression: {}, flags {}", searchQuery.getSearchExpression(), searchQuery.getSearchFlags());
         return new SearchFlagsToExpressionVisitor(searchQuery.getSearchFlags()).visit(searchQuery.getContext());
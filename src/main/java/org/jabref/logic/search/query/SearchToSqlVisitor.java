@@ -36,6 +36,8 @@ public class SearchToSqlVisitor extends SearchBaseVisitor<SqlQueryNode> {
     private static final String MAIN_TABLE = "main_table";
     private static final String SPLIT_TABLE = "split_table";
     private static final String INNER_TABLE = "inner_table";
+    private static final String RESTRICTED_MAIN_TABLE = "restricted_main_table";
+    private static final String RESTRICTED_SPLIT_TABLE = "restricted_split_table";
     private static final String GROUPS_FIELD = StandardField.GROUPS.getName();
 
     private final EnumSet<SearchFlags> searchBarFlags;
@@ -50,6 +52,40 @@ public class SearchToSqlVisitor extends SearchBaseVisitor<SqlQueryNode> {
         this.splitValuesTableName = PostgreConstants.getSplitTableSchemaReference(table);
     }
 
+    /**
+     * Creates a visitor whose query only considers the given entries. The rows of these entries are selected once
+     * and all sub-queries are evaluated on them instead of on the whole library.
+     */
+    public SearchToSqlVisitor(String table, EnumSet<SearchFlags> searchBarFlags, List<String> entryIds) {
+        this.searchBarFlags = searchBarFlags;
+        this.mainTableName = RESTRICTED_MAIN_TABLE;
+        this.splitValuesTableName = RESTRICTED_SPLIT_TABLE;
+
+        String restrictedMainTable = """
+                %s AS MATERIALIZED (
+                    SELECT *
+                    FROM %s
+                    WHERE %s IN (%s)
+                )
+                """.formatted(
+                RESTRICTED_MAIN_TABLE,
+                PostgreConstants.getMainTableSchemaReference(table),
+                ENTRY_ID, String.join(", ", Collections.nCopies(entryIds.size(), "?")));
+        nodes.add(new SqlQueryNode(restrictedMainTable, entryIds));
+
+        String restrictedSplitTable = """
+                %s AS MATERIALIZED (
+                    SELECT *
+                    FROM %s
+                    WHERE %s IN (SELECT %s FROM %s)
+                )
+                """.formatted(
+                RESTRICTED_SPLIT_TABLE,
+                PostgreConstants.getSplitTableSchemaReference(table),
+                ENTRY_ID, ENTRY_ID, RESTRICTED_MAIN_TABLE);
+        nodes.add(new SqlQueryNode(restrictedSplitTable));
+    }
+
     @Override
     public SqlQueryNode visitStart(SearchParser.StartContext ctx) {
         SqlQueryNode finalNode = visit(ctx.andExpression());
@@ -4,6 +4,11 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
 
 import org.jabref.logic.search.query.SearchQueryConversion;
 import org.jabref.model.entry.BibEntry;
@@ -12,13 +17,13 @@ import org.jabref.model.search.query.SearchResult;
 import org.jabref.model.search.query.SearchResults;
 import org.jabref.model.search.query.SqlQueryNode;
 
+import com.google.common.collect.Lists;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import static org.jabref.model.search.PostgreConstants.ENTRY_ID;
-
 public class BibFieldsSearcher {
     private static final Logger LOGGER = LoggerFactory.getLogger(BibFieldsSearcher.class);
+    private static final int MAX_ENTRY_IDS_PER_QUERY = 1000;
 
     private final Connection connection;
     private final String tableName;
@@ -29,13 +34,37 @@ public class BibFieldsSearcher {
     }
 
     public boolean isMatched(BibEntry entry, SearchQuery searchQuery) {
-        SearchQuery newSearchQuery = createBooleanQueryForEntry(entry, searchQuery);
-        return search(newSearchQuery).isMatched(entry);
+        return getMatchedEntryIds(searchQuery, List.of(entry)).contains(entry.getId());
+    }
+
+    /**
+     * Evaluates the query once for the whole library.
+     *
+     * @return the ids of all entries matching the query
+     */
+    public Set<String> getMatchedEntryIds(SearchQuery searchQuery) {
+        return new HashSet<>(search(searchQuery).getMatchedEntries());
     }
 
-    private static SearchQuery createBooleanQueryForEntry(BibEntry entry, SearchQuery oldSearchQuery) {
-        String newSearchExpression = "( " + ENTRY_ID + "= " + entry.getId() + ") AND (" + oldSearchQuery.getSearchExpression() + " )";
-        return new SearchQuery(newSearchExpression, oldSearchQuery.getSearchFlags());
+    /**
+     * Evaluates the query only on the given entries. The restriction is part of the generated query, thus the cost
+     * depends on the number of given entries and not on the size of the library.
+     * Used to incrementally update the matches after some entries were added or updated.
+     *
+     * @return the ids of the given entries matching the query
+     */
+    public Set<String> getMatchedEntryIds(SearchQuery searchQuery, Collection<BibEntry> entries) {
+        Set<String> matchedIds = new HashSet<>();
+        if (!searchQuery.isValid()) {
+            return matchedIds;
+        }
+        List<String> entryIds = entries.stream().map(BibEntry::getId).toList();
+        // Each id is a parameter of the query, and PostgreSQL limits the number of parameters
+        for (List<String> batch : Lists.partition(entryIds, MAX_ENTRY_IDS_PER_QUERY)) {
+            SqlQueryNode sqlQueryNode = SearchQueryConversion.searchToSql(tableName, searchQuery, batch);
+            execute(sqlQueryNode, matchedIds::add);
+        }
+        return matchedIds;
     }
 
     public SearchResults search(SearchQuery searchQuery) {
@@ -44,6 +73,11 @@ public class BibFieldsSearcher {
         }
         SqlQueryNode sqlQueryNode = SearchQueryConversion.searchToSql(tableName, searchQuery);
         SearchResults searchResults = new SearchResults();
+        execute(sqlQueryNode, entryId -> searchResults.addSearchResult(entryId, new SearchResult()));
+        return searchResults;
+    }
+
+    private void execute(SqlQueryNode sqlQueryNode, Consumer<String> matchedEntryIdConsumer) {
         try (PreparedStatement preparedStatement = connection.prepareStatement(sqlQueryNode.cte())) {
             for (int i = 0; i < sqlQueryNode.params().size(); i++) {
                 preparedStatement.setString(i + 1, sqlQueryNode.params().get(i));
@@ -51,12 +85,10 @@ public class BibFieldsSearcher {
             LOGGER.debug("Executing search query: {}", preparedStatement);
             ResultSet resultSet = preparedStatement.executeQuery();
             while (resultSet.next()) {
-                String entryId = resultSet.getString(1);
-                searchResults.addSearchResult(entryId, new SearchResult());
+                matchedEntryIdConsumer.accept(resultSet.getString(1));
             }
         } catch (SQLException e) {
             LOGGER.error("Error during bib fields search execution", e);
         }
-        return searchResults;
     }
 }
@@ -0,0 +1,479 @@
+package org.jabref.logic.search.retrieval;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import org.jabref.model.search.PostgreConstants;
+import org.jabref.model.util.Range;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A search pattern compiled for highlighting, which behaves like the functions {@code regexp_mark} and
+ * {@code regexp_positions} in {@link PostgreConstants#POSTGRES_FUNCTIONS}.
+ * <p>
+ * The search patterns are regular expressions in the syntax of Postgres (advanced regular expressions), matched
+ * case-insensitively. They are translated to Java patterns. Where the syntax differs, the constructs of Postgres are
+ * rewritten (e.g., {@code \m}, {@code \y}, {@code [[:alpha:]]}, or {@code $}, which does not match before a final line
+ * break in Postgres). Patterns Postgres rejects (e.g., {@code C++}) are rejected, too.
+ * <p>
+ * Postgres takes the longest match at the leftmost position (or the shortest one if the pattern is non-greedy), while
+ * Java takes the first alternative that matches. Thus, the end of each match is searched for separately.
+ */
+class HighlightPattern {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(HighlightPattern.class);
+
+    private static final String MARK_START = "<mark style=\"background: orange\">";
+    private static final String MARK_END = "</mark>";
+
+    private static final Map<String, String> CHARACTER_CLASSES = Map.ofEntries(
+            Map.entry("alpha", "\\p{IsAlphabetic}"),
+            Map.entry("upper", "\\p{IsUppercase}"),
+            Map.entry("lower", "\\p{IsLowercase}"),
+            Map.entry("digit", "0-9"),
+            Map.entry("xdigit", "0-9A-Fa-f"),
+            Map.entry("alnum", "\\p{IsAlphabetic}0-9"),
+            Map.entry("word", "\\p{IsAlphabetic}0-9_"),
+            Map.entry("space", "\\s"),
+            Map.entry("blank", " \\t"),
+            Map.entry("punct", "\\p{Punct}"),
+            Map.entry("cntrl", "\\p{Cntrl}"),
+            Map.entry("graph", "\\p{Graph}"),
+            Map.entry("print", "\\p{Print}"));
+
+    private final Pattern pattern;
+    private final boolean greedy;
+    // Upper bound of the length of a match, if the pattern has no repetitions; -1 if unbounded
+    private final int maximumMatchLength;
+
+    private HighlightPattern(Pattern pattern, boolean greedy, int maximumMatchLength) {
+        this.pattern = pattern;
+        this.greedy = greedy;
+        this.maximumMatchLength = maximumMatchLength;
+    }
+
+    /**
+     * @return empty if the pattern is invalid
+     */
+    static Optional<HighlightPattern> compile(String searchPattern) {
+        try {
+            Translation translation = new Translation(searchPattern);
+            String javaPattern = translation.translate();
+            // Word characters and boundaries have to include non-ASCII letters, as in PostgreSQL
+            Pattern pattern = Pattern.compile("(" + javaPattern + ")", Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE | Pattern.UNICODE_CHARACTER_CLASS | Pattern.DOTALL);
+            int maximumMatchLength = translation.bounded ? 2 * searchPattern.length() : -1;
+            return Optional.of(new HighlightPattern(pattern, translation.isGreedy(), maximumMatchLength));
+        } catch (PatternSyntaxException e) {
+            LOGGER.debug("Invalid search pattern {}", searchPattern, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Surrounds all matches with a mark tag, like {@code regexp_mark}.
+     */
+    String mark(String text) {
+        StringBuilder marked = new StringBuilder(text.length() + 64);
+        int copied = 0;
+        for (int[] match : findMatches(text)) {
+            marked.append(text, copied, match[0])
+                  .append(MARK_START)
+                  .append(text, match[0], match[1])
+                  .append(MARK_END);
+            copied = match[1];
+        }
+        return marked.append(text, copied, text.length()).toString();
+    }
+
+    /**
+     * Returns the positions of all matches like {@code regexp_positions}: one-based and inclusive, counted in code
+     * points. As there, each position is found by searching for the matched text after the previous match.
+     */
+    List<Range> findPositions(String text) {
+        List<Range> positions = new ArrayList<>();
+        int endPosition = 0;
+        String remainder = text;
+        for (int[] match : findMatches(text)) {
+            String matchedText = text.substring(match[0], match[1]);
+            int length = matchedText.codePointCount(0, matchedText.length());
+            int position = position(matchedText, remainder);
+            int startPosition = position + endPosition;
+            endPosition = startPosition + length - 1;
+            positions.add(new Range(startPosition, endPosition));
+            remainder = right(remainder, 1 - length - position);
+        }
+        return positions;
+    }
+
+    /**
+     * Postgres' {@code position(substring in string)}: the one-based code point index, 0 if not found
+     */
+    private static int position(String substring, String string) {
+        int index = string.indexOf(substring);
+        return (index < 0) ? 0 : string.codePointCount(0, index) + 1;
+    }
+
+    /**
+     * Postgres' {@code right(string, n)}: the last n code points, or all but the first -n code points if n is negative
+     */
+    private static String right(String string, int n) {
+        int length = string.codePointCount(0, string.length());
+        int start = (n < 0) ? Math.min(-n, length) : Math.max(length - n, 0);
+        return string.substring(string.offsetByCodePoints(0, start));
+    }
+
+    /**
+     * Returns the start and end indexes of the matches as Postgres finds them with the global flag.
+     */
+    private List<int[]> findMatches(String text) {
+        List<int[]> matches = new ArrayList<>();
+        Matcher matcher = pattern.matcher(text);
+        Matcher probe = pattern.matcher(text).useTransparentBounds(true).useAnchoringBounds(false);
+        int from = 0;
+        while ((from <= text.length()) && matcher.find(from)) {
+            int start = matcher.start();
+            int end = greedy ? findLongestEnd(probe, text, start, matcher.end()) : findShortestEnd(probe, text, start, matcher.end());
+            matches.add(new int[] {start, end});
+            // After an empty match, the search continues at the next character
+            from = (end > start) ? end : ((end < text.length()) ? text.offsetByCodePoints(end, 1) : end + 1);
+        }
+        return matches;
+    }
+
+    /**
+     * Probes the ends after the end Java found in ascending order. A probe that does not read up to the end of its
+     * region ({@link Matcher#hitEnd()}) gives the same result for all longer regions, thus the probing stops there.
+     * For most patterns, this is the case right after the end Java found.
+     */
+    private int findLongestEnd(Matcher probe, String text, int start, int end) {
+        int limit = (maximumMatchLength < 0) ? text.length() : (int) Math.min(text.length(), (long) start + maximumMatchLength);
+        int longestEnd = end;
+        for (int candidate = end + 1; candidate <= limit; candidate++) {
+            if (!isCodePointBoundary(text, candidate)) {
+                continue;
+            }
+            if (probe.region(start, candidate).matches()) {
+                longestEnd = candidate;
+            }
+            if (!probe.hitEnd()) {
+                break;
+            }
+        }
+        return longestEnd;
+    }
+
+    private static int findShortestEnd(Matcher probe, String text, int start, int end) {
+        for (int candidate = start; candidate < end; candidate++) {
+            if (isCodePointBoundary(text, candidate) && probe.region(start, candidate).matches()) {
+                return candidate;
+            }
+        }
+        return end;
+    }
+
+    private static boolean isCodePointBoundary(String text, int index) {
+        return (index == 0) || (index == text.length())
+                || !(Character.isHighSurrogate(text.charAt(index - 1)) && Character.isLowSurrogate(text.charAt(index)));
+    }
+
+    /**
+     * Translates an advanced regular expression of Postgres to a Java regular expression
+     */
+    private static class Translation {
+        private final String source;
+        private final StringBuilder target = new StringBuilder();
+        private int index;
+
+        private boolean topLevelAlternation;
+        // Laziness of the first quantifier with a greediness, null if there is none
+        private Boolean firstQuantifierLazy;
+        private boolean bounded = true;
+
+        // Whether the last element may be quantified, and whether it is a quantifier
+        private boolean quantifiable;
+        private boolean afterQuantifier;
+        private int depth;
+
+        Translation(String source) {
+            this.source = source;
+        }
+
+        boolean isGreedy() {
+            return topLevelAlternation || (firstQuantifierLazy == null) || !firstQuantifierLazy;
+        }
+
+        private PatternSyntaxException error(String description) {
+            return new PatternSyntaxException(description, source, index);
+        }
+
+        String translate() {
+            while (index < source.length()) {
+                char c = source.charAt(index++);
+                switch (c) {
+                    case '\\' -> translateEscape();
+                    case '[' -> translateBracketExpression();
+                    case '(' -> translateGroupStart();
+                    case ')' -> {
+                        if (depth == 0) {
+                            throw error("Unmatched closing parenthesis");
+                        }
+                        depth--;
+                        element(")");
+                    }
+                    case '|' -> {
+                        if (depth == 0) {
+                            topLevelAlternation = true;
+                        }
+                        target.append('|');
+                        quantifiable = false;
+                        afterQuantifier = false;
+                    }
+                    case '*', '+', '?' -> quantifier(String.valueOf(c), c != '?', true);
+                    case '{' -> translateBound();
+                    case '}' -> element("\\}");
+                    case '^' -> anchor("^");
+                    case '$' -> anchor("\\z");
+                    default -> element(String.valueOf(c));
+                }
+            }
+            if (depth > 0) {
+                throw error("Unclosed group");
+            }
+            return target.toString();
+        }
+
+        private void element(String translation) {
+            target.append(translation);
+            quantifiable = true;
+            afterQuantifier = false;
+        }
+
+        private void anchor(String translation) {
+            target.append(translation);
+            quantifiable = false;
+            afterQuantifier = false;
+        }
+
+        private void quantifier(String translation, boolean unbounded, boolean hasGreediness) {
+            if (afterQuantifier || !quantifiable) {
+                throw error("Quantifier operand invalid");
+            }
+            target.append(translation);
+            boolean lazy = (index < source.length()) && (source.charAt(index) == '?');
+            if (lazy) {
+                index++;
+                target.append('?');
+            }
+            if (hasGreediness && (firstQuantifierLazy == null)) {
+                firstQuantifierLazy = lazy;
+            }
+            bounded &= !unbounded;
+            quantifiable = false;
+            afterQuantifier = true;
+        }
+
+        private void translateBound() {
+            int end = source.indexOf('}', index);
+            if ((index >= source.length()) || !Character.isDigit(source.charAt(index))) {
+                // Not a bound, but an ordinary character
+                element("\\{");
+                return;
+            }
+            if (end < 0) {
+                throw error("Unclosed bound");
+            }
+            String bound = source.substring(index, end);
+            if (!bound.matches("\\d+(,\\d*)?")) {
+                throw error("Invalid bound");
+            }
+            index = end + 1;
+            boolean fixed = !bound.contains(",");
+            // Even a fixed bound multiplies the length of its operand, which may be longer than its source (e.g., (ab|abc){100})
+            quantifier("{" + bound + "}", true, !fixed);
+        }
+
+        private void translateGroupStart() {
+            if ((index < source.length()) && (source.charAt(index) == '?')) {
+                String[] allowed = {"?:", "?=", "?!", "?<=", "?<!"};
+                for (String prefix : allowed) {
+                    if (source.startsWith(prefix, index)) {
+                        index += prefix.length();
+                        target.append('(').append(prefix);
+                        depth++;
+                        quantifiable = false;
+                        afterQuantifier = false;
+                        return;
+                    }
+                }
+                throw error("Invalid group");
+            }
+            target.append('(');
+            depth++;
+            quantifiable = false;
+            afterQuantifier = false;
+        }
+
+        private void translateEscape() {
+            if (index >= source.length()) {
+                throw error("Trailing backslash");
+            }
+            char c = source.charAt(index++);
+            switch (c) {
+                case 'm' -> anchor("\\b(?=\\w)");
+                case 'M' -> anchor("\\b(?<=\\w)");
+                case 'y' -> anchor("\\b");
+                case 'Y' -> anchor("\\B");
+                case 'A' -> anchor("\\A");
+                case 'Z' -> anchor("\\z");
+                case 'd', 'D', 's', 'S', 'w', 'W' -> element("\\" + c);
+                default -> {
+                    if (Character.isDigit(c) && (c != '0')) {
+                        // Back reference
+                        int start = index - 1;
+                        while ((index < source.length()) && Character.isDigit(source.charAt(index))) {
+                            index++;
+                        }
+                        bounded = false;
+                        element("\\" + source.substring(start, index));
+                    } else {
+                        element(toCodePointEscape(translateCharacterEscape(c)));
+                    }
+                }
+            }
+        }
+
+        /**
+         * Returns the code point of a character escape
+         */
+        private int translateCharacterEscape(char c) {
+            return switch (c) {
+                case 'a' -> 0x07;
+                case 'b' -> 0x08;
+                case 'B' -> '\\';
+                case 'e' -> 0x1B;
+                case 'f' -> '\f';
+                case 'n' -> '\n';
+                case 'r' -> '\r';
+                case 't' -> '\t';
+                case 'v' -> 0x0B;
+                case 'c' -> {
+                    if (index >= source.length()) {
+                        throw error("Invalid escape");
+                    }
+                    yield source.charAt(index++) & 0x1F;
+                }
+                case 'x' -> parseNumber(16, Integer.MAX_VALUE);
+                case 'u' -> parseNumber(16, 4);
+                case 'U' -> parseNumber(16, 8);
+                case '0' -> {
+                    index--;
+                    yield parseNumber(8, 3);
+                }
+                default -> {
+                    if (Character.isLetterOrDigit(c)) {
+                        throw error("Invalid escape");
+                    }
+                    yield c;
+                }
+            };
+        }
+
+        private int parseNumber(int radix, int maximumDigits) {
+            int start = index;
+            while ((index < source.length()) && ((index - start) < maximumDigits) && (Character.digit(source.charAt(index), radix) >= 0)) {
+                index++;
+            }
+            if ((index == start) || ((maximumDigits <= 8) && (radix == 16) && ((index - start) != maximumDigits))) {
+                throw error("Invalid escape");
+            }
+            try {
+                int codePoint = Integer.parseInt(source.substring(start, index), radix);
+                if (!Character.isValidCodePoint(codePoint)) {
+                    throw error("Invalid escape");
+                }
+                return codePoint;
+            } catch (NumberFormatException e) {
+                throw error("Invalid escape");
+            }
+        }
+
+        private static String toCodePointEscape(int codePoint) {
+            return "\\x{" + Integer.toHexString(codePoint) + "}";
+        }
+
+        private void translateBracketExpression() {
+            StringBuilder bracket = new StringBuilder("[");
+            if ((index < source.length()) && (source.charAt(index) == '^')) {
+                bracket.append('^');
+                index++;
+            }
+            boolean first = true;
+            // Whether the last element is a single character, which may start a range
+            boolean afterCharacter = false;
+            while (true) {
+                if (index >= source.length()) {
+                    throw error("Unclosed bracket expression");
+                }
+                char c = source.charAt(index++);
+                if ((c == ']') && !first) {
+                    break;
+                }
+                first = false;
+                if ((c == '[') && (index < source.length()) && (":.=".indexOf(source.charAt(index)) >= 0)) {
+                    char kind = source.charAt(index);
+                    int end = source.indexOf(kind + "]", index + 1);
+                    if (end < 0) {
+                        throw error("Unclosed bracket element");
+                    }
+                    String name = source.substring(index + 1, end);
+                    index = end + 2;
+                    if (kind == ':') {
+                        String characterClass = CHARACTER_CLASSES.get(name.toLowerCase(Locale.ROOT));
+                        if (characterClass == null) {
+                            throw error("Invalid character class");
+                        }
+                        bracket.append(characterClass);
+                        afterCharacter = false;
+                    } else {
+                        if (name.codePointCount(0, name.length()) != 1) {
+                            throw error("Invalid collating element");
+                        }
+                        bracket.append(toCodePointEscape(name.codePointAt(0)));
+                        afterCharacter = true;
+                    }
+                } else if (c == '\\') {
+                    if (index >= source.length()) {
+                        throw error("Trailing backslash");
+                    }
+                    char escaped = source.charAt(index++);
+                    if ((escaped == 'd') || (escaped == 's') || (escaped == 'w')) {
+                        bracket.append('\\').append(escaped);
+                        afterCharacter = false;
+                    } else if (Character.isDigit(escaped) && (escaped != '0')) {
+                        throw error("Invalid escape");
+                    } else {
+                        bracket.append(toCodePointEscape(translateCharacterEscape(escaped)));
+                        afterCharacter = true;
+                    }
+                } else if ((c == '-') && afterCharacter && (index < source.length()) && (source.charAt(index) != ']')) {
+                    bracket.append('-');
+                    // A range cannot start another range
+                    afterCharacter = false;
+                } else {
+                    bracket.append(toCodePointEscape(c));
+                    afterCharacter = true;
+                }
+            }
+            bracket.append(']');
+            element(bracket.toString());
+        }
+    }
+}
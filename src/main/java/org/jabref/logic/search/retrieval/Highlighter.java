@@ -1,63 +1,59 @@
 package org.jabref.logic.search.retrieval;
 
-import java.sql.Connection;
-import java.sql.PreparedStatement;
-import java.sql.ResultSet;
-import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
-import org.jabref.logic.search.PostgreServer;
 import org.jabref.logic.search.query.SearchQueryConversion;
 import org.jabref.model.entry.field.Field;
-import org.jabref.model.search.PostgreConstants;
 import org.jabref.model.search.query.SearchQuery;
 import org.jabref.model.search.query.SearchQueryNode;
 import org.jabref.model.util.Range;
 
-import com.airhacks.afterburner.injection.Injector;
-import org.apache.lucene.search.highlight.InvalidTokenOffsetsException;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
 import org.jsoup.nodes.Node;
 import org.jsoup.nodes.TextNode;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
+/**
+ * Highlights the terms of a search query in HTML and finds their positions in text.
+ * <p>
+ * The search patterns are compiled once per pattern (and per search query), so that refreshing the preview or the
+ * entry editor does not require compiling them again.
+ */
 public class Highlighter {
-    private static final Logger LOGGER = LoggerFactory.getLogger(Highlighter.class);
 
-    /**
-     * Functions defined in {@link PostgreConstants#POSTGRES_FUNCTIONS}
-     */
-    private static final String REGEXP_MARK = "SELECT regexp_mark(?, ?)";
-    private static final String REGEXP_POSITIONS = "SELECT * FROM regexp_positions(?, ?)";
-    private static Connection connection;
+    private static final int CACHE_SIZE = 128;
+
+    private static final LoadingCache<String, Optional<HighlightPattern>> PATTERNS = CacheBuilder.newBuilder()
+                                                                                                 .maximumSize(CACHE_SIZE)
+                                                                                                 .build(CacheLoader.from(HighlightPattern::compile));
+
+    private static final LoadingCache<SearchQuery, Optional<HighlightPattern>> QUERY_PATTERNS = CacheBuilder.newBuilder()
+                                                                                                           .maximumSize(CACHE_SIZE)
+                                                                                                           .build(CacheLoader.from(searchQuery -> buildSearchPattern(searchQuery).flatMap(PATTERNS::getUnchecked)));
 
     public static String highlightHtml(String htmlText, SearchQuery searchQuery) {
-        Optional<String> searchTermsPattern = buildSearchPattern(searchQuery);
-        if (searchTermsPattern.isEmpty()) {
+        Optional<HighlightPattern> searchPattern = QUERY_PATTERNS.getUnchecked(searchQuery);
+        if (searchPattern.isEmpty()) {
             return htmlText;
         }
 
         Document document = Jsoup.parse(htmlText);
-        try {
-            highlightTextNodes(document.body(), searchTermsPattern.get());
-            return document.outerHtml();
-        } catch (InvalidTokenOffsetsException e) {
-            LOGGER.debug("Error highlighting search terms in HTML", e);
-            return htmlText;
-        }
+        highlightTextNodes(document.body(), searchPattern.get());
+        return document.outerHtml();
     }
 
-    private static void highlightTextNodes(Element element, String searchPattern) throws InvalidTokenOffsetsException {
+    private static void highlightTextNodes(Element element, HighlightPattern searchPattern) {
         for (Node node : element.childNodes()) {
             if (node instanceof TextNode textNode) {
-                String highlightedText = highlightNode(textNode.text(), searchPattern);
+                String highlightedText = searchPattern.mark(textNode.text());
                 textNode.text("");
                 textNode.after(highlightedText);
             } else if (node instanceof Element element1) {
@@ -66,46 +62,14 @@ public class Highlighter {
         }
     }
 
-    private static String highlightNode(String text, String searchPattern) {
-        if (connection == null) {
-            connection = Injector.instantiateModelOrService(PostgreServer.class).getConnection();
-        }
-
-        try (PreparedStatement preparedStatement = connection.prepareStatement(REGEXP_MARK)) {
-            preparedStatement.setString(1, text);
-            preparedStatement.setString(2, searchPattern);
-
-            try (ResultSet resultSet = preparedStatement.executeQuery()) {
-                if (resultSet.next()) {
-                    return resultSet.getString(1);
-                }
-            }
-        } catch (SQLException e) {
-            LOGGER.error("Error highlighting search terms in text", e);
-        }
-        return text;
-    }
-
+    /**
+     * Returns the positions of the matches of the given pattern in the given text: one-based, inclusive, and counted in
+     * code points. Returns an empty list if the pattern is invalid.
+     */
     public static List<Range> findMatchPositions(String text, String pattern) {
-        if (connection == null) {
-            connection = Injector.instantiateModelOrService(PostgreServer.class).getConnection();
-        }
-
-        try (PreparedStatement preparedStatement = connection.prepareStatement(REGEXP_POSITIONS)) {
-            preparedStatement.setString(1, text);
-            preparedStatement.setString(2, pattern);
-
-            try (ResultSet resultSet = preparedStatement.executeQuery()) {
-                List<Range> positions = new ArrayList<>();
-                while (resultSet.next()) {
-                    positions.add(new Range(resultSet.getInt(1), resultSet.getInt(2)));
-                }
-                return positions;
-            }
-        } catch (SQLException e) {
-            LOGGER.error("Error getting match positions in text", e);
-        }
-        return List.of();
+        return PATTERNS.getUnchecked(pattern)
+                       .map(searchPattern -> searchPattern.findPositions(text))
+                       .orElse(List.of());
     }
 
     public static Map<Optional<Field>, List<String>> groupTermsByField(SearchQuery searchQuery) {
@@ -1,34 +1,39 @@
 package org.jabref.logic.search.retrieval;
 
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
 
 import org.jabref.logic.FilePreferences;
 import org.jabref.logic.search.LuceneIndexer;
 import org.jabref.logic.search.query.SearchQueryConversion;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
-import org.jabref.model.entry.LinkedFile;
 import org.jabref.model.search.LinkedFilesConstants;
 import org.jabref.model.search.SearchFlags;
 import org.jabref.model.search.query.SearchQuery;
 import org.jabref.model.search.query.SearchResult;
 import org.jabref.model.search.query.SearchResults;
 
+import com.google.common.base.Suppliers;
 import org.apache.lucene.document.Document;
 import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
 import org.apache.lucene.queryparser.classic.MultiFieldQueryParser;
 import org.apache.lucene.queryparser.classic.ParseException;
 import org.apache.lucene.queryparser.classic.QueryParser;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
 import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.search.highlight.Highlighter;
 import org.apache.lucene.search.highlight.QueryScorer;
@@ -39,15 +44,26 @@ import org.slf4j.LoggerFactory;
 public final class LinkedFilesSearcher {
     private static final Logger LOGGER = LoggerFactory.getLogger(LinkedFilesSearcher.class);
 
+    /**
+     * Number of hits collected from the index per round trip.
+     */
+    private static final int HITS_PAGE_SIZE = 1000;
+    private static final Set<String> HIT_FIELDS = Set.of(LinkedFilesConstants.PATH.toString(), LinkedFilesConstants.PAGE_NUMBER.toString());
+
     private final FilePreferences filePreferences;
     private final BibDatabaseContext databaseContext;
     private final SearcherManager searcherManager;
     private final MultiFieldQueryParser parser;
+    private final int maxHitsPerFile;
 
-    public LinkedFilesSearcher(BibDatabaseContext databaseContext, LuceneIndexer linkedFilesIndexer, FilePreferences filePreferences) {
+    /**
+     * @param maxHitsPerFile maximum number of pages reported per linked file; the best scored pages are kept
+     */
+    public LinkedFilesSearcher(BibDatabaseContext databaseContext, LuceneIndexer linkedFilesIndexer, FilePreferences filePreferences, int maxHitsPerFile) {
         this.searcherManager = linkedFilesIndexer.getSearcherManager();
         this.databaseContext = databaseContext;
         this.filePreferences = filePreferences;
+        this.maxHitsPerFile = maxHitsPerFile;
         this.parser = new MultiFieldQueryParser(LinkedFilesConstants.PDF_FIELDS.toArray(new String[0]), LinkedFilesConstants.LINKED_FILES_ANALYZER);
         parser.setDefaultOperator(QueryParser.Operator.AND);
     }
@@ -91,49 +107,72 @@ public final class LinkedFilesSearcher {
     }
 
     private SearchResults search(IndexSearcher indexSearcher, Query searchQuery) throws IOException {
-        TopDocs topDocs = indexSearcher.search(searchQuery, Integer.MAX_VALUE);
-        StoredFields storedFields = indexSearcher.storedFields();
-        LOGGER.debug("Found {} matching documents", topDocs.totalHits.value());
-        return getSearchResults(topDocs, storedFields, searchQuery);
-    }
-
-    private SearchResults getSearchResults(TopDocs topDocs, StoredFields storedFields, Query searchQuery) throws IOException {
         SearchResults searchResults = new SearchResults();
         long startTime = System.currentTimeMillis();
 
-        Map<String, List<String>> linkedFilesMap = getLinkedFilesMap();
         Highlighter highlighter = new Highlighter(new SimpleHTMLFormatter("<b>", "</b>"), new QueryScorer(searchQuery));
+        StoredFields storedFields = indexSearcher.storedFields();
+        Map<String, Integer> hitsPerFile = new HashMap<>();
 
-        for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
-            Document document = storedFields.document(scoreDoc.doc);
-            String fileLink = getFieldContents(document, LinkedFilesConstants.PATH);
-
-            if (!fileLink.isEmpty()) {
-                List<String> entriesWithFile = linkedFilesMap.get(fileLink);
-                if (entriesWithFile != null && !entriesWithFile.isEmpty()) {
-                    SearchResult searchResult = new SearchResult(
-                            fileLink,
-                            getFieldContents(document, LinkedFilesConstants.CONTENT),
-                            getFieldContents(document, LinkedFilesConstants.ANNOTATIONS),
-                            Integer.parseInt(getFieldContents(document, LinkedFilesConstants.PAGE_NUMBER)),
-                            highlighter);
-                    searchResults.addSearchResult(entriesWithFile, searchResult);
+        // Collect the hits page-wise to avoid allocating a priority queue sized to the whole index
+        TopDocs topDocs = indexSearcher.search(searchQuery, HITS_PAGE_SIZE);
+        LOGGER.debug("Found {} matching documents", topDocs.totalHits.value());
+        while (topDocs.scoreDocs.length > 0) {
+            for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+                // Only the identifying fields are loaded; the page content is loaded when the highlights are requested
+                Document document = storedFields.document(scoreDoc.doc, HIT_FIELDS);
+                String fileLink = getFieldContents(document, LinkedFilesConstants.PATH);
+                if (fileLink.isEmpty()) {
+                    continue;
+                }
+                List<BibEntry> entriesWithFile = databaseContext.getDatabase().getEntriesByFileLink(fileLink);
+                if (entriesWithFile.isEmpty()) {
+                    continue;
+                }
+                // Hits arrive ordered by score, thus the first hits of a file are its best ones
+                int hitsOfFile = hitsPerFile.merge(fileLink, 1, Integer::sum);
+                if (hitsOfFile > maxHitsPerFile) {
+                    continue;
                 }
+
+                int pageNumber = Integer.parseInt(getFieldContents(document, LinkedFilesConstants.PAGE_NUMBER));
+                Supplier<Document> page = Suppliers.memoize(() -> loadPage(fileLink, pageNumber));
+                SearchResult searchResult = new SearchResult(
+                        fileLink,
+                        pageNumber,
+                        () -> getFieldContents(page.get(), LinkedFilesConstants.CONTENT),
+                        () -> getFieldContents(page.get(), LinkedFilesConstants.ANNOTATIONS),
+                        highlighter);
+                searchResults.addSearchResult(entriesWithFile.stream().map(BibEntry::getId).toList(), searchResult);
             }
+            topDocs = indexSearcher.searchAfter(topDocs.scoreDocs[topDocs.scoreDocs.length - 1], searchQuery, HITS_PAGE_SIZE);
         }
         LOGGER.debug("Getting linked files results took {} ms", System.currentTimeMillis() - startTime);
         return searchResults;
     }
 
-    private Map<String, List<String>> getLinkedFilesMap() {
-        // fileLink to List of entry IDs
-        Map<String, List<String>> linkedFilesMap = new HashMap<>();
-        for (BibEntry bibEntry : databaseContext.getEntries()) {
-            for (LinkedFile linkedFile : bibEntry.getFiles()) {
-                linkedFilesMap.computeIfAbsent(linkedFile.getLink(), k -> new ArrayList<>()).add(bibEntry.getId());
+    /**
+     * Loads the stored contents of a page. Called lazily when the UI asks for the highlighted fragments of a search result.
+     */
+    private Document loadPage(String fileLink, int pageNumber) {
+        Query pageQuery = new BooleanQuery.Builder()
+                .add(new TermQuery(new Term(LinkedFilesConstants.PATH.toString(), fileLink)), BooleanClause.Occur.FILTER)
+                .add(new TermQuery(new Term(LinkedFilesConstants.PAGE_NUMBER.toString(), String.valueOf(pageNumber))), BooleanClause.Occur.FILTER)
+                .build();
+        try {
+            IndexSearcher indexSearcher = acquireIndexSearcher(searcherManager);
+            try {
+                TopDocs topDocs = indexSearcher.search(pageQuery, 1);
+                if (topDocs.scoreDocs.length > 0) {
+                    return indexSearcher.storedFields().document(topDocs.scoreDocs[0].doc);
+                }
+            } finally {
+                releaseIndexSearcher(searcherManager, indexSearcher);
             }
+        } catch (IOException e) {
+            LOGGER.error("Could not load page {} of linked file {}", pageNumber, fileLink, e);
         }
-        return linkedFilesMap;
+        return new Document();
     }
 
     private static String getFieldContents(Document document, LinkedFilesConstants field) {
@@ -14,6 +14,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -168,16 +169,40 @@ public abstract class DBMSProcessor {
         if (notYetExistingEntries.isEmpty()) {
             return;
         }
-        insertIntoEntryTable(notYetExistingEntries);
-        insertIntoFieldTable(notYetExistingEntries);
+        List<Integer> previousSharedIDs = notYetExistingEntries.stream().map(entry -> entry.getSharedBibEntryData().getSharedID()).toList();
+        try {
+            // Other clients must not see the entries before their fields are inserted
+            connection.setAutoCommit(false);
+            insertIntoEntryTable(notYetExistingEntries);
+            insertIntoFieldTable(notYetExistingEntries);
+            connection.commit();
+        } catch (SQLException e) {
+            LOGGER.error("SQL Error during entry insertion", e);
+            try {
+                connection.rollback();
+            } catch (SQLException rollbackException) {
+                LOGGER.error("SQL Error during rollback of entry insertion", rollbackException);
+            }
+            // The shared IDs assigned by the rolled back insertion do not exist
+            for (int i = 0; i < notYetExistingEntries.size(); i++) {
+                notYetExistingEntries.get(i).getSharedBibEntryData().setSharedID(previousSharedIDs.get(i));
+            }
+        } finally {
+            try {
+                connection.setAutoCommit(true);
+            } catch (SQLException e) {
+                LOGGER.error("SQL Error: ", e);
+            }
+        }
     }
 
     /**
      * Inserts the given List of BibEntry into the ENTRY table.
      *
      * @param bibEntries List of {@link BibEntry} to be inserted
+     * @throws SQLException in case of error
      */
-    protected void insertIntoEntryTable(List<BibEntry> bibEntries) {
+    protected void insertIntoEntryTable(List<BibEntry> bibEntries) throws SQLException {
         StringBuilder insertIntoEntryQuery = new StringBuilder()
                 .append("INSERT INTO ")
                 .append(escape_Table("ENTRY"))
@@ -205,8 +230,6 @@ public abstract class DBMSProcessor {
                     LOGGER.error("Error: Some shared IDs left unassigned");
                 }
             }
-        } catch (SQLException e) {
-            LOGGER.error("SQL Error: ", e);
         }
     }
 
@@ -248,50 +271,47 @@ public abstract class DBMSProcessor {
      * Inserts the given list of BibEntry into FIELD table.
      *
      * @param bibEntries {@link BibEntry} to be inserted
+     * @throws SQLException in case of error
      */
-    protected void insertIntoFieldTable(List<BibEntry> bibEntries) {
-        try {
-            // Inserting into FIELD table
-            // Coerce to ArrayList in order to use List.get()
-            List<List<Field>> fields = bibEntries.stream().map(bibEntry -> new ArrayList<>(bibEntry.getFields()))
-                                                 .collect(Collectors.toList());
-
-            StringBuilder insertFieldQuery = new StringBuilder()
-                    .append("INSERT INTO ")
-                    .append(escape_Table("FIELD"))
-                    .append("(")
-                    .append(escape("ENTRY_SHARED_ID"))
-                    .append(", ")
-                    .append(escape("NAME"))
-                    .append(", ")
-                    .append(escape("VALUE"))
-                    .append(") VALUES(?, ?, ?)");
-            int numFields = 0;
-            for (List<Field> entryFields : fields) {
-                numFields += entryFields.size();
-            }
+    protected void insertIntoFieldTable(List<BibEntry> bibEntries) throws SQLException {
+        // Inserting into FIELD table
+        // Coerce to ArrayList in order to use List.get()
+        List<List<Field>> fields = bibEntries.stream().map(bibEntry -> new ArrayList<>(bibEntry.getFields()))
+                                             .collect(Collectors.toList());
 
-            if (numFields == 0) {
-                return; // Prevent SQL Exception
-            }
+        StringBuilder insertFieldQuery = new StringBuilder()
+                .append("INSERT INTO ")
+                .append(escape_Table("FIELD"))
+                .append("(")
+                .append(escape("ENTRY_SHARED_ID"))
+                .append(", ")
+                .append(escape("NAME"))
+                .append(", ")
+                .append(escape("VALUE"))
+                .append(") VALUES(?, ?, ?)");
+        int numFields = 0;
+        for (List<Field> entryFields : fields) {
+            numFields += entryFields.size();
+        }
 
-            // Number of commas is fields.size() - 1
-            insertFieldQuery.append(", (?, ?, ?)".repeat(Math.max(0, (numFields - 1))));
-            try (PreparedStatement preparedFieldStatement = connection.prepareStatement(insertFieldQuery.toString())) {
-                int fieldsCompleted = 0;
-                for (int entryIndex = 0; entryIndex < fields.size(); entryIndex++) {
-                    for (int entryFieldsIndex = 0; entryFieldsIndex < fields.get(entryIndex).size(); entryFieldsIndex++) {
-                        // columnIndex starts with 1
-                        preparedFieldStatement.setInt((3 * fieldsCompleted) + 1, bibEntries.get(entryIndex).getSharedBibEntryData().getSharedID());
-                        preparedFieldStatement.setString((3 * fieldsCompleted) + 2, fields.get(entryIndex).get(entryFieldsIndex).getName());
-                        preparedFieldStatement.setString((3 * fieldsCompleted) + 3, bibEntries.get(entryIndex).getField(fields.get(entryIndex).get(entryFieldsIndex)).get());
-                        fieldsCompleted += 1;
-                    }
+        if (numFields == 0) {
+            return; // Prevent SQL Exception
+        }
+
+        // Number of commas is fields.size() - 1
+        insertFieldQuery.append(", (?, ?, ?)".repeat(Math.max(0, (numFields - 1))));
+        try (PreparedStatement preparedFieldStatement = connection.prepareStatement(insertFieldQuery.toString())) {
+            int fieldsCompleted = 0;
+            for (int entryIndex = 0; entryIndex < fields.size(); entryIndex++) {
+                for (int entryFieldsIndex = 0; entryFieldsIndex < fields.get(entryIndex).size(); entryFieldsIndex++) {
+                    // columnIndex starts with 1
+                    preparedFieldStatement.setInt((3 * fieldsCompleted) + 1, bibEntries.get(entryIndex).getSharedBibEntryData().getSharedID());
+                    preparedFieldStatement.setString((3 * fieldsCompleted) + 2, fields.get(entryIndex).get(entryFieldsIndex).getName());
+                    preparedFieldStatement.setString((3 * fieldsCompleted) + 3, bibEntries.get(entryIndex).getField(fields.get(entryIndex).get(entryFieldsIndex)).get());
+                    fieldsCompleted += 1;
                 }
-                preparedFieldStatement.executeUpdate();
             }
-        } catch (SQLException e) {
-            LOGGER.error("SQL Error: ", e);
+            preparedFieldStatement.executeUpdate();
         }
     }
 
@@ -600,6 +620,29 @@ public abstract class DBMSProcessor {
         return sharedIDVersionMapping;
     }
 
+    /**
+     * Returns the sequence number of the latest change in the change log of the shared database. Needs to be
+     * implemented if the DBMS keeps a change log.
+     *
+     * @return an empty optional if the DBMS has no change log
+     */
+    public OptionalLong getLatestChangeSequence() {
+        return OptionalLong.empty();
+    }
+
+    /**
+     * Returns the changes of shared entries which happened after the change with the given sequence number. In contrast
+     * to {@link #getSharedIDVersionMapping()}, only the changed entries are read. Needs to be implemented if the DBMS
+     * keeps a change log.
+     *
+     * @param sequence sequence number as returned by {@link #getLatestChangeSequence()} or
+     *                 {@link SharedEntryChanges#lastSequence()}
+     * @return an empty optional if the DBMS has no change log or the changes could not be read
+     */
+    public Optional<SharedEntryChanges> getSharedEntryChangesSince(@SuppressWarnings("unused") long sequence) {
+        return Optional.empty();
+    }
+
     /**
      * Fetches and returns all shared meta data.
      */
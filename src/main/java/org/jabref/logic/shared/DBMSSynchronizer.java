@@ -3,10 +3,12 @@ package org.jabref.logic.shared;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -57,6 +59,8 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
     private final FieldPreferences fieldPreferences;
     private final FileUpdateMonitor fileMonitor;
     private Optional<BibEntry> lastEntryChanged;
+    // Sequence number of the latest change of the shared database which has been pulled, -1 if unknown
+    private volatile long lastSeenChangeSequence = -1;
 
     public DBMSSynchronizer(BibDatabaseContext bibDatabaseContext, Character keywordSeparator,
                             FieldPreferences fieldPreferences,
@@ -168,6 +172,9 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
     /**
      * Synchronizes the local database with shared one. Possible update types are: removal, update, or insert of a
      * {@link BibEntry}.
+     * <p>
+     * If the shared database keeps a change log, only the entries changed since the last synchronization are
+     * considered. Otherwise, the versions of all shared entries are compared.
      */
     @Override
     public void synchronizeLocalDatabase() {
@@ -175,42 +182,57 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
             return;
         }
 
-        List<BibEntry> localEntries = bibDatabase.getEntries();
+        Optional<SharedEntryChanges> changes = lastSeenChangeSequence < 0
+                ? Optional.empty()
+                : dbmsProcessor.getSharedEntryChangesSince(lastSeenChangeSequence);
+        if (changes.isPresent()) {
+            Set<Integer> removedSharedIDs = changes.get().removedSharedIDs();
+            removeLocalEntries(bibDatabase.getEntries().stream()
+                                          .filter(localEntry -> removedSharedIDs.contains(localEntry.getSharedBibEntryData().getSharedID()))
+                                          .toList());
+            pullSharedEntries(changes.get().sharedIDVersionMapping());
+            lastSeenChangeSequence = changes.get().lastSequence();
+            return;
+        }
+
+        // Read the sequence first: changes happening while reading the versions are considered again next time
+        OptionalLong latestChangeSequence = dbmsProcessor.getLatestChangeSequence();
         Map<Integer, Integer> idVersionMap = dbmsProcessor.getSharedIDVersionMapping();
 
         // remove old entries locally
-        removeNotSharedEntries(localEntries, idVersionMap.keySet());
+        removeNotSharedEntries(bibDatabase.getEntries(), idVersionMap.keySet());
+        pullSharedEntries(idVersionMap);
+        lastSeenChangeSequence = latestChangeSequence.orElse(-1);
+    }
+
+    /**
+     * Inserts or updates the local entries whose shared version is newer than the local one.
+     *
+     * @param idVersionMap shared IDs and versions of the shared entries to be compared with the local ones
+     */
+    private void pullSharedEntries(Map<Integer, Integer> idVersionMap) {
+        Map<Integer, BibEntry> localEntriesBySharedID = new HashMap<>();
+        for (BibEntry localEntry : bibDatabase.getEntries()) {
+            localEntriesBySharedID.putIfAbsent(localEntry.getSharedBibEntryData().getSharedID(), localEntry);
+        }
+
         List<Integer> entriesToInsertIntoLocalDatabase = new ArrayList<>();
-        // compare versions and update local entry if needed
+        List<Integer> entriesToUpdateInLocalDatabase = new ArrayList<>();
+        // compare versions to find the local entries which need to be updated
         for (Map.Entry<Integer, Integer> idVersionEntry : idVersionMap.entrySet()) {
-            boolean remoteEntryMatchingOneLocalEntryFound = false;
-            for (BibEntry localEntry : localEntries) {
-                if (idVersionEntry.getKey().equals(localEntry.getSharedBibEntryData().getSharedID())) {
-                    remoteEntryMatchingOneLocalEntryFound = true;
-                    if (idVersionEntry.getValue() > localEntry.getSharedBibEntryData().getVersion()) {
-                        Optional<BibEntry> sharedEntry = dbmsProcessor.getSharedEntry(idVersionEntry.getKey());
-                        if (sharedEntry.isPresent()) {
-                            // update fields
-                            localEntry.setType(sharedEntry.get().getType(), EntriesEventSource.SHARED);
-                            localEntry.getSharedBibEntryData()
-                                      .setVersion(sharedEntry.get().getSharedBibEntryData().getVersion());
-                            sharedEntry.get().getFieldMap().forEach(
-                                    // copy remote values to local entry
-                                    (field, value) -> localEntry.setField(field, value, EntriesEventSource.SHARED)
-                            );
-
-                            // locally remove not existing fields
-                            localEntry.getFields().stream()
-                                      .filter(field -> !sharedEntry.get().hasField(field))
-                                      .forEach(
-                                              field -> localEntry.clearField(field, EntriesEventSource.SHARED)
-                                      );
-                        }
-                    }
-                }
-            }
-            if (!remoteEntryMatchingOneLocalEntryFound) {
+            BibEntry localEntry = localEntriesBySharedID.get(idVersionEntry.getKey());
+            if (localEntry == null) {
                 entriesToInsertIntoLocalDatabase.add(idVersionEntry.getKey());
+            } else if (idVersionEntry.getValue() > localEntry.getSharedBibEntryData().getVersion()) {
+                entriesToUpdateInLocalDatabase.add(idVersionEntry.getKey());
+            }
+        }
+
+        // Fetch the outdated entries in batches instead of one query per entry
+        for (BibEntry sharedEntry : dbmsProcessor.partitionAndGetSharedEntries(entriesToUpdateInLocalDatabase)) {
+            BibEntry localEntry = localEntriesBySharedID.get(sharedEntry.getSharedBibEntryData().getSharedID());
+            if (localEntry != null) {
+                updateLocalEntry(localEntry, sharedEntry);
             }
         }
 
@@ -220,6 +242,24 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
         }
     }
 
+    private static void updateLocalEntry(BibEntry localEntry, BibEntry sharedEntry) {
+        // update fields
+        localEntry.setType(sharedEntry.getType(), EntriesEventSource.SHARED);
+        localEntry.getSharedBibEntryData()
+                  .setVersion(sharedEntry.getSharedBibEntryData().getVersion());
+        sharedEntry.getFieldMap().forEach(
+                // copy remote values to local entry
+                (field, value) -> localEntry.setField(field, value, EntriesEventSource.SHARED)
+        );
+
+        // locally remove not existing fields
+        localEntry.getFields().stream()
+                  .filter(field -> !sharedEntry.hasField(field))
+                  .forEach(
+                          field -> localEntry.clearField(field, EntriesEventSource.SHARED)
+                  );
+    }
+
     /**
      * Removes all local entries which are not present on shared database.
      *
@@ -227,10 +267,15 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
      * @param sharedIDs    Set of all IDs which are present on shared database
      */
     private void removeNotSharedEntries(List<BibEntry> localEntries, Set<Integer> sharedIDs) {
-        List<BibEntry> entriesToRemove =
-                localEntries.stream()
-                            .filter(localEntry -> !sharedIDs.contains(localEntry.getSharedBibEntryData().getSharedID()))
-                            .collect(Collectors.toList());
+        removeLocalEntries(localEntries.stream()
+                                       .filter(localEntry -> !sharedIDs.contains(localEntry.getSharedBibEntryData().getSharedID()))
+                                       .collect(Collectors.toList()));
+    }
+
+    /**
+     * Removes the given local entries, which have been removed from the shared database.
+     */
+    private void removeLocalEntries(List<BibEntry> entriesToRemove) {
         if (!entriesToRemove.isEmpty()) {
             eventBus.post(new SharedEntriesNotPresentEvent(entriesToRemove));
             // remove all non-shared entries without triggering listeners
@@ -385,6 +430,7 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
         this.dbName = connection.getProperties().getDatabase();
         this.currentConnection = connection.getConnection();
         this.dbmsProcessor = DBMSProcessor.getProcessorInstance(connection);
+        this.lastSeenChangeSequence = -1;
         initializeDatabases();
     }
 
@@ -413,6 +459,14 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
         return dbmsProcessor;
     }
 
+    /**
+     * Returns the sequence number of the latest pulled change of the shared database, or -1 if the shared database does
+     * not keep a change log.
+     */
+    public long getLastSeenChangeSequence() {
+        return lastSeenChangeSequence;
+    }
+
     @Override
     public DatabaseConnectionProperties getConnectionProperties() {
         return dbmsProcessor.getDBMSConnectionProperties();
@@ -133,74 +133,66 @@ public class OracleProcessor extends DBMSProcessor {
     }
 
     @Override
-    protected void insertIntoEntryTable(List<BibEntry> entries) {
-        try {
-            for (BibEntry entry : entries) {
-                String insertIntoEntryQuery =
-                        "INSERT INTO " +
-                                escape_Table("ENTRY") +
-                                "(" +
-                                escape("TYPE") +
-                                ") VALUES(?)";
-
-                try (PreparedStatement preparedEntryStatement = connection.prepareStatement(insertIntoEntryQuery,
-                        new String[]{"SHARED_ID"})) {
-
-                    preparedEntryStatement.setString(1, entry.getType().getName());
-                    preparedEntryStatement.executeUpdate();
-
-                    try (ResultSet generatedKeys = preparedEntryStatement.getGeneratedKeys()) {
-                        if (generatedKeys.next()) {
-                            entry.getSharedBibEntryData().setSharedID(generatedKeys.getInt(1)); // set generated ID locally
-                        }
+    protected void insertIntoEntryTable(List<BibEntry> entries) throws SQLException {
+        for (BibEntry entry : entries) {
+            String insertIntoEntryQuery =
+                    "INSERT INTO " +
+                            escape_Table("ENTRY") +
+                            "(" +
+                            escape("TYPE") +
+                            ") VALUES(?)";
+
+            try (PreparedStatement preparedEntryStatement = connection.prepareStatement(insertIntoEntryQuery,
+                    new String[]{"SHARED_ID"})) {
+
+                preparedEntryStatement.setString(1, entry.getType().getName());
+                preparedEntryStatement.executeUpdate();
+
+                try (ResultSet generatedKeys = preparedEntryStatement.getGeneratedKeys()) {
+                    if (generatedKeys.next()) {
+                        entry.getSharedBibEntryData().setSharedID(generatedKeys.getInt(1)); // set generated ID locally
                     }
                 }
             }
-        } catch (SQLException e) {
-            LOGGER.error("SQL Error during entry insertion", e);
         }
     }
 
     @Override
-    protected void insertIntoFieldTable(List<BibEntry> bibEntries) {
-        try {
-            // Inserting into FIELD table
-            // Coerce to ArrayList in order to use List.get()
-            List<List<Field>> fields = bibEntries.stream().map(entry -> new ArrayList<>(entry.getFields()))
-                                                 .collect(Collectors.toList());
-            StringBuilder insertFieldQuery = new StringBuilder()
-                    .append("INSERT ALL");
-            int numFields = 0;
-            for (List<Field> entryFields : fields) {
-                numFields += entryFields.size();
-            }
-            for (int i = 0; i < numFields; i++) {
-                insertFieldQuery.append(" INTO ")
-                                .append(escape_Table("FIELD"))
-                                .append(" (")
-                                .append(escape("ENTRY_SHARED_ID"))
-                                .append(", ")
-                                .append(escape("NAME"))
-                                .append(", ")
-                                .append(escape("VALUE"))
-                                .append(") VALUES (?, ?, ?)");
-            }
-            insertFieldQuery.append(" SELECT * FROM DUAL");
-            try (PreparedStatement preparedFieldStatement = connection.prepareStatement(insertFieldQuery.toString())) {
-                int fieldsCompleted = 0;
-                for (int entryIndex = 0; entryIndex < fields.size(); entryIndex++) {
-                    for (int entryFieldsIndex = 0; entryFieldsIndex < fields.get(entryIndex).size(); entryFieldsIndex++) {
-                        // columnIndex starts with 1
-                        preparedFieldStatement.setInt((3 * fieldsCompleted) + 1, bibEntries.get(entryIndex).getSharedBibEntryData().getSharedID());
-                        preparedFieldStatement.setString((3 * fieldsCompleted) + 2, fields.get(entryIndex).get(entryFieldsIndex).getName());
-                        preparedFieldStatement.setString((3 * fieldsCompleted) + 3, bibEntries.get(entryIndex).getField(fields.get(entryIndex).get(entryFieldsIndex)).get());
-                        fieldsCompleted += 1;
-                    }
+    protected void insertIntoFieldTable(List<BibEntry> bibEntries) throws SQLException {
+        // Inserting into FIELD table
+        // Coerce to ArrayList in order to use List.get()
+        List<List<Field>> fields = bibEntries.stream().map(entry -> new ArrayList<>(entry.getFields()))
+                                             .collect(Collectors.toList());
+        StringBuilder insertFieldQuery = new StringBuilder()
+                .append("INSERT ALL");
+        int numFields = 0;
+        for (List<Field> entryFields : fields) {
+            numFields += entryFields.size();
+        }
+        for (int i = 0; i < numFields; i++) {
+            insertFieldQuery.append(" INTO ")
+                            .append(escape_Table("FIELD"))
+                            .append(" (")
+                            .append(escape("ENTRY_SHARED_ID"))
+                            .append(", ")
+                            .append(escape("NAME"))
+                            .append(", ")
+                            .append(escape("VALUE"))
+                            .append(") VALUES (?, ?, ?)");
+        }
+        insertFieldQuery.append(" SELECT * FROM DUAL");
+        try (PreparedStatement preparedFieldStatement = connection.prepareStatement(insertFieldQuery.toString())) {
+            int fieldsCompleted = 0;
+            for (int entryIndex = 0; entryIndex < fields.size(); entryIndex++) {
+                for (int entryFieldsIndex = 0; entryFieldsIndex < fields.get(entryIndex).size(); entryFieldsIndex++) {
+                    // columnIndex starts with 1
+                    preparedFieldStatement.setInt((3 * fieldsCompleted) + 1, bibEntries.get(entryIndex).getSharedBibEntryData().getSharedID());
+                    preparedFieldStatement.setString((3 * fieldsCompleted) + 2, fields.get(entryIndex).get(entryFieldsIndex).getName());
+                    preparedFieldStatement.setString((3 * fieldsCompleted) + 3, bibEntries.get(entryIndex).getField(fields.get(entryIndex).get(entryFieldsIndex)).get());
+                    fieldsCompleted += 1;
                 }
-                preparedFieldStatement.executeUpdate();
             }
-        } catch (SQLException e) {
-            LOGGER.error("SQL Error during field insertion", e);
+            preparedFieldStatement.executeUpdate();
         }
     }
 
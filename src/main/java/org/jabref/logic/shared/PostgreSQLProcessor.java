@@ -4,8 +4,14 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
 
 import org.jabref.logic.shared.listener.PostgresSQLNotificationListener;
 import org.jabref.logic.util.HeadlessExecutorService;
@@ -16,13 +22,20 @@ import org.postgresql.PGConnection;
 
 /**
  * Processes all incoming or outgoing bib data to PostgreSQL database and manages its structure.
+ * <p>
+ * Triggers on the ENTRY table record every insertion, update and removal in the ENTRY_CHANGE table together with a
+ * monotonically increasing sequence number, and notify the listening clients about the latest sequence number. Clients
+ * then only read the changes after the last sequence number they have seen.
  */
 public class PostgreSQLProcessor extends DBMSProcessor {
 
+    private static final String NOTIFICATION_CHANNEL = "jabrefLiveUpdate";
+
     private PostgresSQLNotificationListener listener;
 
     private int VERSION_DB_STRUCT_DEFAULT = -1;
-    private final int CURRENT_VERSION_DB_STRUCT = 1;
+    // Version 2 adds the change log
+    private final int CURRENT_VERSION_DB_STRUCT = 2;
 
     public PostgreSQLProcessor(DatabaseConnection connection) {
         super(connection);
@@ -36,7 +49,7 @@ public class PostgreSQLProcessor extends DBMSProcessor {
     @Override
     public void setUp() throws SQLException {
 
-        if (CURRENT_VERSION_DB_STRUCT == 1 && checkTableAvailability("ENTRY", "FIELD", "METADATA")) {
+        if (CURRENT_VERSION_DB_STRUCT >= 1 && checkTableAvailability("ENTRY", "FIELD", "METADATA")) {
             // checkTableAvailability does not distinguish if same table name exists in different schemas
             // VERSION_DB_STRUCT_DEFAULT must be forced
             VERSION_DB_STRUCT_DEFAULT = 0;
@@ -61,6 +74,8 @@ public class PostgreSQLProcessor extends DBMSProcessor {
                         + "\"KEY\" VARCHAR,"
                         + "\"VALUE\" TEXT)");
 
+        setUpChangeLog();
+
         Map<String, String> metadata = getSharedMetaData();
 
         if (metadata.get(MetaData.VERSION_DB_STRUCT) != null) {
@@ -76,7 +91,7 @@ public class PostgreSQLProcessor extends DBMSProcessor {
 
         if (VERSION_DB_STRUCT_DEFAULT < CURRENT_VERSION_DB_STRUCT) {
             // We can to migrate from old table in new table
-            if (VERSION_DB_STRUCT_DEFAULT == 0 && CURRENT_VERSION_DB_STRUCT == 1) {
+            if (VERSION_DB_STRUCT_DEFAULT == 0) {
                 LOGGER.info("Migrating from VersionDBStructure == 0");
                 connection.createStatement().executeUpdate("INSERT INTO " + escape_Table("ENTRY") + " SELECT * FROM \"ENTRY\"");
                 connection.createStatement().executeUpdate("INSERT INTO " + escape_Table("FIELD") + " SELECT * FROM \"FIELD\"");
@@ -90,8 +105,118 @@ public class PostgreSQLProcessor extends DBMSProcessor {
         }
     }
 
+    /**
+     * Creates the change log table and the triggers filling it. Only the latest change of each entry is kept, thus the
+     * size of the table is bounded by the number of entries ever created.
+     */
+    private void setUpChangeLog() throws SQLException {
+        connection.createStatement().executeUpdate(
+                "CREATE TABLE IF NOT EXISTS " + escape_Table("ENTRY_CHANGE") + " (" +
+                        "\"SEQUENCE\" BIGSERIAL PRIMARY KEY, " +
+                        "\"ENTRY_SHARED_ID\" INTEGER NOT NULL, " +
+                        "\"VERSION\" INTEGER, " +
+                        "\"REMOVED\" BOOLEAN NOT NULL DEFAULT FALSE)");
+
+        connection.createStatement().executeUpdate(
+                "CREATE INDEX IF NOT EXISTS \"ENTRY_CHANGE_ENTRY_SHARED_ID\" ON " + escape_Table("ENTRY_CHANGE") + " (\"ENTRY_SHARED_ID\")");
+
+        // The table lock serializes the writers until they commit. Thereby, the sequence numbers become visible in
+        // ascending order and a client never misses a change committed after it has read a higher sequence number.
+        // It is taken once per statement, before any entry is logged.
+        connection.createStatement().executeUpdate(
+                "CREATE OR REPLACE FUNCTION jabref.lock_entry_change() RETURNS TRIGGER AS $$ " +
+                        "BEGIN " +
+                        "LOCK TABLE " + escape_Table("ENTRY_CHANGE") + " IN EXCLUSIVE MODE; " +
+                        "RETURN NULL; " +
+                        "END; $$ LANGUAGE plpgsql");
+
+        connection.createStatement().executeUpdate(
+                "CREATE OR REPLACE FUNCTION jabref.log_entry_change() RETURNS TRIGGER AS $$ " +
+                        "BEGIN " +
+                        "IF (TG_OP = 'DELETE') THEN " +
+                        "DELETE FROM " + escape_Table("ENTRY_CHANGE") + " WHERE \"ENTRY_SHARED_ID\" = OLD.\"SHARED_ID\"; " +
+                        "INSERT INTO " + escape_Table("ENTRY_CHANGE") + " (\"ENTRY_SHARED_ID\", \"REMOVED\") VALUES (OLD.\"SHARED_ID\", TRUE); " +
+                        "RETURN OLD; " +
+                        "END IF; " +
+                        "DELETE FROM " + escape_Table("ENTRY_CHANGE") + " WHERE \"ENTRY_SHARED_ID\" = NEW.\"SHARED_ID\"; " +
+                        "INSERT INTO " + escape_Table("ENTRY_CHANGE") + " (\"ENTRY_SHARED_ID\", \"VERSION\") VALUES (NEW.\"SHARED_ID\", NEW.\"VERSION\"); " +
+                        "RETURN NEW; " +
+                        "END; $$ LANGUAGE plpgsql");
+
+        // One notification per statement, even if many entries are inserted or removed at once
+        // The channel name is folded to lower case by LISTEN, but not by pg_notify
+        connection.createStatement().executeUpdate(
+                "CREATE OR REPLACE FUNCTION jabref.notify_entry_change() RETURNS TRIGGER AS $$ " +
+                        "BEGIN " +
+                        "PERFORM pg_notify('" + NOTIFICATION_CHANNEL.toLowerCase(Locale.ROOT) + "', (SELECT COALESCE(MAX(\"SEQUENCE\"), 0) FROM " + escape_Table("ENTRY_CHANGE") + ")::TEXT); " +
+                        "RETURN NULL; " +
+                        "END; $$ LANGUAGE plpgsql");
+
+        connection.createStatement().executeUpdate("DROP TRIGGER IF EXISTS \"ENTRY_CHANGE_LOCK\" ON " + escape_Table("ENTRY"));
+        connection.createStatement().executeUpdate(
+                "CREATE TRIGGER \"ENTRY_CHANGE_LOCK\" BEFORE INSERT OR UPDATE OR DELETE ON " + escape_Table("ENTRY") +
+                        " FOR EACH STATEMENT EXECUTE PROCEDURE jabref.lock_entry_change()");
+
+        connection.createStatement().executeUpdate("DROP TRIGGER IF EXISTS \"ENTRY_CHANGE_LOG\" ON " + escape_Table("ENTRY"));
+        connection.createStatement().executeUpdate(
+                "CREATE TRIGGER \"ENTRY_CHANGE_LOG\" AFTER INSERT OR UPDATE OR DELETE ON " + escape_Table("ENTRY") +
+                        " FOR EACH ROW EXECUTE PROCEDURE jabref.log_entry_change()");
+
+        connection.createStatement().executeUpdate("DROP TRIGGER IF EXISTS \"ENTRY_CHANGE_NOTIFY\" ON " + escape_Table("ENTRY"));
+        connection.createStatement().executeUpdate(
+                "CREATE TRIGGER \"ENTRY_CHANGE_NOTIFY\" AFTER INSERT OR UPDATE OR DELETE ON " + escape_Table("ENTRY") +
+                        " FOR EACH STATEMENT EXECUTE PROCEDURE jabref.notify_entry_change()");
+    }
+
+    @Override
+    public OptionalLong getLatestChangeSequence() {
+        try (ResultSet resultSet = connection.createStatement().executeQuery(
+                "SELECT COALESCE(MAX(" + escape("SEQUENCE") + "), 0) FROM " + escape_Table("ENTRY_CHANGE"))) {
+            if (resultSet.next()) {
+                return OptionalLong.of(resultSet.getLong(1));
+            }
+        } catch (SQLException e) {
+            LOGGER.error("SQL Error while reading the latest change", e);
+        }
+        return OptionalLong.empty();
+    }
+
     @Override
-    protected void insertIntoEntryTable(List<BibEntry> bibEntries) {
+    public Optional<SharedEntryChanges> getSharedEntryChangesSince(long sequence) {
+        String selectChangesQuery = "SELECT * FROM " +
+                escape_Table("ENTRY_CHANGE") +
+                " WHERE " +
+                escape("SEQUENCE") +
+                " > ? ORDER BY " +
+                escape("SEQUENCE");
+
+        long lastSequence = sequence;
+        Map<Integer, Integer> sharedIDVersionMapping = new HashMap<>();
+        Set<Integer> removedSharedIDs = new HashSet<>();
+        try (PreparedStatement preparedStatement = connection.prepareStatement(selectChangesQuery)) {
+            preparedStatement.setLong(1, sequence);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    lastSequence = resultSet.getLong("SEQUENCE");
+                    int sharedID = resultSet.getInt("ENTRY_SHARED_ID");
+                    if (resultSet.getBoolean("REMOVED")) {
+                        sharedIDVersionMapping.remove(sharedID);
+                        removedSharedIDs.add(sharedID);
+                    } else {
+                        removedSharedIDs.remove(sharedID);
+                        sharedIDVersionMapping.put(sharedID, resultSet.getInt("VERSION"));
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            LOGGER.error("SQL Error while reading the changes", e);
+            return Optional.empty();
+        }
+        return Optional.of(new SharedEntryChanges(lastSequence, sharedIDVersionMapping, removedSharedIDs));
+    }
+
+    @Override
+    protected void insertIntoEntryTable(List<BibEntry> bibEntries) throws SQLException {
         StringBuilder insertIntoEntryQuery = new StringBuilder()
                 .append("INSERT INTO ")
                 .append(escape_Table("ENTRY"))
@@ -118,8 +243,6 @@ public class PostgreSQLProcessor extends DBMSProcessor {
                     LOGGER.error("Some shared IDs left unassigned");
                 }
             }
-        } catch (SQLException e) {
-            LOGGER.error("SQL Error during entry insertion", e);
         }
     }
 
@@ -143,7 +266,7 @@ public class PostgreSQLProcessor extends DBMSProcessor {
         // Disable cleanup output of ThreadedHousekeeper
         // Logger.getLogger(ThreadedHousekeeper.class.getName()).setLevel(Level.SEVERE);
         try {
-            connection.createStatement().execute("LISTEN jabrefLiveUpdate");
+            connection.createStatement().execute("LISTEN " + NOTIFICATION_CHANNEL);
             // Do not use `new PostgresSQLNotificationListener(...)` as the object has to exist continuously!
             // Otherwise, the listener is going to be deleted by Java's garbage collector.
             PGConnection pgConnection = connection.unwrap(PGConnection.class);
@@ -167,7 +290,7 @@ public class PostgreSQLProcessor extends DBMSProcessor {
     @Override
     public void notifyClients() {
         try {
-            connection.createStatement().execute("NOTIFY jabrefLiveUpdate, '" + PROCESSOR_ID + "';");
+            connection.createStatement().execute("NOTIFY " + NOTIFICATION_CHANNEL + ", '" + PROCESSOR_ID + "';");
         } catch (SQLException e) {
             LOGGER.error("SQL Error during client notification", e);
         }
@@ -0,0 +1,14 @@
+package org.jabref.logic.shared;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Changes of shared entries read from the change log of the shared database.
+ *
+ * @param lastSequence            sequence number of the latest change contained, to be passed when asking for the next changes
+ * @param sharedIDVersionMapping  shared IDs and current versions of the inserted or updated entries
+ * @param removedSharedIDs        shared IDs of the removed entries
+ */
+public record SharedEntryChanges(long lastSequence, Map<Integer, Integer> sharedIDVersionMapping, Set<Integer> removedSharedIDs) {
+}
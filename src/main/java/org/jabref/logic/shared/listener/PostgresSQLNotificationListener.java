@@ -11,7 +11,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * A listener for PostgreSQL database notifications.
+ * A listener for PostgreSQL database notifications. Notifications about changes of entries carry only the sequence
+ * number of the change, so that the synchronizer pulls only if it has not seen the change yet.
  */
 public class PostgresSQLNotificationListener implements Runnable {
 
@@ -36,8 +37,10 @@ public class PostgresSQLNotificationListener implements Runnable {
 
                 if (notifications != null) {
                     for (PGNotification notification : notifications) {
-                        if (!DBMSProcessor.PROCESSOR_ID.equals(notification.getName())) {
+                        if (isUnseenChange(notification.getParameter())) {
+                            // One pull fetches all changes up to now, thus the remaining notifications can be skipped
                             dbmsSynchronizer.pullChanges();
+                            break;
                         }
                     }
                 }
@@ -50,6 +53,18 @@ public class PostgresSQLNotificationListener implements Runnable {
         }
     }
 
+    /**
+     * Checks whether a notification announces a change which has not been pulled yet. Entry changes carry the sequence
+     * number of the change, other changes (e.g., of the meta data) the id of the notifying processor.
+     */
+    private boolean isUnseenChange(String payload) {
+        try {
+            return Long.parseLong(payload) > dbmsSynchronizer.getLastSeenChangeSequence();
+        } catch (NumberFormatException e) {
+            return !DBMSProcessor.PROCESSOR_ID.equals(payload);
+        }
+    }
+
     public void stop() {
         stop = true;
     }
@@ -79,6 +79,8 @@ public class BackupFileUtil {
             mostRecentFile = Files.list(backupDir)
                                   // just list the .sav belonging to the given targetFile
                                   .filter(p -> p.getFileName().toString().startsWith(prefix))
+                                  // skip other files stored next to the backups, such as journals
+                                  .filter(p -> p.getFileName().toString().endsWith(extension))
                                   .sorted()
                                   .reduce((first, second) -> second);
         } catch (IOException e) {
@@ -9,6 +9,7 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -27,17 +28,18 @@ import org.jabref.model.database.event.EntriesAddedEvent;
 import org.jabref.model.database.event.EntriesRemovedEvent;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibtexString;
+import org.jabref.model.entry.LinkedFile;
 import org.jabref.model.entry.Month;
 import org.jabref.model.entry.event.EntriesEventSource;
 import org.jabref.model.entry.event.EntryChangedEvent;
 import org.jabref.model.entry.event.FieldChangedEvent;
 import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.FieldFactory;
+import org.jabref.model.entry.field.InternalField;
 import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.strings.StringUtil;
 
 import com.google.common.eventbus.EventBus;
-import com.google.common.eventbus.Subscribe;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -56,6 +58,14 @@ public class BibDatabase {
 
     // BibEntryId to BibEntry
     private final Map<String, BibEntry> entriesId = new HashMap<>();
+
+    // Citation key to the entries having that key; kept up to date on insertion, removal and key change
+    private final Map<String, List<BibEntry>> entriesByCitationKey = new HashMap<>();
+
+    // File link to the entries linking that file; built on first use, then kept up to date like the citation key index
+    private Map<String, List<BibEntry>> entriesByFileLink;
+    // The file links indexed for each entry, so that they can be removed without parsing the previous field value
+    private Map<BibEntry, List<String>> indexedFileLinks;
     private Map<String, BibtexString> bibtexStrings = new ConcurrentHashMap<>();
 
     // Not included in equals, because it is not relevant for the content of the database
@@ -137,7 +147,11 @@ public class BibDatabase {
      * Returns the entry with the given citation key.
      */
     public synchronized Optional<BibEntry> getEntryByCitationKey(String key) {
-        return entries.stream().filter(entry -> Objects.equals(entry.getCitationKey().orElse(null), key)).findFirst();
+        List<BibEntry> entriesWithKey = getEntriesByCitationKey(key);
+        if (entriesWithKey.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(entriesWithKey.getFirst());
     }
 
     /**
@@ -147,16 +161,85 @@ public class BibDatabase {
      * @return list of entries that contains the given key
      */
     public synchronized List<BibEntry> getEntriesByCitationKey(String key) {
-        List<BibEntry> result = new ArrayList<>();
+        List<BibEntry> entriesWithKey = entriesByCitationKey.get(key);
+        if (entriesWithKey == null) {
+            return new ArrayList<>();
+        }
+        List<BibEntry> result = new ArrayList<>(entriesWithKey);
+        if (result.size() > 1) {
+            // New entries always get a higher ID and are appended, thus the ID order is the order in the database
+            result.sort(Comparator.comparing(BibEntry::getId));
+        }
+        return result;
+    }
 
-        for (BibEntry entry : entries) {
-            entry.getCitationKey().ifPresent(entryKey -> {
-                if (key.equals(entryKey)) {
-                    result.add(entry);
+    private void addToCitationKeyIndex(String key, BibEntry entry) {
+        // Blank keys are treated as no key, see BibEntry#getCitationKey
+        if (!StringUtil.isBlank(key)) {
+            entriesByCitationKey.computeIfAbsent(key, k -> new ArrayList<>(1)).add(entry);
+        }
+    }
+
+    private void removeFromCitationKeyIndex(String key, BibEntry entry) {
+        if (StringUtil.isBlank(key)) {
+            return;
+        }
+        List<BibEntry> entriesWithKey = entriesByCitationKey.get(key);
+        if (entriesWithKey != null) {
+            // BibEntry#equals compares the content, but we need to remove exactly this entry
+            entriesWithKey.removeIf(entryWithKey -> entryWithKey == entry);
+            if (entriesWithKey.isEmpty()) {
+                entriesByCitationKey.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Returns the entries linking the file with the given link (as stored in {@link LinkedFile#getLink()}).
+     * The order of the entries is the order they were added to the database.
+     */
+    public synchronized List<BibEntry> getEntriesByFileLink(String fileLink) {
+        if (entriesByFileLink == null) {
+            entriesByFileLink = new HashMap<>();
+            indexedFileLinks = new IdentityHashMap<>();
+            for (BibEntry entry : entries) {
+                addToFileLinkIndex(entry);
+            }
+        }
+        return List.copyOf(entriesByFileLink.getOrDefault(fileLink, List.of()));
+    }
+
+    private void addToFileLinkIndex(BibEntry entry) {
+        if (entriesByFileLink == null) {
+            return;
+        }
+        List<String> fileLinks = entry.getParsedFiles().stream().map(LinkedFile::getLink).distinct().toList();
+        if (fileLinks.isEmpty()) {
+            return;
+        }
+        indexedFileLinks.put(entry, fileLinks);
+        for (String fileLink : fileLinks) {
+            entriesByFileLink.computeIfAbsent(fileLink, k -> new ArrayList<>(1)).add(entry);
+        }
+    }
+
+    private void removeFromFileLinkIndex(BibEntry entry) {
+        if (entriesByFileLink == null) {
+            return;
+        }
+        List<String> fileLinks = indexedFileLinks.remove(entry);
+        if (fileLinks == null) {
+            return;
+        }
+        for (String fileLink : fileLinks) {
+            List<BibEntry> entriesWithFile = entriesByFileLink.get(fileLink);
+            if (entriesWithFile != null) {
+                entriesWithFile.removeIf(entryWithFile -> entryWithFile == entry);
+                if (entriesWithFile.isEmpty()) {
+                    entriesByFileLink.remove(fileLink);
                 }
-            });
+            }
         }
-        return result;
     }
 
     public synchronized void insertEntry(BibEntry entry) {
@@ -184,7 +267,7 @@ public class BibDatabase {
     public synchronized void insertEntries(List<BibEntry> newEntries, EntriesEventSource eventSource) {
         Objects.requireNonNull(newEntries);
         for (BibEntry entry : newEntries) {
-            entry.registerListener(this);
+            entry.registerDatabase(this);
         }
         if (newEntries.isEmpty()) {
             eventBus.post(new EntriesAddedEvent(newEntries, eventSource));
@@ -192,7 +275,11 @@ public class BibDatabase {
             eventBus.post(new EntriesAddedEvent(newEntries, newEntries.getFirst(), eventSource));
         }
         entries.addAll(newEntries);
-        newEntries.forEach(entry -> entriesId.put(entry.getId(), entry));
+        newEntries.forEach(entry -> {
+            entriesId.put(entry.getId(), entry);
+            addToCitationKeyIndex(entry.getCitationKey().orElse(null), entry);
+            addToFileLinkIndex(entry);
+        });
     }
 
     public synchronized void removeEntry(BibEntry bibEntry) {
@@ -229,7 +316,13 @@ public class BibDatabase {
         }
         boolean anyRemoved = entries.removeIf(entry -> ids.contains(entry.getId()));
         if (anyRemoved) {
-            toBeDeleted.forEach(entry -> entriesId.remove(entry.getId()));
+            toBeDeleted.forEach(entry -> {
+                BibEntry removedEntry = entriesId.remove(entry.getId());
+                if (removedEntry != null) {
+                    removeFromCitationKeyIndex(removedEntry.getCitationKey().orElse(null), removedEntry);
+                    removeFromFileLinkIndex(removedEntry);
+                }
+            });
             eventBus.post(new EntriesRemovedEvent(toBeDeleted, eventSource));
         }
     }
@@ -558,11 +651,38 @@ public class BibDatabase {
         }
     }
 
-    @Subscribe
-    private void relayEntryChangeEvent(FieldChangedEvent event) {
+    /**
+     * Called by the entries of this database when they change. Updates the citation key and file link indexes and
+     * notifies the listeners of the database.
+     */
+    public void relayEntryChangeEvent(FieldChangedEvent event) {
+        if (InternalField.KEY_FIELD.equals(event.getField())) {
+            updateCitationKeyIndex(event);
+        } else if (StandardField.FILE == event.getField()) {
+            updateFileLinkIndex(event);
+        }
         eventBus.post(event);
     }
 
+    private synchronized void updateCitationKeyIndex(FieldChangedEvent event) {
+        BibEntry entry = event.getBibEntry();
+        // Removed entries still notify the database; these must not enter the index again
+        if (entriesId.get(entry.getId()) != entry) {
+            return;
+        }
+        removeFromCitationKeyIndex(event.getOldValue(), entry);
+        addToCitationKeyIndex(event.getNewValue(), entry);
+    }
+
+    private synchronized void updateFileLinkIndex(FieldChangedEvent event) {
+        BibEntry entry = event.getBibEntry();
+        if ((entriesByFileLink == null) || (entriesId.get(entry.getId()) != entry)) {
+            return;
+        }
+        removeFromFileLinkIndex(entry);
+        addToFileLinkIndex(entry);
+    }
+
     public Optional<BibEntry> getReferencedEntry(BibEntry entry) {
         return entry.getField(StandardField.CROSSREF).flatMap(this::getEntryByCitationKey);
     }
@@ -596,11 +716,9 @@ public class BibDatabase {
     /**
      * Returns the number of occurrences of the given citation key in this database.
      */
-    public long getNumberOfCitationKeyOccurrences(String key) {
-        return entries.stream()
-                      .flatMap(entry -> entry.getCitationKey().stream())
-                      .filter(key::equals)
-                      .count();
+    public synchronized long getNumberOfCitationKeyOccurrences(String key) {
+        List<BibEntry> entriesWithKey = entriesByCitationKey.get(key);
+        return entriesWithKey == null ? 0 : entriesWithKey.size();
     }
 
     /**
@@ -103,27 +103,57 @@ public class BibEntry implements Cloneable {
     private final SharedBibEntryData sharedBibEntryData;
 
     /**
-     * Map to store the words in every field
+     * Map to store the words in every field. Created on first use.
      */
-    private final Map<Field, Set<String>> fieldsAsWords = new HashMap<>();
+    private Map<Field, Set<String>> fieldsAsWords;
 
     /**
-     * Cache that stores latex free versions of fields.
+     * Cache that stores latex free versions of fields. Created on first use.
      */
-    private final Map<Field, String> latexFreeFields = new ConcurrentHashMap<>();
+    private volatile Map<Field, String> latexFreeFields;
 
     /**
-     * Cache that stores the field as keyword lists (format &lt;Field, Separator, Keyword list>)
+     * Cache that stores the field as keyword lists (format &lt;Field, Separator, Keyword list>). Created on first use.
      */
-    private final MultiKeyMap<StandardField, Character, KeywordList> fieldsAsKeywords = new MultiKeyMap<>(StandardField.class);
+    private MultiKeyMap<StandardField, Character, KeywordList> fieldsAsKeywords;
 
-    private final EventBus eventBus = new EventBus();
+    /**
+     * Cache of the parsed {@link StandardField#FILE} field, see {@link #getParsedFiles()}
+     */
+    private volatile @Nullable ParsedFiles parsedFiles;
+
+    /**
+     * Bus for the listeners registered by {@link #registerListener(Object)}. Created for the first listener.
+     */
+    private volatile EventBus eventBus;
+
+    /**
+     * The databases containing this entry, which are notified of changes directly.
+     */
+    private volatile List<BibDatabase> databases = List.of();
 
     private String id;
 
-    private final ObjectProperty<EntryType> type = new SimpleObjectProperty<>(DEFAULT_TYPE);
+    private EntryType type = DEFAULT_TYPE;
 
-    private ObservableMap<Field, String> fields = FXCollections.observableMap(new ConcurrentHashMap<>());
+    /**
+     * Observable view of {@link #type}. Created when it is requested (usually by UI code); then, it holds the type.
+     */
+    private volatile ObjectProperty<EntryType> typeProperty;
+
+    private CompactFieldMap fields = new CompactFieldMap();
+
+    /**
+     * Observable view of {@link #fields}. Created when it is requested (usually by UI code); then, all changes have to
+     * go through it.
+     */
+    private volatile ObservableMap<Field, String> observableFields;
+
+    /**
+     * Linked files parsed from a value of the file field, which is compared by identity to detect changes
+     */
+    private record ParsedFiles(String fieldValue, List<LinkedFile> files) {
+    }
 
     /**
      * The part before the start of the entry
@@ -332,7 +362,7 @@ public class BibEntry implements Cloneable {
 
     private Optional<String> genericGetResolvedFieldOrAlias(Field field, @Nullable BibDatabase database, BiFunction<BibEntry, Field, Optional<String>> getFieldOrAlias) {
         if ((InternalField.TYPE_HEADER == field) || (InternalField.OBSOLETE_TYPE_HEADER == field)) {
-            return Optional.of(type.get().getDisplayName());
+            return Optional.of(getType().getDisplayName());
         }
 
         if (InternalField.KEY_FIELD == field) {
@@ -345,8 +375,8 @@ public class BibEntry implements Cloneable {
         if (result.isEmpty() && (database != null)) {
             Optional<BibEntry> referred = database.getReferencedEntry(this);
             if (referred.isPresent()) {
-                EntryType sourceEntry = referred.get().type.get();
-                EntryType targetEntry = type.get();
+                EntryType sourceEntry = referred.get().getType();
+                EntryType targetEntry = getType();
                 Optional<Field> sourceField = getSourceField(field, targetEntry, sourceEntry);
 
                 if (sourceField.isPresent()) {
@@ -382,7 +412,7 @@ public class BibEntry implements Cloneable {
 
         String oldId = this.id;
 
-        eventBus.post(new FieldChangedEvent(this, InternalField.INTERNAL_ID_FIELD, id, oldId));
+        post(new FieldChangedEvent(this, InternalField.INTERNAL_ID_FIELD, id, oldId));
         this.id = id;
         changed = true;
     }
@@ -423,11 +453,21 @@ public class BibEntry implements Cloneable {
      * Returns this entry's type.
      */
     public EntryType getType() {
-        return type.getValue();
+        ObjectProperty<EntryType> property = typeProperty;
+        return (property == null) ? type : property.getValue();
     }
 
     public ObjectProperty<EntryType> typeProperty() {
-        return type;
+        ObjectProperty<EntryType> property = typeProperty;
+        if (property == null) {
+            synchronized (this) {
+                if (typeProperty == null) {
+                    typeProperty = new SimpleObjectProperty<>(type);
+                }
+                property = typeProperty;
+            }
+        }
+        return property;
     }
 
     /**
@@ -444,16 +484,20 @@ public class BibEntry implements Cloneable {
     public Optional<FieldChange> setType(EntryType newType, EntriesEventSource eventSource) {
         Objects.requireNonNull(newType);
 
-        EntryType oldType = type.get();
+        EntryType oldType = getType();
         if (newType.equals(oldType)) {
             return Optional.empty();
         }
 
         changed = true;
-        this.type.setValue(newType);
+        this.type = newType;
+        ObjectProperty<EntryType> property = typeProperty;
+        if (property != null) {
+            property.setValue(newType);
+        }
 
         FieldChange change = new FieldChange(this, InternalField.TYPE_HEADER, oldType.getName(), newType.getName());
-        eventBus.post(new FieldChangedEvent(change, eventSource));
+        post(new FieldChangedEvent(change, eventSource));
         return Optional.of(change);
     }
 
@@ -483,15 +527,15 @@ public class BibEntry implements Cloneable {
             // the key field should not be converted
             return getCitationKey();
         } else if (InternalField.TYPE_HEADER == field) {
-            return Optional.of(type.get().getDisplayName());
-        } else if (latexFreeFields.containsKey(field)) {
+            return Optional.of(getType().getDisplayName());
+        } else if ((latexFreeFields != null) && latexFreeFields.containsKey(field)) {
             return Optional.ofNullable(latexFreeFields.get(field));
         } else {
             Optional<String> fieldValue = getField(field);
             if (fieldValue.isPresent()) {
                 // TODO: Do we need FieldFactory.isLaTeXField(field) here to filter?
                 String latexFreeValue = LatexToUnicodeAdapter.format(fieldValue.get()).intern();
-                latexFreeFields.put(field, latexFreeValue);
+                getLatexFreeFields().put(field, latexFreeValue);
                 return Optional.of(latexFreeValue);
             } else {
                 return Optional.empty();
@@ -640,13 +684,13 @@ public class BibEntry implements Cloneable {
         changed = true;
 
         invalidateFieldCache(field);
-        fields.put(field, value.intern());
+        getFieldsForUpdate().put(field, value.intern());
 
         FieldChange change = new FieldChange(this, field, oldValue, value);
         if (isNewField) {
-            eventBus.post(new FieldAddedOrRemovedEvent(change, eventSource));
+            post(new FieldAddedOrRemovedEvent(change, eventSource));
         } else {
-            eventBus.post(new FieldChangedEvent(change, eventSource));
+            post(new FieldChangedEvent(change, eventSource));
         }
         return Optional.of(change);
     }
@@ -686,10 +730,10 @@ public class BibEntry implements Cloneable {
         changed = true;
 
         invalidateFieldCache(field);
-        fields.remove(field);
+        getFieldsForUpdate().remove(field);
 
         FieldChange change = new FieldChange(this, field, oldValue.get(), null);
-        eventBus.post(new FieldAddedOrRemovedEvent(change, eventSource));
+        post(new FieldAddedOrRemovedEvent(change, eventSource));
         return Optional.of(change);
     }
 
@@ -714,8 +758,8 @@ public class BibEntry implements Cloneable {
      */
     @Override
     public Object clone() {
-        BibEntry clone = new BibEntry(type.getValue());
-        clone.fields = FXCollections.observableMap(new ConcurrentHashMap<>(fields));
+        BibEntry clone = new BibEntry(getType());
+        clone.fields = new CompactFieldMap(fields);
         clone.commentsBeforeEntry = commentsBeforeEntry;
         clone.parsedSerialization = parsedSerialization;
         clone.changed = changed;
@@ -914,7 +958,7 @@ public class BibEntry implements Cloneable {
     }
 
     public Map<Field, String> getFieldMap() {
-        return fields;
+        return getFieldsForUpdate();
     }
 
     public SharedBibEntryData getSharedBibEntryData() {
@@ -941,7 +985,7 @@ public class BibEntry implements Cloneable {
             return false;
         }
         BibEntry entry = (BibEntry) o;
-        return Objects.equals(type.getValue(), entry.type.getValue())
+        return Objects.equals(getType(), entry.getType())
                 && Objects.equals(fields, entry.fields)
                 && Objects.equals(commentsBeforeEntry, entry.commentsBeforeEntry);
     }
@@ -959,22 +1003,61 @@ public class BibEntry implements Cloneable {
      */
     @Override
     public int hashCode() {
-        return Objects.hash(type.getValue(), fields, commentsBeforeEntry);
+        return Objects.hash(getType(), fields, commentsBeforeEntry);
     }
 
     public void registerListener(Object object) {
-        this.eventBus.register(object);
+        EventBus bus = eventBus;
+        if (bus == null) {
+            synchronized (this) {
+                if (eventBus == null) {
+                    eventBus = new EventBus();
+                }
+                bus = eventBus;
+            }
+        }
+        bus.register(object);
     }
 
     public void unregisterListener(Object object) {
+        EventBus bus = eventBus;
+        if (bus == null) {
+            return;
+        }
         try {
-            this.eventBus.unregister(object);
+            bus.unregister(object);
         } catch (IllegalArgumentException e) {
             // occurs if the event source has not been registered, should not prevent shutdown
             LOGGER.debug("Problem unregistering", e);
         }
     }
 
+    /**
+     * Lets the given database be notified of the changes of this entry, without the cost of an event bus per entry.
+     * Called by the database when the entry is inserted.
+     */
+    public synchronized void registerDatabase(BibDatabase database) {
+        for (BibDatabase registered : databases) {
+            if (registered == database) {
+                return;
+            }
+        }
+        List<BibDatabase> newDatabases = new ArrayList<>(databases.size() + 1);
+        newDatabases.addAll(databases);
+        newDatabases.add(database);
+        databases = List.copyOf(newDatabases);
+    }
+
+    private void post(FieldChangedEvent event) {
+        for (BibDatabase database : databases) {
+            database.relayEntryChangeEvent(event);
+        }
+        EventBus bus = eventBus;
+        if (bus != null) {
+            bus.post(event);
+        }
+    }
+
     public BibEntry withField(Field field, String value) {
         setField(field, value);
         this.setChanged(false);
@@ -985,7 +1068,12 @@ public class BibEntry implements Cloneable {
      * A copy is made of the parameter
      */
     public BibEntry withFields(Map<Field, String> content) {
-        this.fields = FXCollections.observableMap(new HashMap<>(content));
+        this.fields = new CompactFieldMap(content);
+        this.observableFields = null;
+        this.latexFreeFields = null;
+        this.fieldsAsWords = null;
+        this.fieldsAsKeywords = null;
+        this.parsedFiles = null;
         this.setChanged(false);
         return this;
     }
@@ -1025,7 +1113,7 @@ public class BibEntry implements Cloneable {
     }
 
     public Set<String> getFieldAsWords(Field field) {
-        Set<String> storedList = fieldsAsWords.get(field);
+        Set<String> storedList = (fieldsAsWords == null) ? null : fieldsAsWords.get(field);
         if (storedList != null) {
             return storedList;
         } else {
@@ -1034,6 +1122,9 @@ public class BibEntry implements Cloneable {
                 return Collections.emptySet();
             } else {
                 HashSet<String> words = new HashSet<>(StringUtil.getStringAsWords(fieldValue));
+                if (fieldsAsWords == null) {
+                    fieldsAsWords = new HashMap<>();
+                }
                 fieldsAsWords.put(field, words);
                 return words;
             }
@@ -1041,7 +1132,7 @@ public class BibEntry implements Cloneable {
     }
 
     public KeywordList getFieldAsKeywords(Field field, Character keywordSeparator) {
-        if (field instanceof StandardField standardField) {
+        if ((field instanceof StandardField standardField) && (fieldsAsKeywords != null)) {
             Optional<KeywordList> storedList = fieldsAsKeywords.get(standardField, keywordSeparator);
             if (storedList.isPresent()) {
                 return storedList.get();
@@ -1053,6 +1144,9 @@ public class BibEntry implements Cloneable {
                 .orElse(new KeywordList());
 
         if (field instanceof StandardField standardField) {
+            if (fieldsAsKeywords == null) {
+                fieldsAsKeywords = new MultiKeyMap<>(StandardField.class);
+            }
             fieldsAsKeywords.put(standardField, keywordSeparator, keywords);
         }
         return keywords;
@@ -1063,12 +1157,31 @@ public class BibEntry implements Cloneable {
     }
 
     private void invalidateFieldCache(Field field) {
-        latexFreeFields.remove(field);
-        fieldsAsWords.remove(field);
-
-        if (field instanceof StandardField standardField) {
+        if (latexFreeFields != null) {
+            latexFreeFields.remove(field);
+        }
+        if (fieldsAsWords != null) {
+            fieldsAsWords.remove(field);
+        }
+        if ((field instanceof StandardField standardField) && (fieldsAsKeywords != null)) {
             fieldsAsKeywords.remove(standardField);
         }
+        if (field == StandardField.FILE) {
+            parsedFiles = null;
+        }
+    }
+
+    private Map<Field, String> getLatexFreeFields() {
+        Map<Field, String> cache = latexFreeFields;
+        if (cache == null) {
+            synchronized (this) {
+                if (latexFreeFields == null) {
+                    latexFreeFields = new ConcurrentHashMap<>();
+                }
+                cache = latexFreeFields;
+            }
+        }
+        return cache;
     }
 
     // region files
@@ -1096,13 +1209,31 @@ public class BibEntry implements Cloneable {
      * Changes to the underlying list will have no effect on the entry itself. Use {@link #addFile(LinkedFile)}.
      */
     public List<LinkedFile> getFiles() {
-        Optional<String> oldValue = getField(StandardField.FILE);
-        if (oldValue.isEmpty()) {
-            return new ArrayList<>(); // Return new ArrayList because emptyList is immutable
+        List<LinkedFile> files = new ArrayList<>();
+        for (LinkedFile file : getParsedFiles()) {
+            files.add(new LinkedFile(file.getDescription(), file.getLink(), file.getFileType(), file.getSourceUrl()));
         }
+        return files;
+    }
 
-        // Extract the path
-        return FileFieldParser.parse(oldValue.get());
+    /**
+     * Gets the linked files without parsing the file field again as long as it does not change. To be used when
+     * reading the files of many entries.
+     *
+     * @return an unmodifiable list of the linked files, which are shared and must not be modified. Use
+     * {@link #getFiles()} to change the files.
+     */
+    public List<LinkedFile> getParsedFiles() {
+        String value = fields.get(StandardField.FILE);
+        if (value == null) {
+            return List.of();
+        }
+        ParsedFiles parsed = parsedFiles;
+        if ((parsed == null) || (parsed.fieldValue() != value)) {
+            parsed = new ParsedFiles(value, List.copyOf(FileFieldParser.parse(value)));
+            parsedFiles = parsed;
+        }
+        return parsed.files();
     }
 
     public Optional<FieldChange> addFile(LinkedFile file) {
@@ -1162,9 +1293,9 @@ public class BibEntry implements Cloneable {
 
     public OptionalBinding<String> getFieldBinding(Field field) {
         if ((field == InternalField.TYPE_HEADER) || (field == InternalField.OBSOLETE_TYPE_HEADER)) {
-            return EasyBind.wrapNullable(type).mapOpt(EntryType::getDisplayName);
+            return EasyBind.wrapNullable(typeProperty()).mapOpt(EntryType::getDisplayName);
         }
-        return EasyBind.valueAt(fields, field);
+        return EasyBind.valueAt(getFieldsObservable(), field);
     }
 
     public OptionalBinding<String> getCiteKeyBinding() {
@@ -1172,14 +1303,32 @@ public class BibEntry implements Cloneable {
     }
 
     public ObservableMap<Field, String> getFieldsObservable() {
-        return fields;
+        ObservableMap<Field, String> observable = observableFields;
+        if (observable == null) {
+            synchronized (this) {
+                if (observableFields == null) {
+                    observableFields = FXCollections.observableMap(fields);
+                }
+                observable = observableFields;
+            }
+        }
+        return observable;
+    }
+
+    /**
+     * Returns the fields to be changed: the observable view if it has been requested, so that its listeners are
+     * notified.
+     */
+    private Map<Field, String> getFieldsForUpdate() {
+        ObservableMap<Field, String> observable = observableFields;
+        return (observable == null) ? fields : observable;
     }
 
     /**
      * Returns a list of observables that represent the data of the entry.
      */
     public Observable[] getObservables() {
-        return new Observable[] {fields, type};
+        return new Observable[] {getFieldsObservable(), typeProperty()};
     }
 
     /**
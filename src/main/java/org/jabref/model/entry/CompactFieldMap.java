@@ -0,0 +1,182 @@
+package org.jabref.model.entry;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+import org.jabref.model.entry.field.Field;
+
+/**
+ * Map of the fields of a {@link BibEntry} to their values, stored as a flat array of alternating fields and values.
+ * <p>
+ * An entry has only a few fields, which are mostly read. Thus, the array is replaced on each change (copy on write),
+ * and lookups scan it. Compared to a {@link java.util.concurrent.ConcurrentHashMap}, there is no table and no node per
+ * field, while reading does not lock and iterating is never affected by concurrent changes. The fields are kept in the
+ * order they were added.
+ * <p>
+ * Neither fields nor values may be {@code null}.
+ */
+final class CompactFieldMap extends AbstractMap<Field, String> {
+
+    private static final Object[] EMPTY = new Object[0];
+
+    private volatile Object[] fieldsAndValues = EMPTY;
+
+    CompactFieldMap() {
+    }
+
+    CompactFieldMap(Map<Field, String> fields) {
+        Object[] array = new Object[fields.size() * 2];
+        int size = 0;
+        for (Map.Entry<Field, String> entry : fields.entrySet()) {
+            array[size++] = Objects.requireNonNull(entry.getKey());
+            array[size++] = Objects.requireNonNull(entry.getValue());
+        }
+        this.fieldsAndValues = (size == array.length) ? array : Arrays.copyOf(array, size);
+    }
+
+    private static int indexOf(Object[] array, Object field) {
+        for (int i = 0; i < array.length; i += 2) {
+            if (array[i] == field) {
+                return i;
+            }
+        }
+        // Fields other than the standard ones are not necessarily the same instances. As in a hash map, equal fields
+        // need equal hash codes, too.
+        for (int i = 0; i < array.length; i += 2) {
+            if (field.equals(array[i]) && (field.hashCode() == array[i].hashCode())) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int size() {
+        return fieldsAndValues.length / 2;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return fieldsAndValues.length == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object field) {
+        return (field != null) && (indexOf(fieldsAndValues, field) >= 0);
+    }
+
+    @Override
+    public String get(Object field) {
+        if (field == null) {
+            return null;
+        }
+        Object[] array = fieldsAndValues;
+        int index = indexOf(array, field);
+        return (index < 0) ? null : (String) array[index + 1];
+    }
+
+    @Override
+    public synchronized String put(Field field, String value) {
+        Objects.requireNonNull(field);
+        Objects.requireNonNull(value);
+        Object[] array = fieldsAndValues;
+        int index = indexOf(array, field);
+        if (index >= 0) {
+            String oldValue = (String) array[index + 1];
+            Object[] newArray = array.clone();
+            newArray[index + 1] = value;
+            fieldsAndValues = newArray;
+            return oldValue;
+        }
+        Object[] newArray = Arrays.copyOf(array, array.length + 2);
+        newArray[array.length] = field;
+        newArray[array.length + 1] = value;
+        fieldsAndValues = newArray;
+        return null;
+    }
+
+    @Override
+    public synchronized String putIfAbsent(Field field, String value) {
+        String oldValue = get(field);
+        if (oldValue == null) {
+            put(field, value);
+        }
+        return oldValue;
+    }
+
+    @Override
+    public synchronized String remove(Object field) {
+        if (field == null) {
+            return null;
+        }
+        Object[] array = fieldsAndValues;
+        int index = indexOf(array, field);
+        if (index < 0) {
+            return null;
+        }
+        String oldValue = (String) array[index + 1];
+        Object[] newArray = new Object[array.length - 2];
+        System.arraycopy(array, 0, newArray, 0, index);
+        System.arraycopy(array, index + 2, newArray, index, array.length - index - 2);
+        fieldsAndValues = newArray;
+        return oldValue;
+    }
+
+    @Override
+    public synchronized void clear() {
+        fieldsAndValues = EMPTY;
+    }
+
+    /**
+     * Returns a view of the mappings. Iterators go through the mappings at the time they were created.
+     */
+    @Override
+    public Set<Map.Entry<Field, String>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Map.Entry<Field, String>> iterator() {
+                Object[] array = fieldsAndValues;
+                return new Iterator<>() {
+                    private int next;
+                    private Field last;
+
+                    @Override
+                    public boolean hasNext() {
+                        return next < array.length;
+                    }
+
+                    @Override
+                    public Map.Entry<Field, String> next() {
+                        if (!hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+                        last = (Field) array[next];
+                        String value = (String) array[next + 1];
+                        next += 2;
+                        return new SimpleImmutableEntry<>(last, value);
+                    }
+
+                    @Override
+                    public void remove() {
+                        if (last == null) {
+                            throw new IllegalStateException();
+                        }
+                        CompactFieldMap.this.remove(last);
+                        last = null;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return CompactFieldMap.this.size();
+            }
+        };
+    }
+}
@@ -9,6 +9,7 @@ import javafx.beans.property.StringProperty;
 import javafx.scene.paint.Color;
 
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.Field;
 import org.jabref.model.search.SearchMatcher;
 import org.jabref.model.strings.StringUtil;
 
@@ -141,6 +142,15 @@ public abstract class AbstractGroup implements SearchMatcher {
         return contains(entry);
     }
 
+    /**
+     * Returns whether changing the given field of an entry may change whether this group contains the entry.
+     * <p>
+     * Groups that do not override this method are tested again after every change of an entry.
+     */
+    public boolean dependsOn(Field field) {
+        return true;
+    }
+
     /**
      * @return true if this group contains any of the specified entries, false otherwise.
      */
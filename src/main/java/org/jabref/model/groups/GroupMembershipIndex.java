@@ -0,0 +1,435 @@
+package org.jabref.model.groups;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.database.event.EntriesRemovedEvent;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.FieldChangedEvent;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.eventbus.Subscribe;
+
+/**
+ * Keeps track of the entries of a database that are contained in groups.
+ * <p>
+ * Every entry of the database gets a number, and the entries contained in a group are stored as a {@link BitSet} of
+ * these numbers. The group of a node is tested against all entries only once; afterwards, an entry is tested again
+ * only if it is added or if one of the fields the group {@link AbstractGroup#dependsOn depends on} changes.
+ * <p>
+ * The hierarchical context is applied to these bit sets: a {@link GroupHierarchyType#REFINING refining} group is
+ * intersected with its parent, an {@link GroupHierarchyType#INCLUDING including} group is united with its children.
+ * The result is the same as the one of {@link GroupTreeNode#matches(BibEntry)}.
+ * <p>
+ * Testing a group against all entries is expensive, and is therefore only done by {@link #getMatchCount} and
+ * {@link #getMatchedEntries}, which are meant to be called from a background thread. The entries are tested without
+ * holding the lock of the index. {@link #isMatch} never tests all entries and may be called from the UI thread.
+ */
+public class GroupMembershipIndex {
+
+    private static final int MAX_BUILD_ATTEMPTS = 3;
+
+    private final Map<BibEntry, Integer> entryNumbers = new IdentityHashMap<>();
+    private final List<BibEntry> entries = new ArrayList<>();
+    private final BitSet freeNumbers = new BitSet();
+
+    // Identity-based weak keys: nodes removed from the groups tree are dropped, and equal nodes are kept apart
+    private final Cache<GroupTreeNode, Membership> memberships = CacheBuilder.newBuilder().weakKeys().build();
+
+    // Held weakly; callers have to keep a reference to their listener
+    private final Set<Runnable> listeners = Collections.newSetFromMap(new WeakHashMap<>());
+
+    // Increased whenever the entries contained in a group itself change
+    private long generation;
+
+    // Increased whenever an entry is added, removed, or changed, or a group is refreshed
+    private long modificationCount;
+
+    public GroupMembershipIndex(BibDatabase database) {
+        addEntries(database.getEntries());
+        database.registerListener(this);
+    }
+
+    /**
+     * Returns whether the given node matches the given entry while taking the hierarchical context into account.
+     * <p>
+     * If the entries matched by the groups involved are not known yet, the entry is tested directly instead of testing
+     * all entries.
+     */
+    public boolean isMatch(GroupTreeNode node, BibEntry entry) {
+        synchronized (this) {
+            Integer number = entryNumbers.get(entry);
+            // An entry which is not part of the database is tested directly, too
+            if ((number != null) && getMissingMemberships(node).isEmpty()) {
+                return getMatches(node).get(number);
+            }
+        }
+        return node.matches(entry);
+    }
+
+    /**
+     * Returns the number of entries matched by the given node while taking the hierarchical context into account.
+     * Might test all entries, thus should not be called from the UI thread.
+     */
+    public int getMatchCount(GroupTreeNode node) {
+        buildMemberships(node);
+        synchronized (this) {
+            return getMatches(node).cardinality();
+        }
+    }
+
+    /**
+     * Returns the entries matched by the given node while taking the hierarchical context into account.
+     * Might test all entries, thus should not be called from the UI thread.
+     */
+    public List<BibEntry> getMatchedEntries(GroupTreeNode node) {
+        buildMemberships(node);
+        synchronized (this) {
+            BitSet matches = getMatches(node);
+            return matches.stream().mapToObj(entries::get).toList();
+        }
+    }
+
+    /**
+     * Tests all entries again against the group of the given node, e.g., because the group depends on data outside the
+     * entries.
+     */
+    public void refresh(GroupTreeNode node) {
+        synchronized (this) {
+            memberships.invalidate(node);
+            generation++;
+            modificationCount++;
+        }
+        notifyListeners();
+    }
+
+    /**
+     * Tests the given entries again against the group of the given node, e.g., because the matches of a
+     * {@link SearchGroup} were updated.
+     */
+    public void refresh(GroupTreeNode node, Collection<BibEntry> changedEntries) {
+        boolean changed;
+        synchronized (this) {
+            // A membership that is not known yet tests all entries when it is needed
+            Membership membership = memberships.getIfPresent(node);
+            changed = (membership != null) && (membership.group == node.getGroup()) && membership.update(changedEntries);
+        }
+        if (changed) {
+            notifyListeners();
+        }
+    }
+
+    /**
+     * Adds a listener that is called after the entries matched by any group may have changed.
+     * The listener is held weakly, the caller has to keep a reference to it.
+     */
+    public void addListener(Runnable listener) {
+        synchronized (listeners) {
+            listeners.add(listener);
+        }
+    }
+
+    public void removeListener(Runnable listener) {
+        synchronized (listeners) {
+            listeners.remove(listener);
+        }
+    }
+
+    @Subscribe
+    public void listen(EntriesAddedEvent event) {
+        synchronized (this) {
+            addEntries(event.getBibEntries());
+        }
+        notifyListeners();
+    }
+
+    @Subscribe
+    public void listen(EntriesRemovedEvent event) {
+        synchronized (this) {
+            for (BibEntry entry : event.getBibEntries()) {
+                Integer number = entryNumbers.remove(entry);
+                if (number != null) {
+                    entries.set(number, null);
+                    freeNumbers.set(number);
+                    memberships.asMap().values().forEach(membership -> membership.contained.clear(number));
+                }
+            }
+            generation++;
+            modificationCount++;
+        }
+        notifyListeners();
+    }
+
+    @Subscribe
+    public void listen(FieldChangedEvent event) {
+        boolean changed = false;
+        synchronized (this) {
+            Integer number = entryNumbers.get(event.getBibEntry());
+            if (number == null) {
+                return;
+            }
+            modificationCount++;
+            for (Membership membership : memberships.asMap().values()) {
+                if (membership.group.dependsOn(event.getField())) {
+                    changed |= membership.update(number);
+                }
+            }
+        }
+        if (changed) {
+            notifyListeners();
+        }
+    }
+
+    private void addEntries(List<BibEntry> newEntries) {
+        List<Integer> numbers = new ArrayList<>(newEntries.size());
+        for (BibEntry entry : newEntries) {
+            if (entryNumbers.containsKey(entry)) {
+                continue;
+            }
+            int number = freeNumbers.nextSetBit(0);
+            if (number < 0) {
+                number = entries.size();
+                entries.add(entry);
+            } else {
+                freeNumbers.clear(number);
+                entries.set(number, entry);
+            }
+            entryNumbers.put(entry, number);
+            numbers.add(number);
+        }
+        for (Membership membership : memberships.asMap().values()) {
+            numbers.forEach(membership::update);
+        }
+        generation++;
+        modificationCount++;
+    }
+
+    private void notifyListeners() {
+        List<Runnable> currentListeners;
+        synchronized (listeners) {
+            currentListeners = new ArrayList<>(listeners);
+        }
+        currentListeners.forEach(Runnable::run);
+    }
+
+    /**
+     * Returns the entries matched by the group of the given node itself.
+     */
+    private BitSet getOwnMatches(GroupTreeNode node) {
+        return getMembership(node).contained;
+    }
+
+    private Membership getMembership(GroupTreeNode node) {
+        Membership membership = memberships.getIfPresent(node);
+        if (!isCurrent(membership, node)) {
+            // A new node, or the group of the node was replaced
+            membership = new Membership(node.getGroup(), test(node.getGroup(), entries));
+            memberships.put(node, membership);
+            generation++;
+        }
+        return membership;
+    }
+
+    private static boolean isCurrent(Membership membership, GroupTreeNode node) {
+        return (membership != null) && (membership.group == node.getGroup());
+    }
+
+    /**
+     * Tests the groups involved in the matches of the given node against all entries, as far as this was not done
+     * before. The entries are tested on a copy without holding the lock; if the entries change in the meantime, the
+     * test is repeated.
+     */
+    private void buildMemberships(GroupTreeNode node) {
+        for (int attempt = 0; attempt < MAX_BUILD_ATTEMPTS; attempt++) {
+            List<GroupTreeNode> missing;
+            List<BibEntry> entriesSnapshot;
+            long modificationCountSnapshot;
+            synchronized (this) {
+                missing = getMissingMemberships(node);
+                if (missing.isEmpty()) {
+                    return;
+                }
+                entriesSnapshot = new ArrayList<>(entries);
+                modificationCountSnapshot = modificationCount;
+            }
+
+            Map<GroupTreeNode, BitSet> contained = new IdentityHashMap<>();
+            for (GroupTreeNode missingNode : missing) {
+                contained.put(missingNode, test(missingNode.getGroup(), entriesSnapshot));
+            }
+
+            synchronized (this) {
+                if (modificationCount == modificationCountSnapshot) {
+                    contained.forEach((missingNode, containedEntries) -> {
+                        if (!isCurrent(memberships.getIfPresent(missingNode), missingNode)) {
+                            memberships.put(missingNode, new Membership(missingNode.getGroup(), containedEntries));
+                            generation++;
+                        }
+                    });
+                    return;
+                }
+            }
+        }
+        // The entries keep changing; the remaining memberships are built under the lock by getMatches
+    }
+
+    /**
+     * Returns the nodes involved in the matches of the given node, following {@link #getMatches}, whose entries are not
+     * known yet.
+     */
+    private List<GroupTreeNode> getMissingMemberships(GroupTreeNode node) {
+        List<GroupTreeNode> missing = new ArrayList<>();
+        collectMissingMemberships(node, missing);
+        return missing;
+    }
+
+    private void collectMissingMemberships(GroupTreeNode node, List<GroupTreeNode> missing) {
+        addIfMissing(node, missing);
+        switch (node.getGroup().getHierarchicalContext()) {
+            case REFINING -> node.getParent().ifPresent(parent -> {
+                if (parent.getGroup().getHierarchicalContext() == GroupHierarchyType.REFINING) {
+                    collectMissingMemberships(parent, missing);
+                } else {
+                    addIfMissing(parent, missing);
+                }
+            });
+            case INCLUDING -> {
+                for (GroupTreeNode child : node.getChildren()) {
+                    if (child.getGroup().getHierarchicalContext() == GroupHierarchyType.INCLUDING) {
+                        collectMissingMemberships(child, missing);
+                    } else {
+                        addIfMissing(child, missing);
+                    }
+                }
+            }
+            case INDEPENDENT -> {
+            }
+        }
+    }
+
+    private void addIfMissing(GroupTreeNode node, List<GroupTreeNode> missing) {
+        if (!isCurrent(memberships.getIfPresent(node), node)) {
+            missing.add(node);
+        }
+    }
+
+    private static BitSet test(AbstractGroup group, List<BibEntry> entriesToTest) {
+        BitSet contained = new BitSet();
+        for (int number = 0; number < entriesToTest.size(); number++) {
+            BibEntry entry = entriesToTest.get(number);
+            if ((entry != null) && group.contains(entry)) {
+                contained.set(number);
+            }
+        }
+        return contained;
+    }
+
+    /**
+     * Returns the entries matched by the given node while taking the hierarchical context into account, following
+     * {@link GroupTreeNode#getSearchMatcher()}. The result must not be modified.
+     */
+    private BitSet getMatches(GroupTreeNode node) {
+        Membership membership = getMembership(node);
+        List<BitSet> inputs = new ArrayList<>();
+        inputs.add(membership.contained);
+        switch (membership.group.getHierarchicalContext()) {
+            case REFINING -> {
+                // A refining parent refines further, any other parent contributes its own matches only
+                node.getParent().ifPresent(parent -> inputs.add(parent.getGroup().getHierarchicalContext() == GroupHierarchyType.REFINING
+                                                                ? getMatches(parent)
+                                                                : getOwnMatches(parent)));
+            }
+            case INCLUDING -> {
+                // An including child includes further, any other child contributes its own matches only
+                for (GroupTreeNode child : node.getChildren()) {
+                    inputs.add(child.getGroup().getHierarchicalContext() == GroupHierarchyType.INCLUDING
+                               ? getMatches(child)
+                               : getOwnMatches(child));
+                }
+            }
+            case INDEPENDENT -> {
+                return membership.contained;
+            }
+        }
+
+        if ((membership.matches != null) && (membership.matchesGeneration == generation) && isSameInputs(membership.matchesInputs, inputs)) {
+            return membership.matches;
+        }
+        BitSet matches = (BitSet) membership.contained.clone();
+        for (BitSet input : inputs.subList(1, inputs.size())) {
+            if (membership.group.getHierarchicalContext() == GroupHierarchyType.REFINING) {
+                matches.and(input);
+            } else {
+                matches.or(input);
+            }
+        }
+        membership.matches = matches;
+        membership.matchesInputs = inputs;
+        membership.matchesGeneration = generation;
+        return matches;
+    }
+
+    private static boolean isSameInputs(List<BitSet> first, List<BitSet> second) {
+        if (first.size() != second.size()) {
+            return false;
+        }
+        for (int i = 0; i < first.size(); i++) {
+            if (first.get(i) != second.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The entries contained in one group itself, and the cached result of applying the hierarchical context.
+     */
+    private class Membership {
+        private final AbstractGroup group;
+        private final BitSet contained;
+
+        private BitSet matches;
+        private List<BitSet> matchesInputs;
+        private long matchesGeneration;
+
+        Membership(AbstractGroup group, BitSet contained) {
+            this.group = Objects.requireNonNull(group);
+            this.contained = contained;
+        }
+
+        /**
+         * Tests the entry with the given number again and returns whether the result changed.
+         */
+        boolean update(int number) {
+            boolean isContained = group.contains(entries.get(number));
+            if (isContained == contained.get(number)) {
+                return false;
+            }
+            contained.set(number, isContained);
+            generation++;
+            return true;
+        }
+
+        boolean update(Collection<BibEntry> changedEntries) {
+            boolean changed = false;
+            for (BibEntry entry : changedEntries) {
+                Integer number = entryNumbers.get(entry);
+                if (number != null) {
+                    changed |= update(number);
+                }
+            }
+            return changed;
+        }
+    }
+}
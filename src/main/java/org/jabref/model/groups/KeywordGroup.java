@@ -31,6 +31,11 @@ public abstract class KeywordGroup extends AbstractGroup {
         return searchField;
     }
 
+    @Override
+    public boolean dependsOn(Field field) {
+        return searchField.equals(field);
+    }
+
     @Override
     public boolean isDynamic() {
         return true;
@@ -7,6 +7,7 @@ import java.util.Objects;
 import java.util.Set;
 
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.Field;
 import org.jabref.model.search.SearchFlags;
 import org.jabref.model.search.query.SearchQuery;
 
@@ -57,6 +58,18 @@ public class SearchGroup extends AbstractGroup {
         matchedEntries.addAll(entriesId);
     }
 
+    /**
+     * Updates the matches for the given entries, e.g., after they were re-checked against the query.
+     *
+     * @param entries the entries that were re-checked
+     * @param matchedEntriesId the ids of the entries (out of {@code entries}) matching the query
+     */
+    public void updateMatches(Collection<BibEntry> entries, Set<String> matchedEntriesId) {
+        for (BibEntry entry : entries) {
+            updateMatches(entry, matchedEntriesId.contains(entry.getId()));
+        }
+    }
+
     public void updateMatches(BibEntry entry, boolean matched) {
         if (matched) {
             matchedEntries.add(entry.getId());
@@ -84,6 +97,14 @@ public class SearchGroup extends AbstractGroup {
         return matchedEntries.contains(entry.getId());
     }
 
+    /**
+     * The matches of a search group are updated from the search index, see {@link #updateMatches(BibEntry, boolean)}.
+     */
+    @Override
+    public boolean dependsOn(Field field) {
+        return false;
+    }
+
     @Override
     public AbstractGroup deepCopy() {
         try {
@@ -13,6 +13,8 @@ import org.jabref.logic.auxparser.AuxParser;
 import org.jabref.logic.auxparser.AuxParserResult;
 import org.jabref.logic.util.io.FileUtil;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.InternalField;
 import org.jabref.model.metadata.MetaData;
 import org.jabref.model.util.DummyFileUpdateMonitor;
 import org.jabref.model.util.FileUpdateListener;
@@ -71,6 +73,11 @@ public class TexGroup extends AbstractGroup implements FileUpdateListener {
         return entry.getCitationKey().map(keysUsedInAux::contains).orElse(false);
     }
 
+    @Override
+    public boolean dependsOn(Field field) {
+        return InternalField.KEY_FIELD == field;
+    }
+
     @Override
     public boolean isDynamic() {
         return false;
@@ -0,0 +1,123 @@
+package org.jabref.gui.autocompleter;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+
+import com.google.common.base.Equivalence;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SuggestionIndexTest {
+
+    private BibDatabase database;
+    private BibEntry first;
+    private BibEntry second;
+
+    @BeforeEach
+    void setUp() {
+        first = new BibEntry().withField(StandardField.JOURNAL, "Journal of Computer Science");
+        second = new BibEntry().withField(StandardField.JOURNAL, "Computer Journal");
+        database = new BibDatabase(List.of(first, second));
+    }
+
+    private SuggestionIndex<String> buildIndex() {
+        SuggestionIndex<String> index = FieldValueSuggestionProvider.createIndex(StandardField.JOURNAL, database);
+        index.build();
+        return index;
+    }
+
+    private List<String> findMatches(SuggestionIndex<String> index, String userText) {
+        return index.findMatches(userText, candidate -> candidate.toLowerCase(Locale.ROOT).contains(userText.toLowerCase(Locale.ROOT)), Equivalence.equals(), 10);
+    }
+
+    @Test
+    void wordStartsOfText() {
+        assertEquals(List.of("{ieee} transactions", "ieee} transactions", "transactions"), SuggestionIndex.getWordStarts("{IEEE} Transactions"));
+    }
+
+    @Test
+    void infixGramsOfText() {
+        assertEquals(Set.of("abc", "bcd", "cda"), SuggestionIndex.getInfixGrams("abcdabc"));
+        assertEquals(Set.of(), SuggestionIndex.getInfixGrams("ab"));
+    }
+
+    @Test
+    void buildIndexesExistingEntries() {
+        SuggestionIndex<String> index = buildIndex();
+
+        assertTrue(index.isBuilt());
+        assertEquals(List.of("Computer Journal", "Journal of Computer Science"), findMatches(index, "comp"));
+    }
+
+    @Test
+    void matchesStartingWithinWordComeLast() {
+        BibEntry third = new BibEntry().withField(StandardField.JOURNAL, "Microcomputers");
+        database.insertEntry(third);
+        SuggestionIndex<String> index = buildIndex();
+
+        assertEquals(List.of("Computer Journal", "Journal of Computer Science", "Microcomputers"), findMatches(index, "comp"));
+    }
+
+    @Test
+    void shortUserTextIsNotMatchedWithinWords() {
+        BibEntry third = new BibEntry().withField(StandardField.JOURNAL, "Microcomputers");
+        database.insertEntry(third);
+        SuggestionIndex<String> index = buildIndex();
+
+        assertEquals(List.of("Computer Journal", "Journal of Computer Science"), findMatches(index, "co"));
+    }
+
+    @Test
+    void removedCandidateIsNotMatchedWithinWords() {
+        BibEntry third = new BibEntry().withField(StandardField.JOURNAL, "Microcomputers");
+        database.insertEntry(third);
+        SuggestionIndex<String> index = buildIndex();
+
+        database.removeEntry(third);
+
+        assertEquals(List.of(), findMatches(index, "rocomp"));
+    }
+
+    @Test
+    void changedFieldIsReindexed() {
+        SuggestionIndex<String> index = buildIndex();
+
+        second.setField(StandardField.JOURNAL, "Physical Review");
+
+        assertEquals(List.of("Journal of Computer Science"), findMatches(index, "comp"));
+        assertEquals(List.of("Physical Review"), findMatches(index, "phys"));
+    }
+
+    @Test
+    void candidateIsKeptWhileAnEntryProvidesIt() {
+        BibEntry third = new BibEntry().withField(StandardField.JOURNAL, "Computer Journal");
+        database.insertEntry(third);
+        SuggestionIndex<String> index = buildIndex();
+
+        database.removeEntry(second);
+        assertEquals(List.of("Computer Journal"), findMatches(index, "computer j"));
+
+        database.removeEntry(third);
+        assertEquals(List.of(), findMatches(index, "computer j"));
+    }
+
+    @Test
+    void changedCitationKeyIsReindexed() {
+        first.setCitationKey("Smith2020");
+        SuggestionIndex<BibEntry> index = BibEntrySuggestionProvider.createIndex(database);
+        index.build();
+
+        first.setCitationKey("Jones2021");
+
+        assertEquals(List.of(), index.findMatches("smi", entry -> entry.getCitationKey().orElse("").toLowerCase(Locale.ROOT).contains("smi"), Equivalence.identity(), 10));
+        assertEquals(List.of(first), index.findMatches("jon", entry -> entry.getCitationKey().orElse("").toLowerCase(Locale.ROOT).contains("jon"), Equivalence.identity(), 10));
+    }
+}
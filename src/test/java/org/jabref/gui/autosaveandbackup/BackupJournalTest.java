@@ -0,0 +1,112 @@
+package org.jabref.gui.autosaveandbackup;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.jabref.gui.LibraryTab;
+import org.jabref.logic.preferences.CliPreferences;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Answers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class BackupJournalTest {
+
+    private BibDatabaseContext bibDatabaseContext;
+    private BackupManager backupManager;
+    private Path testBib;
+    private Path backupDir;
+    private Path restoredBib;
+    private BibEntry first;
+    private BibEntry second;
+
+    @BeforeEach
+    void setup(@TempDir Path tempDir) throws Exception {
+        backupDir = tempDir.resolve("backups");
+        Files.createDirectories(backupDir);
+        testBib = tempDir.resolve("test.bib");
+        restoredBib = tempDir.resolve("restored.bib");
+
+        bibDatabaseContext = new BibDatabaseContext(new BibDatabase());
+        bibDatabaseContext.setDatabasePath(testBib);
+        backupManager = new BackupManager(mock(LibraryTab.class), bibDatabaseContext, new BibEntryTypesManager(), mock(CliPreferences.class, Answers.RETURNS_DEEP_STUBS));
+
+        first = new BibEntry(StandardEntryType.Article)
+                .withCitationKey("first")
+                .withField(StandardField.TITLE, "First title");
+        second = new BibEntry(StandardEntryType.Book)
+                .withCitationKey("second")
+                .withField(StandardField.TITLE, "Second title");
+        bibDatabaseContext.getDatabase().insertEntries(List.of(first, second));
+
+        // The first backup is a snapshot
+        makeBackup();
+    }
+
+    private void makeBackup() {
+        backupManager.determineBackupPathForNewBackup(backupDir).ifPresent(path -> backupManager.performBackup(path));
+    }
+
+    private List<Path> getSnapshots() throws Exception {
+        try (var files = Files.list(backupDir)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(".bak")).toList();
+        }
+    }
+
+    private String restore() throws Exception {
+        assertTrue(BackupManager.writeLatestBackup(testBib, backupDir, restoredBib));
+        return Files.readString(restoredBib);
+    }
+
+    @Test
+    void snapshotWithoutChangesIsRestored() throws Exception {
+        Path snapshot = getSnapshots().getFirst();
+
+        assertEquals(Files.readString(snapshot), restore());
+    }
+
+    @Test
+    void entryChangesAreAppendedToJournal() throws Exception {
+        first.setField(StandardField.TITLE, "Changed title");
+        bibDatabaseContext.getDatabase().removeEntry(second);
+        bibDatabaseContext.getDatabase().insertEntry(new BibEntry(StandardEntryType.Misc)
+                .withCitationKey("third")
+                .withField(StandardField.TITLE, "Third title"));
+
+        makeBackup();
+
+        assertEquals(1, getSnapshots().size());
+        String restored = restore();
+        assertTrue(restored.contains("Changed title"));
+        assertFalse(restored.contains("First title"));
+        assertFalse(restored.contains("Second title"));
+        assertTrue(restored.contains("Third title"));
+    }
+
+    @Test
+    void incompleteJournalRecordIsIgnored() throws Exception {
+        first.setField(StandardField.TITLE, "Changed title");
+        makeBackup();
+        String restored = restore();
+
+        Path journal = BackupJournal.getJournalPath(getSnapshots().getFirst());
+        Files.writeString(journal, "E\t" + second.getId() + "\t@Book{second,\\n  title = {Broken", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        assertEquals(restored, restore());
+    }
+}
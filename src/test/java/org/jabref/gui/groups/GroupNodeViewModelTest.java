@@ -2,6 +2,7 @@ package org.jabref.gui.groups;
 
 import java.util.Arrays;
 import java.util.EnumSet;
+import java.util.List;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -19,6 +20,7 @@ import org.jabref.model.groups.AbstractGroup;
 import org.jabref.model.groups.AutomaticKeywordGroup;
 import org.jabref.model.groups.ExplicitGroup;
 import org.jabref.model.groups.GroupHierarchyType;
+import org.jabref.model.groups.GroupMembershipIndex;
 import org.jabref.model.groups.GroupTreeNode;
 import org.jabref.model.groups.WordKeywordGroup;
 
@@ -43,6 +45,7 @@ class GroupNodeViewModelTest {
         stateManager = mock(StateManager.class);
         when(stateManager.getSelectedEntries()).thenReturn(FXCollections.emptyObservableList());
         databaseContext = new BibDatabaseContext();
+        when(stateManager.getGroupMembershipIndex(databaseContext)).thenReturn(new GroupMembershipIndex(databaseContext.getDatabase()));
         taskExecutor = new CurrentThreadTaskExecutor();
         preferences = mock(GuiPreferences.class);
         when(preferences.getGroupsPreferences()).thenReturn(new GroupsPreferences(
@@ -176,6 +179,22 @@ class GroupNodeViewModelTest {
         assertEquals(groupName, entry.getField(StandardField.GROUPS).get());
     }
 
+    @Test
+    void hitsAreUpdatedWhenEntriesAreAddedToGroup() {
+        ExplicitGroup group = new ExplicitGroup("group", GroupHierarchyType.INDEPENDENT, ',');
+        BibEntry entry = new BibEntry();
+        databaseContext.getDatabase().insertEntries(entry, new BibEntry());
+
+        GroupNodeViewModel model = getViewModelForGroup(group);
+        assertEquals(0, model.getHits().get());
+
+        model.addEntriesToGroup(List.of(entry));
+        assertEquals(1, model.getHits().get());
+
+        databaseContext.getDatabase().removeEntry(entry);
+        assertEquals(0, model.getHits().get());
+    }
+
     private GroupNodeViewModel getViewModelForGroup(AbstractGroup group) {
         return new GroupNodeViewModel(databaseContext, stateManager, taskExecutor, group, new CustomLocalDragboard(), preferences);
     }
@@ -0,0 +1,93 @@
+package org.jabref.gui.maintable;
+
+import java.util.List;
+
+import javafx.beans.property.SimpleObjectProperty;
+
+import org.jabref.gui.search.MatchCategory;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.LinkedFile;
+import org.jabref.model.entry.field.StandardField;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BibEntryTableViewModelTest {
+
+    private final BibEntry entry = new BibEntry().withField(StandardField.FILE, ":paper.pdf:PDF");
+    private BibEntryTableViewModel viewModel;
+
+    @BeforeEach
+    void setUp() {
+        BibDatabaseContext context = new BibDatabaseContext();
+        NameDisplayPreferences nameDisplayPreferences = new NameDisplayPreferences(NameDisplayPreferences.DisplayStyle.AS_IS, NameDisplayPreferences.AbbreviationStyle.FULL);
+        viewModel = new BibEntryTableViewModel(entry, context, new SimpleObjectProperty<>(new MainTableFieldValueFormatter(nameDisplayPreferences, context)));
+    }
+
+    @Test
+    void newEntryIsVisibleAndMatchesSearchAndGroups() {
+        assertTrue(viewModel.isVisible());
+        assertFalse(viewModel.hasFullTextResults());
+        assertEquals(MatchCategory.MATCHING_SEARCH_AND_GROUPS, viewModel.getMatchCategory());
+    }
+
+    @Test
+    void matchCategoryFollowsFlags() {
+        viewModel.setMatchedBySearch(false);
+        assertEquals(MatchCategory.MATCHING_GROUPS_NOT_SEARCH, viewModel.getMatchCategory());
+
+        viewModel.setMatchedByGroup(false);
+        assertEquals(MatchCategory.NOT_MATCHING_SEARCH_AND_GROUPS, viewModel.getMatchCategory());
+
+        viewModel.setMatchedBySearch(true);
+        assertEquals(MatchCategory.MATCHING_SEARCH_NOT_GROUPS, viewModel.getMatchCategory());
+    }
+
+    @Test
+    void observedMatchCategoryIsUpdated() {
+        var matchCategory = viewModel.matchCategory();
+
+        viewModel.setMatchedByGroup(false);
+        viewModel.updateMatchCategory();
+
+        assertEquals(MatchCategory.MATCHING_SEARCH_NOT_GROUPS, matchCategory.getValue());
+    }
+
+    @Test
+    void entryIsHiddenIfHiddenBySearchOrGroup() {
+        viewModel.setVisibleByGroup(false);
+        assertFalse(viewModel.isVisible());
+
+        viewModel.setVisibleByGroup(true);
+        viewModel.setVisibleBySearch(false);
+        assertFalse(viewModel.isVisible());
+    }
+
+    @Test
+    void bindingsAreCreatedAgainAfterRelease() {
+        var linkedFiles = viewModel.getLinkedFiles();
+        assertSame(linkedFiles, viewModel.getLinkedFiles());
+
+        viewModel.releaseBindings();
+
+        assertNotSame(linkedFiles, viewModel.getLinkedFiles());
+        assertEquals(List.of(new LinkedFile("", "paper.pdf", "PDF")), viewModel.getLinkedFiles().getValue());
+    }
+
+    @Test
+    void releasedBindingIsStillUpdated() {
+        var linkedFiles = viewModel.getLinkedFiles();
+        viewModel.releaseBindings();
+
+        entry.clearField(StandardField.FILE);
+
+        assertEquals(List.of(), linkedFiles.getValue());
+    }
+}
@@ -0,0 +1,190 @@
+package org.jabref.logic.ai.ingestion;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.jabref.logic.ai.AiPreferences;
+import org.jabref.logic.util.NotificationService;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.filter.MetadataFilterBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import static org.jabref.logic.ai.ingestion.FileEmbeddingsManager.LINK_METADATA_KEY;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MVStoreEmbeddingStoreTest {
+
+    private static final int DIMENSIONS = 16;
+
+    @TempDir
+    Path tempDir;
+
+    private final AiPreferences aiPreferences = mock(AiPreferences.class);
+    private MVStoreEmbeddingStore store;
+
+    @BeforeEach
+    void setUp() {
+        when(aiPreferences.getRagSearchProbes()).thenReturn(2);
+        // Trains the index right away
+        store = new MVStoreEmbeddingStore(tempDir.resolve("embeddings.mv"), mock(NotificationService.class), aiPreferences, EmbeddingVectorEncoding.FLOAT32, Runnable::run);
+    }
+
+    @AfterEach
+    void tearDown() {
+        store.close();
+    }
+
+    private static TextSegment segment(String text, String file) {
+        return new TextSegment(text, new Metadata(Map.of(LINK_METADATA_KEY, file)));
+    }
+
+    private static Embedding randomEmbedding(Random random) {
+        float[] vector = new float[DIMENSIONS];
+        for (int i = 0; i < DIMENSIONS; i++) {
+            vector[i] = random.nextFloat() - 0.5f;
+        }
+        return Embedding.from(vector);
+    }
+
+    private List<String> search(Embedding query, int maxResults, String... files) {
+        EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                                                               .queryEmbedding(query)
+                                                               .maxResults(maxResults)
+                                                               .minScore(0.0)
+                                                               .filter(files.length == 0 ? null : MetadataFilterBuilder.metadataKey(LINK_METADATA_KEY).isIn(List.of(files)))
+                                                               .build();
+        return store.search(request).matches().stream().map(match -> match.embedded().text()).toList();
+    }
+
+    @Test
+    void searchRespectsFileFilter() {
+        store.add(Embedding.from(new float[] {1, 0}), segment("a1", "a.pdf"));
+        store.add(Embedding.from(new float[] {0, 1}), segment("a2", "a.pdf"));
+        store.add(Embedding.from(new float[] {1, 0.1f}), segment("b1", "b.pdf"));
+
+        assertEquals(List.of("a1", "b1", "a2"), search(Embedding.from(new float[] {1, 0}), 3));
+        assertEquals(List.of("a1", "a2"), search(Embedding.from(new float[] {1, 0}), 3, "a.pdf"));
+        assertEquals(List.of("b1"), search(Embedding.from(new float[] {1, 0}), 3, "b.pdf"));
+    }
+
+    @Test
+    void removeAllWithFilterRemovesOnlyEmbeddingsOfFile() {
+        store.add(Embedding.from(new float[] {1, 0}), segment("a1", "a.pdf"));
+        store.add(Embedding.from(new float[] {0, 1}), segment("b1", "b.pdf"));
+
+        store.removeAll(MetadataFilterBuilder.metadataKey(LINK_METADATA_KEY).isEqualTo("a.pdf"));
+
+        assertEquals(List.of("b1"), search(Embedding.from(new float[] {1, 0}), 3));
+        assertEquals(List.of(), search(Embedding.from(new float[] {1, 0}), 3, "a.pdf"));
+    }
+
+    @Test
+    void indexedSearchFindsStoredEmbedding() {
+        Random random = new Random(42);
+        List<Embedding> embeddings = IntStream.range(0, IvfEmbeddingIndex.MIN_TRAINING_SIZE + 100)
+                                            .mapToObj(i -> randomEmbedding(random))
+                                            .toList();
+        for (int i = 0; i < embeddings.size(); i++) {
+            store.add(embeddings.get(i), segment("segment " + i, "file" + (i % 10) + ".pdf"));
+        }
+
+        // The cluster of an embedding is the one with the most similar centroid, thus it is always probed
+        assertEquals(List.of("segment 7"), search(embeddings.get(7), 1));
+        assertEquals(List.of("segment 2050"), search(embeddings.get(2050), 1, "file0.pdf"));
+    }
+
+    @Test
+    void searchScansAllEmbeddingsUntilIndexIsTrained() {
+        store.close();
+        List<Runnable> trainings = new ArrayList<>();
+        store = new MVStoreEmbeddingStore(tempDir.resolve("deferred.mv"), mock(NotificationService.class), aiPreferences, EmbeddingVectorEncoding.FLOAT32, trainings::add);
+        Random random = new Random(42);
+        List<Embedding> embeddings = IntStream.range(0, IvfEmbeddingIndex.MIN_TRAINING_SIZE + 100)
+                                            .mapToObj(i -> randomEmbedding(random))
+                                            .toList();
+        for (int i = 0; i < embeddings.size(); i++) {
+            store.add(embeddings.get(i), segment("segment " + i, "file" + (i % 10) + ".pdf"));
+        }
+
+        // Scheduled once, but not run yet
+        assertEquals(1, trainings.size());
+        assertEquals(List.of("segment 7"), search(embeddings.get(7), 1));
+
+        trainings.getFirst().run();
+        assertEquals(List.of("segment 7"), search(embeddings.get(7), 1));
+        assertEquals(List.of("segment 2050"), search(embeddings.get(2050), 1, "file0.pdf"));
+    }
+
+    @Test
+    void addAllTrainsIndexAndStoresAllEmbeddings() {
+        Random random = new Random(42);
+        List<Embedding> embeddings = IntStream.range(0, IvfEmbeddingIndex.MIN_TRAINING_SIZE + 100)
+                                            .mapToObj(i -> randomEmbedding(random))
+                                            .toList();
+        List<TextSegment> segments = IntStream.range(0, embeddings.size())
+                                              .mapToObj(i -> segment("segment " + i, "file" + (i % 10) + ".pdf"))
+                                              .toList();
+
+        store.addAll(embeddings, segments);
+
+        assertEquals(List.of("segment 7"), search(embeddings.get(7), 1));
+        assertEquals(List.of("segment 2050"), search(embeddings.get(2050), 1, "file0.pdf"));
+    }
+
+    @Test
+    void fileIndexSurvivesReopening() {
+        store.add(Embedding.from(new float[] {1, 0}), segment("a1", "a.pdf"));
+        store.add(Embedding.from(new float[] {0, 1}), segment("b1", "b.pdf"));
+        store.commit();
+        store.close();
+
+        store = new MVStoreEmbeddingStore(tempDir.resolve("embeddings.mv"), mock(NotificationService.class), aiPreferences, EmbeddingVectorEncoding.FLOAT32);
+
+        assertEquals(List.of("b1"), search(Embedding.from(new float[] {1, 0}), 3, "b.pdf"));
+    }
+
+    @Test
+    void storeOnLockedPathDoesNotChangeVectorsOfOpenStore() {
+        store.add(Embedding.from(new float[] {1, 0}), segment("a1", "a.pdf"));
+        store.add(Embedding.from(new float[] {0, 1}), segment("b1", "b.pdf"));
+        store.commit();
+
+        // The MV file is locked by the first store, thus the second one is kept in memory
+        MVStoreEmbeddingStore secondStore = new MVStoreEmbeddingStore(tempDir.resolve("embeddings.mv"), mock(NotificationService.class), aiPreferences, EmbeddingVectorEncoding.INT8);
+        secondStore.add(Embedding.from(new float[] {0, 1, 0}), segment("c1", "c.pdf"));
+        secondStore.close();
+
+        assertEquals(List.of("a1", "b1"), search(Embedding.from(new float[] {1, 0}), 3));
+        assertEquals(List.of("b1"), search(Embedding.from(new float[] {0, 1}), 1));
+    }
+
+    @ParameterizedTest
+    @EnumSource(EmbeddingVectorEncoding.class)
+    void quantizedVectorsKeepRanking(EmbeddingVectorEncoding encoding) {
+        store.close();
+        store = new MVStoreEmbeddingStore(tempDir.resolve("quantized.mv"), mock(NotificationService.class), aiPreferences, encoding);
+
+        store.add(Embedding.from(new float[] {0.9f, 0.1f, 0}), segment("close", "a.pdf"));
+        store.add(Embedding.from(new float[] {0.5f, 0.5f, 0.1f}), segment("middle", "a.pdf"));
+        store.add(Embedding.from(new float[] {-0.2f, 0.3f, 0.9f}), segment("far", "a.pdf"));
+        store.close();
+        store = new MVStoreEmbeddingStore(tempDir.resolve("quantized.mv"), mock(NotificationService.class), aiPreferences, encoding);
+
+        assertEquals(List.of("close", "middle", "far"), search(Embedding.from(new float[] {1, 0, 0}), 3));
+    }
+}
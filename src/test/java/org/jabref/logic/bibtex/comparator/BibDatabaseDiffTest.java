@@ -134,6 +134,23 @@ class BibDatabaseDiffTest {
         assertEquals(entryTwo, diff.getEntryDifferences().getFirst().newEntry(), "there is another value as newEntry");
     }
 
+    @Test
+    void compareOfChangedEntryAmongUnchangedEntriesReportsOnlyChangedEntry() {
+        BibEntry unchangedOne = new BibEntry(BibEntry.DEFAULT_TYPE).withField(StandardField.TITLE, "first").withCitationKey("first");
+        BibEntry unchangedTwo = new BibEntry(BibEntry.DEFAULT_TYPE).withField(StandardField.TITLE, "second").withCitationKey("second");
+        BibEntry changedOriginal = new BibEntry(BibEntry.DEFAULT_TYPE).withField(StandardField.TITLE, "third").withCitationKey("third");
+        BibEntry changedNew = new BibEntry(BibEntry.DEFAULT_TYPE).withField(StandardField.TITLE, "changed").withCitationKey("third");
+        BibDatabaseContext databaseOne = new BibDatabaseContext(new BibDatabase(Arrays.asList(unchangedOne, changedOriginal, unchangedTwo)));
+        BibDatabaseContext databaseTwo = new BibDatabaseContext(new BibDatabase(Arrays.asList(
+                (BibEntry) unchangedTwo.clone(), changedNew, (BibEntry) unchangedOne.clone())));
+
+        BibDatabaseDiff diff = BibDatabaseDiff.compare(databaseOne, databaseTwo);
+
+        assertEquals(1, diff.getEntryDifferences().size(), "incorrect amount of different entries");
+        assertEquals(changedOriginal, diff.getEntryDifferences().getFirst().originalEntry(), "there is another value as originalEntry");
+        assertEquals(changedNew, diff.getEntryDifferences().getFirst().newEntry(), "there is another value as newEntry");
+    }
+
     private BibDatabaseDiff compareEntries(BibEntry entryOne, BibEntry entryTwo) {
         BibDatabaseContext databaseOne = new BibDatabaseContext(new BibDatabase(Collections.singletonList(entryOne)));
         BibDatabaseContext databaseTwo = new BibDatabaseContext(new BibDatabase(Collections.singletonList(entryTwo)));
@@ -0,0 +1,120 @@
+package org.jabref.logic.citationstyle;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CSLAdapterPoolTest {
+
+    @Test
+    void reusesAdapterOfSameStyle() throws IOException {
+        CSLAdapterPool pool = new CSLAdapterPool(2, Duration.ofMinutes(5));
+
+        CSLAdapter first = pool.execute("style", adapter -> adapter);
+        CSLAdapter second = pool.execute("style", adapter -> adapter);
+
+        assertSame(first, second);
+        assertEquals(1, pool.getAdapterCount());
+    }
+
+    @Test
+    void usesSeparateAdaptersForDifferentStyles() throws IOException {
+        CSLAdapterPool pool = new CSLAdapterPool(2, Duration.ofMinutes(5));
+
+        CSLAdapter first = pool.execute("style", adapter -> adapter);
+        CSLAdapter second = pool.execute("other style", adapter -> adapter);
+
+        assertNotSame(first, second);
+        assertEquals(2, pool.getAdapterCount());
+    }
+
+    @Test
+    void dropsIdleAdapterOfOtherStyleWhenFull() throws IOException {
+        CSLAdapterPool pool = new CSLAdapterPool(1, Duration.ofMinutes(5));
+
+        CSLAdapter first = pool.execute("style", adapter -> adapter);
+        pool.execute("other style", adapter -> adapter);
+        CSLAdapter third = pool.execute("style", adapter -> adapter);
+
+        assertNotSame(first, third);
+        assertEquals(1, pool.getAdapterCount());
+    }
+
+    @Test
+    void discardsAdapterOfFailedCall() throws IOException {
+        CSLAdapterPool pool = new CSLAdapterPool(2, Duration.ofMinutes(5));
+        CSLAdapter first = pool.execute("style", adapter -> adapter);
+
+        assertThrows(IOException.class, () -> pool.execute("style", adapter -> {
+            throw new IOException("engine failed");
+        }));
+
+        assertEquals(0, pool.getAdapterCount());
+        assertNotSame(first, pool.execute("style", adapter -> adapter));
+    }
+
+    @Test
+    void dropsIdleAdapters() throws Exception {
+        CSLAdapterPool pool = new CSLAdapterPool(2, Duration.ofMillis(1));
+        CSLAdapter first = pool.execute("style", adapter -> adapter);
+
+        Thread.sleep(10);
+
+        assertNotSame(first, pool.execute("other style", adapter -> adapter));
+        assertEquals(1, pool.getAdapterCount());
+    }
+
+    @Test
+    void boundsConcurrentlyUsedAdapters() throws Exception {
+        int maximumSize = 2;
+        CSLAdapterPool pool = new CSLAdapterPool(maximumSize, Duration.ofMinutes(5));
+        AtomicInteger inUse = new AtomicInteger();
+        AtomicInteger maximumInUse = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<CSLAdapter>> futures = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                String style = "style " + (i % 3);
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return pool.execute(style, adapter -> {
+                        maximumInUse.accumulateAndGet(inUse.incrementAndGet(), Math::max);
+                        try {
+                            Thread.sleep(5);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        inUse.decrementAndGet();
+                        return adapter;
+                    });
+                }));
+            }
+            start.countDown();
+            for (Future<CSLAdapter> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertTrue(maximumInUse.get() <= maximumSize);
+        assertTrue(pool.getAdapterCount() <= maximumSize);
+    }
+}
@@ -0,0 +1,69 @@
+package org.jabref.logic.citationstyle;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CitationStyleCatalogTest {
+
+    @Test
+    void writeListsAllStyles(@TempDir Path tempDir) throws Exception {
+        Path stylesDirectory = tempDir.resolve("styles");
+        Files.createDirectories(stylesDirectory);
+        Files.writeString(stylesDirectory.resolve("numeric.csl"), """
+                <style>
+                  <info>
+                    <title>Numeric Style</title>
+                    <category citation-format="numeric"/>
+                  </info>
+                  <bibliography/>
+                </style>
+                """);
+        Files.writeString(stylesDirectory.resolve("citation-only.csl"), """
+                <style>
+                  <info>
+                    <title>Citation Only</title>
+                    <category citation-format="author-date"/>
+                  </info>
+                </style>
+                """);
+        Files.writeString(stylesDirectory.resolve("readme.txt"), "no style");
+        Path catalogFile = tempDir.resolve("catalog").resolve(CitationStyleCatalog.CATALOG_FILE_NAME);
+
+        CitationStyleCatalog.write(stylesDirectory, catalogFile);
+
+        List<CitationStyleCatalog.Entry> entries = Files.readAllLines(catalogFile).stream()
+                                                        .map(CitationStyleCatalog::parseLine)
+                                                        .flatMap(Optional::stream)
+                                                        .toList();
+        assertEquals(List.of(
+                new CitationStyleCatalog.Entry("citation-only.csl", "Citation Only", false, false),
+                new CitationStyleCatalog.Entry("numeric.csl", "Numeric Style", true, true)), entries);
+    }
+
+    @Test
+    void lineRoundTrip() {
+        CitationStyleCatalog.Entry entry = new CitationStyleCatalog.Entry("apa.csl", "American Psychological Association 7th edition", false, true);
+
+        assertEquals(Optional.of(entry), CitationStyleCatalog.parseLine(CitationStyleCatalog.toLine(entry)));
+    }
+
+    @Test
+    void lineWithTabInTitle() {
+        CitationStyleCatalog.Entry entry = new CitationStyleCatalog.Entry("style.csl", "Some\tTitle", true, true);
+
+        assertEquals(Optional.of(new CitationStyleCatalog.Entry("style.csl", "Some Title", true, true)),
+                CitationStyleCatalog.parseLine(CitationStyleCatalog.toLine(entry)));
+    }
+
+    @Test
+    void malformedLineIsIgnored() {
+        assertEquals(Optional.empty(), CitationStyleCatalog.parseLine("style.csl\tTitle"));
+    }
+}
@@ -182,6 +182,28 @@ class CitationStyleGeneratorTest {
         assertEquals(expectedCitation, actualCitation);
     }
 
+    @ParameterizedTest
+    @MethodSource
+    void isRenderedPerEntry(boolean expected, String style) {
+        assertEquals(expected, CitationStyleGenerator.isRenderedPerEntry(style));
+    }
+
+    static Stream<Arguments> isRenderedPerEntry() {
+        return Stream.of(
+                Arguments.of(true, "<style><citation><sort><key variable=\"issued\"/></sort></citation><bibliography><layout><text variable=\"title\"/></layout></bibliography></style>"),
+                Arguments.of(false, "<style><bibliography><sort><key macro=\"author\"/></sort><layout><text variable=\"title\"/></layout></bibliography></style>"),
+                Arguments.of(false, "<style><bibliography><layout><text variable=\"citation-number\"/></layout></bibliography></style>"),
+                Arguments.of(false, "<style><bibliography subsequent-author-substitute=\"---\"><layout><text variable=\"title\"/></layout></bibliography></style>"),
+                Arguments.of(false, "<style><citation disambiguate-add-year-suffix=\"true\"/><bibliography><layout><text variable=\"title\"/></layout></bibliography></style>"),
+                Arguments.of(false, "<style><citation disambiguate-add-year-suffix='true'/><bibliography><layout><text variable=\"title\"/></layout></bibliography></style>"),
+                Arguments.of(false, "<style><citation disambiguate-add-givenname=\"true\"/><bibliography><layout><text variable=\"title\"/></layout></bibliography></style>"),
+                Arguments.of(false, "<style><citation disambiguate-add-names=\"true\"/><bibliography><layout><text variable=\"title\"/></layout></bibliography></style>"),
+                Arguments.of(true, "<style><citation disambiguate-add-year-suffix=\"false\"/><bibliography><layout><text variable=\"title\"/></layout></bibliography></style>"),
+                Arguments.of(true, "<style><info><title>Sorted by citation-number</title></info><bibliography><layout><text variable=\"title\"/></layout></bibliography></style>"),
+                Arguments.of(false, "faulty citation style"),
+                Arguments.of(false, CitationStyle.getDefault().getSource()));
+    }
+
     static Stream<Arguments> cslMapping() {
         // if the default citation style changes this has to be modified
         return Stream.of(
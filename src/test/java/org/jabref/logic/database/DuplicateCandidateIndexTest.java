@@ -0,0 +1,115 @@
+package org.jabref.logic.database;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DuplicateCandidateIndexTest {
+
+    private static BibEntry article(String author, String title, String year) {
+        return new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.AUTHOR, author)
+                .withField(StandardField.TITLE, title)
+                .withField(StandardField.YEAR, year);
+    }
+
+    @Test
+    void similarTitlesAreCandidates() {
+        BibEntry one = article("Single Author", "A serious paper about something", "2017");
+        BibEntry two = article("Another Person", "A Serious Paper About Somethin.", "2018");
+        DuplicateCandidateIndex index = new DuplicateCandidateIndex(List.of(one, two));
+
+        assertArrayEquals(new int[] {1}, index.getCandidateIndices(0));
+    }
+
+    @Test
+    void unrelatedEntriesAreNoCandidates() {
+        BibEntry one = article("Single Author", "A serious paper about something", "2017");
+        BibEntry two = article("Completely Different", "Holy Moly Uffdada und Trallalla", "1992");
+        DuplicateCandidateIndex index = new DuplicateCandidateIndex(List.of(one, two));
+
+        assertArrayEquals(new int[] {}, index.getCandidateIndices(0));
+        assertEquals(List.of(), index.getCandidates(article("Someone Else", "Quantum effects in birds", "2001")));
+    }
+
+    @Test
+    void sameFirstAuthorAndYearAreCandidates() {
+        BibEntry one = article("Donald Knuth and Someone", "The Art of Computer Programming", "1968");
+        BibEntry two = article("D. Knuth", "TAOCP, Volume 1", "1968");
+        DuplicateCandidateIndex index = new DuplicateCandidateIndex(List.of(one, two));
+
+        assertArrayEquals(new int[] {1}, index.getCandidateIndices(0));
+    }
+
+    @Test
+    void sameIdentifierAreCandidates() {
+        BibEntry one = article("Single Author", "A serious paper about something", "2017")
+                .withField(StandardField.DOI, "10.1000/182");
+        BibEntry two = article("Completely Different", "Holy Moly Uffdada und Trallalla", "1992")
+                .withField(StandardField.DOI, "10.1000/182");
+        DuplicateCandidateIndex index = new DuplicateCandidateIndex(List.of(one, two));
+
+        assertArrayEquals(new int[] {1}, index.getCandidateIndices(0));
+    }
+
+    @Test
+    void sameDoiInDifferentNotationAreCandidates() {
+        BibEntry one = article("Single Author", "A serious paper about something", "2017")
+                .withField(StandardField.DOI, "10.1000/ABC");
+        BibEntry two = article("Completely Different", "Holy Moly Uffdada und Trallalla", "1992")
+                .withField(StandardField.DOI, "https://doi.org/10.1000/abc");
+        DuplicateCandidateIndex index = new DuplicateCandidateIndex(List.of(one, two));
+
+        assertArrayEquals(new int[] {1}, index.getCandidateIndices(0));
+    }
+
+    @Test
+    void entryWithoutTitleIsCandidateOfAllEntries() {
+        BibEntry one = article("Single Author", "A serious paper about something", "2017");
+        BibEntry two = article("Completely Different", "Holy Moly Uffdada und Trallalla", "1992");
+        BibEntry untitled = new BibEntry(StandardEntryType.Misc).withField(StandardField.NOTE, "Some note");
+        DuplicateCandidateIndex index = new DuplicateCandidateIndex(List.of(one, untitled, two));
+
+        assertArrayEquals(new int[] {1}, index.getCandidateIndices(0));
+        assertArrayEquals(new int[] {2}, index.getCandidateIndices(1));
+        assertEquals(List.of(one, untitled, two), index.getCandidates(new BibEntry(StandardEntryType.Misc)));
+    }
+
+    @Test
+    void candidatesContainAllDuplicatesFoundByPairwiseComparison() {
+        List<BibEntry> entries = List.of(
+                article("Single Author", "A serious paper about something", "2017"),
+                article("Single Author", "A serious paper about something", "2017"),
+                article("Single Author", "A Serious Paper About Something", "2018"),
+                article("Completely Different", "Holy Moly Uffdada und Trallalla", "1992"),
+                article("Completely Different", "Holy moly uffdada and trallala", "1992"),
+                article("Another Person", "Structure of nucleic acids", "1953"));
+        DuplicateCheck duplicateCheck = new DuplicateCheck(new BibEntryTypesManager());
+        DuplicateCandidateIndex index = new DuplicateCandidateIndex(entries);
+
+        for (int i = 0; i < entries.size(); i++) {
+            int[] candidates = index.getCandidateIndices(i);
+            for (int j = i + 1; j < entries.size(); j++) {
+                if (duplicateCheck.isDuplicate(entries.get(i), entries.get(j), BibDatabaseMode.BIBTEX)) {
+                    int finalJ = j;
+                    assertTrue(Arrays.stream(candidates).anyMatch(candidate -> candidate == finalJ), i + " and " + j + " should be candidates");
+                }
+            }
+            int finalI = i;
+            assertFalse(IntStream.of(candidates).anyMatch(candidate -> candidate <= finalI));
+        }
+    }
+}
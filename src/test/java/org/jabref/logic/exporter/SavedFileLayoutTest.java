@@ -0,0 +1,126 @@
+package org.jabref.logic.exporter;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Collections;
+
+import org.jabref.logic.bibtex.FieldPreferences;
+import org.jabref.logic.citationkeypattern.CitationKeyPatternPreferences;
+import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.logic.importer.ParserResult;
+import org.jabref.logic.importer.fileformat.BibtexParser;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.metadata.SaveOrder;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Answers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SavedFileLayoutTest {
+
+    private static final String LIBRARY = """
+            % a comment before the first entry
+            @Article{first,
+              title = {First  title},
+            }
+
+            @Book{second,   title = {Second title}}
+
+            @Misc{third,
+              title = {Third title},
+            }
+            """;
+
+    private final SavedFileLayout savedFileLayout = new SavedFileLayout();
+    private final SelfContainedSaveConfiguration saveConfiguration = new SelfContainedSaveConfiguration(SaveOrder.getDefaultSaveOrder(), false, BibDatabaseWriter.SaveType.WITH_JABREF_META_DATA, false);
+    private final FieldPreferences fieldPreferences = new FieldPreferences(true, Collections.emptyList(), Collections.emptyList());
+    private final CitationKeyPatternPreferences citationKeyPatternPreferences = mock(CitationKeyPatternPreferences.class, Answers.RETURNS_DEEP_STUBS);
+    private final BibEntryTypesManager entryTypesManager = new BibEntryTypesManager();
+
+    private BibDatabaseContext context;
+    private Path file;
+
+    @BeforeEach
+    void setUp(@TempDir Path tempDir) throws Exception {
+        ImportFormatPreferences importFormatPreferences = mock(ImportFormatPreferences.class, Answers.RETURNS_DEEP_STUBS);
+        when(importFormatPreferences.fieldPreferences()).thenReturn(fieldPreferences);
+        ParserResult result = new BibtexParser(importFormatPreferences).parse(new StringReader(LIBRARY));
+        context = new BibDatabaseContext(result.getDatabase(), result.getMetaData());
+        file = tempDir.resolve("library.bib");
+
+        saveIncrementally();
+    }
+
+    private void saveIncrementally() throws Exception {
+        SavedFileLayout.Save save;
+        try (AtomicFileWriter fileWriter = new AtomicFileWriter(file, StandardCharsets.UTF_8)) {
+            String newLineSeparator = context.getDatabase().getNewLineSeparator();
+            BibtexDatabaseWriter databaseWriter = new BibtexDatabaseWriter(fileWriter, newLineSeparator, saveConfiguration, fieldPreferences, citationKeyPatternPreferences, entryTypesManager);
+            save = savedFileLayout.startSave(fileWriter, newLineSeparator);
+            databaseWriter.reuseUnchangedEntries(save);
+            databaseWriter.saveDatabase(context);
+        }
+        save.finish();
+    }
+
+    private String saveCompletely() throws Exception {
+        StringWriter stringWriter = new StringWriter();
+        new BibtexDatabaseWriter(stringWriter, context.getDatabase().getNewLineSeparator(), saveConfiguration, fieldPreferences, citationKeyPatternPreferences, entryTypesManager)
+                .saveDatabase(context);
+        return stringWriter.toString();
+    }
+
+    private BibEntry getEntry(String citationKey) {
+        return context.getDatabase().getEntryByCitationKey(citationKey).orElseThrow();
+    }
+
+    @Test
+    void firstSaveWritesAllEntries() throws Exception {
+        assertEquals(saveCompletely(), Files.readString(file));
+    }
+
+    @Test
+    void saveAfterChangeCopiesUnchangedEntries() throws Exception {
+        getEntry("second").setField(StandardField.TITLE, "Changed title");
+        saveIncrementally();
+
+        assertEquals(saveCompletely(), Files.readString(file));
+    }
+
+    @Test
+    void repeatedSavesKeepContent() throws Exception {
+        getEntry("first").setField(StandardField.TITLE, "Changed title");
+        saveIncrementally();
+        getEntry("third").setField(StandardField.YEAR, "2024");
+        saveIncrementally();
+        saveIncrementally();
+
+        assertEquals(saveCompletely(), Files.readString(file));
+    }
+
+    @Test
+    void externallyModifiedFileIsNotCopiedFrom() throws Exception {
+        String saved = Files.readString(file);
+        FileTime savedTime = Files.getLastModifiedTime(file);
+        // Same size, and a modification time differing even on file systems with a coarse resolution
+        Files.writeString(file, saved.replace("Third", "Other"));
+        Files.setLastModifiedTime(file, FileTime.from(savedTime.toInstant().plusSeconds(2)));
+
+        getEntry("second").setField(StandardField.TITLE, "Changed title");
+        saveIncrementally();
+
+        assertEquals(saveCompletely(), Files.readString(file));
+    }
+}
@@ -2238,4 +2238,70 @@ class BibtexParserTest {
 
         assertEquals(List.of(firstEntry, secondEntry), result.getDatabase().getEntries());
     }
+
+    private static String createLargeLibrary(String stringsAtEnd) {
+        StringBuilder library = new StringBuilder("""
+                % Encoding: UTF-8
+
+                @Preamble{"Large library"}
+
+                @String{journal0 = {Journal Zero}}
+
+                """);
+        for (int i = 0; i < 20_000; i++) {
+            library.append("% Entry ").append(i).append('\n')
+                   .append("@Article{key").append(i).append(",\n")
+                   .append("  author  = {Firstname Lastname and Another Author").append(i).append("},\n")
+                   .append("  title   = {A {Title} with \\textbf{markup} and (parentheses) ").append(i).append("},\n")
+                   .append("  journal = journal0 # \" Part ").append(i % 7).append("\",\n")
+                   .append("  year    = ").append(1950 + (i % 70)).append('\n')
+                   .append("}\n\n");
+            if ((i % 5_000) == 4_999) {
+                library.append("@Book(book").append(i).append(", title = \"Book (with parentheses)\")\n\n")
+                       .append("@String{string").append(i).append(" = {String ").append(i).append("}}\n\n")
+                       .append("@Article{corrupted").append(i).append(" author = {Missing comma}}\n\n");
+            }
+        }
+        library.append(stringsAtEnd)
+               .append("@Comment{jabref-meta: databaseType:biblatex;}\n");
+        return library.toString();
+    }
+
+    /**
+     * @return the number of chunks merged by the parallel parser
+     */
+    private int assertParsedInParallelLikeSequentially(String library) throws IOException {
+        ParserResult expected = new BibtexParser(importFormatPreferences).parse(new StringReader(library));
+        BibtexParser parallelParser = new BibtexParser(importFormatPreferences);
+        ParserResult result = parallelParser.parseInParallel(new StringReader(library));
+
+        List<BibEntry> expectedEntries = expected.getDatabase().getEntries();
+        List<BibEntry> entries = result.getDatabase().getEntries();
+        assertEquals(expectedEntries, entries);
+        assertEquals(expectedEntries.stream().map(BibEntry::getParsedSerialization).toList(),
+                entries.stream().map(BibEntry::getParsedSerialization).toList());
+        assertEquals(expected.getDatabase().getStringValues().stream().map(BibtexString::getParsedSerialization).sorted().toList(),
+                result.getDatabase().getStringValues().stream().map(BibtexString::getParsedSerialization).sorted().toList());
+        assertEquals(expected.getDatabase().getPreamble(), result.getDatabase().getPreamble());
+        assertEquals(expected.getDatabase().getEpilog(), result.getDatabase().getEpilog());
+        assertEquals(expected.getMetaData(), result.getMetaData());
+        assertEquals(expected.warnings(), result.warnings());
+        return parallelParser.getParsedChunkCount();
+    }
+
+    @Test
+    void parseInParallelEqualsSequentialParsing() throws IOException {
+        int chunks = assertParsedInParallelLikeSequentially(createLargeLibrary(""));
+
+        // Split into several chunks, which were merged without falling back to sequential parsing
+        assertTrue(chunks > 1, "Parsed in " + chunks + " chunk(s)");
+    }
+
+    @Test
+    void parseInParallelWithDuplicateStringEqualsSequentialParsing() throws IOException {
+        int chunks = assertParsedInParallelLikeSequentially(createLargeLibrary("@String{journal0 = {Duplicate}}\n\n"));
+
+        // The chunks cannot be merged, thus the library is parsed sequentially
+        assertEquals(1, chunks);
+    }
 }
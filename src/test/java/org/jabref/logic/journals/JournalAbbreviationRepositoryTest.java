@@ -1,5 +1,8 @@
 package org.jabref.logic.journals;
 
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 import javax.swing.undo.CompoundEdit;
@@ -14,8 +17,13 @@ import org.jabref.model.entry.field.AMSField;
 import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.entry.types.StandardEntryType;
 
+import org.h2.mvstore.MVMap;
+import org.h2.mvstore.MVStore;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -314,4 +322,54 @@ class JournalAbbreviationRepositoryTest {
                 .withField(StandardField.JOURNAL, "Physical Review B");
         assertEquals(expectedAbbreviatedJournalEntry, abbreviatedJournalEntry);
     }
+
+    @Test
+    void customAbbreviationIsFoundIgnoringCase() {
+        repository.addCustomAbbreviation(new Abbreviation("Long Name", "L. N.", "LN"));
+
+        assertEquals(Optional.of(new Abbreviation("Long Name", "L. N.", "LN")), repository.get("long name"));
+        assertEquals(Optional.of(new Abbreviation("Long Name", "L. N.", "LN")), repository.get("l n"));
+        assertTrue(repository.isAbbreviatedName("ln"));
+        assertFalse(repository.isAbbreviatedName("LONG NAME"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void builtInAbbreviationsAreLookedUpInJournalList(boolean withAbbreviationMaps, @TempDir Path tempDir) {
+        Path journalList = tempDir.resolve("journal-list.mv");
+        try (MVStore store = new MVStore.Builder().fileName(journalList.toString()).open()) {
+            MVMap<String, Abbreviation> fullToAbbreviation = store.openMap(JournalAbbreviationRepository.FULL_TO_ABBREVIATION_MAP_NAME);
+            fullToAbbreviation.put("Physical Review B", new Abbreviation("Physical Review B", "Phys. Rev. B"));
+            fullToAbbreviation.put("Long Name", new Abbreviation("Long Name", "L. N.", "LN"));
+            if (withAbbreviationMaps) {
+                Map<String, String> abbreviationToFull = store.openMap(JournalAbbreviationRepository.ABBREVIATION_TO_FULL_MAP_NAME);
+                Map<String, String> dotlessToFull = store.openMap(JournalAbbreviationRepository.DOTLESS_TO_FULL_MAP_NAME);
+                Map<String, String> shortestUniqueToFull = store.openMap(JournalAbbreviationRepository.SHORTEST_UNIQUE_TO_FULL_MAP_NAME);
+                fullToAbbreviation.values().forEach(abbreviation -> JournalAbbreviationRepository.putAbbreviatedNames(abbreviation, abbreviationToFull, dotlessToFull, shortestUniqueToFull));
+            }
+        }
+
+        try (JournalAbbreviationRepository journalListRepository = new JournalAbbreviationRepository(journalList)) {
+            assertEquals(Optional.of(new Abbreviation("Physical Review B", "Phys. Rev. B")), journalListRepository.get("Phys Rev B"));
+            assertEquals(Optional.of("Long Name"), journalListRepository.getNextAbbreviation("LN"));
+            assertTrue(journalListRepository.isAbbreviatedName("Phys. Rev. B"));
+            assertFalse(journalListRepository.isAbbreviatedName("Physical Review B"));
+            assertTrue(journalListRepository.isKnownName("Physical Review B"));
+            assertFalse(journalListRepository.isKnownName("Unknown Journal"));
+            assertEquals(Set.of("Long Name", "Physical Review B"), Set.copyOf(journalListRepository.getFullNames()));
+            assertEquals(Set.of(new Abbreviation("Physical Review B", "Phys. Rev. B"), new Abbreviation("Long Name", "L. N.", "LN")),
+                    Set.copyOf(journalListRepository.getAllLoaded()));
+        }
+    }
+
+    @Test
+    void closingLoadedRepositoryKeepsBuiltInListOfOtherRepositories() {
+        JournalAbbreviationRepository replacedRepository = JournalAbbreviationLoader.loadBuiltInRepository();
+        JournalAbbreviationRepository currentRepository = JournalAbbreviationLoader.loadBuiltInRepository();
+        Set<String> fullNames = Set.copyOf(currentRepository.getFullNames());
+
+        replacedRepository.close();
+
+        assertEquals(fullNames, Set.copyOf(currentRepository.getFullNames()));
+    }
 }
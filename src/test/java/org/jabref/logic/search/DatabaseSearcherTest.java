@@ -3,6 +3,8 @@ package org.jabref.logic.search;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import javafx.beans.property.BooleanProperty;
@@ -23,6 +25,7 @@ import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.mock;
@@ -85,4 +88,33 @@ public class DatabaseSearcherTest {
                 Arguments.of(List.of(inCollectionEntry), new SearchQuery("tonho"), List.of(articleEntry, inCollectionEntry))
         );
     }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"harrer", "author=harrer", "author!=harrer", "author==tonho", "tonho OR harrer", "harrer AND title=whatever", "NOT tonho", "title=\"\""})
+    void restrictedMatchesAreUnrestrictedMatchesAmongGivenEntries(String searchExpression) {
+        BibEntry articleEntry = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.AUTHOR, "harrer");
+        BibEntry inCollectionEntry = new BibEntry(StandardEntryType.InCollection)
+                .withField(StandardField.AUTHOR, "tonho");
+        BibEntry bookEntry = new BibEntry(StandardEntryType.Book)
+                .withField(StandardField.AUTHOR, "harrer and tonho")
+                .withField(StandardField.TITLE, "whatever");
+        List<BibEntry> entries = List.of(articleEntry, inCollectionEntry, bookEntry, new BibEntry());
+        databaseContext.getDatabase().insertEntries(entries);
+        IndexManager indexManager = new IndexManager(databaseContext, TASK_EXECUTOR, preferences);
+        SearchQuery query = new SearchQuery(searchExpression);
+
+        Set<String> unrestrictedMatches = indexManager.getMatchedEntryIds(query);
+        List<BibEntry> restriction = List.of(articleEntry, bookEntry);
+        Set<String> expectedMatches = restriction.stream()
+                                                 .map(BibEntry::getId)
+                                                 .filter(unrestrictedMatches::contains)
+                                                 .collect(Collectors.toSet());
+
+        assertEquals(expectedMatches, indexManager.getMatchedEntryIds(query, restriction));
+        for (BibEntry entry : entries) {
+            assertEquals(unrestrictedMatches.contains(entry.getId()), indexManager.isEntryMatched(entry, query));
+        }
+        indexManager.closeAndWait();
+    }
 }
@@ -0,0 +1,164 @@
+package org.jabref.logic.search.retrieval;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.jabref.logic.search.PostgreServer;
+import org.jabref.model.util.Range;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Compares the highlighting with the functions {@code regexp_mark} and {@code regexp_positions} of Postgres, which it
+ * replaces.
+ */
+class HighlightPatternTest {
+
+    private static PostgreServer postgreServer;
+    private static Connection connection;
+
+    @BeforeAll
+    static void startPostgres() {
+        postgreServer = new PostgreServer();
+        connection = postgreServer.getConnection();
+    }
+
+    @AfterAll
+    static void stopPostgres() throws SQLException {
+        if (connection != null) {
+            connection.close();
+        }
+        postgreServer.shutdown();
+    }
+
+    private static Stream<Arguments> textsAndPatterns() {
+        List<String> texts = List.of(
+                "",
+                "Algorithms for algebra",
+                "An Efficient Algorithm for the \\textbf{ALGEBRAIC} case",
+                "C++ and C# in 2024 (revised)",
+                "Smith, John and Smith-Jones, Anna",
+                "first line\nsecond line\n",
+                "a.b.c [x] {y} $z$ ^w",
+                "baaac aaaa",
+                "abcabcabcabcabcabcabcabcabcabc",
+                "Über die Änderung der Größe");
+        List<String> patterns = List.of(
+                "alg",
+                "alg|algorithm",
+                "algorithm|alg",
+                "ALGEBRA",
+                "smith",
+                "smith|smith-jones",
+                "a.b",
+                "line$",
+                "^first",
+                "\\mline",
+                "alg\\M",
+                "\\ysmith\\y",
+                "a*",
+                "a+?",
+                "b.*?c",
+                "[[:alpha:]]+",
+                "[[:digit:]]{2,4}",
+                "[a-c]",
+                "[^a-z ]",
+                "\\(revised\\)",
+                "C\\+\\+",
+                "C++",
+                "{y}",
+                "\\$z\\$",
+                "(a)\\1",
+                "(ab|abc){10}",
+                "(a|ab)(c|bcd)",
+                "größe",
+                "\\mänderung",
+                "\\yÜber\\y",
+                "");
+        List<Arguments> arguments = new ArrayList<>();
+        for (String text : texts) {
+            for (String pattern : patterns) {
+                arguments.add(Arguments.of(text, pattern));
+            }
+        }
+        return arguments.stream();
+    }
+
+    @ParameterizedTest
+    @MethodSource("textsAndPatterns")
+    void markEqualsPostgres(String text, String pattern) {
+        assumeTrue(connection != null, "Postgres is not available");
+        String expected;
+        try (PreparedStatement statement = connection.prepareStatement("SELECT regexp_mark(?, ?)")) {
+            statement.setString(1, text);
+            statement.setString(2, pattern);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                expected = resultSet.getString(1);
+            }
+        } catch (SQLException e) {
+            // An invalid pattern leaves the text as is
+            expected = text;
+        }
+        assertEquals(expected, HighlightPattern.compile(pattern).map(highlightPattern -> highlightPattern.mark(text)).orElse(text));
+    }
+
+    @ParameterizedTest
+    @MethodSource("textsAndPatterns")
+    void positionsEqualPostgres(String text, String pattern) {
+        assumeTrue(connection != null, "Postgres is not available");
+        List<Range> expected = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement("SELECT * FROM regexp_positions(?, ?)")) {
+            statement.setString(1, text);
+            statement.setString(2, pattern);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    expected.add(new Range(resultSet.getInt(1), resultSet.getInt(2)));
+                }
+            }
+        } catch (SQLException e) {
+            // An invalid pattern has no matches
+            expected = List.of();
+        }
+        assertEquals(expected, HighlightPattern.compile(pattern).map(highlightPattern -> highlightPattern.findPositions(text)).orElse(List.of()));
+    }
+
+    @Test
+    void longestAlternativeIsMarked() {
+        assertEquals("<mark style=\"background: orange\">Algorithm</mark>s for <mark style=\"background: orange\">alg</mark>ebra",
+                HighlightPattern.compile("alg|algorithm").orElseThrow().mark("Algorithms for algebra"));
+    }
+
+    @Test
+    void longestRepetitionOfAlternativesIsMarked() {
+        String text = "abc".repeat(10);
+        assertEquals("<mark style=\"background: orange\">" + text + "</mark>",
+                HighlightPattern.compile("(ab|abc){10}").orElseThrow().mark(text));
+    }
+
+    @Test
+    void wordBoundariesIncludeNonAsciiLetters() {
+        assertEquals("Über die <mark style=\"background: orange\">Änderung</mark> der Größe",
+                HighlightPattern.compile("\\mänderung").orElseThrow().mark("Über die Änderung der Größe"));
+        assertEquals("Über die Änderung der Größe",
+                HighlightPattern.compile("gr\\M").orElseThrow().mark("Über die Änderung der Größe"));
+    }
+
+    @Test
+    void positionsAreOneBasedAndInclusive() {
+        assertEquals(List.of(new Range(16, 19)), Highlighter.findMatchPositions("Algorithms for algebra", "alge"));
+    }
+}
@@ -9,6 +9,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.jabref.logic.shared.exception.OfflineLockException;
@@ -31,6 +32,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 @DatabaseTest
 @Execution(ExecutionMode.SAME_THREAD)
@@ -116,6 +118,19 @@ class DBMSProcessorTest {
         }
     }
 
+    @Test
+    void insertEntryIsRolledBackIfFieldsCannotBeInserted() throws SQLException {
+        BibEntry entry = getBibEntryExample();
+        dbmsConnection.getConnection().createStatement().executeUpdate("DROP TABLE " + dbmsProcessor.escape_Table("FIELD"));
+
+        dbmsProcessor.insertEntry(entry);
+
+        try (ResultSet entryResultSet = selectFrom("ENTRY", dbmsConnection, dbmsProcessor)) {
+            assertFalse(entryResultSet.next());
+        }
+        assertEquals(-1, entry.getSharedBibEntryData().getSharedID());
+    }
+
     private static BibEntry getBibEntryExample() {
         return new BibEntry(StandardEntryType.InProceedings)
                 .withField(StandardField.AUTHOR, "Wirthlin, Michael J and Hutchings, Brad L and Gilson, Kent L")
@@ -303,13 +318,46 @@ class DBMSProcessorTest {
         assertEquals(expectedIDVersionMap, actualIDVersionMap);
     }
 
+    @Test
+    void getSharedEntryChangesSince() throws OfflineLockException, SQLException {
+        assumeTrue(dbmsType == DBMSType.POSTGRESQL, "Only PostgreSQL keeps a change log");
+
+        BibEntry firstEntry = getBibEntryExample();
+        BibEntry secondEntry = getBibEntryExample();
+        BibEntry unchangedEntry = getBibEntryExample();
+        dbmsProcessor.insertEntries(List.of(firstEntry, secondEntry, unchangedEntry));
+        long sequence = dbmsProcessor.getLatestChangeSequence().orElseThrow();
+
+        dbmsProcessor.updateEntry(firstEntry);
+        dbmsProcessor.removeEntries(List.of(secondEntry));
+        BibEntry insertedEntry = getBibEntryExample();
+        dbmsProcessor.insertEntry(insertedEntry);
+
+        SharedEntryChanges changes = dbmsProcessor.getSharedEntryChangesSince(sequence).orElseThrow();
+
+        assertEquals(Map.of(firstEntry.getSharedBibEntryData().getSharedID(), 2, insertedEntry.getSharedBibEntryData().getSharedID(), 1),
+                changes.sharedIDVersionMapping());
+        assertEquals(Set.of(secondEntry.getSharedBibEntryData().getSharedID()), changes.removedSharedIDs());
+        assertEquals(dbmsProcessor.getLatestChangeSequence().orElseThrow(), changes.lastSequence());
+    }
+
+    @Test
+    void getSharedEntryChangesSinceLatestChangeIsEmpty() {
+        assumeTrue(dbmsType == DBMSType.POSTGRESQL, "Only PostgreSQL keeps a change log");
+
+        dbmsProcessor.insertEntry(getBibEntryExample());
+        long sequence = dbmsProcessor.getLatestChangeSequence().orElseThrow();
+
+        assertEquals(Optional.of(new SharedEntryChanges(sequence, Map.of(), Set.of())), dbmsProcessor.getSharedEntryChangesSince(sequence));
+    }
+
     @Test
     void getSharedMetaData() {
         insertMetaData("databaseType", "bibtex;", dbmsConnection, dbmsProcessor);
         insertMetaData("protectedFlag", "true;", dbmsConnection, dbmsProcessor);
         insertMetaData("saveActions", "enabled;\nauthor[capitalize,html_to_latex]\ntitle[title_case]\n;", dbmsConnection, dbmsProcessor);
         insertMetaData("saveOrderConfig", "specified;author;false;title;false;year;true;", dbmsConnection, dbmsProcessor);
-        insertMetaData("VersionDBStructure", "1", dbmsConnection, dbmsProcessor);
+        insertMetaData("VersionDBStructure", String.valueOf(dbmsProcessor.getCURRENT_VERSION_DB_STRUCT()), dbmsConnection, dbmsProcessor);
 
         Map<String, String> expectedMetaData = getMetaDataExample();
         Map<String, String> actualMetaData = dbmsProcessor.getSharedMetaData();
@@ -327,14 +375,14 @@ class DBMSProcessorTest {
         assertEquals(expectedMetaData, actualMetaData);
     }
 
-    private static Map<String, String> getMetaDataExample() {
+    private Map<String, String> getMetaDataExample() {
         Map<String, String> expectedMetaData = new HashMap<>();
 
         expectedMetaData.put("databaseType", "bibtex;");
         expectedMetaData.put("protectedFlag", "true;");
         expectedMetaData.put("saveActions", "enabled;\nauthor[capitalize,html_to_latex]\ntitle[title_case]\n;");
         expectedMetaData.put("saveOrderConfig", "specified;author;false;title;false;year;true;");
-        expectedMetaData.put("VersionDBStructure", "1");
+        expectedMetaData.put("VersionDBStructure", String.valueOf(dbmsProcessor.getCURRENT_VERSION_DB_STRUCT()));
 
         return expectedMetaData;
     }
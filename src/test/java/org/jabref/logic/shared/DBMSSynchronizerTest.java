@@ -210,6 +210,43 @@ class DBMSSynchronizerTest {
         assertEquals(List.of(modifiedBibEntry), dbmsProcessor.getSharedEntries());
     }
 
+    @Test
+    void synchronizeLocalDatabaseWithUpdatesAndInsertions() throws Exception {
+        BibEntry first = createExampleBibEntry(1);
+        BibEntry second = createExampleBibEntry(2);
+        bibDatabase.insertEntries(List.of(first, second));
+
+        BibEntry modifiedFirst = createExampleBibEntry(1)
+                .withField(StandardField.YEAR, "2001");
+        BibEntry modifiedSecond = createExampleBibEntry(2)
+                .withField(StandardField.YEAR, "2002");
+        modifiedSecond.clearField(StandardField.TITLE);
+        dbmsProcessor.updateEntry(modifiedFirst);
+        dbmsProcessor.updateEntry(modifiedSecond);
+        BibEntry third = createExampleBibEntry(3);
+        dbmsProcessor.insertEntry(third);
+
+        dbmsSynchronizer.synchronizeLocalDatabase();
+
+        assertEquals(List.of(modifiedFirst, modifiedSecond, third), bibDatabase.getEntries());
+        assertEquals(modifiedFirst.getSharedBibEntryData().getVersion(), first.getSharedBibEntryData().getVersion());
+    }
+
+    @Test
+    void synchronizeLocalDatabaseOnlyPullsNewChanges() throws Exception {
+        BibEntry first = createExampleBibEntry(1);
+        bibDatabase.insertEntry(first);
+        dbmsSynchronizer.synchronizeLocalDatabase();
+
+        BibEntry second = createExampleBibEntry(2);
+        dbmsProcessor.insertEntry(second);
+        dbmsProcessor.removeEntries(List.of(first));
+        dbmsSynchronizer.synchronizeLocalDatabase();
+
+        assertEquals(List.of(second), bibDatabase.getEntries());
+        assertEquals(dbmsProcessor.getLatestChangeSequence().orElse(-1), dbmsSynchronizer.getLastSeenChangeSequence());
+    }
+
     @Test
     void updateEntryDoesNotModifyLocalDatabase() throws Exception {
         BibEntry bibEntry = createExampleBibEntry(1);
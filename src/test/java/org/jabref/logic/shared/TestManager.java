@@ -28,6 +28,9 @@ public class TestManager {
             dbmsConnection.getConnection().createStatement().executeUpdate("DROP TABLE IF EXISTS jabref.\"FIELD\"");
             dbmsConnection.getConnection().createStatement().executeUpdate("DROP TABLE IF EXISTS jabref.\"ENTRY\"");
             dbmsConnection.getConnection().createStatement().executeUpdate("DROP TABLE IF EXISTS jabref.\"METADATA\"");
+            dbmsConnection.getConnection().createStatement().executeUpdate("DROP TABLE IF EXISTS jabref.\"ENTRY_CHANGE\"");
+            dbmsConnection.getConnection().createStatement().executeUpdate("DROP FUNCTION IF EXISTS jabref.log_entry_change()");
+            dbmsConnection.getConnection().createStatement().executeUpdate("DROP FUNCTION IF EXISTS jabref.notify_entry_change()");
             dbmsConnection.getConnection().createStatement().executeUpdate("DROP SCHEMA IF EXISTS jabref");
         } else if (dbmsType == DBMSType.ORACLE) {
             dbmsConnection.getConnection().createStatement()
@@ -1,5 +1,6 @@
 package org.jabref.model.database;
 
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -12,6 +13,7 @@ import java.util.Set;
 
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibtexString;
+import org.jabref.model.entry.LinkedFile;
 import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.entry.field.UnknownField;
 import org.jabref.model.entry.types.StandardEntryType;
@@ -345,6 +347,65 @@ class BibDatabaseTest {
         assertEquals(1, database.getNumberOfCitationKeyOccurrences("AAA"));
     }
 
+    @Test
+    void correctKeyCountAfterChangingKey() {
+        BibEntry entry = new BibEntry();
+        entry.setCitationKey("AAA");
+        database.insertEntry(entry);
+        entry.setCitationKey("BBB");
+        assertEquals(0, database.getNumberOfCitationKeyOccurrences("AAA"));
+        assertEquals(1, database.getNumberOfCitationKeyOccurrences("BBB"));
+    }
+
+    @Test
+    void correctKeyCountAfterClearingKey() {
+        BibEntry entry = new BibEntry();
+        entry.setCitationKey("AAA");
+        database.insertEntry(entry);
+        entry.clearCiteKey();
+        assertEquals(0, database.getNumberOfCitationKeyOccurrences("AAA"));
+        assertEquals(Optional.empty(), database.getEntryByCitationKey("AAA"));
+    }
+
+    @Test
+    void changingKeyOfRemovedEntryDoesNotChangeKeyCount() {
+        BibEntry entry = new BibEntry();
+        entry.setCitationKey("AAA");
+        database.insertEntry(entry);
+        database.removeEntry(entry);
+        entry.setCitationKey("BBB");
+        assertEquals(0, database.getNumberOfCitationKeyOccurrences("BBB"));
+    }
+
+    @Test
+    void getEntriesByCitationKeyKeepsDatabaseOrder() {
+        BibEntry first = new BibEntry().withCitationKey("AAA").withField(StandardField.TITLE, "first");
+        BibEntry second = new BibEntry().withCitationKey("BBB").withField(StandardField.TITLE, "second");
+        database.insertEntries(first, second);
+        second.setCitationKey("AAA");
+        first.setCitationKey("CCC");
+        first.setCitationKey("AAA");
+        assertEquals(List.of(first, second), database.getEntriesByCitationKey("AAA"));
+        assertEquals(Optional.of(first), database.getEntryByCitationKey("AAA"));
+    }
+
+    @Test
+    void getEntriesByFileLinkFollowsChangesOfFiles() {
+        LinkedFile paper = new LinkedFile("", Path.of("paper.pdf"), "PDF");
+        BibEntry first = new BibEntry().withFiles(List.of(paper));
+        BibEntry second = new BibEntry();
+        database.insertEntries(first, second);
+        assertEquals(List.of(first), database.getEntriesByFileLink("paper.pdf"));
+
+        second.addFile(paper);
+        first.setFiles(List.of(new LinkedFile("", Path.of("other.pdf"), "PDF")));
+        assertEquals(List.of(second), database.getEntriesByFileLink("paper.pdf"));
+        assertEquals(List.of(first), database.getEntriesByFileLink("other.pdf"));
+
+        database.removeEntry(second);
+        assertEquals(List.of(), database.getEntriesByFileLink("paper.pdf"));
+    }
+
     @Test
     void circularStringResolving() {
         BibtexString string = new BibtexString("AAA", "#BBB#");
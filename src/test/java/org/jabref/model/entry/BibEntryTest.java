@@ -33,6 +33,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.parallel.ExecutionMode.CONCURRENT;
@@ -255,6 +256,20 @@ class BibEntryTest {
         assertEquals(Arrays.asList(new LinkedFile("", Path.of(""), "")), entry.getFiles());
     }
 
+    @Test
+    void parsedFilesAreCachedUntilFileFieldChanges() {
+        entry.setFiles(List.of(new LinkedFile("", Path.of("paper.pdf"), "PDF")));
+        List<LinkedFile> parsedFiles = entry.getParsedFiles();
+        assertSame(parsedFiles, entry.getParsedFiles());
+        assertThrows(UnsupportedOperationException.class, () -> parsedFiles.add(new LinkedFile("", Path.of(""), "")));
+
+        entry.getFiles().getFirst().setLink("changed.pdf");
+        assertEquals(List.of(new LinkedFile("", Path.of("paper.pdf"), "PDF")), entry.getParsedFiles());
+
+        entry.addFile(new LinkedFile("", Path.of("other.pdf"), "PDF"));
+        assertEquals(List.of(new LinkedFile("", Path.of("paper.pdf"), "PDF"), new LinkedFile("", Path.of("other.pdf"), "PDF")), entry.getParsedFiles());
+    }
+
     @Test
     void replaceOfLinkWorks() throws Exception {
         List<LinkedFile> files = new ArrayList<>();
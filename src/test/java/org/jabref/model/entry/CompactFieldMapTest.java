@@ -0,0 +1,179 @@
+package org.jabref.model.entry;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.field.UnknownField;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompactFieldMapTest {
+
+    private CompactFieldMap fields;
+
+    @BeforeEach
+    void setUp() {
+        fields = new CompactFieldMap();
+    }
+
+    @Test
+    void putAddsField() {
+        assertNull(fields.put(StandardField.TITLE, "A title"));
+        assertEquals("A title", fields.get(StandardField.TITLE));
+        assertEquals(1, fields.size());
+    }
+
+    @Test
+    void putReplacesValue() {
+        fields.put(StandardField.TITLE, "A title");
+        assertEquals("A title", fields.put(StandardField.TITLE, "Another title"));
+        assertEquals("Another title", fields.get(StandardField.TITLE));
+        assertEquals(1, fields.size());
+    }
+
+    @Test
+    void putRejectsNull() {
+        assertThrows(NullPointerException.class, () -> fields.put(StandardField.TITLE, null));
+        assertThrows(NullPointerException.class, () -> fields.put(null, "A title"));
+    }
+
+    @Test
+    void putIfAbsentKeepsExistingValue() {
+        fields.put(StandardField.TITLE, "A title");
+        assertEquals("A title", fields.putIfAbsent(StandardField.TITLE, "Another title"));
+        assertNull(fields.putIfAbsent(StandardField.YEAR, "2024"));
+        assertEquals(Map.of(StandardField.TITLE, "A title", StandardField.YEAR, "2024"), fields);
+    }
+
+    @Test
+    void removeDeletesField() {
+        fields.put(StandardField.AUTHOR, "Author");
+        fields.put(StandardField.TITLE, "A title");
+        fields.put(StandardField.YEAR, "2024");
+
+        assertEquals("A title", fields.remove(StandardField.TITLE));
+        assertNull(fields.remove(StandardField.TITLE));
+        assertFalse(fields.containsKey(StandardField.TITLE));
+        assertEquals(List.of(StandardField.AUTHOR, StandardField.YEAR), new ArrayList<>(fields.keySet()));
+    }
+
+    @Test
+    void lookupFindsEqualUnknownField() {
+        fields.put(new UnknownField("custom"), "value");
+
+        assertEquals("value", fields.get(new UnknownField("Custom")));
+        assertEquals("value", fields.remove(new UnknownField("CUSTOM")));
+        assertTrue(fields.isEmpty());
+    }
+
+    @Test
+    void iteratorRemoveDeletesLastReturnedField() {
+        fields.put(StandardField.AUTHOR, "Author");
+        fields.put(StandardField.TITLE, "A title");
+        fields.put(StandardField.YEAR, "2024");
+
+        Iterator<Map.Entry<Field, String>> iterator = fields.entrySet().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().getKey() == StandardField.TITLE) {
+                iterator.remove();
+            }
+        }
+
+        assertEquals(Map.of(StandardField.AUTHOR, "Author", StandardField.YEAR, "2024"), fields);
+    }
+
+    @Test
+    void iteratorRemoveWithoutNextFails() {
+        fields.put(StandardField.TITLE, "A title");
+        Iterator<Map.Entry<Field, String>> iterator = fields.entrySet().iterator();
+
+        assertThrows(IllegalStateException.class, iterator::remove);
+        iterator.next();
+        iterator.remove();
+        assertThrows(IllegalStateException.class, iterator::remove);
+    }
+
+    @Test
+    void iteratorIsNotAffectedByChanges() {
+        fields.put(StandardField.AUTHOR, "Author");
+        fields.put(StandardField.TITLE, "A title");
+
+        List<Field> iterated = new ArrayList<>();
+        for (Map.Entry<Field, String> entry : fields.entrySet()) {
+            iterated.add(entry.getKey());
+            fields.put(StandardField.YEAR, "2024");
+            fields.remove(StandardField.TITLE);
+        }
+
+        assertEquals(List.of(StandardField.AUTHOR, StandardField.TITLE), iterated);
+        assertEquals(Map.of(StandardField.AUTHOR, "Author", StandardField.YEAR, "2024"), fields);
+    }
+
+    @Test
+    void readingDuringWritesSeesConsistentState() throws Exception {
+        fields.put(StandardField.TITLE, "A title");
+        AtomicBoolean stop = new AtomicBoolean();
+        CompletableFuture<Void> writer = CompletableFuture.runAsync(() -> {
+            for (int i = 0; i < 100_000; i++) {
+                fields.put(StandardField.NOTE, "note " + i);
+                fields.put(StandardField.YEAR, String.valueOf(i));
+                fields.remove(StandardField.NOTE);
+            }
+            stop.set(true);
+        });
+
+        while (!stop.get()) {
+            assertEquals("A title", fields.get(StandardField.TITLE));
+            Map<Field, String> copy = new HashMap<>(fields);
+            assertEquals("A title", copy.get(StandardField.TITLE));
+            assertTrue(copy.size() >= 1 && copy.size() <= 3);
+        }
+        writer.get();
+
+        assertEquals(Map.of(StandardField.TITLE, "A title", StandardField.YEAR, "99999"), fields);
+    }
+
+    @Test
+    void equalsAndHashCodeMatchHashMap() {
+        Map<Field, String> expected = new HashMap<>();
+        expected.put(StandardField.AUTHOR, "Author");
+        expected.put(StandardField.TITLE, "A title");
+        expected.put(new UnknownField("custom"), "value");
+
+        CompactFieldMap actual = new CompactFieldMap(expected);
+
+        assertEquals(expected, actual);
+        assertEquals(actual, expected);
+        assertEquals(expected.hashCode(), actual.hashCode());
+
+        actual.put(StandardField.TITLE, "Another title");
+        assertFalse(expected.equals(actual));
+        assertFalse(actual.equals(expected));
+    }
+
+    @Test
+    void iterationFollowsInsertionOrder() {
+        List<Field> inserted = List.of(StandardField.YEAR, StandardField.AUTHOR, new UnknownField("custom"), StandardField.TITLE, StandardField.ABSTRACT);
+        for (Field field : inserted) {
+            fields.put(field, field.getName());
+        }
+        // Replacing a value keeps the position of the field
+        fields.put(StandardField.AUTHOR, "Author");
+
+        assertEquals(inserted, new ArrayList<>(fields.keySet()));
+    }
+}
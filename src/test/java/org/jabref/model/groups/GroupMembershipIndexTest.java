@@ -0,0 +1,166 @@
+package org.jabref.model.groups;
+
+import java.util.List;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GroupMembershipIndexTest {
+
+    private final BibEntry machineLearning = new BibEntry(StandardEntryType.Article)
+            .withField(StandardField.KEYWORDS, "learning, machine");
+    private final BibEntry deepLearning = new BibEntry(StandardEntryType.Article)
+            .withField(StandardField.KEYWORDS, "learning, deep");
+    private final BibEntry databases = new BibEntry(StandardEntryType.Book)
+            .withField(StandardField.KEYWORDS, "databases");
+
+    private BibDatabase database;
+    private GroupMembershipIndex index;
+    private GroupTreeNode root;
+
+    @BeforeEach
+    void setUp() {
+        database = new BibDatabase(List.of(machineLearning, deepLearning, databases));
+        index = new GroupMembershipIndex(database);
+        root = GroupTreeNode.fromGroup(new AllEntriesGroup("All entries"));
+    }
+
+    private static WordKeywordGroup keywordGroup(String keyword, GroupHierarchyType context) {
+        return new WordKeywordGroup(keyword, context, StandardField.KEYWORDS, keyword, false, ',', false);
+    }
+
+    private void assertSameAsMatcher(GroupTreeNode node) {
+        assertEquals(node.findMatches(database), index.getMatchedEntries(node));
+    }
+
+    @Test
+    void independentGroupContainsOwnEntries() {
+        GroupTreeNode learning = root.addSubgroup(keywordGroup("learning", GroupHierarchyType.INDEPENDENT));
+
+        assertEquals(List.of(machineLearning, deepLearning), index.getMatchedEntries(learning));
+        assertEquals(2, index.getMatchCount(learning));
+    }
+
+    @Test
+    void refiningGroupIntersectsWithParent() {
+        GroupTreeNode learning = root.addSubgroup(keywordGroup("learning", GroupHierarchyType.INDEPENDENT));
+        GroupTreeNode deep = learning.addSubgroup(keywordGroup("deep", GroupHierarchyType.REFINING));
+        GroupTreeNode databasesNode = deep.addSubgroup(keywordGroup("databases", GroupHierarchyType.REFINING));
+
+        assertEquals(List.of(deepLearning), index.getMatchedEntries(deep));
+        assertEquals(List.of(), index.getMatchedEntries(databasesNode));
+        assertSameAsMatcher(deep);
+        assertSameAsMatcher(databasesNode);
+    }
+
+    @Test
+    void includingGroupUnitesWithChildren() {
+        GroupTreeNode including = root.addSubgroup(keywordGroup("machine", GroupHierarchyType.INCLUDING));
+        GroupTreeNode databasesNode = including.addSubgroup(keywordGroup("databases", GroupHierarchyType.INCLUDING));
+        databasesNode.addSubgroup(keywordGroup("deep", GroupHierarchyType.INDEPENDENT));
+        // A refining child of an including group contributes its own entries only
+        including.addSubgroup(keywordGroup("learning", GroupHierarchyType.REFINING));
+
+        assertEquals(List.of(machineLearning, deepLearning, databases), index.getMatchedEntries(including));
+        assertSameAsMatcher(including);
+        assertSameAsMatcher(databasesNode);
+    }
+
+    @Test
+    void changedFieldUpdatesMatches() {
+        GroupTreeNode learning = root.addSubgroup(keywordGroup("learning", GroupHierarchyType.INCLUDING));
+        GroupTreeNode databasesNode = learning.addSubgroup(keywordGroup("databases", GroupHierarchyType.INDEPENDENT));
+        assertTrue(index.isMatch(learning, databases));
+
+        databases.setField(StandardField.KEYWORDS, "learning");
+        assertTrue(index.isMatch(learning, databases));
+        assertFalse(index.isMatch(databasesNode, databases));
+
+        machineLearning.clearField(StandardField.KEYWORDS);
+        assertFalse(index.isMatch(learning, machineLearning));
+        assertSameAsMatcher(learning);
+    }
+
+    @Test
+    void isMatchDoesNotTestAllEntries() {
+        int[] tests = new int[1];
+        WordKeywordGroup countingGroup = new WordKeywordGroup("learning", GroupHierarchyType.INDEPENDENT, StandardField.KEYWORDS, "learning", false, ',', false) {
+            @Override
+            public boolean contains(BibEntry entry) {
+                tests[0]++;
+                return super.contains(entry);
+            }
+        };
+        GroupTreeNode learning = root.addSubgroup(countingGroup);
+
+        assertTrue(index.isMatch(learning, machineLearning));
+        assertFalse(index.isMatch(learning, databases));
+        assertEquals(2, tests[0]);
+
+        assertEquals(2, index.getMatchCount(learning));
+        assertEquals(5, tests[0]);
+
+        // Answered by the index from now on
+        assertTrue(index.isMatch(learning, deepLearning));
+        assertEquals(5, tests[0]);
+    }
+
+    @Test
+    void addedAndRemovedEntriesUpdateMatches() {
+        GroupTreeNode learning = root.addSubgroup(keywordGroup("learning", GroupHierarchyType.INDEPENDENT));
+        assertEquals(2, index.getMatchCount(learning));
+
+        database.removeEntry(machineLearning);
+        assertEquals(List.of(deepLearning), index.getMatchedEntries(learning));
+
+        BibEntry reinforcementLearning = new BibEntry().withField(StandardField.KEYWORDS, "learning, reinforcement");
+        database.insertEntry(reinforcementLearning);
+        assertEquals(2, index.getMatchCount(learning));
+        assertTrue(index.isMatch(learning, reinforcementLearning));
+    }
+
+    @Test
+    void movedSubgroupUpdatesMatches() {
+        GroupTreeNode learning = root.addSubgroup(keywordGroup("learning", GroupHierarchyType.INCLUDING));
+        GroupTreeNode other = root.addSubgroup(keywordGroup("other", GroupHierarchyType.INDEPENDENT));
+        GroupTreeNode databasesNode = other.addSubgroup(keywordGroup("databases", GroupHierarchyType.INDEPENDENT));
+        assertEquals(2, index.getMatchCount(learning));
+
+        databasesNode.moveTo(learning);
+        assertEquals(3, index.getMatchCount(learning));
+    }
+
+    @Test
+    void replacedGroupIsTestedAgain() {
+        GroupTreeNode node = root.addSubgroup(keywordGroup("learning", GroupHierarchyType.INDEPENDENT));
+        assertEquals(2, index.getMatchCount(node));
+
+        node.setGroup(keywordGroup("databases", GroupHierarchyType.INDEPENDENT));
+        assertEquals(List.of(databases), index.getMatchedEntries(node));
+    }
+
+    @Test
+    void listenerIsNotifiedAboutChanges() {
+        GroupTreeNode learning = root.addSubgroup(keywordGroup("learning", GroupHierarchyType.INDEPENDENT));
+        index.getMatchCount(learning);
+        int[] notifications = new int[1];
+        Runnable listener = () -> notifications[0]++;
+        index.addListener(listener);
+
+        // Does not change the matches of any group
+        databases.setField(StandardField.TITLE, "Databases");
+        assertEquals(0, notifications[0]);
+
+        databases.setField(StandardField.KEYWORDS, "learning");
+        assertEquals(1, notifications[0]);
+    }
+}
@@ -0,0 +1,32 @@
+package org.jabref.model.groups;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.search.SearchFlags;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SearchGroupTest {
+
+    private final SearchGroup group = new SearchGroup("Search", GroupHierarchyType.INDEPENDENT, "author=harrer", EnumSet.noneOf(SearchFlags.class));
+
+    @Test
+    void updateMatchesOnlyChangesCheckedEntries() {
+        BibEntry matched = new BibEntry();
+        BibEntry noLongerMatched = new BibEntry();
+        BibEntry notChecked = new BibEntry();
+        group.setMatchedEntries(Set.of(noLongerMatched.getId(), notChecked.getId()));
+
+        group.updateMatches(List.of(matched, noLongerMatched), Set.of(matched.getId()));
+
+        assertTrue(group.contains(matched));
+        assertFalse(group.contains(noLongerMatched));
+        assertTrue(group.contains(notChecked));
+    }
+}